@@ -0,0 +1,106 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.property.NestedObjectProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a model update which replaces the nodes on all levels of a hierarchy with copies, from the innermost to the
+ * outer one, while a {@link NestedObjectProperty} is bound to it. Without a batch, each replacement updates the nesting
+ * and rebinds the property. The update either runs on its own or in a
+ * {@link Nestings#batch(Runnable) batch}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "2", "5", "10" })
+	public int depth;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<Node> outerObservable;
+
+	/**
+	 * The property bound to the inner observable.
+	 */
+	private NestedObjectProperty<Node> nestedProperty;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchy and the nested property.
+	 */
+	@Setup
+	public void setUp() {
+		outerObservable = new SimpleObjectProperty<>(Node.createChain(depth + 1));
+		nestedProperty = Node.nestingBuilder(outerObservable, depth).buildProperty();
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Updates the hierarchy without a batch.
+	 *
+	 * @return the nested property's value
+	 */
+	@Benchmark
+	public Node unbatched() {
+		updateHierarchy();
+		return nestedProperty.getValue();
+	}
+
+	/**
+	 * Updates the hierarchy in a batch.
+	 *
+	 * @return the nested property's value
+	 */
+	@Benchmark
+	public Node batched() {
+		Nestings.batch(this::updateHierarchy);
+		return nestedProperty.getValue();
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * Replaces the nodes on all levels of the hierarchy which the nesting observes with copies, starting with the
+	 * innermost one.
+	 */
+	private void updateHierarchy() {
+		for (int level = depth - 1; level >= 0; level--) {
+			Property<Node> observable = Node.observableOnLevel(outerObservable, level);
+			Node copy = new Node(observable.getValue().nextProperty().getValue());
+			observable.setValue(copy);
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.property.DelegatingNestedObjectProperty;
+import org.codefx.libfx.nesting.property.NestedObjectProperty;
+import org.codefx.libfx.nesting.property.NestedObjectPropertyBuilder;
+import org.codefx.libfx.nesting.property.NestedProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a {@link NestedObjectProperty}, which is bound to a copy of the inner observable's value, with a
+ * {@link DelegatingNestedObjectProperty}, which delegates to the inner observable. It measures how the properties
+ * follow changes of the inner observable's value and how expensive it is to create them.
+ * <p>
+ * Run with {@code -prof gc} to see how much memory the creation of each property allocates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DelegatingNestedPropertyBenchmark {
+
+	// #region STATE
+
+	/**
+	 * The values between which the inner observables switch.
+	 */
+	private final Node[] values = { new Node(null), new Node(null) };
+
+	/**
+	 * The inner observable to which the {@link #copyingProperty} is bound.
+	 */
+	private Property<Node> copyingInnerObservable;
+
+	/**
+	 * The nested property which copies the inner observable's value.
+	 */
+	private NestedProperty<Node> copyingProperty;
+
+	/**
+	 * The inner observable to which the {@link #delegatingProperty} delegates.
+	 */
+	private Property<Node> delegatingInnerObservable;
+
+	/**
+	 * The nested property which delegates to the inner observable.
+	 */
+	private NestedProperty<Node> delegatingProperty;
+
+	/**
+	 * The template which is used to create the nestings for the created properties.
+	 */
+	private NestingTemplate<Property<Node>> template;
+
+	/**
+	 * The outer observable of the nestings for the created properties.
+	 */
+	private Property<Node> outerObservable;
+
+	/**
+	 * The index of the current value.
+	 */
+	private int index;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchies and the nested properties.
+	 */
+	@Setup
+	public void setUp() {
+		Property<Node> copyingOuterObservable = new SimpleObjectProperty<>(Node.createChain(2));
+		copyingProperty = Node.nestingBuilder(copyingOuterObservable, 1).buildProperty();
+		copyingInnerObservable = Node.observableOnLevel(copyingOuterObservable, 1);
+
+		Property<Node> delegatingOuterObservable = new SimpleObjectProperty<>(Node.createChain(2));
+		delegatingProperty = Node.nestingBuilder(delegatingOuterObservable, 1).buildDelegatingProperty();
+		delegatingInnerObservable = Node.observableOnLevel(delegatingOuterObservable, 1);
+
+		template = Node.nestingBuilder(new SimpleObjectProperty<>(), 1).buildTemplate();
+		outerObservable = new SimpleObjectProperty<>(Node.createChain(2));
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes the inner observable's value and reads the copying property's value.
+	 *
+	 * @return the copying property's value
+	 */
+	@Benchmark
+	public Node copyingPropertyFollowsValue() {
+		copyingInnerObservable.setValue(nextValue());
+		return copyingProperty.getValue();
+	}
+
+	/**
+	 * Changes the inner observable's value and reads the delegating property's value.
+	 *
+	 * @return the delegating property's value
+	 */
+	@Benchmark
+	public Node delegatingPropertyFollowsValue() {
+		delegatingInnerObservable.setValue(nextValue());
+		return delegatingProperty.getValue();
+	}
+
+	/**
+	 * Creates and disposes a copying property (including its nesting).
+	 *
+	 * @return the created property
+	 */
+	@Benchmark
+	public NestedProperty<Node> createCopyingProperty() {
+		NestedProperty<Node> property =
+				NestedObjectPropertyBuilder.forNesting(template.createNesting(outerObservable)).build();
+		property.dispose();
+		return property;
+	}
+
+	/**
+	 * Creates and disposes a delegating property (including its nesting).
+	 *
+	 * @return the created property
+	 */
+	@Benchmark
+	public NestedProperty<Node> createDelegatingProperty() {
+		NestedProperty<Node> property =
+				NestedObjectPropertyBuilder.forNesting(template.createNesting(outerObservable)).buildDelegating();
+		property.dispose();
+		return property;
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * @return the value the inner observables switch to
+	 */
+	private Node nextValue() {
+		index = 1 - index;
+		return values[index];
+	}
+
+}
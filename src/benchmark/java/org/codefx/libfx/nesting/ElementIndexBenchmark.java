@@ -0,0 +1,209 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.collection.ElementIndex;
+import org.codefx.libfx.nesting.collection.ElementNestings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares two ways to find the orders of a customer when the customer of a single order changes: a linear scan over
+ * the orders which walks the getters to each order's customer ID and the bucket of the index created by
+ * {@link ElementNestings#index() ElementNestings.index}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementIndexBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of orders.
+	 */
+	@Param({ "1000", "100000" })
+	public int orderCount;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The number of customers.
+	 */
+	private static final int CUSTOMER_COUNT = 100;
+
+	/**
+	 * The orders which are scanned.
+	 */
+	private ObservableList<Order> scannedOrders;
+
+	/**
+	 * The orders which are indexed.
+	 */
+	private ObservableList<Order> indexedOrders;
+
+	/**
+	 * The index created by {@link ElementNestings#index()}.
+	 */
+	private ElementIndex<Order, Number> ordersByCustomerId;
+
+	/**
+	 * The index of the order whose customer changes next.
+	 */
+	private int index;
+
+	//#end STATE
+
+	/**
+	 * Creates the orders and the index.
+	 */
+	@Setup
+	public void setUp() {
+		scannedOrders = createOrders();
+
+		indexedOrders = createOrders();
+		NestingTemplate<IntegerProperty> customerIdTemplate = Nestings.on(new SimpleObjectProperty<Order>())
+				.nest(Order::customerProperty)
+				.nestIntegerProperty(Customer::idProperty)
+				.buildTemplate();
+		ordersByCustomerId = ElementNestings.on(indexedOrders, customerIdTemplate).index();
+	}
+
+	/**
+	 * @return a list of {@link #orderCount} orders, which are evenly distributed over the customers
+	 */
+	private ObservableList<Order> createOrders() {
+		ObservableList<Order> orders = FXCollections.observableArrayList();
+		for (int i = 0; i < orderCount; i++)
+			orders.add(new Order(i % CUSTOMER_COUNT));
+		return orders;
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes one order's customer and scans all orders for those of that customer.
+	 *
+	 * @return the number of orders of the customer
+	 */
+	@Benchmark
+	public int scan() {
+		int customerId = changeNextCustomer(scannedOrders);
+		int count = 0;
+		for (Order order : scannedOrders)
+			if (order.customerProperty().get().idProperty().get() == customerId)
+				count++;
+		return count;
+	}
+
+	/**
+	 * Changes one order's customer, which the index processes incrementally, and looks up that customer's orders.
+	 *
+	 * @return the number of orders of the customer
+	 */
+	@Benchmark
+	public int index() {
+		int customerId = changeNextCustomer(indexedOrders);
+		return ordersByCustomerId.get(customerId).size();
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * Assigns the next order to another customer.
+	 *
+	 * @param orders
+	 *            the orders
+	 * @return the ID of the order's new customer
+	 */
+	private int changeNextCustomer(ObservableList<Order> orders) {
+		index = (index + 1) % orders.size();
+		int customerId = (index * 7) % CUSTOMER_COUNT;
+		orders.get(index).customerProperty().get().idProperty().set(customerId);
+		return customerId;
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * An order which is placed by a customer.
+	 */
+	public static class Order {
+
+		/**
+		 * The customer.
+		 */
+		private final ObjectProperty<Customer> customer;
+
+		/**
+		 * Creates a new order which is placed by a customer with the specified ID.
+		 *
+		 * @param customerId
+		 *            the customer's ID
+		 */
+		public Order(int customerId) {
+			customer = new SimpleObjectProperty<>(this, "customer", new Customer(customerId));
+		}
+
+		/**
+		 * @return the customer as a property
+		 */
+		public ObjectProperty<Customer> customerProperty() {
+			return customer;
+		}
+
+	}
+
+	/**
+	 * A customer with an ID.
+	 */
+	public static class Customer {
+
+		/**
+		 * The ID.
+		 */
+		private final IntegerProperty id;
+
+		/**
+		 * Creates a new customer with the specified ID.
+		 *
+		 * @param id
+		 *            the ID
+		 */
+		public Customer(int id) {
+			this.id = new SimpleIntegerProperty(this, "id", id);
+		}
+
+		/**
+		 * @return the ID as a property
+		 */
+		public IntegerProperty idProperty() {
+			return id;
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
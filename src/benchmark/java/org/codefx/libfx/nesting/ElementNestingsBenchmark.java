@@ -0,0 +1,197 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.collection.ElementNestings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares two ways to keep the sum of the employees' salaries in a department up to date when a single salary
+ * changes: walking all employees to recompute the sum and the incrementally updated sum of {@link ElementNestings}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementNestingsBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of employees in the department.
+	 */
+	@Param({ "1000", "50000" })
+	public int employeeCount;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The employees whose salary sum is recomputed.
+	 */
+	private ObservableList<Employee> recomputedEmployees;
+
+	/**
+	 * The employees whose salary sum is updated incrementally.
+	 */
+	private ObservableList<Employee> incrementalEmployees;
+
+	/**
+	 * The incrementally updated sum of the salaries of the {@link #incrementalEmployees}.
+	 */
+	private ReadOnlyDoubleProperty incrementalSum;
+
+	/**
+	 * The index of the employee whose salary changes next.
+	 */
+	private int index;
+
+	//#end STATE
+
+	/**
+	 * Creates the employees and the element nestings.
+	 */
+	@Setup
+	public void setUp() {
+		recomputedEmployees = createEmployees();
+		incrementalEmployees = createEmployees();
+		NestingTemplate<DoubleProperty> salaryTemplate = Nestings.on(new SimpleObjectProperty<Employee>())
+				.nest(Employee::contractProperty)
+				.nestDoubleProperty(Contract::salaryProperty)
+				.buildTemplate();
+		incrementalSum = ElementNestings.on(incrementalEmployees, salaryTemplate).sum(Number::doubleValue);
+	}
+
+	/**
+	 * @return a list of {@link #employeeCount} employees
+	 */
+	private ObservableList<Employee> createEmployees() {
+		ObservableList<Employee> employees = FXCollections.observableArrayList();
+		for (int i = 0; i < employeeCount; i++)
+			employees.add(new Employee(i));
+		return employees;
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes one salary and recomputes the sum by walking all employees.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	public double recomputedSum() {
+		nextContract(recomputedEmployees).salaryProperty().set(index);
+		double sum = 0;
+		for (Employee employee : recomputedEmployees)
+			sum += employee.contractProperty().get().salaryProperty().get();
+		return sum;
+	}
+
+	/**
+	 * Changes one salary and reads the incrementally updated sum.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	public double incrementalSum() {
+		nextContract(incrementalEmployees).salaryProperty().set(index);
+		return incrementalSum.get();
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * @param employees
+	 *            the employees
+	 * @return the contract of the employee whose salary changes next
+	 */
+	private Contract nextContract(ObservableList<Employee> employees) {
+		index = (index + 1) % employees.size();
+		return employees.get(index).contractProperty().get();
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * An employee with a contract.
+	 */
+	public static class Employee {
+
+		/**
+		 * The contract.
+		 */
+		private final ObjectProperty<Contract> contract;
+
+		/**
+		 * Creates a new employee with the specified salary.
+		 *
+		 * @param salary
+		 *            the salary
+		 */
+		public Employee(double salary) {
+			contract = new SimpleObjectProperty<>(this, "contract", new Contract(salary));
+		}
+
+		/**
+		 * @return the contract as a property
+		 */
+		public ObjectProperty<Contract> contractProperty() {
+			return contract;
+		}
+
+	}
+
+	/**
+	 * A contract with a salary.
+	 */
+	public static class Contract {
+
+		/**
+		 * The salary.
+		 */
+		private final DoubleProperty salary;
+
+		/**
+		 * Creates a new contract with the specified salary.
+		 *
+		 * @param salary
+		 *            the salary
+		 */
+		public Contract(double salary) {
+			this.salary = new SimpleDoubleProperty(this, "salary", salary);
+		}
+
+		/**
+		 * @return the salary as a property
+		 */
+		public DoubleProperty salaryProperty() {
+			return salary;
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
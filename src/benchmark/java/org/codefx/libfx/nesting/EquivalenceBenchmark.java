@@ -0,0 +1,282 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how a {@link DeepNesting} reacts to value-object churn. The outer value is replaced by a different one
+ * whose nested values are equal copies of the old ones. The copies are immutable and each has its own nested
+ * observables, so a nesting which compares values by identity moves its listeners to the copies' observables on all
+ * levels while a nesting which compares them by equality stops after the first level. (Replacing the outer value
+ * itself with an equal copy would not even call the nesting's listener because JavaFX properties compare values with
+ * {@code equals} before notifying change listeners.)
+ * Besides the throughput, the rate of listeners added to and removed from the hierarchy is reported as
+ * {@code listenerCalls}; divided by the throughput it gives the number of calls per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EquivalenceBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "2", "5", "10" })
+	public int depth;
+
+	/**
+	 * The equivalence used on each level of the nesting.
+	 */
+	@Param({ "IDENTITY", "EQUALS" })
+	public Equivalence equivalence;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<ValueNode> outerObservable;
+
+	/**
+	 * The nesting on the {@link #outerObservable}.
+	 */
+	private Nesting<Property<ValueNode>> nesting;
+
+	/**
+	 * The ID of the current outer value.
+	 */
+	private int outerId;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchy and the nesting.
+	 */
+	@Setup
+	public void setUp() {
+		outerObservable = new SimpleObjectProperty<>(ValueNode.createChain(depth, outerId));
+
+		ObjectPropertyNestingBuilder<ValueNode> builder = Nestings.on(outerObservable);
+		for (int level = 0; level < depth; level++)
+			builder = equivalence.applyTo(builder).nest(ValueNode::nextProperty);
+		nesting = builder.buildNesting();
+	}
+
+	/**
+	 * Replaces the outer value with a different one whose nested values are equal copies.
+	 *
+	 * @param listenerCalls
+	 *            the counters for listener registrations
+	 * @return the nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<Property<ValueNode>> replaceWithEqualNestedValues(ListenerCalls listenerCalls) {
+		long callsBefore = CountingProperty.calls;
+		outerObservable.setValue(ValueNode.createChain(depth, ++outerId));
+		listenerCalls.listenerCalls += CountingProperty.calls - callsBefore;
+		return nesting.innerObservableProperty().getValue();
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * The equivalences which are compared.
+	 */
+	public enum Equivalence {
+
+		/**
+		 * Compares values by identity, which is the default.
+		 */
+		IDENTITY,
+
+		/**
+		 * Compares values with {@link Objects#equals(Object, Object)}.
+		 */
+		EQUALS;
+
+		/**
+		 * Applies this equivalence to the specified builder.
+		 *
+		 * @param builder
+		 *            the builder
+		 * @return the builder
+		 */
+		public ObjectPropertyNestingBuilder<ValueNode> applyTo(ObjectPropertyNestingBuilder<ValueNode> builder) {
+			if (this == EQUALS)
+				return builder.withEquivalence(Objects::equals);
+			return builder;
+		}
+
+	}
+
+	/**
+	 * Counts the calls to add and remove listeners on all {@link CountingProperty CountingProperties}.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class ListenerCalls {
+
+		/**
+		 * The number of listeners which were added or removed during the current iteration.
+		 */
+		public long listenerCalls;
+
+		/**
+		 * Resets the counter before each iteration.
+		 */
+		@Setup(Level.Iteration)
+		public void reset() {
+			listenerCalls = 0;
+		}
+
+	}
+
+	/**
+	 * An immutable node whose equality is determined by its content. Each instance has its own observable which holds
+	 * the next node.
+	 */
+	private static final class ValueNode {
+
+		/**
+		 * The observable holding the next node.
+		 */
+		private final Property<ValueNode> next;
+
+		/**
+		 * The node's ID.
+		 */
+		private final int id;
+
+		/**
+		 * Creates a new node with the specified next node.
+		 *
+		 * @param next
+		 *            the next node; can be null
+		 * @param id
+		 *            the node's ID
+		 */
+		private ValueNode(ValueNode next, int id) {
+			this.next = new CountingProperty<>(next);
+			this.id = id;
+		}
+
+		/**
+		 * Creates a chain of the specified length. Chains of equal length are equal if their first nodes have the
+		 * same ID; all other nodes have the ID 0.
+		 *
+		 * @param length
+		 *            the number of nodes in the chain
+		 * @param firstId
+		 *            the ID of the chain's first node
+		 * @return the first node of the chain
+		 */
+		public static ValueNode createChain(int length, int firstId) {
+			ValueNode first = null;
+			for (int i = 0; i < length - 1; i++)
+				first = new ValueNode(first, 0);
+			return new ValueNode(first, firstId);
+		}
+
+		/**
+		 * @return the property holding the next node
+		 */
+		public Property<ValueNode> nextProperty() {
+			return next;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * id + Objects.hashCode(next.getValue());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof ValueNode))
+				return false;
+			ValueNode other = (ValueNode) obj;
+			return id == other.id && Objects.equals(next.getValue(), other.next.getValue());
+		}
+
+	}
+
+	/**
+	 * A property which counts how often listeners are added to or removed from any instance.
+	 *
+	 * @param <T>
+	 *            the type of the wrapped value
+	 */
+	private static final class CountingProperty<T> extends SimpleObjectProperty<T> {
+
+		/**
+		 * The number of listeners which were added to or removed from all instances.
+		 */
+		private static long calls;
+
+		/**
+		 * Creates a new property with the specified initial value.
+		 *
+		 * @param initialValue
+		 *            the initial value
+		 */
+		public CountingProperty(T initialValue) {
+			super(initialValue);
+		}
+
+		@Override
+		public void addListener(InvalidationListener listener) {
+			calls++;
+			super.addListener(listener);
+		}
+
+		@Override
+		public void addListener(ChangeListener<? super T> listener) {
+			calls++;
+			super.addListener(listener);
+		}
+
+		@Override
+		public void removeListener(InvalidationListener listener) {
+			calls++;
+			super.removeListener(listener);
+		}
+
+		@Override
+		public void removeListener(ChangeListener<? super T> listener) {
+			calls++;
+			super.removeListener(listener);
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
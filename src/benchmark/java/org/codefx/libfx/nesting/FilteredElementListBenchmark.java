@@ -0,0 +1,208 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+import org.codefx.libfx.nesting.collection.ElementNestings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares two ways to filter rows by a nested status when the status of a single row changes: a {@link FilteredList}
+ * whose predicate is replaced to make it re-test all rows (because it does not notice nested changes) and the view
+ * created by {@link ElementNestings#filter(Predicate) ElementNestings.filter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilteredElementListBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of rows.
+	 */
+	@Param({ "1000", "100000" })
+	public int rowCount;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The rows filtered by the {@link #filteredList}.
+	 */
+	private ObservableList<Row> filteredListRows;
+
+	/**
+	 * The filtered list.
+	 */
+	private FilteredList<Row> filteredList;
+
+	/**
+	 * The rows filtered by the {@link #nestedFilter}.
+	 */
+	private ObservableList<Row> nestedFilterRows;
+
+	/**
+	 * The view created by {@link ElementNestings#filter(Predicate)}.
+	 */
+	private ObservableList<Row> nestedFilter;
+
+	/**
+	 * The index of the row whose status changes next.
+	 */
+	private int index;
+
+	//#end STATE
+
+	/**
+	 * Creates the rows and the filtered lists.
+	 */
+	@Setup
+	public void setUp() {
+		filteredListRows = createRows();
+		filteredList = new FilteredList<>(filteredListRows, row -> row.orderProperty().get().activeProperty().get());
+
+		nestedFilterRows = createRows();
+		NestingTemplate<BooleanProperty> activeTemplate = Nestings.on(new SimpleObjectProperty<Row>())
+				.nest(Row::orderProperty)
+				.nestBooleanProperty(Order::activeProperty)
+				.buildTemplate();
+		nestedFilter = ElementNestings.on(nestedFilterRows, activeTemplate).filter(active -> active);
+	}
+
+	/**
+	 * @return a list of {@link #rowCount} rows, every other of which is active
+	 */
+	private ObservableList<Row> createRows() {
+		ObservableList<Row> rows = FXCollections.observableArrayList();
+		for (int i = 0; i < rowCount; i++)
+			rows.add(new Row(i % 2 == 0));
+		return rows;
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Toggles one row's status and lets the filtered list re-test all rows.
+	 *
+	 * @return the number of active rows
+	 */
+	@Benchmark
+	public int filteredList() {
+		toggleNextRow(filteredListRows);
+		// a new predicate instance is needed to make the list re-test its elements; capturing forces one
+		int toggledIndex = index;
+		filteredList.setPredicate(row -> toggledIndex >= 0 && row.orderProperty().get().activeProperty().get());
+		return filteredList.size();
+	}
+
+	/**
+	 * Toggles one row's status, which the nested filter processes incrementally.
+	 *
+	 * @return the number of active rows
+	 */
+	@Benchmark
+	public int nestedFilter() {
+		toggleNextRow(nestedFilterRows);
+		return nestedFilter.size();
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * Toggles the status of the next row.
+	 *
+	 * @param rows
+	 *            the rows
+	 */
+	private void toggleNextRow(ObservableList<Row> rows) {
+		index = (index + 1) % rows.size();
+		BooleanProperty active = rows.get(index).orderProperty().get().activeProperty();
+		active.set(!active.get());
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * A row which shows an order.
+	 */
+	public static class Row {
+
+		/**
+		 * The order.
+		 */
+		private final ObjectProperty<Order> order;
+
+		/**
+		 * Creates a new row with an order which has the specified status.
+		 *
+		 * @param active
+		 *            the order's status
+		 */
+		public Row(boolean active) {
+			order = new SimpleObjectProperty<>(this, "order", new Order(active));
+		}
+
+		/**
+		 * @return the order as a property
+		 */
+		public ObjectProperty<Order> orderProperty() {
+			return order;
+		}
+
+	}
+
+	/**
+	 * An order which can be active.
+	 */
+	public static class Order {
+
+		/**
+		 * The status.
+		 */
+		private final BooleanProperty active;
+
+		/**
+		 * Creates a new order with the specified status.
+		 *
+		 * @param active
+		 *            the status
+		 */
+		public Order(boolean active) {
+			this.active = new SimpleBooleanProperty(this, "active", active);
+		}
+
+		/**
+		 * @return the status as a property
+		 */
+		public BooleanProperty activeProperty() {
+			return active;
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
@@ -0,0 +1,181 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.NestingUpdateBenchmark.AlternatingValue;
+import org.codefx.libfx.nesting.NestingUpdateBenchmark.ChangedLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the updates of a {@link DeepNesting} with those of a nesting which was generated for the same fixed path by
+ * the {@link org.codefx.libfx.nesting.processor.NestedPathProcessor NestedPathProcessor} (see {@link Node}).
+ * <p>
+ * In an application many nestings with different {@link NestingStep NestingSteps} share the code of
+ * {@code DeepNesting}, so the JIT compiler sees a megamorphic call site where the steps are used and can not inline
+ * them. Because the benchmark only uses one step, this is simulated by {@link #polluted polluting} the type profile
+ * with other steps before the measurement starts. The generated nesting calls {@link Node#nextProperty()} directly and
+ * is not affected by that.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FixedPathNestingBenchmark {
+
+	/**
+	 * The number of updates with which each additional step is run to pollute the type profile.
+	 */
+	private static final int POLLUTING_UPDATES = 20_000;
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps; there are generated nestings for 2 and 5.
+	 */
+	@Param({ "2", "5" })
+	public int depth;
+
+	/**
+	 * The level on which the value changes.
+	 */
+	@Param({ "OUTER", "INNER" })
+	public ChangedLevel changedLevel;
+
+	/**
+	 * Indicates whether deep nestings with other steps are updated before the measurement so that the step call site
+	 * in {@link DeepNesting} becomes megamorphic.
+	 */
+	@Param({ "false", "true" })
+	public boolean polluted;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The changing value in the hierarchy observed by the {@link #deepNesting}.
+	 */
+	private AlternatingValue deepNestingValue;
+
+	/**
+	 * The deep nesting on the hierarchy.
+	 */
+	private Nesting<Property<Node>> deepNesting;
+
+	/**
+	 * The changing value in the hierarchy observed by the {@link #generatedNesting}.
+	 */
+	private AlternatingValue generatedNestingValue;
+
+	/**
+	 * The generated nesting on the hierarchy.
+	 */
+	private Nesting<? extends Property<Node>> generatedNesting;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchies, the nestings and the alternating values and pollutes the type profile if required.
+	 */
+	@Setup
+	public void setUp() {
+		int level = changedLevel.toLevel(depth);
+
+		Property<Node> deepOuterObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+		deepNesting = Node.nest(deepOuterObservable, depth);
+		deepNestingValue = new AlternatingValue(Node.observableOnLevel(deepOuterObservable, level), depth - level);
+
+		Property<Node> generatedOuterObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+		generatedNesting = createGeneratedNesting(generatedOuterObservable);
+		generatedNestingValue = new AlternatingValue(
+				Node.observableOnLevel(generatedOuterObservable, level), depth - level);
+
+		if (polluted)
+			polluteTypeProfile();
+	}
+
+	/**
+	 * Creates the generated nesting for the {@link #depth}.
+	 *
+	 * @param outerObservable
+	 *            the outer observable of the nesting
+	 * @return a new generated nesting
+	 */
+	private Nesting<? extends Property<Node>> createGeneratedNesting(Property<Node> outerObservable) {
+		switch (depth) {
+			case 2:
+				return new NodeNextNextNesting(outerObservable);
+			case 5:
+				return new NodeNextNextNextNextNextNesting(outerObservable);
+			default:
+				throw new IllegalArgumentException("There is no generated nesting for depth " + depth + ".");
+		}
+	}
+
+	/**
+	 * Updates deep nestings with different steps so the JIT compiler sees several of them in {@code DeepNesting}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void polluteTypeProfile() {
+		NestingStep<Node, Property<Node>>[] steps = new NestingStep[] {
+				(NestingStep<Node, Property<Node>>) node -> node.nextProperty(),
+				(NestingStep<Node, Property<Node>>) node -> node == null ? null : node.nextProperty(),
+				(NestingStep<Node, Property<Node>>) node -> Node.observableOnLevel(node.nextProperty(), 0),
+		};
+		for (NestingStep<Node, Property<Node>> step : steps) {
+			Property<Node> outerObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+			ObjectPropertyNestingBuilder<Node> builder = Nestings.on(outerObservable).nest(step);
+			for (int level = 1; level < depth; level++)
+				builder = builder.nest(step);
+			Nesting<Property<Node>> nesting = builder.buildNesting();
+
+			AlternatingValue value = new AlternatingValue(outerObservable, depth);
+			for (int i = 0; i < POLLUTING_UPDATES; i++)
+				value.alternate();
+			nesting.dispose();
+		}
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes the value on the {@link #changedLevel} and thus updates the deep nesting.
+	 *
+	 * @return the deep nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<Property<Node>> deepNesting() {
+		deepNestingValue.alternate();
+		return deepNesting.innerObservableProperty().getValue();
+	}
+
+	/**
+	 * Changes the value on the {@link #changedLevel} and thus updates the generated nesting.
+	 *
+	 * @return the generated nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<? extends Property<Node>> generatedNesting() {
+		generatedNestingValue.alternate();
+		return generatedNesting.innerObservableProperty().getValue();
+	}
+
+	//#end BENCHMARKS
+
+}
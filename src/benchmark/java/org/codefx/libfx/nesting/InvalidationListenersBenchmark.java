@@ -0,0 +1,216 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares deep nestings with change and invalidation listeners on a hierarchy whose nested observables are computed
+ * {@link ObjectBinding ObjectBindings} (created with {@link Bindings#createObjectBinding}). Each operation changes the
+ * value on which the outermost binding depends several times before the nesting's inner observable is requested once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvalidationListenersBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "2", "5", "10" })
+	public int depth;
+
+	/**
+	 * The number of changes between two requests of the inner observable.
+	 */
+	@Param({ "1", "10" })
+	public int changesPerRequest;
+
+	/**
+	 * The amount of work each binding performs when it is evaluated (see {@link Blackhole#consumeCPU(long)}).
+	 */
+	@Param({ "100" })
+	public long evaluationCost;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The first node of the hierarchy observed by the {@link #changeListenerNesting}.
+	 */
+	private ComputedNode changeListenerNode;
+
+	/**
+	 * The nesting which uses change listeners.
+	 */
+	private Nesting<ObservableValue<ComputedNode>> changeListenerNesting;
+
+	/**
+	 * The first node of the hierarchy observed by the {@link #invalidationListenerNesting}.
+	 */
+	private ComputedNode invalidationListenerNode;
+
+	/**
+	 * The nesting which uses invalidation listeners.
+	 */
+	private Nesting<ObservableValue<ComputedNode>> invalidationListenerNesting;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchies and the nestings.
+	 */
+	@Setup
+	public void setUp() {
+		changeListenerNode = createChain(depth + 1, evaluationCost);
+		changeListenerNesting = nestingBuilder(changeListenerNode, depth)
+				.buildNesting();
+
+		invalidationListenerNode = createChain(depth + 1, evaluationCost);
+		invalidationListenerNesting = nestingBuilder(invalidationListenerNode, depth)
+				.withInvalidationListeners()
+				.buildNesting();
+	}
+
+	/**
+	 * Creates a chain of the specified length.
+	 *
+	 * @param length
+	 *            the number of nodes in the chain
+	 * @param evaluationCost
+	 *            the cost of each node's binding
+	 * @return the first node of the chain
+	 */
+	private static ComputedNode createChain(int length, long evaluationCost) {
+		ComputedNode first = null;
+		for (int i = 0; i < length; i++)
+			first = new ComputedNode(first, evaluationCost);
+		return first;
+	}
+
+	/**
+	 * Creates a builder for a nesting which starts at the specified node and nests into each
+	 * {@link ComputedNode#computedNext computedNext} binding.
+	 *
+	 * @param first
+	 *            the first node of the hierarchy
+	 * @param depth
+	 *            the number of nesting steps
+	 * @return a nesting builder
+	 */
+	private static ObservableValueNestingBuilder<ComputedNode> nestingBuilder(ComputedNode first, int depth) {
+		ObservableValueNestingBuilder<ComputedNode> builder = Nestings.on(first.computedNext);
+		for (int i = 1; i < depth; i++)
+			builder = builder.nestObservableValue(node -> node.computedNext);
+		return builder;
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes the hierarchy and requests the inner observable of the nesting with change listeners.
+	 *
+	 * @return the nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<ObservableValue<ComputedNode>> changeListeners() {
+		for (int i = 0; i < changesPerRequest; i++)
+			changeListenerNode.alternateNext();
+		return changeListenerNesting.innerObservableProperty().getValue();
+	}
+
+	/**
+	 * Changes the hierarchy and requests the inner observable of the nesting with invalidation listeners.
+	 *
+	 * @return the nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<ObservableValue<ComputedNode>> invalidationListeners() {
+		for (int i = 0; i < changesPerRequest; i++)
+			invalidationListenerNode.alternateNext();
+		return invalidationListenerNesting.innerObservableProperty().getValue();
+	}
+
+	//#end BENCHMARKS
+
+	// #region INNER CLASSES
+
+	/**
+	 * A node whose next node is exposed by a binding which performs some work when it is evaluated.
+	 */
+	private static class ComputedNode {
+
+		/**
+		 * The next node.
+		 */
+		private final ObjectProperty<ComputedNode> next;
+
+		/**
+		 * A binding which holds {@link #next}'s value.
+		 */
+		private final ObjectBinding<ComputedNode> computedNext;
+
+		/**
+		 * The original next node; {@link #alternateNext()} switches between it and a copy.
+		 */
+		private final ComputedNode originalNext;
+
+		/**
+		 * The copy of the original next node; null if there is no next node.
+		 */
+		private final ComputedNode otherNext;
+
+		/**
+		 * Creates a new node.
+		 *
+		 * @param next
+		 *            the next node; can be null
+		 * @param evaluationCost
+		 *            the cost of evaluating {@link #computedNext}
+		 */
+		public ComputedNode(ComputedNode next, long evaluationCost) {
+			this.next = new SimpleObjectProperty<>(next);
+			this.computedNext = Bindings.createObjectBinding(() -> {
+				Blackhole.consumeCPU(evaluationCost);
+				return this.next.get();
+			}, this.next);
+			this.originalNext = next;
+			this.otherNext = next == null ? null : new ComputedNode(next.originalNext, evaluationCost);
+		}
+
+		/**
+		 * Switches {@link #next} between the original next node and its copy.
+		 */
+		public void alternateNext() {
+			next.set(next.get() == originalNext ? otherNext : originalNext);
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
@@ -0,0 +1,111 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures a nesting whose outer value switches back and forth between a few selections while its only step is
+ * expensive. The step either runs on every switch or is {@link MemoizingNestingStep#memoize(NestingStep) memoized}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemoizingStepBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of selections between which the outer value switches.
+	 */
+	@Param({ "2", "10" })
+	public int selections;
+
+	/**
+	 * The amount of work the step performs (see {@link Blackhole#consumeCPU(long)}).
+	 */
+	@Param({ "0", "100" })
+	public long stepCost;
+
+	/**
+	 * Indicates whether the step is memoized.
+	 */
+	@Param({ "false", "true" })
+	public boolean memoized;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The values between which the outer observable switches.
+	 */
+	private Node[] values;
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<Node> outerObservable;
+
+	/**
+	 * The nesting on the {@link #outerObservable}.
+	 */
+	private Nesting<Property<Node>> nesting;
+
+	/**
+	 * The index of the current outer value.
+	 */
+	private int index;
+
+	//#end STATE
+
+	/**
+	 * Creates the values and the nesting.
+	 */
+	@Setup
+	public void setUp() {
+		values = new Node[selections];
+		for (int i = 0; i < selections; i++)
+			values[i] = Node.createChain(2);
+		outerObservable = new SimpleObjectProperty<>(values[0]);
+
+		NestingStep<Node, Property<Node>> step = node -> {
+			Blackhole.consumeCPU(stepCost);
+			return node.nextProperty();
+		};
+		if (memoized)
+			step = MemoizingNestingStep.memoize(step);
+		nesting = Nestings.on(outerObservable).nest(step).buildNesting();
+	}
+
+	/**
+	 * Switches to the next selection.
+	 *
+	 * @return the nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<Property<Node>> switchSelection() {
+		index = (index + 1) % selections;
+		outerObservable.setValue(values[index]);
+		return nesting.innerObservableProperty().getValue();
+	}
+
+}
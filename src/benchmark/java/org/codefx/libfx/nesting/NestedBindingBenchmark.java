@@ -0,0 +1,162 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.codefx.libfx.nesting.binding.NestedBinding;
+import org.codefx.libfx.nesting.property.NestedStringProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares two ways to derive a value from a nested property, here the length of an address' street: a
+ * {@link NestedStringProperty} with a separate binding on it and a {@link NestedBinding} created with
+ * {@link ObservableValueNestingBuilder#map(java.util.function.Function) map}. The street changes a number of times
+ * before the length is read.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestedBindingBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of times the street changes before the length is read.
+	 */
+	@Param({ "1", "10" })
+	public int updatesPerRead;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The address whose street is observed by the {@link #propertyAndBinding}.
+	 */
+	private Address propertyAddress;
+
+	/**
+	 * The binding on a nested property.
+	 */
+	private IntegerBinding propertyAndBinding;
+
+	/**
+	 * The address whose street is observed by the {@link #nestedBinding}.
+	 */
+	private Address bindingAddress;
+
+	/**
+	 * The nested binding.
+	 */
+	private NestedBinding<Integer> nestedBinding;
+
+	/**
+	 * The streets to which the addresses change.
+	 */
+	private final String[] streets = { "Main Street", "Side Street", "Long Avenue" };
+
+	/**
+	 * The index of the current street.
+	 */
+	private int index;
+
+	//#end STATE
+
+	/**
+	 * Creates the addresses and the bindings.
+	 */
+	@Setup
+	public void setUp() {
+		propertyAddress = new Address();
+		ObjectProperty<Address> currentPropertyAddress = new SimpleObjectProperty<>(propertyAddress);
+		NestedStringProperty street = Nestings.on(currentPropertyAddress)
+				.nestStringProperty(Address::streetProperty)
+				.buildProperty();
+		propertyAndBinding = Bindings.createIntegerBinding(() -> street.get().length(), street);
+
+		bindingAddress = new Address();
+		ObjectProperty<Address> currentBindingAddress = new SimpleObjectProperty<>(bindingAddress);
+		nestedBinding = Nestings.on(currentBindingAddress)
+				.nestStringProperty(Address::streetProperty)
+				.map(String::length);
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes the street and reads the length from the binding on the nested property.
+	 *
+	 * @return the street's length
+	 */
+	@Benchmark
+	public int nestedPropertyAndBinding() {
+		for (int i = 0; i < updatesPerRead; i++)
+			propertyAddress.streetProperty().set(nextStreet());
+		return propertyAndBinding.get();
+	}
+
+	/**
+	 * Changes the street and reads the length from the nested binding.
+	 *
+	 * @return the street's length
+	 */
+	@Benchmark
+	public int nestedBinding() {
+		for (int i = 0; i < updatesPerRead; i++)
+			bindingAddress.streetProperty().set(nextStreet());
+		return nestedBinding.get();
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * @return the street to which the address changes
+	 */
+	private String nextStreet() {
+		index = (index + 1) % streets.length;
+		return streets[index];
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * An address with a street.
+	 */
+	public static class Address {
+
+		/**
+		 * The street.
+		 */
+		private final StringProperty street = new SimpleStringProperty(this, "street", "");
+
+		/**
+		 * @return the street as a property
+		 */
+		public StringProperty streetProperty() {
+			return street;
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
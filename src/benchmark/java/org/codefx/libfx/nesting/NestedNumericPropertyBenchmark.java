@@ -0,0 +1,167 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.property.NestedDoubleProperty;
+import org.codefx.libfx.nesting.property.NestedIntegerProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures high-frequency numeric updates through nested numeric properties, e.g. live sensor values which are shown
+ * by the UI. The values either change in the sensor and are copied to the nested properties or are set on the nested
+ * properties and copied to the sensor.
+ * <p>
+ * Run with {@code -prof gc} to see whether the values are boxed on their way.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestedNumericPropertyBenchmark {
+
+	// #region STATE
+
+	/**
+	 * The sensor whose values are shown.
+	 */
+	private Sensor sensor;
+
+	/**
+	 * The nested property bound to the sensor's {@link Sensor#readingProperty() reading}.
+	 */
+	private NestedDoubleProperty nestedReading;
+
+	/**
+	 * The nested property bound to the sensor's {@link Sensor#countProperty() count}.
+	 */
+	private NestedIntegerProperty nestedCount;
+
+	/**
+	 * The next reading.
+	 */
+	private double reading;
+
+	/**
+	 * The next count; starts outside of the range of cached {@code Integer} instances.
+	 */
+	private int count = 1_000_000;
+
+	//#end STATE
+
+	/**
+	 * Creates the sensor and the nested properties.
+	 */
+	@Setup
+	public void setUp() {
+		sensor = new Sensor();
+		ObjectProperty<Sensor> currentSensor = new SimpleObjectProperty<>(sensor);
+		nestedReading = Nestings.on(currentSensor).nestDoubleProperty(Sensor::readingProperty).buildProperty();
+		nestedCount = Nestings.on(currentSensor).nestIntegerProperty(Sensor::countProperty).buildProperty();
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Sets a new reading on the sensor, which is copied to the nested property.
+	 *
+	 * @return the nested property's value
+	 */
+	@Benchmark
+	public double sensorReadingToNestedProperty() {
+		reading += 0.25;
+		sensor.readingProperty().set(reading);
+		return nestedReading.get();
+	}
+
+	/**
+	 * Sets a new reading on the nested property, which is copied to the sensor.
+	 *
+	 * @return the sensor's reading
+	 */
+	@Benchmark
+	public double nestedPropertyToSensorReading() {
+		reading += 0.25;
+		nestedReading.set(reading);
+		return sensor.readingProperty().get();
+	}
+
+	/**
+	 * Sets a new count on the sensor, which is copied to the nested property.
+	 *
+	 * @return the nested property's value
+	 */
+	@Benchmark
+	public int sensorCountToNestedProperty() {
+		count++;
+		sensor.countProperty().set(count);
+		return nestedCount.get();
+	}
+
+	/**
+	 * Sets a new count on the nested property, which is copied to the sensor.
+	 *
+	 * @return the sensor's count
+	 */
+	@Benchmark
+	public int nestedPropertyToSensorCount() {
+		count++;
+		nestedCount.set(count);
+		return sensor.countProperty().get();
+	}
+
+	//#end BENCHMARKS
+
+	// #region INNER CLASSES
+
+	/**
+	 * A sensor with a reading and a count of measurements.
+	 */
+	public static class Sensor {
+
+		/**
+		 * The current reading.
+		 */
+		private final DoubleProperty reading = new SimpleDoubleProperty(this, "reading");
+
+		/**
+		 * The number of measurements.
+		 */
+		private final IntegerProperty count = new SimpleIntegerProperty(this, "count");
+
+		/**
+		 * @return the current reading as a property
+		 */
+		public DoubleProperty readingProperty() {
+			return reading;
+		}
+
+		/**
+		 * @return the number of measurements as a property
+		 */
+		public IntegerProperty countProperty() {
+			return count;
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
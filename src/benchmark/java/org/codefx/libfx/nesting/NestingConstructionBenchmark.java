@@ -0,0 +1,83 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of a {@link DeepNesting} for different depths with a {@link ShallowNesting} as a baseline.
+ * <p>
+ * Because a nesting adds listeners to all observables in the hierarchy, each operation creates a new hierarchy. The
+ * cost of doing that is measured by {@link #hierarchyOnly()} and has to be subtracted from the other results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestingConstructionBenchmark {
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "1", "2", "5", "10", "20" })
+	public int depth;
+
+	/**
+	 * Creates a new hierarchy without a nesting.
+	 *
+	 * @return the outer observable
+	 */
+	@Benchmark
+	public Property<Node> hierarchyOnly() {
+		return new SimpleObjectProperty<>(Node.createChain(depth));
+	}
+
+	/**
+	 * Creates a new hierarchy and a shallow nesting on its outer observable.
+	 *
+	 * @return the nesting
+	 */
+	@Benchmark
+	public Nesting<?> shallowNesting() {
+		Property<Node> outerObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+		return Nestings.on(outerObservable).buildNesting();
+	}
+
+	/**
+	 * Creates a new hierarchy and a deep nesting with {@link #depth} levels.
+	 *
+	 * @return the nesting
+	 */
+	@Benchmark
+	public Nesting<?> deepNesting() {
+		Property<Node> outerObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+		return Node.nest(outerObservable, depth);
+	}
+
+	/**
+	 * Creates a new hierarchy and a deep nesting with {@link #depth} levels and lazy listeners, which is not observed
+	 * and hence adds no listeners.
+	 *
+	 * @return the nesting
+	 */
+	@Benchmark
+	public Nesting<?> deepNestingWithLazyListeners() {
+		Property<Node> outerObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+		return Node.nestingBuilder(outerObservable, depth).withLazyListeners().buildNesting();
+	}
+
+}
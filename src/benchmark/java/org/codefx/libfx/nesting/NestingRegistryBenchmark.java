@@ -0,0 +1,111 @@
+package org.codefx.libfx.nesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the number of users of the same nesting hierarchy affects the cost of changing the outer observable's
+ * value. Each user either builds its own nesting or shares one via a {@link NestingRegistry}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestingRegistryBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "5" })
+	public int depth;
+
+	/**
+	 * The number of nestings which are built on the same hierarchy.
+	 */
+	@Param({ "1", "10", "100" })
+	public int users;
+
+	/**
+	 * Indicates whether the nestings are shared via a registry.
+	 */
+	@Param({ "false", "true" })
+	public boolean shared;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<Node> outerObservable;
+
+	/**
+	 * The first of the two values between which the {@link #outerObservable} alternates.
+	 */
+	private Node firstValue;
+
+	/**
+	 * The second of the two values between which the {@link #outerObservable} alternates.
+	 */
+	private Node secondValue;
+
+	/**
+	 * The nestings built by the users.
+	 */
+	private List<Nesting<Property<Node>>> nestings;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchy and the users' nestings.
+	 */
+	@Setup
+	public void setUp() {
+		firstValue = Node.createChain(depth);
+		secondValue = Node.createChain(depth);
+		outerObservable = new SimpleObjectProperty<>(firstValue);
+
+		NestingRegistry registry = new NestingRegistry();
+		nestings = new ArrayList<>();
+		for (int i = 0; i < users; i++) {
+			ObjectPropertyNestingBuilder<Node> builder = Node.nestingBuilder(outerObservable, depth);
+			if (shared)
+				builder.withRegistry(registry);
+			nestings.add(builder.buildNesting());
+		}
+	}
+
+	/**
+	 * Replaces the outer observable's value, which updates all levels of the nestings.
+	 *
+	 * @return the last user's inner observable
+	 */
+	@Benchmark
+	public Optional<Property<Node>> changeOuterValue() {
+		outerObservable.setValue(outerObservable.getValue() == firstValue ? secondValue : firstValue);
+		return nestings.get(users - 1).innerObservableProperty().getValue();
+	}
+
+}
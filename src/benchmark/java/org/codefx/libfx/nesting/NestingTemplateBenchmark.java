@@ -0,0 +1,121 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.property.NestedObjectProperty;
+import org.codefx.libfx.nesting.property.NestedObjectPropertyBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to create a {@link NestedObjectProperty} for each of 100k rows (as a {@code TableView}'s
+ * cell value factory would) either with a builder chain per row or with a {@link NestingTemplate}.
+ * <p>
+ * Because the properties add listeners to the rows' hierarchies, the rows are created anew before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestingTemplateBenchmark {
+
+	/**
+	 * The number of rows.
+	 */
+	private static final int ROWS = 100_000;
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "2", "5" })
+	public int depth;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The template which is used to create the properties.
+	 */
+	private NestingTemplate<Property<Node>> template;
+
+	/**
+	 * The rows' outer observables.
+	 */
+	private Property<Node>[] rows;
+
+	/**
+	 * The properties created for the rows.
+	 */
+	private NestedObjectProperty<Node>[] properties;
+
+	//#end STATE
+
+	/**
+	 * Creates the template.
+	 */
+	@Setup
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void setUp() {
+		template = Node.nestingBuilder(new SimpleObjectProperty<>(), depth).buildTemplate();
+		rows = new Property[ROWS];
+		properties = new NestedObjectProperty[ROWS];
+	}
+
+	/**
+	 * Creates new rows and discards the properties created for the old ones.
+	 */
+	@Setup(Level.Invocation)
+	public void createRows() {
+		for (int row = 0; row < ROWS; row++) {
+			rows[row] = new SimpleObjectProperty<>(Node.createChain(depth + 1));
+			properties[row] = null;
+		}
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Creates a property for each row with a builder chain.
+	 *
+	 * @return the created properties
+	 */
+	@Benchmark
+	public NestedObjectProperty<Node>[] builderChain() {
+		for (int row = 0; row < ROWS; row++)
+			properties[row] = Node.nestingBuilder(rows[row], depth).buildProperty();
+		return properties;
+	}
+
+	/**
+	 * Creates a property for each row with the template.
+	 *
+	 * @return the created properties
+	 */
+	@Benchmark
+	public NestedObjectProperty<Node>[] template() {
+		for (int row = 0; row < ROWS; row++)
+			properties[row] = NestedObjectPropertyBuilder.forNesting(template.createNesting(rows[row])).build();
+		return properties;
+	}
+
+	//#end BENCHMARKS
+
+}
@@ -0,0 +1,207 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how a {@link DeepNesting} updates itself when a value on the outer, a middle or the inner level of the
+ * nesting hierarchy changes. The value alternates between two precomputed sub-hierarchies so that each operation
+ * replaces all levels below the changed one. The same changes on a {@link ShallowNesting} serve as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestingUpdateBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "1", "2", "5", "10", "20" })
+	public int depth;
+
+	/**
+	 * The level on which the value changes.
+	 */
+	@Param({ "OUTER", "MIDDLE", "INNER" })
+	public ChangedLevel changedLevel;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The changing value in the hierarchy observed by the {@link #deepNesting}.
+	 */
+	private AlternatingValue deepNestingValue;
+
+	/**
+	 * The deep nesting on the hierarchy.
+	 */
+	private Nesting<Property<Node>> deepNesting;
+
+	/**
+	 * The changing value in the hierarchy observed by the {@link #shallowNesting}.
+	 */
+	private AlternatingValue shallowNestingValue;
+
+	/**
+	 * The shallow nesting on the observable which changes its value.
+	 */
+	private Nesting<Property<Node>> shallowNesting;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchies, the nestings and the alternating values.
+	 */
+	@Setup
+	public void setUp() {
+		int level = changedLevel.toLevel(depth);
+
+		Property<Node> deepOuterObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+		deepNesting = Node.nest(deepOuterObservable, depth);
+		deepNestingValue = new AlternatingValue(Node.observableOnLevel(deepOuterObservable, level), depth - level);
+
+		Property<Node> shallowOuterObservable = new SimpleObjectProperty<>(Node.createChain(depth));
+		Property<Node> shallowChangingObservable = Node.observableOnLevel(shallowOuterObservable, level);
+		shallowNesting = Nestings.on(shallowChangingObservable).buildNesting();
+		shallowNestingValue = new AlternatingValue(shallowChangingObservable, depth - level);
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes the value on the {@link #changedLevel} and thus updates the deep nesting.
+	 *
+	 * @return the deep nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<Property<Node>> deepNesting() {
+		deepNestingValue.alternate();
+		return deepNesting.innerObservableProperty().getValue();
+	}
+
+	/**
+	 * Changes the value on the {@link #changedLevel} without the shallow nesting having to update.
+	 *
+	 * @return the shallow nesting's inner observable
+	 */
+	@Benchmark
+	public Optional<Property<Node>> shallowNesting() {
+		shallowNestingValue.alternate();
+		return shallowNesting.innerObservableProperty().getValue();
+	}
+
+	//#end BENCHMARKS
+
+	// #region INNER CLASSES
+
+	/**
+	 * An observable whose value alternates between two chains of nodes.
+	 */
+	static class AlternatingValue {
+
+		/**
+		 * The observable which changes its value.
+		 */
+		private final Property<Node> observable;
+
+		/**
+		 * The first of the alternating values.
+		 */
+		private final Node firstValue;
+
+		/**
+		 * The second of the alternating values.
+		 */
+		private final Node secondValue;
+
+		/**
+		 * Creates a new alternating value for the specified observable.
+		 *
+		 * @param observable
+		 *            the observable which changes its value; its current value is the first of the alternating values
+		 * @param length
+		 *            the length of the chain which is created as the second value
+		 */
+		public AlternatingValue(Property<Node> observable, int length) {
+			this.observable = observable;
+			this.firstValue = observable.getValue();
+			this.secondValue = Node.createChain(length);
+		}
+
+		/**
+		 * Sets the other of the two alternating values.
+		 */
+		public void alternate() {
+			if (observable.getValue() == firstValue)
+				observable.setValue(secondValue);
+			else
+				observable.setValue(firstValue);
+		}
+
+	}
+
+	/**
+	 * The level on which the value changes.
+	 */
+	public enum ChangedLevel {
+
+		/**
+		 * The outer observable's value changes.
+		 */
+		OUTER,
+
+		/**
+		 * The value of the observable on the level in the middle of the hierarchy changes.
+		 */
+		MIDDLE,
+
+		/**
+		 * The value of the innermost observable which the nesting still has to observe changes.
+		 */
+		INNER;
+
+		/**
+		 * @param depth
+		 *            the depth of the nesting
+		 * @return the level which corresponds to this constant in a nesting of the specified depth
+		 */
+		public int toLevel(int depth) {
+			switch (this) {
+				case OUTER:
+					return 0;
+				case MIDDLE:
+					return (depth - 1) / 2;
+				case INNER:
+					return depth - 1;
+				default:
+					throw new IllegalArgumentException();
+			}
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
@@ -0,0 +1,102 @@
+package org.codefx.libfx.nesting;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+/**
+ * A node in a linear nesting hierarchy which is used by the benchmarks. Each node holds the next one in a property so
+ * nestings of arbitrary depth can be created by repeatedly nesting into {@link #nextProperty()}.
+ * <p>
+ * The {@link NestedPath} annotation generates specialized nestings of depth 2 and 5 ({@code NodeNextNextNesting} and
+ * {@code NodeNextNextNextNextNextNesting}).
+ */
+@NestedPath({ "next.next", "next.next.next.next.next" })
+public class Node {
+
+	/**
+	 * The next node in the hierarchy.
+	 */
+	private final ObjectProperty<Node> next;
+
+	/**
+	 * Creates a new node which holds the specified next node.
+	 *
+	 * @param next
+	 *            the next node; can be null
+	 */
+	public Node(Node next) {
+		this.next = new SimpleObjectProperty<>(this, "next", next);
+	}
+
+	/**
+	 * Creates a chain of the specified length.
+	 *
+	 * @param length
+	 *            the number of nodes in the chain; can be 0
+	 * @return the first node of the new chain; null if the length is 0
+	 */
+	public static Node createChain(int length) {
+		Node first = null;
+		for (int i = 0; i < length; i++)
+			first = new Node(first);
+		return first;
+	}
+
+	/**
+	 * Creates a deep nesting which starts with the specified outer observable and nests into {@link #nextProperty()}
+	 * the specified number of times.
+	 *
+	 * @param outerObservable
+	 *            the outer observable of the nesting
+	 * @param depth
+	 *            the number of nesting steps; must be at least 1
+	 * @return a new {@link Nesting}
+	 */
+	public static Nesting<Property<Node>> nest(Property<Node> outerObservable, int depth) {
+		return nestingBuilder(outerObservable, depth).buildNesting();
+	}
+
+	/**
+	 * Creates a nesting builder which starts with the specified outer observable and nests into
+	 * {@link #nextProperty()} the specified number of times.
+	 *
+	 * @param outerObservable
+	 *            the outer observable of the nesting
+	 * @param depth
+	 *            the number of nesting steps; must be at least 1
+	 * @return a new {@link ObjectPropertyNestingBuilder}
+	 */
+	public static ObjectPropertyNestingBuilder<Node> nestingBuilder(Property<Node> outerObservable, int depth) {
+		ObjectPropertyNestingBuilder<Node> builder = Nestings.on(outerObservable).nest(Node::nextProperty);
+		for (int level = 1; level < depth; level++)
+			builder = builder.nest(Node::nextProperty);
+		return builder;
+	}
+
+	/**
+	 * Returns the observable on the specified level of the hierarchy which starts with the specified outer observable.
+	 *
+	 * @param outerObservable
+	 *            the outer observable, i.e. level 0
+	 * @param level
+	 *            the level whose observable will be returned
+	 * @return the {@link Property} on the specified level
+	 */
+	public static Property<Node> observableOnLevel(Property<Node> outerObservable, int level) {
+		Property<Node> observable = outerObservable;
+		for (int i = 0; i < level; i++)
+			observable = observable.getValue().nextProperty();
+		return observable;
+	}
+
+	/**
+	 * The next node in the hierarchy.
+	 *
+	 * @return the next node as a property
+	 */
+	public ObjectProperty<Node> nextProperty() {
+		return next;
+	}
+
+}
@@ -0,0 +1,145 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.codefx.libfx.nesting.NestingUpdateBenchmark.AlternatingValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Bindings#select(ObservableValue, String...) Bindings.select} with a nesting created by
+ * {@link Nestings#onPath(ObservableValue, String) Nestings.onPath} and with one created with typed nesting steps. The
+ * outer value alternates between two chains of nodes and each operation reads the innermost value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathNestingBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of property names in the path.
+	 */
+	@Param({ "2", "5" })
+	public int depth;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The changing outer value observed by the {@link #selectBinding}.
+	 */
+	private AlternatingValue selectValue;
+
+	/**
+	 * The binding created by {@code Bindings.select}.
+	 */
+	private ObjectBinding<Node> selectBinding;
+
+	/**
+	 * The changing outer value observed by the {@link #pathNesting}.
+	 */
+	private AlternatingValue pathValue;
+
+	/**
+	 * The nesting created by {@code Nestings.onPath}.
+	 */
+	private Nesting<ObservableValue<Node>> pathNesting;
+
+	/**
+	 * The changing outer value observed by the {@link #typedNesting}.
+	 */
+	private AlternatingValue typedValue;
+
+	/**
+	 * The nesting created with typed nesting steps.
+	 */
+	private Nesting<Property<Node>> typedNesting;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchies, the binding and the nestings.
+	 */
+	@Setup
+	public void setUp() {
+		String[] names = new String[depth];
+		for (int i = 0; i < depth; i++)
+			names[i] = "next";
+
+		Property<Node> selectOuterObservable = new SimpleObjectProperty<>(Node.createChain(depth + 1));
+		selectBinding = Bindings.select(selectOuterObservable, names);
+		selectValue = new AlternatingValue(selectOuterObservable, depth + 1);
+
+		Property<Node> pathOuterObservable = new SimpleObjectProperty<>(Node.createChain(depth + 1));
+		pathNesting = Nestings.<Node> onPath(pathOuterObservable, String.join(".", names)).buildNesting();
+		pathValue = new AlternatingValue(pathOuterObservable, depth + 1);
+
+		Property<Node> typedOuterObservable = new SimpleObjectProperty<>(Node.createChain(depth + 1));
+		typedNesting = Node.nest(typedOuterObservable, depth);
+		typedValue = new AlternatingValue(typedOuterObservable, depth + 1);
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes the outer value and reads the binding created by {@code Bindings.select}.
+	 *
+	 * @return the binding's value
+	 */
+	@Benchmark
+	public Node bindingsSelect() {
+		selectValue.alternate();
+		return selectBinding.get();
+	}
+
+	/**
+	 * Changes the outer value and reads the value of the inner observable of the nesting created by
+	 * {@code Nestings.onPath}.
+	 *
+	 * @return the inner observable's value
+	 */
+	@Benchmark
+	public Node nestingsOnPath() {
+		pathValue.alternate();
+		Optional<ObservableValue<Node>> innerObservable = pathNesting.innerObservableProperty().getValue();
+		return innerObservable.isPresent() ? innerObservable.get().getValue() : null;
+	}
+
+	/**
+	 * Changes the outer value and reads the value of the inner observable of the nesting created with typed nesting
+	 * steps.
+	 *
+	 * @return the inner observable's value
+	 */
+	@Benchmark
+	public Node typedNesting() {
+		typedValue.alternate();
+		Optional<Property<Node>> innerObservable = typedNesting.innerObservableProperty().getValue();
+		return innerObservable.isPresent() ? innerObservable.get().getValue() : null;
+	}
+
+	//#end BENCHMARKS
+
+}
@@ -0,0 +1,138 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.property.NestedObjectProperty;
+import org.codefx.libfx.nesting.property.NestedObjectPropertyBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how a cell of a virtualized control, which holds a {@link NestedObjectProperty}, moves on to the next row
+ * while scrolling. It either disposes its property and creates a new one (with a builder chain or a
+ * {@link NestingTemplate}) or {@link NestedObjectProperty#reroot(javafx.beans.value.ObservableValue) re-roots} it.
+ * <p>
+ * Run with {@code -prof gc} to see how much garbage each variant creates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RerootBenchmark {
+
+	/**
+	 * The number of rows.
+	 */
+	private static final int ROWS = 10_000;
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "2", "5" })
+	public int depth;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The rows' outer observables.
+	 */
+	private Property<Node>[] rows;
+
+	/**
+	 * The template which is used to create new properties.
+	 */
+	private NestingTemplate<Property<Node>> template;
+
+	/**
+	 * The cell's property.
+	 */
+	private NestedObjectProperty<Node> cellProperty;
+
+	/**
+	 * The index of the row the cell currently shows.
+	 */
+	private int row;
+
+	//#end STATE
+
+	/**
+	 * Creates the rows, the template and the cell's property.
+	 */
+	@Setup
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void setUp() {
+		rows = new Property[ROWS];
+		for (int i = 0; i < ROWS; i++)
+			rows[i] = new SimpleObjectProperty<>(Node.createChain(depth + 1));
+		template = Node.nestingBuilder(new SimpleObjectProperty<>(), depth).buildTemplate();
+		cellProperty = Node.nestingBuilder(rows[0], depth).buildProperty();
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Disposes the cell's property and builds a new one for the next row with a builder chain.
+	 *
+	 * @return the cell's property
+	 */
+	@Benchmark
+	public NestedObjectProperty<Node> rebuildWithBuilder() {
+		cellProperty.dispose();
+		cellProperty = Node.nestingBuilder(nextRow(), depth).buildProperty();
+		return cellProperty;
+	}
+
+	/**
+	 * Disposes the cell's property and creates a new one for the next row with a template.
+	 *
+	 * @return the cell's property
+	 */
+	@Benchmark
+	public NestedObjectProperty<Node> rebuildWithTemplate() {
+		cellProperty.dispose();
+		cellProperty = NestedObjectPropertyBuilder.forNesting(template.createNesting(nextRow())).build();
+		return cellProperty;
+	}
+
+	/**
+	 * Re-roots the cell's property onto the next row.
+	 *
+	 * @return the cell's property
+	 */
+	@Benchmark
+	public NestedObjectProperty<Node> reroot() {
+		cellProperty.reroot(nextRow());
+		return cellProperty;
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * Moves on to the next row.
+	 *
+	 * @return the next row's outer observable
+	 */
+	private Property<Node> nextRow() {
+		row = (row + 1) % ROWS;
+		return rows[row];
+	}
+
+}
@@ -0,0 +1,136 @@
+package org.codefx.libfx.nesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of changing the outer observable's value when several nestings on it share all but their last
+ * nesting step. The nestings are either built separately or via a {@link NestingRegistry} which shares their common
+ * prefix.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SharedPrefixBenchmark {
+
+	/**
+	 * The nesting step which is used on all shared levels.
+	 */
+	private static final NestingStep<Node, Property<Node>> NEXT = Node::nextProperty;
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of nesting steps.
+	 */
+	@Param({ "5" })
+	public int depth;
+
+	/**
+	 * The number of nestings which share all but their last step.
+	 */
+	@Param({ "1", "10", "50" })
+	public int branches;
+
+	/**
+	 * Indicates whether the nestings' prefix is shared.
+	 */
+	@Param({ "false", "true" })
+	public boolean sharedPrefix;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<Node> outerObservable;
+
+	/**
+	 * The first of the two values between which the {@link #outerObservable} alternates.
+	 */
+	private Node firstValue;
+
+	/**
+	 * The second of the two values between which the {@link #outerObservable} alternates.
+	 */
+	private Node secondValue;
+
+	/**
+	 * The nestings, one per branch.
+	 */
+	private List<Nesting<Property<Node>>> nestings;
+
+	//#end STATE
+
+	/**
+	 * Creates the hierarchy and the nestings.
+	 */
+	@Setup
+	public void setUp() {
+		firstValue = Node.createChain(depth);
+		secondValue = Node.createChain(depth);
+		outerObservable = new SimpleObjectProperty<>(firstValue);
+
+		NestingRegistry registry = NestingRegistry.sharingPrefixes();
+		nestings = new ArrayList<>();
+		for (int branch = 0; branch < branches; branch++) {
+			ObjectPropertyNestingBuilder<Node> builder = Nestings.on(outerObservable);
+			if (sharedPrefix)
+				builder.withRegistry(registry);
+			for (int level = 1; level < depth; level++)
+				builder = builder.nest(NEXT);
+			nestings.add(builder.nest(new BranchStep()).buildNesting());
+		}
+	}
+
+	/**
+	 * Replaces the outer observable's value, which updates all levels of the nestings.
+	 *
+	 * @return the last branch's inner observable
+	 */
+	@Benchmark
+	public Optional<Property<Node>> changeOuterValue() {
+		outerObservable.setValue(outerObservable.getValue() == firstValue ? secondValue : firstValue);
+		return nestings.get(branches - 1).innerObservableProperty().getValue();
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * A nesting step which nests into {@link Node#nextProperty()}. Each instance is only equal to itself, so each
+	 * branch ends with a different step.
+	 */
+	private static class BranchStep implements NestingStep<Node, Property<Node>> {
+
+		@Override
+		public Property<Node> step(Node node) {
+			return node.nextProperty();
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
@@ -0,0 +1,217 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+import org.codefx.libfx.nesting.collection.ElementNestings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares two ways to sort rows by a nested region when the region of a single row changes: a {@link SortedList}
+ * whose comparator walks the getters and which is re-sorted by replacing the comparator (because it does not notice
+ * nested changes) and the view created by {@link ElementNestings#sort(Comparator) ElementNestings.sort}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortedElementListBenchmark {
+
+	// #region PARAMETERS
+
+	/**
+	 * The number of rows.
+	 */
+	@Param({ "1000", "100000" })
+	public int rowCount;
+
+	//#end PARAMETERS
+
+	// #region STATE
+
+	/**
+	 * The regions the rows' orders are shipped to.
+	 */
+	private final String[] regions = { "east", "north", "south", "west", "central", "overseas", "islands", "coast" };
+
+	/**
+	 * The rows sorted by the {@link #sortedList}.
+	 */
+	private ObservableList<Row> sortedListRows;
+
+	/**
+	 * The sorted list.
+	 */
+	private SortedList<Row> sortedList;
+
+	/**
+	 * The rows sorted by the {@link #nestedSort}.
+	 */
+	private ObservableList<Row> nestedSortRows;
+
+	/**
+	 * The view created by {@link ElementNestings#sort(Comparator)}.
+	 */
+	private ObservableList<Row> nestedSort;
+
+	/**
+	 * The index of the row whose region changes next.
+	 */
+	private int index;
+
+	//#end STATE
+
+	/**
+	 * Creates the rows and the sorted lists.
+	 */
+	@Setup
+	public void setUp() {
+		sortedListRows = createRows();
+		sortedList = new SortedList<>(sortedListRows, byRegion());
+
+		nestedSortRows = createRows();
+		NestingTemplate<StringProperty> regionTemplate = Nestings.on(new SimpleObjectProperty<Row>())
+				.nest(Row::orderProperty)
+				.nestStringProperty(Order::regionProperty)
+				.buildTemplate();
+		nestedSort = ElementNestings.on(nestedSortRows, regionTemplate).sort(Comparator.naturalOrder());
+	}
+
+	/**
+	 * @return a list of {@link #rowCount} rows
+	 */
+	private ObservableList<Row> createRows() {
+		ObservableList<Row> rows = FXCollections.observableArrayList();
+		for (int i = 0; i < rowCount; i++)
+			rows.add(new Row(regions[i % regions.length]));
+		return rows;
+	}
+
+	/**
+	 * @return a new comparator which compares rows by walking the getters to their region
+	 */
+	private static Comparator<Row> byRegion() {
+		return Comparator.comparing(row -> row.orderProperty().get().regionProperty().get());
+	}
+
+	// #region BENCHMARKS
+
+	/**
+	 * Changes one row's region and lets the sorted list re-sort all rows.
+	 *
+	 * @return the first row
+	 */
+	@Benchmark
+	public Row sortedList() {
+		changeNextRegion(sortedListRows);
+		sortedList.setComparator(byRegion());
+		return sortedList.get(0);
+	}
+
+	/**
+	 * Changes one row's region, which the nested sort processes incrementally.
+	 *
+	 * @return the first row
+	 */
+	@Benchmark
+	public Row nestedSort() {
+		changeNextRegion(nestedSortRows);
+		return nestedSort.get(0);
+	}
+
+	//#end BENCHMARKS
+
+	/**
+	 * Changes the region of the next row.
+	 *
+	 * @param rows
+	 *            the rows
+	 */
+	private void changeNextRegion(ObservableList<Row> rows) {
+		index = (index + 1) % rows.size();
+		rows.get(index).orderProperty().get().regionProperty().set(regions[(index * 7) % regions.length]);
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * A row which shows an order.
+	 */
+	public static class Row {
+
+		/**
+		 * The order.
+		 */
+		private final ObjectProperty<Order> order;
+
+		/**
+		 * Creates a new row with an order which is shipped to the specified region.
+		 *
+		 * @param region
+		 *            the order's region
+		 */
+		public Row(String region) {
+			order = new SimpleObjectProperty<>(this, "order", new Order(region));
+		}
+
+		/**
+		 * @return the order as a property
+		 */
+		public ObjectProperty<Order> orderProperty() {
+			return order;
+		}
+
+	}
+
+	/**
+	 * An order which is shipped to a region.
+	 */
+	public static class Order {
+
+		/**
+		 * The region.
+		 */
+		private final StringProperty region;
+
+		/**
+		 * Creates a new order which is shipped to the specified region.
+		 *
+		 * @param region
+		 *            the region
+		 */
+		public Order(String region) {
+			this.region = new SimpleStringProperty(this, "region", region);
+		}
+
+		/**
+		 * @return the region as a property
+		 */
+		public StringProperty regionProperty() {
+			return region;
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
@@ -0,0 +1,110 @@
+package org.codefx.libfx.nesting;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap which is retained by abandoned nested properties built on a long-lived outer observable, once
+ * with strong and once with weak listeners.
+ * <p>
+ * Each operation creates {@link #PROPERTIES_PER_OPERATION} nested properties, drops them, runs the garbage collector
+ * and reports the used heap as the auxiliary counter {@link HeapSize#usedHeapBytes usedHeapBytes}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms512m", "-Xmx512m" })
+@State(Scope.Thread)
+public class WeakListenersBenchmark {
+
+	/**
+	 * The number of nested properties created by each operation.
+	 */
+	private static final int PROPERTIES_PER_OPERATION = 100_000;
+
+	/**
+	 * The depth of the nestings.
+	 */
+	private static final int DEPTH = 3;
+
+	/**
+	 * Indicates whether the nestings use weak listeners.
+	 */
+	@Param({ "false", "true" })
+	public boolean weakListeners;
+
+	/**
+	 * The long-lived outer observable.
+	 */
+	private Property<Node> outerObservable;
+
+	/**
+	 * Creates a new {@link #outerObservable} for each iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		outerObservable = new SimpleObjectProperty<>(Node.createChain(DEPTH));
+	}
+
+	/**
+	 * Creates and abandons nested properties and measures the heap they retain.
+	 *
+	 * @param heapSize
+	 *            the counter for the used heap
+	 */
+	@Benchmark
+	public void abandonNestedProperties(HeapSize heapSize) {
+		ObjectPropertyNestingBuilder<Node> builder = Node.nestingBuilder(outerObservable, DEPTH);
+		if (weakListeners)
+			builder.withWeakListeners();
+
+		for (int i = 0; i < PROPERTIES_PER_OPERATION; i++)
+			builder.buildProperty();
+
+		heapSize.measure();
+	}
+
+	/**
+	 * Reports the used heap after a full garbage collection.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HeapSize {
+
+		/**
+		 * The used heap in bytes.
+		 */
+		public long usedHeapBytes;
+
+		/**
+		 * Runs the garbage collector and stores the used heap in {@link #usedHeapBytes}.
+		 */
+		public void measure() {
+			MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+			System.gc();
+			System.gc();
+			usedHeapBytes = memory.getHeapMemoryUsage().getUsed();
+		}
+
+	}
+
+}
@@ -0,0 +1,129 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Abstract superclass of the nestings which the {@link org.codefx.libfx.nesting.processor.NestedPathProcessor
+ * NestedPathProcessor} generates for {@link NestedPath fixed paths}.
+ * <p>
+ * It implements the parts of {@link Nesting} which do not depend on the path, i.e. the
+ * {@link #innerObservableProperty() innerObservable} property, {@link #reroot(ObservableValue) re-rooting} and
+ * {@link #dispose() disposal}. Subclasses observe the levels of the hierarchy, update them by calling the path's
+ * methods directly and {@link #setInnerObservable(Observable) set} the resulting inner observable.
+ *
+ * @param <O>
+ *            the type of the nesting hierarchy's inner {@link Observable}
+ */
+public abstract class AbstractFixedPathNesting<O extends Observable> implements Nesting<O> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The property holding the current inner observable.
+	 */
+	private final InnerObservableProperty<O> inner;
+
+	/**
+	 * Indicates whether this nesting was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new nesting whose inner observable is missing until it is {@link #setInnerObservable(Observable) set}.
+	 */
+	protected AbstractFixedPathNesting() {
+		inner = new InnerObservableProperty<>(this);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region ABSTRACT METHODS
+
+	/**
+	 * Updates the hierarchy starting with the specified level. Called by the listeners on the levels when their
+	 * values change.
+	 *
+	 * @param level
+	 *            the level whose observable changed its value; 0 is the outer observable
+	 */
+	protected abstract void updateFromLevel(int level);
+
+	/**
+	 * Moves the listener from the current outer observable to the specified one and updates the hierarchy.
+	 *
+	 * @param outerObservable
+	 *            the new outer observable; not null
+	 */
+	protected abstract void replaceOuterObservable(ObservableValue<?> outerObservable);
+
+	/**
+	 * Removes all listeners from the observables in the hierarchy and releases the references to them.
+	 */
+	protected abstract void releaseHierarchy();
+
+	//#end ABSTRACT METHODS
+
+	// #region INNER OBSERVABLE
+
+	/**
+	 * Sets the specified inner observable. The listeners of the {@link #innerObservableProperty() innerObservable}
+	 * property are only notified if it differs from the current one.
+	 *
+	 * @param innerObservable
+	 *            the new inner observable; null if it is missing
+	 */
+	protected final void setInnerObservable(O innerObservable) {
+		if (inner.setInnerObservable(innerObservable))
+			inner.invalidate();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final ReadOnlyProperty<Optional<O>> innerObservableProperty() {
+		if (disposed)
+			throw new IllegalStateException("This nesting was disposed.");
+		return inner;
+	}
+
+	//#end INNER OBSERVABLE
+
+	// #region REROOT & DISPOSAL
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void reroot(ObservableValue<?> outerObservable) {
+		Objects.requireNonNull(outerObservable, "The argument 'outerObservable' must not be null.");
+		if (disposed)
+			throw new IllegalStateException("This nesting was disposed.");
+
+		replaceOuterObservable(outerObservable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void dispose() {
+		if (disposed)
+			return;
+
+		disposed = true;
+		releaseHierarchy();
+	}
+
+	//#end REROOT & DISPOSAL
+
+}
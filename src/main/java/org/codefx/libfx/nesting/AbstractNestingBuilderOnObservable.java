@@ -3,6 +3,7 @@ package org.codefx.libfx.nesting;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import javafx.beans.InvalidationListener;
@@ -23,8 +24,11 @@ import org.codefx.libfx.nesting.listener.NestedInvalidationListenerHandle;
  *            the type of the wrapped value
  * @param <O>
  *            the type of {@link Observable} this builder uses as an inner observable
+ * @param <B>
+ *            the type of the concrete builder, which is returned by the methods which change the settings
  */
-abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
+abstract class AbstractNestingBuilderOnObservable<
+		T, O extends Observable, B extends AbstractNestingBuilderOnObservable<T, O, B>> {
 
 	/*
 	 * A builder can either be the outer or a nested builder of a nesting. In the first case, 'outerObservable' is
@@ -44,7 +48,7 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 	 * The previous builder upon which this builder depends. This is only non-null for nested builders (indicated by
 	 * {@link #isOuterBuilder()}).
 	 */
-	private final AbstractNestingBuilderOnObservable<?, ?> previousBuilder;
+	private final AbstractNestingBuilderOnObservable<?, ?, ?> previousBuilder;
 
 	/**
 	 * The function which performs the {@link NestingStep} from an instance of the previous builder's wrapped type to
@@ -52,6 +56,37 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 	 */
 	private final NestingStep<?, ? extends O> nestingStep;
 
+	/**
+	 * Indicates whether the built nestings add weak listeners to the observables in the hierarchy. Nested builders
+	 * initially use the setting of their previous builder.
+	 */
+	private boolean weakListeners;
+
+	/**
+	 * Indicates whether the built nestings only add listeners to the observables in the hierarchy while they are
+	 * observed themselves. Nested builders initially use the setting of their previous builder.
+	 */
+	private boolean lazyListeners;
+
+	/**
+	 * Indicates whether the built nestings add invalidation listeners instead of change listeners to the observables in
+	 * the hierarchy. Nested builders initially use the setting of their previous builder.
+	 */
+	private boolean invalidationListeners;
+
+	/**
+	 * The equivalence used by the built nestings to compare the old and new value of this builder's observable; null
+	 * for identity. Unlike the other settings, it is not passed on to nested builders.
+	 */
+	@SuppressWarnings("rawtypes")
+	private BiPredicate equivalence;
+
+	/**
+	 * The registry which shares identical nestings; null if each build creates a new nesting. Nested builders
+	 * initially use the registry of their previous builder.
+	 */
+	private NestingRegistry registry;
+
 	//#end PROPERTIES
 
 	//#region CONSTRUCTION
@@ -82,7 +117,7 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	protected <P> AbstractNestingBuilderOnObservable(
-			AbstractNestingBuilderOnObservable<P, ?> previousBuilder, NestingStep<P, ? extends O> nestingStep) {
+			AbstractNestingBuilderOnObservable<P, ?, ?> previousBuilder, NestingStep<P, ? extends O> nestingStep) {
 
 		Objects.requireNonNull(previousBuilder, "The argument 'previousBuilder' must not be null.");
 		Objects.requireNonNull(nestingStep, "The argument 'nestingStep' must not be null.");
@@ -90,6 +125,10 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 		this.outerObservable = null;
 		this.previousBuilder = previousBuilder;
 		this.nestingStep = nestingStep;
+		this.weakListeners = previousBuilder.weakListeners;
+		this.lazyListeners = previousBuilder.lazyListeners;
+		this.invalidationListeners = previousBuilder.invalidationListeners;
+		this.registry = previousBuilder.registry;
 	}
 
 	//#end CONSTRUCTION
@@ -98,17 +137,68 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 
 	/**
 	 * Creates a new nesting from this builder's settings. This method can be called arbitrarily often and each call
-	 * returns a new instance.
+	 * returns a new instance. If a {@link #withRegistry(NestingRegistry) registry} was set, the instances share
+	 * identical nestings.
 	 *
 	 * @return a new instance of {@link Nesting}
+	 * @throws IllegalStateException
+	 *             if an equivalence was set on this builder (see
+	 *             {@link AbstractNestingBuilderOnObservableValue#withEquivalence(BiPredicate) withEquivalence})
 	 */
 	public Nesting<O> buildNesting() {
+		checkNoEquivalenceOnInnerObservable();
 		if (isOuterBuilder())
 			return new ShallowNesting<>(outerObservable);
 
-		// create a construction kit and use it to create a deep nesting
+		// create a construction kit and use it to create (or acquire) a deep nesting
+		NestingConstructionKit kit = createNestingConstructionKit();
+		if (registry != null)
+			return registry.acquire(
+					kit.getOuterObservable(), kit.getNestingSteps(), kit.getEquivalences(),
+					weakListeners, lazyListeners, invalidationListeners);
+		return new DeepNesting<>(
+				kit.getOuterObservable(), kit.getNestingSteps(), kit.getEquivalences(),
+				weakListeners, lazyListeners, invalidationListeners);
+	}
+
+	/**
+	 * Creates a new immutable template from this builder's settings, which can be used to create nestings with the
+	 * same nesting steps and settings on other outer observables. Later changes of this builder's settings do not
+	 * affect the template.
+	 * <p>
+	 * The outer observable this builder was created with is not part of the template. It is only needed to get a
+	 * correctly typed builder chain and can be a dummy, e.g. a new {@link javafx.beans.property.SimpleObjectProperty
+	 * SimpleObjectProperty}.
+	 *
+	 * @return a new instance of {@link NestingTemplate}
+	 * @throws IllegalStateException
+	 *             if this is the outer builder, i.e. no nesting step was added, or if an equivalence was set on this
+	 *             builder (see {@link AbstractNestingBuilderOnObservableValue#withEquivalence(BiPredicate)
+	 *             withEquivalence})
+	 */
+	public NestingTemplate<O> buildTemplate() {
+		if (isOuterBuilder())
+			throw new IllegalStateException(
+					"A template can only be built from a builder with at least one nesting step.");
+		checkNoEquivalenceOnInnerObservable();
+
 		NestingConstructionKit kit = createNestingConstructionKit();
-		return new DeepNesting<>(kit.getOuterObservable(), kit.getNestingSteps());
+		return new NestingTemplate<>(
+				kit.getNestingSteps(), kit.getEquivalences(),
+				weakListeners, lazyListeners, invalidationListeners, registry);
+	}
+
+	/**
+	 * Throws an exception if an equivalence was set on this builder. Its observable is the inner observable, whose
+	 * value the nesting does not use, so the equivalence would silently have no effect.
+	 *
+	 * @throws IllegalStateException
+	 *             if an equivalence was set on this builder
+	 */
+	private void checkNoEquivalenceOnInnerObservable() {
+		if (equivalence != null)
+			throw new IllegalStateException("The inner observable's value is not used by the nesting, so an "
+					+ "equivalence can only be set on builders from which another builder was created with 'nest...'.");
 	}
 
 	/**
@@ -134,11 +224,12 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 	/**
 	 * Fills the specified kit with an observable value and all nesting steps which were given to this and its previous
 	 * nesting builders. The steps' order is from outer to inner property and hence is correct for the constructor of
-	 * {@link DeepNesting}.
+	 * {@link DeepNesting}. Each step is accompanied by the {@link #equivalence} of the builder whose observable's
+	 * value the step uses.
 	 *
 	 * @param kit
-	 *            the {@link NestingConstructionKit} to fill with an {@link #outerObservable} and {@link #nestingStep
-	 *            nestingSteps}
+	 *            the {@link NestingConstructionKit} to fill with an {@link #outerObservable}, {@link #nestingStep
+	 *            nestingSteps} and {@link #equivalence equivalences}
 	 */
 	@SuppressWarnings("rawtypes")
 	private void fillNestingConstructionKit(NestingConstructionKit kit) {
@@ -158,11 +249,118 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 		else {
 			previousBuilder.fillNestingConstructionKit(kit);
 			kit.getNestingSteps().add(nestingStep);
+			kit.getEquivalences().add(previousBuilder.equivalence);
 		}
 	}
 
 	//#end BUILD
 
+	// #region SETTINGS
+
+	/**
+	 * Lets the built nestings add their listeners to the observables in the hierarchy via weak references. This way
+	 * the observables (especially a long-lived outer observable) do not keep the nestings alive. Instead a nesting can
+	 * be garbage collected as soon as it is no longer referenced - usually by the nested property or listener handle
+	 * created from it - and stops updating when that happens.
+	 * <p>
+	 * The setting is also used by all builders which are created from this one with one of the {@code nest...}
+	 * methods.
+	 *
+	 * @return this builder
+	 */
+	public B withWeakListeners() {
+		this.weakListeners = true;
+		return self();
+	}
+
+	/**
+	 * Lets the built nestings add their listeners to the observables in the hierarchy only while their
+	 * {@link Nesting#innerObservableProperty() innerObservable} property is observed, i.e. has at least one listener.
+	 * Unobserved nestings hence cause no listener registrations and no update work; their inner observable is computed
+	 * whenever it is requested.
+	 * <p>
+	 * Listener handles only observe their nesting while they are attached and nested properties only while they are
+	 * observed or bound. {@link org.codefx.libfx.nesting.binding.NestedBinding Nested bindings}, on the other hand,
+	 * always observe their nesting until they are disposed because JavaFX bindings can not recompute their value on
+	 * each request. For them this setting saves nothing.
+	 * <p>
+	 * The setting is also used by all builders which are created from this one with one of the {@code nest...}
+	 * methods.
+	 *
+	 * @return this builder
+	 */
+	public B withLazyListeners() {
+		this.lazyListeners = true;
+		return self();
+	}
+
+	/**
+	 * Lets the built nestings add {@link InvalidationListener InvalidationListeners} instead of
+	 * {@link javafx.beans.value.ChangeListener ChangeListeners} to the observables in the hierarchy. The observables
+	 * are then only evaluated when the nesting's inner observable is requested, which avoids eagerly recomputing
+	 * observables which are lazy, e.g. {@link javafx.beans.binding.Binding Bindings}. Accordingly, the nesting's
+	 * {@link Nesting#innerObservableProperty() innerObservable} property is invalidated whenever one of the
+	 * observables is, even if the inner observable does not change in the end.
+	 * <p>
+	 * Note that nested properties and listener handles request the inner observable whenever it is invalidated.
+	 * <p>
+	 * The setting is also used by all builders which are created from this one with one of the {@code nest...}
+	 * methods.
+	 *
+	 * @return this builder
+	 */
+	public B withInvalidationListeners() {
+		this.invalidationListeners = true;
+		return self();
+	}
+
+	/**
+	 * Sets the equivalence which the built nestings use to compare the old and new value of this builder's
+	 * observable.
+	 *
+	 * @param equivalence
+	 *            the equivalence; null for identity
+	 * @see AbstractNestingBuilderOnObservableValue#withEquivalence(BiPredicate)
+	 */
+	protected final void setEquivalence(BiPredicate<? super T, ? super T> equivalence) {
+		this.equivalence = equivalence;
+	}
+
+	/**
+	 * Lets the built nestings be shared via the specified registry. Instead of creating a new nesting on each build,
+	 * the registry is asked for one. If it already holds a nesting on the same outer observable with the same nesting
+	 * steps and settings, that one is shared. The shared nesting is disposed when all nestings which were built with
+	 * it are disposed. See {@link NestingRegistry} for details.
+	 * <p>
+	 * The setting is also used by all builders which are created from this one with one of the {@code nest...}
+	 * methods.
+	 *
+	 * @param registry
+	 *            the {@link NestingRegistry} which shares the built nestings
+	 * @return this builder
+	 * @throws NullPointerException
+	 *             if the specified registry is null
+	 */
+	public B withRegistry(NestingRegistry registry) {
+		Objects.requireNonNull(registry, "The argument 'registry' must not be null.");
+		this.registry = registry;
+		return self();
+	}
+
+	/**
+	 * Returns this builder as an instance of the concrete builder type {@code B}, so the methods which change the
+	 * settings can be chained with those declared by the concrete builder.
+	 *
+	 * @return this builder
+	 */
+	@SuppressWarnings("unchecked")
+	protected final B self() {
+		// each concrete builder specifies its own type as 'B'
+		return (B) this;
+	}
+
+	//#end SETTINGS
+
 	// #region LISTENERS
 
 	/**
@@ -204,6 +402,12 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 		 */
 		private final List<NestingStep> nestingSteps;
 
+		/**
+		 * The list of equivalences which compare the values of the observables on which the {@link #nestingSteps}
+		 * are used; null entries stand for identity.
+		 */
+		private final List<BiPredicate> equivalences;
+
 		//#end PROPERTIES
 
 		// #region CONSTRUCTOR
@@ -213,6 +417,7 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 		 */
 		public NestingConstructionKit() {
 			nestingSteps = new ArrayList<>();
+			equivalences = new ArrayList<>();
 		}
 
 		//#end CONSTRUCTOR
@@ -243,6 +448,14 @@ abstract class AbstractNestingBuilderOnObservable<T, O extends Observable> {
 			return nestingSteps;
 		}
 
+		/**
+		 * @return the list of equivalences for the values on which the {@link #getNestingSteps() nesting steps} are
+		 *         used; null entries stand for identity
+		 */
+		public List<BiPredicate> getEquivalences() {
+			return equivalences;
+		}
+
 		//#end ACCESSORS
 
 	}
@@ -1,22 +1,30 @@
 package org.codefx.libfx.nesting;
 
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
 import javafx.beans.Observable;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import org.codefx.libfx.nesting.binding.NestedBinding;
 import org.codefx.libfx.nesting.listener.NestedChangeListenerHandle;
 import org.codefx.libfx.nesting.listener.NestedChangeListenerBuilder;
 
 /**
- * A nesting builder which allows adding change listeners.
+ * A nesting builder which allows adding change listeners and creating bindings on the inner observable's value.
  *
  * @param <T>
  *            the type of the wrapped value
  * @param <O>
  *            the type of {@link Observable} this builder uses as an inner observable
+ * @param <B>
+ *            the type of the concrete builder, which is returned by the methods which change the settings
  */
-abstract class AbstractNestingBuilderOnObservableValue<T, O extends ObservableValue<T>>
-		extends AbstractNestingBuilderOnObservable<T, O> {
+abstract class AbstractNestingBuilderOnObservableValue<
+		T, O extends ObservableValue<T>, B extends AbstractNestingBuilderOnObservableValue<T, O, B>>
+		extends AbstractNestingBuilderOnObservable<T, O, B> {
 
 	// #region CONSTRUCTION
 
@@ -41,13 +49,43 @@ abstract class AbstractNestingBuilderOnObservableValue<T, O extends ObservableVa
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	protected <P> AbstractNestingBuilderOnObservableValue(
-			AbstractNestingBuilderOnObservable<P, ?> previousNestedBuilder, NestingStep<P, O> nestingStep) {
+			AbstractNestingBuilderOnObservable<P, ?, ?> previousNestedBuilder, NestingStep<P, O> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
 	}
 
 	//#end CONSTRUCTION
 
+	// #region SETTINGS
+
+	/**
+	 * Lets the built nestings use the specified equivalence to compare the old and new value of this builder's
+	 * observable. If they are equivalent, the nesting is not updated any further: it keeps the old value and the
+	 * nested observables which were reached from it. This avoids replacing the listeners on all deeper levels when a
+	 * value is replaced by an equivalent one, e.g. an immutable value object by an equal copy.
+	 * <p>
+	 * By default, values are compared by identity. {@code Objects::equals} can be used to compare them by equality.
+	 * The equivalence is only called with two non-null values which are not identical; null is only equivalent to
+	 * itself. The equivalence is not used by nestings which are not observed because of
+	 * {@link #withLazyListeners() lazy listeners}.
+	 * <p>
+	 * Unlike other settings, the equivalence only applies to this builder's observable. It is not used by the builders
+	 * created from this one with one of the {@code nest...} methods. Since the nesting does not use the inner
+	 * observable's value, building a nesting (or anything based on one) from the builder on which the equivalence was
+	 * set fails; another builder has to be created from it with one of the {@code nest...} methods.
+	 *
+	 * @param equivalence
+	 *            the {@link BiPredicate} which returns true if its arguments are equivalent
+	 * @return this builder
+	 */
+	public B withEquivalence(BiPredicate<? super T, ? super T> equivalence) {
+		Objects.requireNonNull(equivalence, "The argument 'equivalence' must not be null.");
+		setEquivalence(equivalence);
+		return self();
+	}
+
+	//#end SETTINGS
+
 	// #region LISTENERS
 
 	/**
@@ -67,4 +105,55 @@ abstract class AbstractNestingBuilderOnObservableValue<T, O extends ObservableVa
 
 	//#end LISTENERS
 
+	// #region BINDINGS
+
+	/**
+	 * Creates a binding whose value is computed by applying the specified function to the value of the nesting
+	 * hierarchy's inner {@link ObservableValue}. The binding is evaluated lazily, i.e. changes in the hierarchy only
+	 * invalidate it and the function is only called when the binding's value is requested.
+	 * <p>
+	 * If the inner observable is missing or its value is null, the function is not called and the binding's value is
+	 * null.
+	 *
+	 * @param <R>
+	 *            the type of the binding's value
+	 * @param mapper
+	 *            the {@link Function} which computes the binding's value from the inner observable's value
+	 * @return a new {@link NestedBinding}
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 * @see NestedBinding#map(Nesting, Function)
+	 */
+	public <R> NestedBinding<R> map(Function<? super T, ? extends R> mapper) {
+		Objects.requireNonNull(mapper, "The argument 'mapper' must not be null.");
+		Nesting<O> nesting = buildNesting();
+		return NestedBinding.map(nesting, mapper);
+	}
+
+	/**
+	 * Creates a binding whose value is the value of the observable which the specified function returns for the value
+	 * of the nesting hierarchy's inner {@link ObservableValue}. The binding is evaluated lazily, i.e. changes in the
+	 * hierarchy or the returned observable only invalidate it and the function is only called when the binding's value
+	 * is requested.
+	 * <p>
+	 * If the inner observable is missing or its value is null, the function is not called and the binding's value is
+	 * null. The same is true if the function returns null.
+	 *
+	 * @param <R>
+	 *            the type of the binding's value
+	 * @param mapper
+	 *            the {@link Function} which returns the observable holding the binding's value
+	 * @return a new {@link NestedBinding}
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 * @see NestedBinding#flatMap(Nesting, Function)
+	 */
+	public <R> NestedBinding<R> flatMap(Function<? super T, ? extends ObservableValue<? extends R>> mapper) {
+		Objects.requireNonNull(mapper, "The argument 'mapper' must not be null.");
+		Nesting<O> nesting = buildNesting();
+		return NestedBinding.flatMap(nesting, mapper);
+	}
+
+	//#end BINDINGS
+
 }
@@ -10,9 +10,12 @@ import javafx.beans.property.Property;
  *            the type of the wrapped value
  * @param <O>
  *            the type of {@link Observable} this builder uses as an inner observable
+ * @param <B>
+ *            the type of the concrete builder, which is returned by the methods which change the settings
  */
-abstract class AbstractNestingBuilderOnProperty<T, O extends Property<T>>
-		extends AbstractNestingBuilderOnObservableValue<T, O> {
+abstract class AbstractNestingBuilderOnProperty<
+		T, O extends Property<T>, B extends AbstractNestingBuilderOnProperty<T, O, B>>
+		extends AbstractNestingBuilderOnObservableValue<T, O, B> {
 
 	// #region CONSTRUCTION
 
@@ -37,7 +40,7 @@ abstract class AbstractNestingBuilderOnProperty<T, O extends Property<T>>
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	protected <P> AbstractNestingBuilderOnProperty(
-			AbstractNestingBuilderOnObservable<P, ?> previousNestedBuilder, NestingStep<P, O> nestingStep) {
+			AbstractNestingBuilderOnObservable<P, ?, ?> previousNestedBuilder, NestingStep<P, O> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
 	}
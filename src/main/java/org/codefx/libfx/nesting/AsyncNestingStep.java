@@ -0,0 +1,40 @@
+package org.codefx.libfx.nesting;
+
+import java.util.concurrent.CompletableFuture;
+
+import javafx.beans.Observable;
+
+/**
+ * Functions of this type perform nesting steps which can not be performed right away, e.g. because the nested
+ * observable has to be loaded from a slow backing store. Instead of the observable they return a
+ * {@link CompletableFuture} which completes with it.
+ * <p>
+ * The step itself is performed on the thread which updates the nesting (usually the JavaFX application thread), so it
+ * should only start the loading (e.g. with {@link CompletableFuture#supplyAsync(java.util.function.Supplier,
+ * java.util.concurrent.Executor) supplyAsync}) and return. While the future is not completed, the nesting treats the
+ * observable as missing. If the value on the step's level changes before that, the future is
+ * {@link CompletableFuture#cancel(boolean) cancelled} and its result is discarded.
+ * <p>
+ * Asynchronous steps can be mixed with synchronous ones, e.g. with
+ * {@link ObjectPropertyNestingBuilder#nestAsync(AsyncNestingStep) nestAsync}.
+ *
+ * @param <T>
+ *            the type of the value from where the nesting step starts (which is also the value which owns the returned
+ *            observable)
+ * @param <O>
+ *            the type of {@link Observable} returned by the step
+ */
+@FunctionalInterface
+public interface AsyncNestingStep<T, O extends Observable> {
+
+	/**
+	 * Starts the nesting step from the specified instance to its observable.
+	 *
+	 * @param from
+	 *            the instance whose nested observable will be returned
+	 * @return a {@link CompletableFuture} which completes with {@code from's} observable to which the nesting steps;
+	 *         can be null, in which case the observable is missing
+	 */
+	CompletableFuture<? extends O> step(T from);
+
+}
@@ -8,7 +8,8 @@ import org.codefx.libfx.nesting.property.NestedBooleanPropertyBuilder;
 /**
  * A builder for all kinds of nested functionality whose inner observable is a {@link BooleanProperty}.
  */
-public class BooleanPropertyNestingBuilder extends AbstractNestingBuilderOnProperty<Boolean, BooleanProperty> {
+public class BooleanPropertyNestingBuilder
+		extends AbstractNestingBuilderOnProperty<Boolean, BooleanProperty, BooleanPropertyNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -23,7 +24,7 @@ public class BooleanPropertyNestingBuilder extends AbstractNestingBuilderOnPrope
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> BooleanPropertyNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, BooleanProperty> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
@@ -1,15 +1,19 @@
 package org.codefx.libfx.nesting;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
-import javafx.beans.property.Property;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ReadOnlyProperty;
-import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
 
 /**
  * An implementation of {@link Nesting} which uses an outer {@link ObservableValue} and a series of nesting steps to get
@@ -42,14 +46,74 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 	 * steps[]:		  x     x     x    x			// each step uses values[level] to get the new observ.[level + 1]
 	 * observ.[]:	  x     x     x    x			// stored to remove listeners; [0] only stored for uniform loop
 	 * values[]:	  x     x     x    x			// stored to compare values and end loop upon reaching same value
+	 * equiv.[]:	  x     x     x    x			// compare values[level]; only stored if not all are identity
 	 * listeners[]:	  x     x     x    x			// stored to remove and add the listeners
 	 *
 	 *
+	 * WEAK LISTENERS
+	 *
+	 * If the nesting is created with weak listeners, the listeners in 'changeListeners' (or 'invalidationListeners')
+	 * are weak listeners which wrap the listeners in 'strongListeners'. Only this nesting references the latter so the
+	 * observables in the hierarchy do not keep it alive.
+	 *
+	 *
+	 * LAZY LISTENERS
+	 *
+	 * If the nesting is created with lazy listeners, the listeners are only added to the hierarchy while
+	 * somebody listens to 'inner' (which counts its listeners to find out). While that is the case, the nesting
+	 * behaves as described below. Otherwise the arrays are empty (except 'observables[0]') and the inner observable
+	 * is computed by walking the hierarchy whenever it is requested. The flag 'levelsObserved' indicates which state
+	 * the nesting is in. Without lazy listeners it is always true.
+	 *
+	 *
+	 * INVALIDATION LISTENERS
+	 *
+	 * If the nesting is created with invalidation listeners, the observables get the 'invalidationListeners' instead
+	 * of the 'changeListeners'. These do not update the nesting but only record the lowest invalid level in
+	 * 'firstInvalidLevel' and invalidate 'inner'. Only when the inner observable is requested, the nesting is updated
+	 * from that level on. Since the observables were not necessarily evaluated since their invalidation, the update can
+	 * not stop early (as described below) but always walks up to the inner level, which evaluates and thus validates
+	 * them.
+	 *
+	 *
+	 * BATCHES
+	 *
+	 * If a listener is called while a batch is running on the current thread (see 'NestingBatch'), the nesting is not
+	 * updated (or, with invalidation listeners, 'inner' is not invalidated). Instead the lowest and highest changed
+	 * levels are recorded in 'firstInvalidLevel' and 'lastDeferredLevel' and the nesting registers itself with the
+	 * batch, which calls 'updateDeferred' when it ends. Since values on higher levels might have changed and changed
+	 * back, the update can not stop early before it passed 'lastDeferredLevel'. If the inner observable is requested
+	 * before the batch ends, the nesting is updated right away. The batch updates nestings in the order of their
+	 * 'prefixLevel', so a nesting which depends on shared prefixes in a 'NestingRegistry' is updated after them.
+	 *
+	 *
+	 * RE-ROOTING
+	 *
+	 * When the nesting is re-rooted, the listener on level 0 is moved to the new outer observable, which is stored in
+	 * 'observables[0]'. The nesting is then updated as if that level had changed, so the arrays and listeners are
+	 * reused.
+	 *
+	 *
+	 * ASYNCHRONOUS STEPS
+	 *
+	 * The nesting knows nothing about asynchronous steps. The builders replace each of them with two ordinary levels
+	 * (see 'LoadingNestingStep'): the first steps to an observable which holds the loaded observable (null while it is
+	 * loading) and the second steps from it to the loaded observable. A completed loading is hence just a change on
+	 * the first level and a stale holder is released like any other observable when the level below it changes.
+	 *
+	 *
 	 * BEHAVIOR
 	 *
 	 * Whenever a listener registers a changing value it calls 'updateNestingFromLevel' with the level on which the
 	 * value changed. The method will start on that level and use the nesting steps to get to the higher ones until it
-	 * reaches the inner observable which will be stored in 'innerObservable'. Check the method for details.
+	 * reaches the inner observable which will be stored in 'inner'. Check the method for details.
+	 *
+	 *
+	 * ALLOCATIONS
+	 *
+	 * Updates happen often, so they should not allocate. The 'updater' is hence reused (unless an update is triggered
+	 * while another one is running) and 'inner' reuses the optionals of the current and the previous inner observable.
+	 * (Moving listeners between observables might still allocate within the observables' listener management.)
 	 *
 	 */
 
@@ -78,14 +142,78 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 	private final Object[] values;
 
 	/**
-	 * The change listeners which are added to the observables.
+	 * The equivalences which compare the old and new values on each level; null entries stand for identity. If all
+	 * levels use identity, the array itself is null.
+	 */
+	private final BiPredicate[] equivalences;
+
+	/**
+	 * The change listeners which are added to the observables; null if this nesting uses invalidation listeners. If
+	 * this nesting uses weak listeners, these are {@link WeakChangeListener WeakChangeListeners} which wrap the
+	 * {@link #strongListeners}.
 	 */
 	private final ChangeListener[] changeListeners;
 
+	/**
+	 * The invalidation listeners which are added to the observables; null unless this nesting uses invalidation
+	 * listeners. If this nesting uses weak listeners, these are {@link WeakInvalidationListener
+	 * WeakInvalidationListeners} which wrap the {@link #strongListeners}.
+	 */
+	private final InvalidationListener[] invalidationListeners;
+
+	/**
+	 * The listeners wrapped by the {@link #changeListeners} or {@link #invalidationListeners} if this nesting uses weak
+	 * listeners; otherwise null. Only this nesting references them, so they are garbage collected together with it.
+	 */
+	@SuppressWarnings("unused")
+	private final Object[] strongListeners;
+
+	/**
+	 * The lowest level whose observable was invalidated since the nesting was last updated; {@link #maxLevel} if no
+	 * level is invalid. Only used if this nesting uses invalidation listeners or its update was deferred by a batch.
+	 */
+	private int firstInvalidLevel;
+
+	/**
+	 * The highest level whose observable changed while the update was deferred by a batch; -1 if there is none.
+	 */
+	private int lastDeferredLevel;
+
+	/**
+	 * Indicates whether this nesting is registered with the running batch.
+	 */
+	private boolean deferred;
+
+	/**
+	 * The level of this nesting in the tree of shared prefixes of a {@link NestingRegistry}; 0 if it depends on no
+	 * other nesting. A batch updates nestings with lower prefix levels first.
+	 */
+	private int prefixLevel;
+
 	/**
 	 * The property holding the current inner observable.
 	 */
-	private final Property<Optional<O>> inner;
+	private final ValidatingInnerObservableProperty inner;
+
+	/**
+	 * The updater which is reused for all updates which do not occur while another one is running.
+	 */
+	private final NestingUpdater updater;
+
+	/**
+	 * Indicates whether the {@link #updater} is currently in use.
+	 */
+	private boolean updaterInUse;
+
+	/**
+	 * Indicates whether the listeners are currently added to the observables in the hierarchy.
+	 */
+	private boolean levelsObserved;
+
+	/**
+	 * Indicates whether this nesting was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
 
 	//#end PROPERTIES
 
@@ -112,20 +240,111 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 	 *             if the list is empty
 	 */
 	public DeepNesting(ObservableValue outerObservable, List<NestingStep> nestingSteps) {
+		this(outerObservable, nestingSteps, Collections.emptyList(), false, false, false);
+	}
+
+	/**
+	 * Creates a new deep nesting which depends on the specified outer observable and uses specified nesting steps.
+	 *
+	 * @param outerObservable
+	 *            the {@link ObservableValue} on which this nesting depends
+	 * @param nestingSteps
+	 *            the {@link NestingStep NestingSteps} from one observable's value to the next observable; see
+	 *            {@link #DeepNesting(ObservableValue, List)} for the conditions they must fulfill
+	 * @param equivalences
+	 *            the equivalences which compare the old and new values of the observables on which the nesting steps
+	 *            with the same index are used; null entries stand for identity; the list can be shorter than the list
+	 *            of nesting steps, in which case the missing entries are also treated as identity
+	 * @param weakListeners
+	 *            if true, the listeners are added to the observables as {@link WeakChangeListener
+	 *            WeakChangeListeners} so the observables do not keep this nesting alive
+	 * @param lazyListeners
+	 *            if true, the listeners are only added to the observables while the {@link #innerObservableProperty()
+	 *            innerObservable} property is observed
+	 * @param invalidationListeners
+	 *            if true, {@link InvalidationListener InvalidationListeners} are added to the observables and the
+	 *            nesting is only updated when the inner observable is requested
+	 * @throws IllegalArgumentException
+	 *             if the list is empty
+	 */
+	public DeepNesting(
+			ObservableValue outerObservable, List<NestingStep> nestingSteps, List<BiPredicate> equivalences,
+			boolean weakListeners, boolean lazyListeners, boolean invalidationListeners) {
+
+		this(outerObservable, createNestingSteps(nestingSteps), createEquivalences(equivalences, nestingSteps.size()),
+				weakListeners, lazyListeners, invalidationListeners);
+	}
+
+	/**
+	 * Creates a new deep nesting which depends on the specified outer observable and uses the specified arrays of
+	 * nesting steps and equivalences. The arrays are not copied, so several nestings can share them; they must hence
+	 * never be changed.
+	 *
+	 * @param outerObservable
+	 *            the {@link ObservableValue} on which this nesting depends
+	 * @param nestingSteps
+	 *            the non-empty array of {@link NestingStep NestingSteps} from one observable's value to the next
+	 *            observable; see {@link #DeepNesting(ObservableValue, List)} for the conditions they must fulfill
+	 * @param equivalences
+	 *            the equivalences which compare the old and new values of the observables on which the nesting steps
+	 *            with the same index are used; null entries stand for identity; either as long as the array of nesting
+	 *            steps or null if all levels use identity (see {@link #createEquivalences(List, int)})
+	 * @param weakListeners
+	 *            if true, the listeners are added to the observables as {@link WeakChangeListener
+	 *            WeakChangeListeners} so the observables do not keep this nesting alive
+	 * @param lazyListeners
+	 *            if true, the listeners are only added to the observables while the {@link #innerObservableProperty()
+	 *            innerObservable} property is observed
+	 * @param invalidationListeners
+	 *            if true, {@link InvalidationListener InvalidationListeners} are added to the observables and the
+	 *            nesting is only updated when the inner observable is requested
+	 */
+	DeepNesting(
+			ObservableValue outerObservable, NestingStep[] nestingSteps, BiPredicate[] equivalences,
+			boolean weakListeners, boolean lazyListeners, boolean invalidationListeners) {
+
 		Objects.requireNonNull(outerObservable, "The argument 'outerObservable' must not be null.");
-		Objects.requireNonNull(nestingSteps, "The argument 'nestedObservableGetters' must not be null.");
-		if (nestingSteps.size() < 1)
-			throw new IllegalArgumentException("The list 'nestedObservableGetters' must have at least length 1.");
 
-		maxLevel = nestingSteps.size();
+		maxLevel = nestingSteps.length;
 
 		this.observables = createObservables(outerObservable, maxLevel);
 		this.values = new Object[maxLevel];
-		this.nestingSteps = nestingSteps.toArray(new NestingStep[maxLevel]);
-		this.changeListeners = createChangeListeners(maxLevel);
-		this.inner = new SimpleObjectProperty<>(this, "inner");
+		this.nestingSteps = nestingSteps;
+		this.equivalences = equivalences;
+		if (invalidationListeners) {
+			InvalidationListener[] listeners = createInvalidationListeners(maxLevel);
+			this.changeListeners = null;
+			this.invalidationListeners = weakListeners ? createWeakInvalidationListeners(listeners) : listeners;
+			this.strongListeners = weakListeners ? listeners : null;
+		} else {
+			ChangeListener[] listeners = createChangeListeners(maxLevel);
+			this.changeListeners = weakListeners ? createWeakChangeListeners(listeners) : listeners;
+			this.invalidationListeners = null;
+			this.strongListeners = weakListeners ? listeners : null;
+		}
+		this.firstInvalidLevel = maxLevel;
+		this.lastDeferredLevel = -1;
+		this.inner = new ValidatingInnerObservableProperty(lazyListeners);
+		this.updater = new NestingUpdater();
+
+		if (!lazyListeners)
+			initializeNesting();
+	}
 
-		initializeNesting();
+	/**
+	 * Creates an array of nesting steps from the specified list.
+	 *
+	 * @param nestingSteps
+	 *            the list of {@link NestingStep NestingSteps}
+	 * @return an array of {@link NestingStep NestingSteps}
+	 * @throws IllegalArgumentException
+	 *             if the list is empty
+	 */
+	static NestingStep[] createNestingSteps(List<NestingStep> nestingSteps) {
+		Objects.requireNonNull(nestingSteps, "The argument 'nestedObservableGetters' must not be null.");
+		if (nestingSteps.size() < 1)
+			throw new IllegalArgumentException("The list 'nestedObservableGetters' must have at least length 1.");
+		return nestingSteps.toArray(new NestingStep[nestingSteps.size()]);
 	}
 
 	/**
@@ -144,6 +363,27 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 		return observables;
 	}
 
+	/**
+	 * Creates an array of equivalences from the specified list.
+	 *
+	 * @param equivalences
+	 *            the list of equivalences; null entries stand for identity
+	 * @param levels
+	 *            the number of levels, which is also the new array's length
+	 * @return an array of {@link BiPredicate BiPredicates}; null if all levels use identity
+	 */
+	static BiPredicate[] createEquivalences(List<BiPredicate> equivalences, int levels) {
+		Objects.requireNonNull(equivalences, "The argument 'equivalences' must not be null.");
+		boolean allIdentity = equivalences.stream().allMatch(Objects::isNull);
+		if (allIdentity)
+			return null;
+
+		BiPredicate[] equivalencesArray = new BiPredicate[levels];
+		for (int level = 0; level < Math.min(levels, equivalences.size()); level++)
+			equivalencesArray[level] = equivalences.get(level);
+		return equivalencesArray;
+	}
+
 	/**
 	 * Creates an array of change listeners.
 	 *
@@ -155,21 +395,114 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 		ChangeListener[] listeners = new ChangeListener[levels];
 		for (int level = 0; level < levels; level++) {
 			final int theLevel = level;
-			listeners[level] = (observable, oldValue, newValue) -> updateNestingFromLevel(theLevel);
+			listeners[level] = (observable, oldValue, newValue) -> levelChanged(theLevel);
+		}
+		return listeners;
+	}
+
+	/**
+	 * Creates an array of weak change listeners which wrap the specified listeners.
+	 *
+	 * @param strongListeners
+	 *            the {@link ChangeListener ChangeListeners} which will be wrapped
+	 * @return an array of {@link WeakChangeListener WeakChangeListeners}
+	 */
+	@SuppressWarnings("unchecked")
+	private static ChangeListener[] createWeakChangeListeners(ChangeListener[] strongListeners) {
+		ChangeListener[] weakListeners = new ChangeListener[strongListeners.length];
+		for (int level = 0; level < strongListeners.length; level++)
+			weakListeners[level] = new WeakChangeListener(strongListeners[level]);
+		return weakListeners;
+	}
+
+	/**
+	 * Creates an array of invalidation listeners.
+	 *
+	 * @param levels
+	 *            the number of levels, which is also the new array's length
+	 * @return an array of {@link InvalidationListener InvalidationListeners}
+	 */
+	private InvalidationListener[] createInvalidationListeners(int levels) {
+		InvalidationListener[] listeners = new InvalidationListener[levels];
+		for (int level = 0; level < levels; level++) {
+			final int theLevel = level;
+			listeners[level] = observable -> invalidateFromLevel(theLevel);
 		}
 		return listeners;
 	}
 
+	/**
+	 * Creates an array of weak invalidation listeners which wrap the specified listeners.
+	 *
+	 * @param strongListeners
+	 *            the {@link InvalidationListener InvalidationListeners} which will be wrapped
+	 * @return an array of {@link WeakInvalidationListener WeakInvalidationListeners}
+	 */
+	private static InvalidationListener[] createWeakInvalidationListeners(InvalidationListener[] strongListeners) {
+		InvalidationListener[] weakListeners = new InvalidationListener[strongListeners.length];
+		for (int level = 0; level < strongListeners.length; level++)
+			weakListeners[level] = new WeakInvalidationListener(strongListeners[level]);
+		return weakListeners;
+	}
+
 	/**
 	 * Initializes this nesting by filling the arrays {@link #observables} and {@link #values} and adding the
-	 * corresponding {@link #changeListeners changeListener} to each observable.
+	 * corresponding listener to each observable.
 	 */
 	private void initializeNesting() {
+		levelsObserved = true;
 		new NestingInitializer().initialize();
 	}
 
 	//#end CONSTRUCTION
 
+	// #region LAZY LISTENERS
+
+	/**
+	 * Stops observing the hierarchy by removing all listeners and releasing the observables and values
+	 * stored in the arrays. The outer observable is kept so the nesting can be {@link #initializeNesting() initialized}
+	 * again.
+	 */
+	private void releaseNesting() {
+		levelsObserved = false;
+		firstInvalidLevel = maxLevel;
+		lastDeferredLevel = -1;
+		for (int level = 0; level < maxLevel; level++) {
+			if (observables[level] != null)
+				removeLevelListener(observables[level], level);
+			if (level > 0)
+				observables[level] = null;
+			values[level] = null;
+		}
+	}
+
+	/**
+	 * Computes the current inner observable by walking the hierarchy without storing any observables or values and
+	 * without adding any listeners.
+	 *
+	 * @return the current inner observable
+	 */
+	@SuppressWarnings("unchecked")
+	private Optional<O> computeInnerObservable() {
+		Object value = observables[0].getValue();
+		for (int level = 0; level < maxLevel; level++) {
+			if (value == null)
+				return Optional.empty();
+			Observable nextObservable = nestingSteps[level].step(value);
+			boolean nextIsInnerLevel = (level + 1 == maxLevel);
+			if (nextIsInnerLevel)
+				return Optional.ofNullable((O) nextObservable);
+			if (nextObservable == null)
+				return Optional.empty();
+			// only the last nesting step is allowed to return an 'Observable'
+			value = ((ObservableValue) nextObservable).getValue();
+		}
+		// the loop always returns on the inner level
+		throw new IllegalStateException("The hierarchy's inner level was not reached.");
+	}
+
+	//#end LAZY LISTENERS
+
 	/**
 	 * Updates the nesting from the specified level on. This includes moving listeners from old to new observables and
 	 * updating the arrays {@link #observables} and {@link #values}.
@@ -177,11 +510,192 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 	 * @param startLevel
 	 *            the level on which to start updating; this will be the one to which the {@link #observables
 	 *            observable} which changed its value belongs
+	 * @param forcedUpToLevel
+	 *            the level up to which the update continues even if it encounters equivalent values; -1 if it can stop
+	 *            on the first level with equivalent values
+	 */
+	private void updateNestingFromLevel(int startLevel, int forcedUpToLevel) {
+		if (updaterInUse) {
+			// an update was triggered by another one (e.g. by a listener on 'inner'), so the updater can not be reused
+			new NestingUpdater().update(startLevel, forcedUpToLevel);
+			return;
+		}
+
+		updaterInUse = true;
+		try {
+			updater.update(startLevel, forcedUpToLevel);
+		} finally {
+			updaterInUse = false;
+		}
+	}
+
+	// #region BATCHES
+
+	/**
+	 * Records the specified level as changed while a batch is running and registers this nesting with the batch if
+	 * necessary.
+	 *
+	 * @param level
+	 *            the level of the changed observable
 	 */
-	private void updateNestingFromLevel(int startLevel) {
-		new NestingUpdater(startLevel).update();
+	private void deferLevel(int level) {
+		if (!deferred) {
+			deferred = true;
+			NestingBatch.defer(this);
+		}
+		if (level < firstInvalidLevel)
+			firstInvalidLevel = level;
+		if (level > lastDeferredLevel)
+			lastDeferredLevel = level;
 	}
 
+	/**
+	 * @return the level of this nesting in the tree of shared prefixes of a {@link NestingRegistry}; 0 if it depends on
+	 *         no other nesting
+	 */
+	int getPrefixLevel() {
+		return prefixLevel;
+	}
+
+	/**
+	 * Sets the level of this nesting in the tree of shared prefixes of a {@link NestingRegistry}. Must be called before
+	 * the nesting is used.
+	 *
+	 * @param prefixLevel
+	 *            the number of nestings on which this one depends
+	 */
+	void setPrefixLevel(int prefixLevel) {
+		this.prefixLevel = prefixLevel;
+	}
+
+	/**
+	 * Called by the batch this nesting was registered with when it ends. Updates the nesting (or, with invalidation
+	 * listeners, invalidates the {@link #inner} property) if any level changed during the batch.
+	 */
+	void updateDeferred() {
+		deferred = false;
+		if (disposed || firstInvalidLevel == maxLevel)
+			return;
+
+		if (invalidationListeners != null)
+			inner.invalidate();
+		else
+			validate();
+	}
+
+	//#end BATCHES
+
+	// #region LEVEL LISTENERS
+
+	/**
+	 * Adds the listener for the specified level to the specified observable.
+	 *
+	 * @param observable
+	 *            the {@link ObservableValue} on the specified level
+	 * @param level
+	 *            the level of the observable
+	 */
+	@SuppressWarnings("unchecked")
+	private void addLevelListener(ObservableValue observable, int level) {
+		if (changeListeners != null)
+			observable.addListener(changeListeners[level]);
+		else
+			observable.addListener(invalidationListeners[level]);
+	}
+
+	/**
+	 * Removes the listener for the specified level from the specified observable.
+	 *
+	 * @param observable
+	 *            the {@link ObservableValue} on the specified level
+	 * @param level
+	 *            the level of the observable
+	 */
+	@SuppressWarnings("unchecked")
+	private void removeLevelListener(ObservableValue observable, int level) {
+		if (changeListeners != null)
+			observable.removeListener(changeListeners[level]);
+		else
+			observable.removeListener(invalidationListeners[level]);
+	}
+
+	/**
+	 * Called by the change listener on the specified level. Updates the nesting from that level on unless a batch is
+	 * running, in which case the update is deferred.
+	 *
+	 * @param level
+	 *            the level of the changed observable
+	 */
+	private void levelChanged(int level) {
+		if (NestingBatch.isRunning())
+			deferLevel(level);
+		else
+			updateNestingFromLevel(level, -1);
+	}
+
+	/**
+	 * Called by the invalidation listener on the specified level. Records the level in {@link #firstInvalidLevel} and
+	 * invalidates the {@link #inner} property if the nesting was valid until now. If a batch is running, the
+	 * invalidation of the property is deferred until it ends.
+	 *
+	 * @param level
+	 *            the level of the invalidated observable
+	 */
+	private void invalidateFromLevel(int level) {
+		if (NestingBatch.isRunning()) {
+			deferLevel(level);
+			return;
+		}
+
+		boolean wasValid = firstInvalidLevel == maxLevel;
+		if (level < firstInvalidLevel)
+			firstInvalidLevel = level;
+		if (wasValid)
+			inner.invalidate();
+	}
+
+	/**
+	 * Indicates whether the specified values on the specified level are equivalent. In that case the nesting does not
+	 * have to be updated above that level.
+	 *
+	 * @param level
+	 *            the level on which the values occur
+	 * @param storedValue
+	 *            the value stored in {@link #values}
+	 * @param currentValue
+	 *            the observable's current value
+	 * @return true if the values are identical or equivalent according to the level's equivalence
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean equivalent(int level, Object storedValue, Object currentValue) {
+		if (storedValue == currentValue)
+			return true;
+		if (storedValue == null || currentValue == null)
+			return false;
+
+		boolean levelUsesIdentity = equivalences == null || equivalences[level] == null;
+		if (levelUsesIdentity)
+			return false;
+		return equivalences[level].test(storedValue, currentValue);
+	}
+
+	/**
+	 * Updates the nesting from the {@link #firstInvalidLevel} on if any level was invalidated or changed during a
+	 * batch.
+	 */
+	private void validate() {
+		if (firstInvalidLevel == maxLevel)
+			return;
+
+		int startLevel = firstInvalidLevel;
+		int forcedUpToLevel = lastDeferredLevel;
+		firstInvalidLevel = maxLevel;
+		lastDeferredLevel = -1;
+		updateNestingFromLevel(startLevel, forcedUpToLevel);
+	}
+
+	//#end LEVEL LISTENERS
+
 	// #region ACCESSORS
 
 	/**
@@ -189,23 +703,81 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 	 */
 	@Override
 	public ReadOnlyProperty<Optional<O>> innerObservableProperty() {
+		if (disposed)
+			throw new IllegalStateException("This nesting was disposed.");
 		return inner;
 	}
 
 	//#end ACCESSORS
 
+	// #region REROOT
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The nesting keeps its arrays and listeners. The listener on the outer level is moved to the new outer observable
+	 * and the nesting is then updated as if the old outer observable had changed its value. So if the first level uses
+	 * an {@link AbstractNestingBuilderOnObservableValue#withEquivalence(BiPredicate) equivalence}
+	 * and the new outer observable's value is equivalent to the old one's, the nesting keeps the observables reached
+	 * from the old value.
+	 */
+	@Override
+	public void reroot(ObservableValue<?> outerObservable) {
+		Objects.requireNonNull(outerObservable, "The argument 'outerObservable' must not be null.");
+		if (disposed)
+			throw new IllegalStateException("This nesting was disposed.");
+		if (observables[0] == outerObservable)
+			return;
+
+		if (!levelsObserved) {
+			// the inner observable is computed on each request so there is nothing to update
+			observables[0] = outerObservable;
+			return;
+		}
+
+		removeLevelListener(observables[0], 0);
+		observables[0] = outerObservable;
+		addLevelListener(outerObservable, 0);
+		if (invalidationListeners != null)
+			invalidateFromLevel(0);
+		else
+			levelChanged(0);
+	}
+
+	//#end REROOT
+
+	// #region DISPOSAL
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose() {
+		if (disposed)
+			return;
+
+		// keep the inner observable the nesting has at this point (which might have to be computed or validated)
+		inner.reset(inner.get());
+		disposed = true;
+		// release the hierarchy so it is not kept alive by this nesting
+		releaseNesting();
+		observables[0] = null;
+	}
+
+	//#end DISPOSAL
+
 	// #region PRIVATE CLASSES
 
 	/**
 	 * Initializes {@link DeepNesting#observables}, {@link DeepNesting#values} and {@link DeepNesting#inner} as well as
-	 * adding {@link DeepNesting#changeListeners} to all observables.
+	 * adding the level listeners to all observables.
 	 */
 	private class NestingInitializer {
 
 		/**
 		 * Initializes the {@code DeepNesting} by filling the arrays {@link DeepNesting#observables} and
-		 * {@link DeepNesting#values}, setting {@link DeepNesting#inner} and adding the corresponding
-		 * {@link DeepNesting#changeListeners} to each observable.
+		 * {@link DeepNesting#values}, setting {@link DeepNesting#inner} and adding the corresponding level listener to
+		 * each observable.
 		 */
 		@SuppressWarnings("unchecked")
 		public void initialize() {
@@ -218,20 +790,23 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 			 * Simply update the nesting from level 0 on. But if the updater encounters the same property in the
 			 * 'observables' array as on the currently checked level, it does not add a listener so do that here.
 			 */
-			observables[0].addListener(changeListeners[0]);
-			new NestingUpdater(0).update();
+			addLevelListener(observables[0], 0);
+			updateNestingFromLevel(0, -1);
 		}
 
 	}
 
 	/**
 	 * Updates the {@code DeepNesting} when an observable in the nesting hierarchy changes its value - the level on
-	 * which the change occurred (i.e. the 'startLevel') is specified during construction.
+	 * which the change occurred (i.e. the 'startLevel') is specified when {@link #update(int) update} is called. The
+	 * fields only hold state during an update, so an updater can be reused for the next one.
 	 * <p>
 	 * The updater loops through the levels {@code [startLevel; innerLevel - 1]}, updates {@code observables} and
-	 * {@code values} and moves the {@link DeepNesting#changeListeners} from the old to the new observables. It stops
-	 * when a level is found where the stored value equals the current one. In that case all higher levels must be
-	 * identical and nothing more needs to be updated.
+	 * {@code values} and moves the level listeners from the old to the new observables. It stops when a level is found
+	 * where the stored value is equivalent to the current one. In that case all higher levels must be identical and
+	 * nothing more needs to be updated (this does not apply to nestings with invalidation listeners).
+	 * <p>
+	 * After a batch, the updater must not stop before it passed the highest level which changed during the batch.
 	 * <p>
 	 * Note that the loop will not stop on null observables and null values. Instead it continues and replaces all
 	 * stored observables and values with null. This is the desired behavior as the hierarchy is in now an incomplete
@@ -272,32 +847,46 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 		private Observable innerObservable;
 
 		/**
-		 * Creates a new updater which starts updating on the specified level.
+		 * The level up to which the update continues even if it encounters equivalent values; -1 if there is none.
+		 */
+		private int forcedUpToLevel;
+
+		/**
+		 * Updates the nesting from the specified level on.
+		 *
+		 * @param startLevel
+		 *            the level on which this updater starts updating
+		 * @param forcedUpToLevel
+		 *            the level up to which the update continues even if it encounters equivalent values; -1 if it can
+		 *            stop on the first level with equivalent values
+		 */
+		public void update(int startLevel, int forcedUpToLevel) {
+			this.forcedUpToLevel = forcedUpToLevel;
+			startOnLevel(startLevel);
+			while (mustUpdateCurrentLevel()) {
+				updateCurrentLevel();
+				moveToNextLevel();
+			}
+			updateInnerObservable();
+		}
+
+		/**
+		 * Prepares the update by initializing the fields for the specified level.
 		 *
 		 * @param startLevel
 		 *            the level on which this updater starts updating
 		 */
-		public NestingUpdater(int startLevel) {
+		private void startOnLevel(int startLevel) {
 			currentLevel = startLevel;
 			// there is no listener on the inner level's observable so the start level can never be the inner level
 			currentLevelIsInnerLevel = false;
 
 			currentObservable = observables[startLevel];
 			currentValue = currentObservable.getValue();
-			// note that unless the observable has a strange implementation which calls change listeners
-			// even though nothing changed, this will always be true
-			currentValueChanged = values[currentLevel] != currentObservable.getValue();
-		}
-
-		/**
-		 * Updates the nesting from the {@link #currentLevel} on.
-		 */
-		public void update() {
-			while (mustUpdateCurrentLevel()) {
-				updateCurrentLevel();
-				moveToNextLevel();
-			}
-			updateInnerObservable();
+			// note that unless the observable has a strange implementation which calls change listeners even though
+			// nothing changed or the level uses an equivalence other than identity, this will always be true
+			currentValueChanged = !equivalent(currentLevel, values[currentLevel], currentValue);
+			innerObservable = null;
 		}
 
 		/**
@@ -306,7 +895,13 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 		 * @return true if the {@link #currentLevel} must be updated
 		 */
 		private boolean mustUpdateCurrentLevel() {
-			return currentValueChanged && !currentLevelIsInnerLevel;
+			// with invalidation listeners the higher levels might be invalid even if the value did not change
+			// and evaluating them is the only way to validate them, so the loop can not stop early
+			// after a batch, higher levels might have changed even if the value on this level did not
+			boolean mustContinue = currentValueChanged
+					|| invalidationListeners != null
+					|| currentLevel <= forcedUpToLevel;
+			return mustContinue && !currentLevelIsInnerLevel;
 		}
 
 		/**
@@ -332,9 +927,9 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 			if (storedObservable != currentObservable) {
 				DeepNesting.this.observables[currentLevel] = currentObservable;
 				if (storedObservable != null)
-					storedObservable.removeListener(changeListeners[currentLevel]);
+					removeLevelListener(storedObservable, currentLevel);
 				if (currentObservable != null)
-					currentObservable.addListener(changeListeners[currentLevel]);
+					addLevelListener(currentObservable, currentLevel);
 			}
 		}
 
@@ -349,9 +944,12 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 				currentValue = currentObservable.getValue();
 
 			Object storedValue = DeepNesting.this.values[currentLevel];
-			currentValueChanged = storedValue != currentValue;
+			currentValueChanged = !equivalent(currentLevel, storedValue, currentValue);
 			if (currentValueChanged)
 				DeepNesting.this.values[currentLevel] = currentValue;
+			else
+				// keep the stored value so the observables reached from it are kept as well
+				currentValue = storedValue;
 		}
 
 		/**
@@ -382,13 +980,129 @@ final class DeepNesting<O extends Observable> implements Nesting<O> {
 		/**
 		 * Updates {@link #innerObservable} if the loop reached it.
 		 */
-		@SuppressWarnings("unchecked")
 		private void updateInnerObservable() {
 			// if the loop encountered a level where the stored and the current value are identical,
 			// all higher levels are identical as well and the inner observable can not have changed
 			if (currentLevelIsInnerLevel) {
-				Optional innerObservableOptional = Optional.ofNullable(innerObservable);
-				inner.setValue(innerObservableOptional);
+				Observable updatedInnerObservable = innerObservable;
+				// release the references to the hierarchy before the update possibly triggers another one
+				currentObservable = null;
+				currentValue = null;
+				innerObservable = null;
+				inner.update(updatedInnerObservable);
+			}
+		}
+
+	}
+
+	/**
+	 * The property holding the current inner observable, which validates the hierarchy before returning it.
+	 * <p>
+	 * If the nesting uses lazy listeners, the property keeps track of its listeners. It
+	 * {@link DeepNesting#initializeNesting() initializes} the nesting when the first is added and
+	 * {@link DeepNesting#releaseNesting() releases} it when the last is removed. In between it holds the current inner
+	 * observable; otherwise it computes it on each request.
+	 */
+	private class ValidatingInnerObservableProperty extends InnerObservableProperty<O> {
+
+		/**
+		 * The listeners added to this property; null if the nesting does not use lazy listeners. They are stored (and
+		 * not just counted) so removing a listener which was never added does not release the nesting.
+		 */
+		private final List<Object> listeners;
+
+		/**
+		 * Creates a new property.
+		 *
+		 * @param lazyListeners
+		 *            indicates whether the nesting uses lazy listeners
+		 */
+		public ValidatingInnerObservableProperty(boolean lazyListeners) {
+			super(DeepNesting.this);
+			listeners = lazyListeners ? new ArrayList<>() : null;
+		}
+
+		/**
+		 * Sets the specified inner observable. The listeners are notified unless the nesting uses invalidation
+		 * listeners, in which case this happened when the hierarchy was {@link #invalidate() invalidated}.
+		 *
+		 * @param innerObservable
+		 *            the new inner observable; can be null
+		 */
+		@SuppressWarnings("unchecked")
+		public void update(Observable innerObservable) {
+			setInnerObservable((O) innerObservable);
+			if (invalidationListeners == null)
+				invalidate();
+		}
+
+		@Override
+		public Optional<O> get() {
+			if (disposed)
+				return super.get();
+			if (!levelsObserved)
+				return computeInnerObservable();
+
+			validate();
+			return super.get();
+		}
+
+		@Override
+		public void addListener(InvalidationListener listener) {
+			Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+			registerListener(listener);
+			super.addListener(listener);
+		}
+
+		@Override
+		public void addListener(ChangeListener<? super Optional<O>> listener) {
+			Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+			registerListener(listener);
+			super.addListener(listener);
+		}
+
+		@Override
+		public void removeListener(InvalidationListener listener) {
+			super.removeListener(listener);
+			unregisterListener(listener);
+		}
+
+		@Override
+		public void removeListener(ChangeListener<? super Optional<O>> listener) {
+			super.removeListener(listener);
+			unregisterListener(listener);
+		}
+
+		/**
+		 * Registers the specified listener and initializes the nesting if it is the first one. Must be called before
+		 * the listener is added so change listeners see the correct initial value.
+		 *
+		 * @param listener
+		 *            the added listener
+		 */
+		private void registerListener(Object listener) {
+			if (listeners == null || disposed)
+				return;
+
+			listeners.add(listener);
+			if (listeners.size() == 1)
+				initializeNesting();
+		}
+
+		/**
+		 * Unregisters the specified listener and releases the nesting if it was the last one.
+		 *
+		 * @param listener
+		 *            the removed listener
+		 */
+		private void unregisterListener(Object listener) {
+			if (listeners == null || disposed)
+				return;
+
+			boolean lastListenerRemoved = listeners.remove(listener) && listeners.isEmpty();
+			if (lastListenerRemoved) {
+				reset(Optional.empty());
+				releaseNesting();
 			}
 		}
 
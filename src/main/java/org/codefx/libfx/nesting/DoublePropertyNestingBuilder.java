@@ -8,7 +8,8 @@ import org.codefx.libfx.nesting.property.NestedDoublePropertyBuilder;
 /**
  * A builder for all kinds of nested functionality whose inner observable is a {@link DoubleProperty}.
  */
-public class DoublePropertyNestingBuilder extends AbstractNestingBuilderOnProperty<Number, DoubleProperty> {
+public class DoublePropertyNestingBuilder
+		extends AbstractNestingBuilderOnProperty<Number, DoubleProperty, DoublePropertyNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -23,7 +24,7 @@ public class DoublePropertyNestingBuilder extends AbstractNestingBuilderOnProper
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> DoublePropertyNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, DoubleProperty> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
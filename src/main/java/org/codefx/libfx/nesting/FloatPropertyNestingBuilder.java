@@ -8,7 +8,8 @@ import org.codefx.libfx.nesting.property.NestedFloatPropertyBuilder;
 /**
  * A builder for all kinds of nested functionality whose inner observable is a {@link FloatProperty}.
  */
-public class FloatPropertyNestingBuilder extends AbstractNestingBuilderOnProperty<Number, FloatProperty> {
+public class FloatPropertyNestingBuilder
+		extends AbstractNestingBuilderOnProperty<Number, FloatProperty, FloatPropertyNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -23,7 +24,7 @@ public class FloatPropertyNestingBuilder extends AbstractNestingBuilderOnPropert
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> FloatPropertyNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, FloatProperty> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
@@ -0,0 +1,125 @@
+package org.codefx.libfx.nesting;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyObjectPropertyBase;
+
+/**
+ * The property which holds a {@link Nesting}'s current inner observable.
+ * <p>
+ * It keeps the optionals of the current and the previous inner observable and reuses them when the hierarchy switches
+ * back and forth between two inner observables, so that such updates do not allocate. Setting an inner observable
+ * does not notify the listeners; the nesting does that by {@link #invalidate() invalidating} the property.
+ *
+ * @param <O>
+ *            the type of the nesting hierarchy's inner {@link Observable}
+ */
+class InnerObservableProperty<O extends Observable> extends ReadOnlyObjectPropertyBase<Optional<O>> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The nesting which owns this property.
+	 */
+	private final Nesting<O> nesting;
+
+	/**
+	 * The current inner observable.
+	 */
+	private Optional<O> value;
+
+	/**
+	 * The inner observable before the current one; kept so that its optional can be reused if the hierarchy switches
+	 * back to it.
+	 */
+	private Optional<O> previousValue;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new property whose inner observable is missing.
+	 *
+	 * @param nesting
+	 *            the nesting which owns this property
+	 */
+	public InnerObservableProperty(Nesting<O> nesting) {
+		Objects.requireNonNull(nesting, "The argument 'nesting' must not be null.");
+		this.nesting = nesting;
+		this.value = Optional.empty();
+		this.previousValue = Optional.empty();
+	}
+
+	//#end CONSTRUCTION
+
+	// #region UPDATE
+
+	/**
+	 * Sets the specified inner observable without notifying the listeners.
+	 *
+	 * @param innerObservable
+	 *            the new inner observable; can be null
+	 * @return true if the inner observable changed; false if it is the same as before
+	 */
+	public boolean setInnerObservable(O innerObservable) {
+		if (value.orElse(null) == innerObservable)
+			return false;
+
+		// reuse the optional of the previous inner observable to avoid allocations
+		Optional<O> newValue = previousValue.orElse(null) == innerObservable
+				? previousValue
+				: Optional.ofNullable(innerObservable);
+		previousValue = value;
+		value = newValue;
+		return true;
+	}
+
+	/**
+	 * Sets the specified optional as the current inner observable and forgets the previous one. The listeners are not
+	 * notified.
+	 *
+	 * @param innerObservable
+	 *            the optional holding the new inner observable
+	 */
+	public void reset(Optional<O> innerObservable) {
+		value = innerObservable;
+		previousValue = Optional.empty();
+	}
+
+	/**
+	 * Notifies all listeners that the inner observable might have changed.
+	 */
+	public void invalidate() {
+		fireValueChangedEvent();
+	}
+
+	//#end UPDATE
+
+	// #region IMPLEMENTATION OF 'ReadOnlyObjectPropertyBase'
+
+	/**
+	 * Returns the current inner observable as it was last {@link #setInnerObservable(Observable) set}.
+	 *
+	 * @return the current inner observable
+	 */
+	@Override
+	public Optional<O> get() {
+		return value;
+	}
+
+	@Override
+	public Object getBean() {
+		return nesting;
+	}
+
+	@Override
+	public String getName() {
+		return "inner";
+	}
+
+	//#end IMPLEMENTATION OF 'ReadOnlyObjectPropertyBase'
+
+}
@@ -8,7 +8,8 @@ import org.codefx.libfx.nesting.property.NestedIntegerPropertyBuilder;
 /**
  * A builder for all kinds of nested functionality whose inner observable is an {@link IntegerProperty}.
  */
-public class IntegerPropertyNestingBuilder extends AbstractNestingBuilderOnProperty<Number, IntegerProperty> {
+public class IntegerPropertyNestingBuilder
+		extends AbstractNestingBuilderOnProperty<Number, IntegerProperty, IntegerPropertyNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -23,7 +24,7 @@ public class IntegerPropertyNestingBuilder extends AbstractNestingBuilderOnPrope
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> IntegerPropertyNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, IntegerProperty> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
@@ -0,0 +1,65 @@
+package org.codefx.libfx.nesting;
+
+import javafx.beans.property.Property;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.property.NestedListProperty;
+import org.codefx.libfx.nesting.property.NestedListPropertyBuilder;
+
+/**
+ * A builder for all kinds of nested functionality whose inner observable is a {@link Property} which holds an
+ * {@link ObservableList}.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ */
+public class ListPropertyNestingBuilder<E> extends AbstractNestingBuilderOnProperty<
+		ObservableList<E>, Property<ObservableList<E>>, ListPropertyNestingBuilder<E>> {
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new nesting builder which acts as a nested builder.
+	 *
+	 * @param <P>
+	 *            the type the previous builder wraps
+	 * @param previousNestedBuilder
+	 *            the previous builder
+	 * @param nestingStep
+	 *            the function which performs the nesting step from one observable to the next
+	 */
+	<P> ListPropertyNestingBuilder(
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
+			NestingStep<P, Property<ObservableList<E>>> nestingStep) {
+
+		super(previousNestedBuilder, nestingStep);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region BUILD
+
+	/**
+	 * Creates a nested property from this builder's settings. This method can be called arbitrarily often and each call
+	 * returns a new instance.
+	 *
+	 * @return a new {@link NestedListProperty} instance with no owning bean and no name
+	 */
+	public NestedListProperty<E> buildProperty() {
+		Nesting<Property<ObservableList<E>>> nesting = buildNesting();
+		return NestedListPropertyBuilder.forNesting(nesting).build();
+	}
+
+	/**
+	 * Returns a nested list property builder which can be used to define the new property's attributes before
+	 * building it.
+	 *
+	 * @return a new instance of {@link NestedListPropertyBuilder}
+	 */
+	public NestedListPropertyBuilder<E> buildPropertyWithBuilder() {
+		Nesting<Property<ObservableList<E>>> nesting = buildNesting();
+		return NestedListPropertyBuilder.forNesting(nesting);
+	}
+
+	//#end BUILD
+}
@@ -0,0 +1,298 @@
+package org.codefx.libfx.nesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableValueBase;
+
+/**
+ * A {@link NestingStep} which wraps an {@link AsyncNestingStep} so it can be used by a nesting.
+ * <p>
+ * Instead of the loaded observable this step returns an {@link ObservableValue} which holds it once it was loaded
+ * (and null until then). The builders insert this step and an identity step which steps from that observable's value
+ * to itself, so the nesting treats the holder like any other level. This way the nesting does not need to know about
+ * asynchronous steps:
+ * <ul>
+ * <li>while the holder's value is null, the levels above it and hence the inner observable are missing
+ * <li>when the holder's value changes, the nesting is updated from the holder's level on as usual
+ * <li>when the value on the level below changes, the nesting steps to a new holder and removes its listener from the
+ * old one, which then cancels its future and discards its result
+ * </ul>
+ * The holder only starts loading when the nesting adds its listener. So a nesting which does not observe its hierarchy
+ * (because it uses {@link AbstractNestingBuilderOnObservable#withLazyListeners() lazy listeners}) does not start any
+ * loads; it treats the observables as missing until it is observed.
+ * <p>
+ * The holders are {@link MemoizingNestingStep memoized} by the value they load for. A nesting steps again from an
+ * unchanged value in several cases (e.g. with invalidation listeners, after a {@link Nestings#batch(Runnable) batch}
+ * or when it is re-rooted); it then gets the same holder, so a running load is neither cancelled nor restarted. A
+ * holder whose load was cancelled because its last listener was removed starts it again when a listener is added.
+ * <p>
+ * The futures usually complete on another thread. Their results are handed to the {@link #completionExecutor} (by
+ * default {@link Platform#runLater(Runnable) Platform.runLater}), which must run them on the thread which updates the
+ * nesting.
+ *
+ * @param <T>
+ *            the type of the value from where the nesting step starts
+ * @param <O>
+ *            the type of {@link Observable} loaded by the step
+ */
+final class LoadingNestingStep<T, O extends Observable> implements NestingStep<T, ObservableValue<O>> {
+
+	/**
+	 * The executor which runs the completions on the JavaFX application thread.
+	 */
+	static final Executor FX_APPLICATION_THREAD = Platform::runLater;
+
+	// #region PROPERTIES
+
+	/**
+	 * The step which loads the observables.
+	 */
+	private final AsyncNestingStep<T, O> asyncStep;
+
+	/**
+	 * The executor which hands the loaded observables to the holders.
+	 */
+	private final Executor completionExecutor;
+
+	/**
+	 * The step which creates the holders and memoizes them by the value they load for.
+	 */
+	private final MemoizingNestingStep<T, LoadingObservable<T, O>> holders;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new step.
+	 *
+	 * @param asyncStep
+	 *            the {@link AsyncNestingStep} which loads the observables
+	 * @param completionExecutor
+	 *            the {@link Executor} which runs the completions on the thread which updates the nesting
+	 */
+	LoadingNestingStep(AsyncNestingStep<T, O> asyncStep, Executor completionExecutor) {
+		Objects.requireNonNull(asyncStep, "The argument 'asyncStep' must not be null.");
+		Objects.requireNonNull(completionExecutor, "The argument 'completionExecutor' must not be null.");
+		this.asyncStep = asyncStep;
+		this.completionExecutor = completionExecutor;
+		this.holders = MemoizingNestingStep.memoize(
+				from -> new LoadingObservable<>(asyncStep, from, completionExecutor));
+	}
+
+	/**
+	 * Returns the identity step, which steps from the loaded observable to itself.
+	 *
+	 * @param <O>
+	 *            the type of {@link Observable} loaded by the step
+	 * @return a {@link NestingStep} which returns its argument
+	 */
+	static <O extends Observable> NestingStep<O, O> loaded() {
+		return loaded -> loaded;
+	}
+
+	//#end CONSTRUCTION
+
+	@Override
+	public ObservableValue<O> step(T from) {
+		return holders.step(from);
+	}
+
+	// #region INNER CLASSES
+
+	/**
+	 * An observable value which holds the observable loaded by an {@link AsyncNestingStep}; null while it is loading.
+	 *
+	 * @param <T>
+	 *            the type of the value from where the nesting step starts
+	 * @param <O>
+	 *            the type of {@link Observable} loaded by the step
+	 */
+	private static final class LoadingObservable<T, O extends Observable> extends ObservableValueBase<O> {
+
+		/**
+		 * The step which loads the observable.
+		 */
+		private final AsyncNestingStep<T, O> asyncStep;
+
+		/**
+		 * The value for which the observable is loaded.
+		 */
+		private final T from;
+
+		/**
+		 * The executor which hands the loaded observable to this holder.
+		 */
+		private final Executor completionExecutor;
+
+		/**
+		 * The listeners added to this holder. They are stored (and not just counted) so removing a listener which was
+		 * never added does not stop the loading.
+		 */
+		private final List<Object> listeners;
+
+		/**
+		 * Indicates whether the loading was started and not cancelled since.
+		 */
+		private boolean loadingStarted;
+
+		/**
+		 * The future which completes with the loaded observable; null if the loading was not started or if the step
+		 * returned null. Only a result of this future is accepted.
+		 */
+		private CompletableFuture<? extends O> future;
+
+		/**
+		 * The loaded observable; null while it is loading or if it is missing.
+		 */
+		private O value;
+
+		/**
+		 * Creates a new holder which loads the observable for the specified value when its first listener is added.
+		 *
+		 * @param asyncStep
+		 *            the {@link AsyncNestingStep} which loads the observable
+		 * @param from
+		 *            the value for which the observable is loaded
+		 * @param completionExecutor
+		 *            the {@link Executor} which hands the loaded observable to this holder
+		 */
+		public LoadingObservable(AsyncNestingStep<T, O> asyncStep, T from, Executor completionExecutor) {
+			this.asyncStep = asyncStep;
+			this.from = from;
+			this.completionExecutor = completionExecutor;
+			this.listeners = new ArrayList<>(1);
+		}
+
+		// #region LOADING
+
+		/**
+		 * Starts loading the observable unless that already happened. If the future is already completed, the value is
+		 * set right away (before any listener is added, so no event is fired).
+		 */
+		private void startLoading() {
+			if (loadingStarted)
+				return;
+
+			loadingStarted = true;
+			CompletableFuture<? extends O> loading = asyncStep.step(from);
+			future = loading;
+			if (loading == null)
+				return;
+
+			if (loading.isDone()) {
+				if (!loading.isCompletedExceptionally())
+					value = loading.getNow(null);
+			} else
+				loading.whenComplete(
+						(loaded, error) -> completionExecutor.execute(() -> loaded(loading, loaded, error)));
+		}
+
+		/**
+		 * Called on the thread which updates the nesting when a future completed. Sets the loaded observable unless
+		 * the loading failed or was cancelled since.
+		 *
+		 * @param loading
+		 *            the future which completed
+		 * @param loaded
+		 *            the loaded observable
+		 * @param error
+		 *            the error which occurred during loading; null if there was none
+		 */
+		private void loaded(CompletableFuture<? extends O> loading, O loaded, Throwable error) {
+			if (loading != future || error != null || loaded == null)
+				return;
+
+			value = loaded;
+			fireValueChangedEvent();
+		}
+
+		/**
+		 * Cancels the loading if it is still running, so it is started again when the next listener is added. A
+		 * completed loading is kept.
+		 */
+		private void stopLoading() {
+			if (future == null || future.isDone())
+				return;
+
+			future.cancel(false);
+			future = null;
+			loadingStarted = false;
+		}
+
+		//#end LOADING
+
+		// #region LISTENERS
+
+		@Override
+		public void addListener(InvalidationListener listener) {
+			Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+			listenerAdded(listener);
+			super.addListener(listener);
+		}
+
+		@Override
+		public void addListener(ChangeListener<? super O> listener) {
+			Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+			listenerAdded(listener);
+			super.addListener(listener);
+		}
+
+		@Override
+		public void removeListener(InvalidationListener listener) {
+			super.removeListener(listener);
+			listenerRemoved(listener);
+		}
+
+		@Override
+		public void removeListener(ChangeListener<? super O> listener) {
+			super.removeListener(listener);
+			listenerRemoved(listener);
+		}
+
+		/**
+		 * Registers the specified listener and starts loading when it is the first one. Must be called before the
+		 * listener is added so change listeners see the correct initial value.
+		 *
+		 * @param listener
+		 *            the added listener
+		 */
+		private void listenerAdded(Object listener) {
+			listeners.add(listener);
+			if (listeners.size() == 1)
+				startLoading();
+		}
+
+		/**
+		 * Unregisters the specified listener and stops loading when it was the last one.
+		 *
+		 * @param listener
+		 *            the removed listener
+		 */
+		private void listenerRemoved(Object listener) {
+			boolean lastListenerRemoved = listeners.remove(listener) && listeners.isEmpty();
+			if (lastListenerRemoved)
+				stopLoading();
+		}
+
+		//#end LISTENERS
+
+		@Override
+		public O getValue() {
+			return value;
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
@@ -8,7 +8,8 @@ import org.codefx.libfx.nesting.property.NestedLongPropertyBuilder;
 /**
  * A builder for all kinds of nested functionality whose inner observable is a {@link LongProperty}.
  */
-public class LongPropertyNestingBuilder extends AbstractNestingBuilderOnProperty<Number, LongProperty> {
+public class LongPropertyNestingBuilder
+		extends AbstractNestingBuilderOnProperty<Number, LongProperty, LongPropertyNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -23,7 +24,7 @@ public class LongPropertyNestingBuilder extends AbstractNestingBuilderOnProperty
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> LongPropertyNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, LongProperty> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
@@ -0,0 +1,67 @@
+package org.codefx.libfx.nesting;
+
+import javafx.beans.property.Property;
+import javafx.collections.ObservableMap;
+
+import org.codefx.libfx.nesting.property.NestedMapProperty;
+import org.codefx.libfx.nesting.property.NestedMapPropertyBuilder;
+
+/**
+ * A builder for all kinds of nested functionality whose inner observable is a {@link Property} which holds an
+ * {@link ObservableMap}.
+ *
+ * @param <K>
+ *            the type of the map's keys
+ * @param <V>
+ *            the type of the map's values
+ */
+public class MapPropertyNestingBuilder<K, V> extends AbstractNestingBuilderOnProperty<
+		ObservableMap<K, V>, Property<ObservableMap<K, V>>, MapPropertyNestingBuilder<K, V>> {
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new nesting builder which acts as a nested builder.
+	 *
+	 * @param <P>
+	 *            the type the previous builder wraps
+	 * @param previousNestedBuilder
+	 *            the previous builder
+	 * @param nestingStep
+	 *            the function which performs the nesting step from one observable to the next
+	 */
+	<P> MapPropertyNestingBuilder(
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
+			NestingStep<P, Property<ObservableMap<K, V>>> nestingStep) {
+
+		super(previousNestedBuilder, nestingStep);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region BUILD
+
+	/**
+	 * Creates a nested property from this builder's settings. This method can be called arbitrarily often and each call
+	 * returns a new instance.
+	 *
+	 * @return a new {@link NestedMapProperty} instance with no owning bean and no name
+	 */
+	public NestedMapProperty<K, V> buildProperty() {
+		Nesting<Property<ObservableMap<K, V>>> nesting = buildNesting();
+		return NestedMapPropertyBuilder.forNesting(nesting).build();
+	}
+
+	/**
+	 * Returns a nested map property builder which can be used to define the new property's attributes before
+	 * building it.
+	 *
+	 * @return a new instance of {@link NestedMapPropertyBuilder}
+	 */
+	public NestedMapPropertyBuilder<K, V> buildPropertyWithBuilder() {
+		Nesting<Property<ObservableMap<K, V>>> nesting = buildNesting();
+		return NestedMapPropertyBuilder.forNesting(nesting);
+	}
+
+	//#end BUILD
+}
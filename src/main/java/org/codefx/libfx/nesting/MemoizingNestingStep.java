@@ -0,0 +1,279 @@
+package org.codefx.libfx.nesting;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.beans.Observable;
+
+/**
+ * A {@link NestingStep} which memoizes the results of another step. If it is called with a value for which it already
+ * performed the step, it returns the same observable as before without calling the other step again. This is useful
+ * for steps which are expensive (e.g. because they look something up or create an adapter) when the value on their
+ * level switches back and forth between a few instances.
+ * <h2>Memory</h2> Values are compared by identity and referenced weakly, so the memoization does not keep them alive.
+ * The returned observables are referenced weakly as well because they usually reference their value (e.g. as their
+ * bean), which would otherwise keep it alive. As a consequence, an observable which is only referenced by this step
+ * (e.g. an adapter which is not in use anymore) can be garbage collected, in which case the step is performed again.
+ * <h2>Counters</h2> The number of {@link #getHitCount() hits} and {@link #getMissCount() misses} can be used to check
+ * how effective the memoization is.
+ * <h2>Thread Safety</h2> Like the nestings which use it, this class is not thread-safe.
+ *
+ * @param <T>
+ *            the type of the value from where the nesting step starts
+ * @param <O>
+ *            the type of {@link Observable} returned by the step
+ */
+public final class MemoizingNestingStep<T, O extends Observable> implements NestingStep<T, O> {
+
+	/**
+	 * Stands for a memoized result of null.
+	 */
+	private static final Object NULL_RESULT = new Object();
+
+	// #region PROPERTIES
+
+	/**
+	 * The memoized step.
+	 */
+	private final NestingStep<T, O> step;
+
+	/**
+	 * The memoized results by their values. The results are either {@link WeakReference WeakReferences} to the
+	 * observables or {@link #NULL_RESULT}.
+	 */
+	private final Map<ValueKey, Object> results;
+
+	/**
+	 * The queue to which the keys in {@link #results} are enqueued when their values were garbage collected.
+	 */
+	private final ReferenceQueue<Object> collectedValues;
+
+	/**
+	 * The key which is reused to look up results.
+	 */
+	private final LookupKey lookupKey;
+
+	/**
+	 * The number of calls which returned a memoized result.
+	 */
+	private long hitCount;
+
+	/**
+	 * The number of calls which had to perform the memoized step.
+	 */
+	private long missCount;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new memoizing step.
+	 *
+	 * @param step
+	 *            the memoized step
+	 */
+	private MemoizingNestingStep(NestingStep<T, O> step) {
+		this.step = step;
+		this.results = new HashMap<>();
+		this.collectedValues = new ReferenceQueue<>();
+		this.lookupKey = new LookupKey();
+	}
+
+	/**
+	 * Creates a step which memoizes the results of the specified step.
+	 *
+	 * @param <T>
+	 *            the type of the value from where the nesting step starts
+	 * @param <O>
+	 *            the type of {@link Observable} returned by the step
+	 * @param step
+	 *            the memoized step
+	 * @return a new {@link MemoizingNestingStep}
+	 */
+	public static <T, O extends Observable> MemoizingNestingStep<T, O> memoize(NestingStep<T, O> step) {
+		Objects.requireNonNull(step, "The argument 'step' must not be null.");
+		return new MemoizingNestingStep<>(step);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region STEP
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the step was already performed for the specified instance and the resulting observable was not garbage
+	 * collected, that observable is returned.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public O step(T from) {
+		if (from == null) {
+			missCount++;
+			return step.step(from);
+		}
+
+		removeCollectedValues();
+
+		Object result = lookUp(from);
+		if (result == NULL_RESULT) {
+			hitCount++;
+			return null;
+		}
+		O observable = result == null ? null : ((WeakReference<O>) result).get();
+		if (observable != null) {
+			hitCount++;
+			return observable;
+		}
+
+		missCount++;
+		observable = step.step(from);
+		Object newResult = observable == null ? NULL_RESULT : new WeakReference<>(observable);
+		results.put(new ValueKey(from, collectedValues), newResult);
+		return observable;
+	}
+
+	/**
+	 * Looks up the memoized result for the specified value.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the memoized result; null if there is none
+	 */
+	private Object lookUp(T value) {
+		lookupKey.value = value;
+		try {
+			return results.get(lookupKey);
+		} finally {
+			lookupKey.value = null;
+		}
+	}
+
+	/**
+	 * Removes the results whose values were garbage collected.
+	 */
+	private void removeCollectedValues() {
+		Object collectedKey = collectedValues.poll();
+		while (collectedKey != null) {
+			results.remove(collectedKey);
+			collectedKey = collectedValues.poll();
+		}
+	}
+
+	//#end STEP
+
+	// #region COUNTERS
+
+	/**
+	 * @return the number of calls which returned a memoized result
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of calls which performed the memoized step (including those with a null value)
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	//#end COUNTERS
+
+	// #region PRIVATE CLASSES
+
+	/**
+	 * A key which identifies a value by identity.
+	 */
+	private interface IdentityKey {
+
+		/**
+		 * @return the identified value; null if it was garbage collected
+		 */
+		Object getValue();
+
+	}
+
+	/**
+	 * An {@link IdentityKey} which references its value weakly. It is stored in {@link MemoizingNestingStep#results}.
+	 */
+	private static final class ValueKey extends WeakReference<Object> implements IdentityKey {
+
+		/**
+		 * The identity hash code of the value, stored because the value might be collected.
+		 */
+		private final int hashCode;
+
+		/**
+		 * Creates a new key for the specified value.
+		 *
+		 * @param value
+		 *            the value
+		 * @param queue
+		 *            the queue to which the key is enqueued when the value was garbage collected
+		 */
+		public ValueKey(Object value, ReferenceQueue<Object> queue) {
+			super(value, queue);
+			this.hashCode = System.identityHashCode(value);
+		}
+
+		@Override
+		public Object getValue() {
+			return get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof IdentityKey))
+				return false;
+			Object value = get();
+			return value != null && value == ((IdentityKey) obj).getValue();
+		}
+
+	}
+
+	/**
+	 * A mutable {@link IdentityKey} which is used to look up results without allocating a new key.
+	 */
+	private static final class LookupKey implements IdentityKey {
+
+		/**
+		 * The value which is looked up.
+		 */
+		private Object value;
+
+		@Override
+		public Object getValue() {
+			return value;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(value);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof IdentityKey))
+				return false;
+			return value != null && value == ((IdentityKey) obj).getValue();
+		}
+
+	}
+
+	//#end PRIVATE CLASSES
+
+}
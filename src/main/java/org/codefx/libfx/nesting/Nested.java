@@ -1,6 +1,7 @@
 package org.codefx.libfx.nesting;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.value.ObservableValue;
 
 /**
  * Indicates that a class is providing some kind of nested functionality.
@@ -21,4 +22,47 @@ public interface Nested {
 	 */
 	boolean isInnerObservablePresent();
 
+	/**
+	 * Re-roots the nesting on which this instance is based onto the specified outer observable (see
+	 * {@link Nesting#reroot(ObservableValue)}). This instance keeps its bindings and listeners and from then on acts on
+	 * the new hierarchy. This is useful for cells of virtualized controls, which can reuse their nested instances for a
+	 * new item instead of creating new ones.
+	 * <p>
+	 * Since the nesting is re-rooted, this must only be called if the nesting is not shared with other instances. This
+	 * is the case for all instances created by the nesting builders. If they use a {@link NestingRegistry registry},
+	 * only this instance's nesting moves to the registered nesting for the new outer observable; other instances which
+	 * share the old one are not affected.
+	 * <p>
+	 * The default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param outerObservable
+	 *            the new outer {@link ObservableValue}; its values must have the type expected by the first nesting
+	 *            step
+	 * @throws UnsupportedOperationException
+	 *             if the nesting can not be re-rooted
+	 * @throws IllegalStateException
+	 *             if this instance was {@link #dispose() disposed}
+	 */
+	default void reroot(ObservableValue<?> outerObservable) {
+		throw new UnsupportedOperationException("This instance can not be re-rooted.");
+	}
+
+	/**
+	 * Disposes this instance. It stops observing the nesting on which it is based and disposes that nesting as well.
+	 * Afterwards it no longer reacts to changes in the nesting hierarchy.
+	 * <p>
+	 * Since the nesting is disposed, this must only be called if the nesting is not shared with other instances. This
+	 * is the case for all instances created by the nesting builders.
+	 * <p>
+	 * Disposing an instance which is already disposed has no effect. Afterwards, calls to
+	 * {@link #innerObservablePresentProperty()} and {@link #isInnerObservablePresent()} throw an
+	 * {@link IllegalStateException}.
+	 * <p>
+	 * The default implementation does nothing, so implementations which do not support disposal keep observing their
+	 * nesting.
+	 */
+	default void dispose() {
+		// disposal is not supported
+	}
+
 }
@@ -0,0 +1,46 @@
+package org.codefx.libfx.nesting;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class for which specialized {@link Nesting Nestings} along fixed paths are generated by the
+ * {@link org.codefx.libfx.nesting.processor.NestedPathProcessor NestedPathProcessor}.
+ * <h2>Paths</h2> A path is a dot-separated list of property names like {@code "address.street"}. Each name leads from
+ * the current type to the next observable by calling the method {@code nameProperty()} or, if there is none, the
+ * method {@code name()}. The method must take no arguments and return an {@link javafx.beans.value.ObservableValue
+ * ObservableValue} (or, for the last name, an {@link javafx.beans.Observable Observable}).
+ * <h2>Generated Nestings</h2> For each path a class named after the annotated class and the path is generated into the
+ * same package, e.g. {@code EmployeeAddressStreetNesting} for the path above on a class {@code Employee}. It extends
+ * {@link AbstractFixedPathNesting} and has a constructor which takes the outer observable:
+ *
+ * <pre>
+ * &#064;NestedPath("address.street")
+ * public class Employee { ... }
+ *
+ * Nesting&lt;StringProperty&gt; streetNesting = new EmployeeAddressStreetNesting(currentEmployeeProperty);
+ * </pre>
+ *
+ * The generated classes hold each level in its own typed field and call the model's methods directly. This spares
+ * the arrays and the megamorphic {@link NestingStep} calls of the nestings created by builders, which lets the JIT
+ * compiler inline the whole update.
+ * <p>
+ * On the other hand the generated nestings support none of the builders' settings. They use strong change listeners,
+ * compare values by identity and do not take part in {@link NestingBatch batches}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface NestedPath {
+
+	/**
+	 * The paths for which nestings are generated.
+	 *
+	 * @return the dot-separated paths
+	 */
+	String[] value();
+
+}
@@ -38,6 +38,12 @@ import javafx.beans.value.ObservableValue;
  * can not be fully accessed. The inner observable is said to be <b>missing</b> and the {@code innerObservable} property
  * contains {@link Optional#empty()}.
  * <h2>Evaluation</h2> Nestings will usually be implemented such that they eagerly evaluate the nested observables.
+ * <h2>Re-Rooting</h2> Some nestings can be {@link #reroot(ObservableValue) re-rooted} onto another outer observable,
+ * which lets them follow the same nesting steps in another hierarchy without creating a new nesting. This is useful
+ * for cells of virtualized controls, which are constantly reused for different items.
+ * <h2>Disposal</h2> A nesting adds listeners to the observables in its hierarchy. These keep it reachable as long as the
+ * outer observable is. If the nesting is no longer needed, it should be {@link #dispose() disposed}, which removes
+ * those listeners. A disposed nesting can no longer be used.
  * <h2>Build</h2> Instances of {@code Nesting} can be created with dedicated builders. These can be obtained by starting
  * with one of the methods in {@link Nestings}. More details can be found there.
  * <p>
@@ -60,4 +66,39 @@ public interface Nesting<O extends Observable> {
 	 */
 	ReadOnlyProperty<Optional<O>> innerObservableProperty();
 
+	/**
+	 * Re-roots this nesting onto the specified outer observable (optional operation). The nesting stops observing the
+	 * old hierarchy and from then on behaves as if it had been created with the new outer observable. Its
+	 * {@link #innerObservableProperty() innerObservable} property is updated accordingly (if the new outer observable
+	 * has the same value as the old one, the inner observable does not change).
+	 * <p>
+	 * The new outer observable's values must have the type expected by the first nesting step. This is not checked
+	 * and violations will lead to {@link ClassCastException ClassCastExceptions}.
+	 * <p>
+	 * The default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param outerObservable
+	 *            the new outer {@link ObservableValue}
+	 * @throws UnsupportedOperationException
+	 *             if this nesting can not be re-rooted
+	 * @throws IllegalStateException
+	 *             if this nesting was {@link #dispose() disposed}
+	 */
+	default void reroot(ObservableValue<?> outerObservable) {
+		throw new UnsupportedOperationException("This nesting can not be re-rooted.");
+	}
+
+	/**
+	 * Disposes this nesting by removing all listeners it added to the observables in its hierarchy. Afterwards the
+	 * {@link #innerObservableProperty() innerObservable} property is no longer updated.
+	 * <p>
+	 * Disposing a nesting which is already disposed has no effect. Any other call on a disposed nesting throws an
+	 * {@link IllegalStateException}.
+	 * <p>
+	 * The default implementation does nothing, which is only correct for nestings which add no listeners.
+	 */
+	default void dispose() {
+		// nothing to remove
+	}
+
 }
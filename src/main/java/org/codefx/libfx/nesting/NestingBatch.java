@@ -0,0 +1,169 @@
+package org.codefx.libfx.nesting;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Collects the {@link DeepNesting DeepNestings} whose updates were deferred while a batch was running on the current
+ * thread and updates them when it ends.
+ * <p>
+ * The batch stays in place while it commits, i.e. while it updates the deferred nestings. Nestings which receive
+ * changes from these updates are hence deferred as well instead of being updated right away. The nestings are updated
+ * in the ascending order of their {@link DeepNesting#getPrefixLevel() prefix level}, so the nestings which a
+ * {@link NestingRegistry} uses for shared prefixes are updated before the ones which depend on them. Each of those is
+ * then only updated once, after all its prefixes were.
+ *
+ * @see Nestings#batch(Runnable)
+ */
+final class NestingBatch {
+
+	/**
+	 * The batch which is currently running on each thread; null if none is.
+	 */
+	private static final ThreadLocal<NestingBatch> CURRENT_BATCH = new ThreadLocal<>();
+
+	// #region PROPERTIES
+
+	/**
+	 * The nestings whose updates were deferred, grouped by their prefix level (which is the index into the list) and
+	 * each group in the order in which their first update was deferred.
+	 */
+	private final List<Queue<DeepNesting<?>>> deferredNestings;
+
+	/**
+	 * The lowest prefix level for which nestings might be deferred.
+	 */
+	private int lowestDeferredLevel;
+
+	/**
+	 * The number of nested calls of {@link #run(Runnable)} which use this batch.
+	 */
+	private int depth;
+
+	/**
+	 * Indicates whether this batch is currently updating the deferred nestings.
+	 */
+	private boolean committing;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new, empty batch.
+	 */
+	private NestingBatch() {
+		deferredNestings = new ArrayList<>();
+	}
+
+	//#end CONSTRUCTION
+
+	// #region RUN
+
+	/**
+	 * Runs the specified action in a batch. If a batch is already running on this thread, the action becomes part of
+	 * it; otherwise a new batch is started and ended after the action returned (or threw an exception).
+	 *
+	 * @param action
+	 *            the {@link Runnable} which is run in the batch
+	 */
+	public static void run(Runnable action) {
+		Objects.requireNonNull(action, "The argument 'action' must not be null.");
+
+		NestingBatch batch = CURRENT_BATCH.get();
+		if (batch == null) {
+			batch = new NestingBatch();
+			CURRENT_BATCH.set(batch);
+		}
+
+		batch.depth++;
+		try {
+			action.run();
+		} finally {
+			batch.depth--;
+			// if the batch is committing, the action was run by a listener and its changes are committed as well
+			if (batch.depth == 0 && !batch.committing)
+				batch.commit();
+		}
+	}
+
+	/**
+	 * Indicates whether a batch is running on the current thread.
+	 *
+	 * @return true if a batch is running
+	 */
+	public static boolean isRunning() {
+		return CURRENT_BATCH.get() != null;
+	}
+
+	/**
+	 * Defers the update of the specified nesting until the batch which is running on the current thread ends. The
+	 * nesting is only registered; it must record which levels to update itself.
+	 *
+	 * @param nesting
+	 *            the {@link DeepNesting} whose update is deferred
+	 * @throws IllegalStateException
+	 *             if no batch is running on the current thread
+	 */
+	public static void defer(DeepNesting<?> nesting) {
+		NestingBatch batch = CURRENT_BATCH.get();
+		if (batch == null)
+			throw new IllegalStateException("No batch is running on the current thread.");
+		batch.addDeferredNesting(nesting);
+	}
+
+	/**
+	 * Adds the specified nesting to the group of its prefix level.
+	 *
+	 * @param nesting
+	 *            the {@link DeepNesting} whose update is deferred
+	 */
+	private void addDeferredNesting(DeepNesting<?> nesting) {
+		int level = nesting.getPrefixLevel();
+		while (deferredNestings.size() <= level)
+			deferredNestings.add(new ArrayDeque<>());
+		deferredNestings.get(level).add(nesting);
+		if (level < lowestDeferredLevel)
+			lowestDeferredLevel = level;
+	}
+
+	/**
+	 * Updates all nestings whose updates were deferred, including those which are deferred by these updates, in the
+	 * order of their prefix levels. The batch is removed from the thread afterwards.
+	 */
+	private void commit() {
+		committing = true;
+		try {
+			DeepNesting<?> nesting = pollDeferredNesting();
+			while (nesting != null) {
+				nesting.updateDeferred();
+				nesting = pollDeferredNesting();
+			}
+		} finally {
+			CURRENT_BATCH.remove();
+		}
+	}
+
+	/**
+	 * Removes the next deferred nesting, which is the first one on the lowest prefix level.
+	 *
+	 * @return the next deferred {@link DeepNesting}; null if there is none
+	 */
+	private DeepNesting<?> pollDeferredNesting() {
+		for (int level = lowestDeferredLevel; level < deferredNestings.size(); level++) {
+			Queue<DeepNesting<?>> nestings = deferredNestings.get(level);
+			if (!nestings.isEmpty()) {
+				lowestDeferredLevel = level;
+				return nestings.poll();
+			}
+		}
+		lowestDeferredLevel = deferredNestings.size();
+		return null;
+	}
+
+	//#end RUN
+
+}
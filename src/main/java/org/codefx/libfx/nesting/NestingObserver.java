@@ -5,6 +5,8 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
 
 /**
  * Usability class which observes a {@link Nesting} and executes some methods when the nesting's
@@ -25,6 +27,8 @@ import javafx.beans.Observable;
  * The observer is created with a {@link NestingObserverBuilder} which can be obtained from
  * {@link NestingObserver#forNesting(Nesting) forNesting}. After setting some of the methods mentioned above, the
  * observer is built by calling {@link NestingObserverBuilder#observe()}.
+ * <p>
+ * The observer keeps observing the nesting until it is {@link #dispose() disposed}.
  *
  * @param <O>
  *            the type of the nesting hierarchy's inner {@link Observable}
@@ -56,6 +60,22 @@ public final class NestingObserver<O extends Observable> {
 	 */
 	private final BiConsumer<Boolean, Boolean> innerObservableChanges;
 
+	/**
+	 * The nesting's {@link Nesting#innerObservableProperty() innerObservable} property. It is stored so that the
+	 * {@link #innerObservableListener} can be removed even if the nesting was disposed before this observer.
+	 */
+	private final ReadOnlyProperty<? extends Optional<? extends O>> innerObservable;
+
+	/**
+	 * The listener which is added to the nesting's {@link #innerObservable} and observes changes.
+	 */
+	private final ChangeListener<Optional<? extends O>> innerObservableListener;
+
+	/**
+	 * Indicates whether this observer was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
+
 	//#end PROPERTIES
 
 	// #region CONSTRUCTION
@@ -71,6 +91,9 @@ public final class NestingObserver<O extends Observable> {
 		oldInnerObservableConsumer = builder.oldInnerObservableConsumer;
 		newInnerObservableConsumer = builder.newInnerObservableConsumer;
 		innerObservableChanges = builder.innerObservableChanges;
+		innerObservable = nesting.innerObservableProperty();
+		innerObservableListener = (o, oldInnerObservable, newInnerObservable)
+				-> observeInnerObservableChange(oldInnerObservable, newInnerObservable);
 
 		initializeObserver();
 	}
@@ -97,12 +120,10 @@ public final class NestingObserver<O extends Observable> {
 	 */
 	private void initializeObserver() {
 		// observe the initial status
-		observeInnerObservableChange(Optional.empty(), nesting.innerObservableProperty().getValue());
+		observeInnerObservableChange(Optional.empty(), innerObservable.getValue());
 
 		// add a listener to the nesting which observes changes
-		nesting.innerObservableProperty().addListener(
-				(o, oldInnerObservable, newInnerObservable)
-				-> observeInnerObservableChange(oldInnerObservable, newInnerObservable));
+		innerObservable.addListener(innerObservableListener);
 	}
 
 	/**
@@ -117,15 +138,34 @@ public final class NestingObserver<O extends Observable> {
 	private void observeInnerObservableChange(
 			Optional<? extends O> oldInnerObservable, Optional<? extends O> newInnerObservable) {
 
-		oldInnerObservable.ifPresent(oldObservable -> oldInnerObservableConsumer.accept(oldObservable));
-		newInnerObservable.ifPresent(newObservable -> newInnerObservableConsumer.accept(newObservable));
+		// pass the consumers directly instead of wrapping them in (capturing and hence allocating) lambdas
+		oldInnerObservable.ifPresent(oldInnerObservableConsumer);
+		newInnerObservable.ifPresent(newInnerObservableConsumer);
 
 		boolean oldInnerObservablePresent = oldInnerObservable.isPresent();
 		boolean newInnerObservablePresent = newInnerObservable.isPresent();
 		innerObservableChanges.accept(oldInnerObservablePresent, newInnerObservablePresent);
 	}
 
-	//#end BIND
+	//#end OBSERVE
+
+	// #region DISPOSAL
+
+	/**
+	 * Disposes this observer, which stops observing the nesting. None of the methods specified during building will be
+	 * called afterwards. The nesting itself is not disposed.
+	 * <p>
+	 * Disposing an observer which is already disposed has no effect.
+	 */
+	public void dispose() {
+		if (disposed)
+			return;
+
+		disposed = true;
+		innerObservable.removeListener(innerObservableListener);
+	}
+
+	//#end DISPOSAL
 
 	// #region INNER CLASSES
 
@@ -212,10 +252,12 @@ public final class NestingObserver<O extends Observable> {
 
 		/**
 		 * Builds a observer from this builder's settings.
+		 *
+		 * @return the created {@link NestingObserver}, which can be used to {@link NestingObserver#dispose() dispose}
+		 *         it
 		 */
-		public void observe() {
-			@SuppressWarnings("unused")
-			NestingObserver<O> observer = new NestingObserver<O>(this);
+		public NestingObserver<O> observe() {
+			return new NestingObserver<O>(this);
 		}
 
 	}
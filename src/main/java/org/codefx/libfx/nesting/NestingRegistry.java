@@ -0,0 +1,847 @@
+package org.codefx.libfx.nesting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyObjectPropertyBase;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+
+/**
+ * A registry which lets nesting builders share identical nestings. A builder which was given a registry (see
+ * {@link AbstractNestingBuilderOnObservable#withRegistry(NestingRegistry) withRegistry}) does not create a new
+ * {@link Nesting} on each build but asks the registry for one. If the registry already holds a nesting on the same
+ * outer observable which uses the same nesting steps and settings, that nesting is shared. The number of listeners
+ * which are added to the observables in the hierarchy and the update work hence scale with the number of distinct
+ * nesting hierarchies instead of the number of builds.
+ * <h2>Identity of Nestings</h2> Two nestings are considered identical if their outer observables are identical, if
+ * their nesting steps and equivalences are equal and if they use the same settings for weak, lazy and invalidation
+ * listeners. Note that lambda expressions and method references are usually only equal to themselves. Nesting steps
+ * which are meant to be shared should hence be created once (e.g. stored in constants) instead of being written
+ * out at every call site.
+ * <p>
+ * Builders which did not nest (i.e. those returned by {@link Nestings#on(javafx.beans.property.Property)
+ * Nestings.on(...)}) create nestings which add no listeners. They do not use the registry.
+ * <h2>Shared Prefixes</h2> A registry which is {@link #sharingPrefixes() created to share prefixes} additionally shares
+ * the levels which nestings on the same outer observable have in common. Consider nestings from an employee property
+ * to its address' street, city and zip code. They all share the prefix {@code employee -> address}. With shared
+ * prefixes, that prefix is only observed once and each nesting only adds its last step. A change of the employee or
+ * its address hence causes one evaluation of the shared nesting steps instead of one per nesting.
+ * <p>
+ * To achieve this, the registry builds a trie of nestings with a single step each. The outer observable of each
+ * such nesting is an observable holding the value of the inner observable of the nesting for the preceding prefix.
+ * Nestings which use {@link AbstractNestingBuilderOnObservable#withLazyListeners() lazy} or
+ * {@link AbstractNestingBuilderOnObservable#withInvalidationListeners() invalidation} listeners can not be split up
+ * like this and are only shared as a whole.
+ * <h2>Reference Counting</h2> Each build returns a new instance of {@code Nesting} whose
+ * {@link Nesting#innerObservableProperty() innerObservable} property forwards the registered nesting's. The registry
+ * counts these instances.
+ * When one of them is {@link Nesting#dispose() disposed}, the count is decreased and when the last one is disposed, the
+ * shared nesting is disposed as well and removed from the registry. Nested properties and listener handles dispose
+ * their nesting when they are disposed themselves.
+ * <p>
+ * The registry references the shared nestings (and hence their hierarchies) until they are released. Users which are
+ * not disposed keep their nesting in the registry even if they are garbage collected.
+ * <h2>Re-Rooting</h2> The instances returned by the registry can be {@link Nesting#reroot(ObservableValue) re-rooted}.
+ * This does not change the shared nesting, which other instances might use. Instead the re-rooted instance acquires the
+ * registered nesting for the new outer observable (creating it if necessary) and releases the old one. Its
+ * {@code innerObservable} property stays the same, so listeners which were added to it keep being notified.
+ * <h2>Thread Safety</h2> Like the observables it deals with, this class is not thread-safe.
+ */
+public final class NestingRegistry {
+
+	// #region PROPERTIES
+
+	/**
+	 * The registered nestings by their keys.
+	 */
+	private final Map<Key, Registration> registrations;
+
+	/**
+	 * Indicates whether this registry shares the prefixes of nestings on the same outer observable.
+	 */
+	private final boolean sharePrefixes;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new, empty registry which shares identical nestings.
+	 */
+	public NestingRegistry() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new, empty registry.
+	 *
+	 * @param sharePrefixes
+	 *            indicates whether the registry shares the prefixes of nestings on the same outer observable
+	 */
+	private NestingRegistry(boolean sharePrefixes) {
+		this.registrations = new HashMap<>();
+		this.sharePrefixes = sharePrefixes;
+	}
+
+	/**
+	 * Creates a new, empty registry which shares identical nestings as well as the prefixes which nestings on the same
+	 * outer observable have in common.
+	 *
+	 * @return a new {@link NestingRegistry}
+	 */
+	public static NestingRegistry sharingPrefixes() {
+		return new NestingRegistry(true);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region ACQUIRE
+
+	/**
+	 * Returns a nesting with the specified hierarchy and settings. If the registry already holds such a nesting, it is
+	 * shared; otherwise a new one is created and registered.
+	 *
+	 * @param <O>
+	 *            the type of the nesting hierarchy's inner {@link Observable}
+	 * @param outerObservable
+	 *            the {@link ObservableValue} on which the nesting depends
+	 * @param nestingSteps
+	 *            the {@link NestingStep NestingSteps} from one observable's value to the next observable
+	 * @param equivalences
+	 *            the equivalences which compare the old and new values of the observables on which the nesting steps
+	 *            are used; null entries stand for identity
+	 * @param weakListeners
+	 *            indicates whether the nesting uses weak listeners
+	 * @param lazyListeners
+	 *            indicates whether the nesting uses lazy listeners
+	 * @param invalidationListeners
+	 *            indicates whether the nesting uses invalidation listeners
+	 * @return a new {@link Nesting} which releases its share of the registered nesting when it is disposed
+	 */
+	@SuppressWarnings("rawtypes")
+	<O extends Observable> Nesting<O> acquire(
+			ObservableValue outerObservable, List<NestingStep> nestingSteps, List<BiPredicate> equivalences,
+			boolean weakListeners, boolean lazyListeners, boolean invalidationListeners) {
+
+		Key key = new Key(
+				outerObservable, nestingSteps, equivalences, weakListeners, lazyListeners, invalidationListeners);
+		return new SharedNesting<>(key, acquireUser(key));
+	}
+
+	/**
+	 * Returns the registration for the nesting identified by the specified key and counts a new user for it. If the
+	 * nesting can be split up into levels, the registrations of the shared prefixes are used.
+	 *
+	 * @param key
+	 *            the {@link Key} of the nesting
+	 * @return the {@link Registration} of the nesting (or of its last level)
+	 */
+	private Registration acquireUser(Key key) {
+		boolean splitUp = sharePrefixes && key.canBeSplitUp();
+		Registration registration = splitUp ? acquireLevels(key) : acquireRegistration(key, null);
+		registration.users++;
+		return registration;
+	}
+
+	/**
+	 * Returns the registration of the nesting on the last level of the nesting identified by the specified key. Each
+	 * level is registered as a nesting with a single step whose outer observable holds the value of the preceding
+	 * level's inner observable. Missing registrations are created.
+	 *
+	 * @param key
+	 *            the {@link Key} of the nesting which is split up into levels
+	 * @return the {@link Registration} of the last level; its number of users is not changed
+	 */
+	@SuppressWarnings("rawtypes")
+	private Registration acquireLevels(Key key) {
+		boolean weakListeners = key.usesWeakListeners();
+		ObservableValue levelObservable = key.outerObservable;
+		Registration registration = null;
+		for (int level = 0; level < key.nestingSteps.size(); level++) {
+			if (registration != null)
+				levelObservable = registration.getInnerValue(weakListeners);
+			BiPredicate equivalence = level < key.equivalences.size() ? key.equivalences.get(level) : null;
+			Key levelKey = new Key(
+					levelObservable, Collections.singletonList(key.nestingSteps.get(level)),
+					Collections.singletonList(equivalence), weakListeners, false, false);
+			registration = acquireRegistration(levelKey, registration);
+		}
+		return registration;
+	}
+
+	/**
+	 * Returns the registration for the specified key. If there is none, a new nesting is created and registered. In
+	 * that case, the specified parent gets the new registration as an additional user.
+	 *
+	 * @param key
+	 *            the {@link Key} of the nesting
+	 * @param parent
+	 *            the {@link Registration} of the nesting on whose inner value the key's outer observable depends; null
+	 *            if the key's outer observable is not such an inner value
+	 * @return the {@link Registration} for the key; its number of users is not changed
+	 */
+	private Registration acquireRegistration(Key key, Registration parent) {
+		Registration registration = registrations.get(key);
+		if (registration == null) {
+			int prefixLevel = parent == null ? 0 : parent.getPrefixLevel() + 1;
+			registration = new Registration(key, key.createNesting(prefixLevel), parent);
+			registrations.put(key, registration);
+			if (parent != null)
+				parent.users++;
+		}
+		return registration;
+	}
+
+	/**
+	 * Releases one user of the specified registration. If it was the last, the registered nesting is disposed and
+	 * removed from this registry. The registration's parent (if any) is then released as well.
+	 *
+	 * @param registration
+	 *            the {@link Registration} whose user is released
+	 */
+	private void release(Registration registration) {
+		registration.users--;
+		if (registration.users == 0) {
+			registrations.remove(registration.key);
+			registration.dispose();
+			if (registration.parent != null)
+				release(registration.parent);
+		}
+	}
+
+	/**
+	 * @return the number of distinct nestings which are currently held by this registry; if it
+	 *         {@link #sharingPrefixes() shares prefixes}, this includes the nestings for the shared levels
+	 */
+	public int getNestingCount() {
+		return registrations.size();
+	}
+
+	//#end ACQUIRE
+
+	// #region PRIVATE CLASSES
+
+	/**
+	 * Identifies a nesting by its hierarchy and settings.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class Key {
+
+		/**
+		 * The outer observable, which is compared by identity.
+		 */
+		private final ObservableValue outerObservable;
+
+		/**
+		 * The nesting steps.
+		 */
+		private final List<NestingStep> nestingSteps;
+
+		/**
+		 * The equivalences; trailing null entries are removed so lists which only differ in them are equal.
+		 */
+		private final List<BiPredicate> equivalences;
+
+		/**
+		 * The settings for weak, lazy and invalidation listeners as bit flags.
+		 */
+		private final int settings;
+
+		/**
+		 * The bit flag for weak listeners in {@link #settings}.
+		 */
+		private static final int WEAK_LISTENERS = 1;
+
+		/**
+		 * The bit flag for lazy listeners in {@link #settings}.
+		 */
+		private static final int LAZY_LISTENERS = 2;
+
+		/**
+		 * The bit flag for invalidation listeners in {@link #settings}.
+		 */
+		private static final int INVALIDATION_LISTENERS = 4;
+
+		/**
+		 * Creates a new key.
+		 *
+		 * @param outerObservable
+		 *            the outer observable
+		 * @param nestingSteps
+		 *            the nesting steps
+		 * @param equivalences
+		 *            the equivalences
+		 * @param weakListeners
+		 *            indicates whether the nesting uses weak listeners
+		 * @param lazyListeners
+		 *            indicates whether the nesting uses lazy listeners
+		 * @param invalidationListeners
+		 *            indicates whether the nesting uses invalidation listeners
+		 */
+		public Key(ObservableValue outerObservable, List<NestingStep> nestingSteps, List<BiPredicate> equivalences,
+				boolean weakListeners, boolean lazyListeners, boolean invalidationListeners) {
+			this.outerObservable = outerObservable;
+			this.nestingSteps = new ArrayList<>(nestingSteps);
+			this.equivalences = withoutTrailingNulls(equivalences);
+			this.settings = (weakListeners ? WEAK_LISTENERS : 0)
+					| (lazyListeners ? LAZY_LISTENERS : 0)
+					| (invalidationListeners ? INVALIDATION_LISTENERS : 0);
+		}
+
+		/**
+		 * Creates a new key which shares the specified key's (unmodified) lists.
+		 *
+		 * @param outerObservable
+		 *            the outer observable
+		 * @param key
+		 *            the key whose nesting steps, equivalences and settings are used
+		 */
+		private Key(ObservableValue outerObservable, Key key) {
+			this.outerObservable = outerObservable;
+			this.nestingSteps = key.nestingSteps;
+			this.equivalences = key.equivalences;
+			this.settings = key.settings;
+		}
+
+		/**
+		 * @param newOuterObservable
+		 *            the outer observable of the new key
+		 * @return a key which identifies the nesting with this key's nesting steps, equivalences and settings on the
+		 *         specified outer observable
+		 */
+		public Key withOuterObservable(ObservableValue newOuterObservable) {
+			return new Key(newOuterObservable, this);
+		}
+
+		/**
+		 * @return true if the identified nesting uses weak listeners
+		 */
+		public boolean usesWeakListeners() {
+			return (settings & WEAK_LISTENERS) != 0;
+		}
+
+		/**
+		 * @return true if the identified nesting has more than one level and uses neither lazy nor invalidation
+		 *         listeners, so it can be split up into levels
+		 */
+		public boolean canBeSplitUp() {
+			return (settings & (LAZY_LISTENERS | INVALIDATION_LISTENERS)) == 0 && nestingSteps.size() > 1;
+		}
+
+		/**
+		 * @param prefixLevel
+		 *            the level of the nesting in the tree of shared prefixes
+		 * @return a new {@link DeepNesting} with the hierarchy and settings identified by this key
+		 */
+		public DeepNesting<?> createNesting(int prefixLevel) {
+			DeepNesting<?> nesting = new DeepNesting<>(outerObservable, nestingSteps, equivalences,
+					usesWeakListeners(),
+					(settings & LAZY_LISTENERS) != 0,
+					(settings & INVALIDATION_LISTENERS) != 0);
+			nesting.setPrefixLevel(prefixLevel);
+			return nesting;
+		}
+
+		/**
+		 * Copies the specified list without its trailing null entries.
+		 *
+		 * @param equivalences
+		 *            the list of equivalences
+		 * @return a new list
+		 */
+		private static List<BiPredicate> withoutTrailingNulls(List<BiPredicate> equivalences) {
+			int size = equivalences.size();
+			while (size > 0 && equivalences.get(size - 1) == null)
+				size--;
+			return new ArrayList<>(equivalences.subList(0, size));
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = System.identityHashCode(outerObservable);
+			hash = 31 * hash + nestingSteps.hashCode();
+			hash = 31 * hash + equivalences.hashCode();
+			return 31 * hash + settings;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return outerObservable == other.outerObservable
+					&& settings == other.settings
+					&& nestingSteps.equals(other.nestingSteps)
+					&& equivalences.equals(other.equivalences);
+		}
+
+	}
+
+	/**
+	 * A registered nesting and the number of its users. Users are {@link SharedNesting SharedNestings} as well as the
+	 * registrations of the nestings which depend on this one's {@link #innerValue}.
+	 */
+	private static final class Registration {
+
+		/**
+		 * The key under which the {@link #nesting} is registered.
+		 */
+		private final Key key;
+
+		/**
+		 * The shared nesting.
+		 */
+		private final Nesting<?> nesting;
+
+		/**
+		 * The registration of the nesting on whose {@link #innerValue} this one's outer observable depends; null if
+		 * there is no such nesting.
+		 */
+		private final Registration parent;
+
+		/**
+		 * The observable holding the value of the {@link #nesting}'s inner observable; created when it is first
+		 * needed.
+		 */
+		private InnerValue innerValue;
+
+		/**
+		 * The number of users which were not yet released.
+		 */
+		private int users;
+
+		/**
+		 * Creates a new registration without users.
+		 *
+		 * @param key
+		 *            the key under which the nesting is registered
+		 * @param nesting
+		 *            the shared nesting
+		 * @param parent
+		 *            the registration of the nesting on whose inner value the nesting's outer observable depends; can
+		 *            be null
+		 */
+		public Registration(Key key, Nesting<?> nesting, Registration parent) {
+			this.key = key;
+			this.nesting = nesting;
+			this.parent = parent;
+		}
+
+		/**
+		 * @return the number of registrations on whose inner values this one's outer observable depends
+		 */
+		public int getPrefixLevel() {
+			return parent == null ? 0 : parent.getPrefixLevel() + 1;
+		}
+
+		/**
+		 * Returns the observable holding the value of the {@link #nesting}'s inner observable and creates it if
+		 * necessary.
+		 *
+		 * @param weakListeners
+		 *            indicates whether the observable adds weak listeners to the inner observable
+		 * @return the {@link InnerValue}
+		 */
+		public InnerValue getInnerValue(boolean weakListeners) {
+			if (innerValue == null)
+				innerValue = new InnerValue(nesting, weakListeners);
+			return innerValue;
+		}
+
+		/**
+		 * Disposes the {@link #nesting} and the {@link #innerValue}.
+		 */
+		public void dispose() {
+			if (innerValue != null)
+				innerValue.dispose();
+			nesting.dispose();
+		}
+
+	}
+
+	/**
+	 * A nesting which uses a registered nesting and releases it when it is disposed. Its
+	 * {@link Nesting#innerObservableProperty() innerObservable} property forwards the registered nesting's, which
+	 * allows to {@link #reroot(ObservableValue) re-root} it onto another registered nesting.
+	 *
+	 * @param <O>
+	 *            the type of the nesting hierarchy's inner {@link Observable}
+	 */
+	private final class SharedNesting<O extends Observable> implements Nesting<O> {
+
+		/**
+		 * The key of the used nesting.
+		 */
+		private Key key;
+
+		/**
+		 * The registration of the used nesting; null after this nesting was disposed.
+		 */
+		private Registration registration;
+
+		/**
+		 * The property which forwards the used nesting's inner observable property.
+		 */
+		private final ForwardingInnerObservableProperty<O> inner;
+
+		/**
+		 * Creates a new shared nesting.
+		 *
+		 * @param key
+		 *            the key of the used nesting
+		 * @param registration
+		 *            the registration of the used nesting; this nesting is already counted as one of its users
+		 */
+		public SharedNesting(Key key, Registration registration) {
+			this.key = key;
+			this.registration = registration;
+			this.inner = new ForwardingInnerObservableProperty<>(this, sharedInnerObservableProperty(registration));
+		}
+
+		/**
+		 * @param registration
+		 *            the registration of a nesting
+		 * @return the registered nesting's inner observable property
+		 */
+		@SuppressWarnings("unchecked")
+		private ReadOnlyProperty<Optional<O>> sharedInnerObservableProperty(Registration registration) {
+			return ((Nesting<O>) registration.nesting).innerObservableProperty();
+		}
+
+		@Override
+		public ReadOnlyProperty<Optional<O>> innerObservableProperty() {
+			if (registration == null)
+				throw new IllegalStateException("This nesting was disposed.");
+			return inner;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * The nesting which is registered for the new outer observable is acquired (and created if necessary) and the
+		 * old one is released. Nestings which share the old one are not affected.
+		 */
+		@Override
+		public void reroot(ObservableValue<?> outerObservable) {
+			Objects.requireNonNull(outerObservable, "The argument 'outerObservable' must not be null.");
+			if (registration == null)
+				throw new IllegalStateException("This nesting was disposed.");
+			if (key.outerObservable == outerObservable)
+				return;
+
+			Registration oldRegistration = registration;
+			key = key.withOuterObservable(outerObservable);
+			registration = acquireUser(key);
+			inner.forwardTo(sharedInnerObservableProperty(registration));
+			release(oldRegistration);
+		}
+
+		@Override
+		public void dispose() {
+			if (registration == null)
+				return;
+
+			inner.stopForwarding();
+			release(registration);
+			registration = null;
+		}
+
+	}
+
+	/**
+	 * A property which forwards the inner observable property of a registered nesting. It only adds its listener to
+	 * that property while it has listeners itself, so it does not keep a lazy nesting initialized.
+	 *
+	 * @param <O>
+	 *            the type of the nesting hierarchy's inner {@link Observable}
+	 */
+	private static final class ForwardingInnerObservableProperty<O extends Observable>
+			extends ReadOnlyObjectPropertyBase<Optional<O>> {
+
+		/**
+		 * The nesting which owns this property.
+		 */
+		private final Nesting<O> nesting;
+
+		/**
+		 * The listener which is added to the {@link #source} and notifies this property's listeners.
+		 */
+		private final InvalidationListener sourceListener;
+
+		/**
+		 * The listeners added to this property. They are stored (and not just counted) so removing a listener which
+		 * was never added does not remove the {@link #sourceListener}.
+		 */
+		private final List<Object> listeners;
+
+		/**
+		 * The forwarded property.
+		 */
+		private ReadOnlyProperty<Optional<O>> source;
+
+		/**
+		 * Indicates whether the {@link #sourceListener} was added to the {@link #source}.
+		 */
+		private boolean observingSource;
+
+		/**
+		 * Indicates whether the owning nesting was disposed, in which case the source is no longer observed.
+		 */
+		private boolean stopped;
+
+		/**
+		 * Creates a new property.
+		 *
+		 * @param nesting
+		 *            the nesting which owns this property
+		 * @param source
+		 *            the forwarded property
+		 */
+		public ForwardingInnerObservableProperty(Nesting<O> nesting, ReadOnlyProperty<Optional<O>> source) {
+			this.nesting = nesting;
+			this.sourceListener = observable -> fireValueChangedEvent();
+			this.listeners = new ArrayList<>(1);
+			this.source = source;
+		}
+
+		/**
+		 * Forwards the specified property from now on and notifies the listeners.
+		 *
+		 * @param newSource
+		 *            the newly forwarded property
+		 */
+		public void forwardTo(ReadOnlyProperty<Optional<O>> newSource) {
+			boolean wasObservingSource = observingSource;
+			stopObservingSource();
+			source = newSource;
+			if (wasObservingSource)
+				startObservingSource();
+			fireValueChangedEvent();
+		}
+
+		/**
+		 * Stops observing the source for good.
+		 */
+		public void stopForwarding() {
+			stopped = true;
+			stopObservingSource();
+		}
+
+		/**
+		 * Adds the {@link #sourceListener} to the {@link #source} unless that already happened.
+		 */
+		private void startObservingSource() {
+			if (observingSource || stopped)
+				return;
+			source.addListener(sourceListener);
+			observingSource = true;
+		}
+
+		/**
+		 * Removes the {@link #sourceListener} from the {@link #source} if it was added.
+		 */
+		private void stopObservingSource() {
+			if (!observingSource)
+				return;
+			source.removeListener(sourceListener);
+			observingSource = false;
+		}
+
+		@Override
+		public Optional<O> get() {
+			return source.getValue();
+		}
+
+		@Override
+		public void addListener(InvalidationListener listener) {
+			Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+			registerListener(listener);
+			super.addListener(listener);
+		}
+
+		@Override
+		public void addListener(ChangeListener<? super Optional<O>> listener) {
+			Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+			registerListener(listener);
+			super.addListener(listener);
+		}
+
+		@Override
+		public void removeListener(InvalidationListener listener) {
+			super.removeListener(listener);
+			unregisterListener(listener);
+		}
+
+		@Override
+		public void removeListener(ChangeListener<? super Optional<O>> listener) {
+			super.removeListener(listener);
+			unregisterListener(listener);
+		}
+
+		/**
+		 * Registers the specified listener and starts observing the source if it is the first one. Must be called
+		 * before the listener is added so change listeners see the correct initial value.
+		 *
+		 * @param listener
+		 *            the added listener
+		 */
+		private void registerListener(Object listener) {
+			listeners.add(listener);
+			if (listeners.size() == 1)
+				startObservingSource();
+		}
+
+		/**
+		 * Unregisters the specified listener and stops observing the source if it was the last one.
+		 *
+		 * @param listener
+		 *            the removed listener
+		 */
+		private void unregisterListener(Object listener) {
+			boolean lastListenerRemoved = listeners.remove(listener) && listeners.isEmpty();
+			if (lastListenerRemoved)
+				stopObservingSource();
+		}
+
+		@Override
+		public Object getBean() {
+			return nesting;
+		}
+
+		@Override
+		public String getName() {
+			return "inner";
+		}
+
+	}
+
+	/**
+	 * An observable holding the value of a nesting's inner observable; null if it is missing. It is used as the outer
+	 * observable of the nestings which share the nesting as a prefix.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class InnerValue extends ReadOnlyObjectPropertyBase<Object> {
+
+		/**
+		 * The nesting whose inner observable's value is held.
+		 */
+		private final Nesting<?> nesting;
+
+		/**
+		 * The listener which is added to the {@link #nesting}'s inner observable property.
+		 */
+		private final ChangeListener<Optional<? extends Observable>> innerObservableListener;
+
+		/**
+		 * The listener which is added to the current inner observable. If weak listeners are used, this is a
+		 * {@link WeakChangeListener} which wraps the {@link #strongValueListener}.
+		 */
+		private final ChangeListener<Object> valueListener;
+
+		/**
+		 * The listener wrapped by the {@link #valueListener} if weak listeners are used; otherwise null.
+		 */
+		@SuppressWarnings("unused")
+		private final ChangeListener<Object> strongValueListener;
+
+		/**
+		 * The current inner observable; null if it is missing.
+		 */
+		private ObservableValue innerObservable;
+
+		/**
+		 * The current value.
+		 */
+		private Object value;
+
+		/**
+		 * Creates a new inner value for the specified nesting.
+		 *
+		 * @param nesting
+		 *            the nesting whose inner observable's value is held; the inner observable must be an
+		 *            {@link ObservableValue}
+		 * @param weakListeners
+		 *            indicates whether weak listeners are added to the inner observable
+		 */
+		public InnerValue(Nesting<?> nesting, boolean weakListeners) {
+			this.nesting = nesting;
+			this.innerObservableListener = (o, oldInner, newInner) -> moveToInnerObservable(newInner);
+			ChangeListener<Object> listener = (o, oldValue, newValue) -> updateValue();
+			this.valueListener = weakListeners ? new WeakChangeListener<>(listener) : listener;
+			this.strongValueListener = weakListeners ? listener : null;
+
+			nesting.innerObservableProperty().addListener(innerObservableListener);
+			moveToInnerObservable(nesting.innerObservableProperty().getValue());
+		}
+
+		/**
+		 * Moves the {@link #valueListener} to the specified inner observable and updates the value.
+		 *
+		 * @param newInnerObservable
+		 *            the new inner observable
+		 */
+		@SuppressWarnings("unchecked")
+		private void moveToInnerObservable(Optional<? extends Observable> newInnerObservable) {
+			if (innerObservable != null)
+				innerObservable.removeListener(valueListener);
+			innerObservable = (ObservableValue) newInnerObservable.orElse(null);
+			if (innerObservable != null)
+				innerObservable.addListener(valueListener);
+			updateValue();
+		}
+
+		/**
+		 * Updates the value and fires an event if it changed.
+		 */
+		private void updateValue() {
+			Object newValue = innerObservable == null ? null : innerObservable.getValue();
+			if (value != newValue) {
+				value = newValue;
+				fireValueChangedEvent();
+			}
+		}
+
+		/**
+		 * Removes all listeners this instance added.
+		 */
+		@SuppressWarnings("unchecked")
+		public void dispose() {
+			nesting.innerObservableProperty().removeListener(innerObservableListener);
+			if (innerObservable != null)
+				innerObservable.removeListener(valueListener);
+			innerObservable = null;
+		}
+
+		@Override
+		public Object get() {
+			return value;
+		}
+
+		@Override
+		public Object getBean() {
+			return null;
+		}
+
+		@Override
+		public String getName() {
+			return "innerValue";
+		}
+
+	}
+
+	//#end PRIVATE CLASSES
+
+}
@@ -0,0 +1,155 @@
+package org.codefx.libfx.nesting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * An immutable template for {@link Nesting Nestings} which use the same nesting steps and settings on different outer
+ * observables. It is created by a nesting builder's {@link AbstractNestingBuilderOnObservable#buildTemplate()
+ * buildTemplate()} method.
+ * <p>
+ * Building a nesting with a builder chain creates all builders and collects their nesting steps each time. A template
+ * does that only once, so it is well suited to create many nestings of the same kind, e.g. one per row in a
+ * {@code TableView}'s cell value factory:
+ *
+ * <pre>
+ * NestingTemplate&lt;StringProperty&gt; streetTemplate = Nestings.on(new SimpleObjectProperty&lt;Employee&gt;())
+ * 		.nest(Employee::addressProperty)
+ * 		.nestStringProperty(Address::streetNameProperty)
+ * 		.buildTemplate();
+ *
+ * streetColumn.setCellValueFactory(features -&gt; NestedStringPropertyBuilder
+ * 		.forNesting(streetTemplate.createNesting(new SimpleObjectProperty&lt;&gt;(features.getValue())))
+ * 		.build());
+ * </pre>
+ *
+ * The nestings created by a template share its nesting steps, so they only allocate their own state.
+ * <p>
+ * The template does not check whether the outer observables it is used with wrap values of the type expected by the
+ * first nesting step. If that is not the case, the created nestings will throw {@link ClassCastException
+ * ClassCastExceptions}.
+ *
+ * @param <O>
+ *            the type of the created nestings' inner {@link Observable}
+ */
+@SuppressWarnings("rawtypes")
+public final class NestingTemplate<O extends Observable> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The nesting steps shared by all created nestings.
+	 */
+	private final NestingStep[] nestingSteps;
+
+	/**
+	 * The equivalences shared by all created nestings; null if all levels use identity.
+	 */
+	private final BiPredicate[] equivalences;
+
+	/**
+	 * The nesting steps as a list, which is only needed if the {@link #registry} is used.
+	 */
+	private final List<NestingStep> nestingStepList;
+
+	/**
+	 * The equivalences as a list, which is only needed if the {@link #registry} is used.
+	 */
+	private final List<BiPredicate> equivalenceList;
+
+	/**
+	 * Indicates whether the created nestings add weak listeners to the observables in the hierarchy.
+	 */
+	private final boolean weakListeners;
+
+	/**
+	 * Indicates whether the created nestings add lazy listeners to the observables in the hierarchy.
+	 */
+	private final boolean lazyListeners;
+
+	/**
+	 * Indicates whether the created nestings add invalidation listeners to the observables in the hierarchy.
+	 */
+	private final boolean invalidationListeners;
+
+	/**
+	 * The registry which shares identical nestings; null if each call creates a new nesting.
+	 */
+	private final NestingRegistry registry;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new template.
+	 *
+	 * @param nestingSteps
+	 *            the non-empty list of {@link NestingStep NestingSteps} from one observable's value to the next
+	 *            observable
+	 * @param equivalences
+	 *            the equivalences which compare the values of the observables on which the nesting steps with the same
+	 *            index are used; null entries stand for identity
+	 * @param weakListeners
+	 *            indicates whether the created nestings use weak listeners
+	 * @param lazyListeners
+	 *            indicates whether the created nestings use lazy listeners
+	 * @param invalidationListeners
+	 *            indicates whether the created nestings use invalidation listeners
+	 * @param registry
+	 *            the {@link NestingRegistry} which shares the created nestings; can be null
+	 */
+	NestingTemplate(List<NestingStep> nestingSteps, List<BiPredicate> equivalences,
+			boolean weakListeners, boolean lazyListeners, boolean invalidationListeners, NestingRegistry registry) {
+
+		this.nestingSteps = DeepNesting.createNestingSteps(nestingSteps);
+		this.equivalences = DeepNesting.createEquivalences(equivalences, nestingSteps.size());
+		this.weakListeners = weakListeners;
+		this.lazyListeners = lazyListeners;
+		this.invalidationListeners = invalidationListeners;
+		this.registry = registry;
+		if (registry == null) {
+			this.nestingStepList = null;
+			this.equivalenceList = null;
+		} else {
+			this.nestingStepList = Collections.unmodifiableList(new ArrayList<>(nestingSteps));
+			this.equivalenceList = Collections.unmodifiableList(new ArrayList<>(equivalences));
+		}
+	}
+
+	//#end CONSTRUCTION
+
+	// #region CREATE
+
+	/**
+	 * Creates a new nesting which depends on the specified outer observable and uses this template's nesting steps and
+	 * settings. If the template was built with a {@link AbstractNestingBuilderOnObservable#withRegistry(NestingRegistry)
+	 * registry}, the nesting is acquired from it instead.
+	 *
+	 * @param outerObservable
+	 *            the {@link ObservableValue} on which the created nesting depends; its values must have the type
+	 *            expected by the first nesting step
+	 * @return a new instance of {@link Nesting}
+	 */
+	@SuppressWarnings("unchecked")
+	public Nesting<O> createNesting(ObservableValue<?> outerObservable) {
+		Objects.requireNonNull(outerObservable, "The argument 'outerObservable' must not be null.");
+
+		if (registry != null)
+			return registry.acquire(
+					outerObservable, nestingStepList, equivalenceList,
+					weakListeners, lazyListeners, invalidationListeners);
+		return new DeepNesting<>(
+				outerObservable, nestingSteps, equivalences,
+				weakListeners, lazyListeners, invalidationListeners);
+	}
+
+	//#end CREATE
+
+}
@@ -1,5 +1,7 @@
 package org.codefx.libfx.nesting;
 
+import java.util.Objects;
+
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.Property;
@@ -93,4 +95,65 @@ public class Nestings {
 		return new ObjectPropertyNestingBuilder<T>(outerProperty);
 	}
 
+	/**
+	 * Starts a nesting with the specified outer observable and nests along the specified path of property names. This
+	 * is a typed and faster replacement for {@link javafx.beans.binding.Bindings#select(ObservableValue, String...)
+	 * Bindings.select}.
+	 * <p>
+	 * The path is a dot-separated list of property names like {@code "address.street"}. Each name leads from the
+	 * current value to the next observable by calling the value's public method {@code nameProperty()} or, if there is
+	 * none, {@code name()}; the method must return an {@link ObservableValue}. These methods are looked up once per
+	 * class and name and then called via cached {@link java.lang.invoke.MethodHandle MethodHandles}, so unlike
+	 * {@code Bindings.select} no reflection is involved when the hierarchy changes.
+	 * <p>
+	 * If a value's class has no such method, the nesting step throws an {@link IllegalArgumentException}. The type of
+	 * the inner observable's value is not checked, so if it does not match {@code T}, {@link ClassCastException
+	 * ClassCastExceptions} will occur where its values are used.
+	 *
+	 * @param <T>
+	 *            the type wrapped by the inner observable
+	 * @param outerObservable
+	 *            the outer {@link ObservableValue} on which the nesting begins
+	 * @param path
+	 *            the dot-separated list of property names
+	 * @return an instance of {@link ObservableValueNestingBuilder} which depends on the specified outer observable and
+	 *         nests along the specified path
+	 * @throws IllegalArgumentException
+	 *             if the path contains an empty property name
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static <T> ObservableValueNestingBuilder<T> onPath(ObservableValue<?> outerObservable, String path) {
+		Objects.requireNonNull(outerObservable, "The argument 'outerObservable' must not be null.");
+		Objects.requireNonNull(path, "The argument 'path' must not be null.");
+
+		ObservableValueNestingBuilder<Object> builder = on((ObservableValue<Object>) outerObservable);
+		for (PropertyPathStep step : PropertyPathStep.forPath(path))
+			builder = builder.nestObservableValue(step);
+		return (ObservableValueNestingBuilder) builder;
+	}
+
+	/**
+	 * Runs the specified action in a batch. While it runs, nestings do not update themselves when an observable in
+	 * their hierarchy changes. Instead they only record which levels changed and are updated once when the batch ends.
+	 * The inner observable of each nesting hence changes at most once per batch even if the action replaces several
+	 * values in its hierarchy. Accordingly, nested properties only rebind once.
+	 * <p>
+	 * If a nesting's inner observable is requested while the batch runs, the nesting is updated right away (and again
+	 * when the batch ends if the hierarchy changed in between). Nestings which use
+	 * {@link AbstractNestingBuilderOnObservable#withInvalidationListeners() invalidation listeners} invalidate their
+	 * inner observable when the batch ends.
+	 * <p>
+	 * Changes which the updates at the end of the batch cause in other nestings' hierarchies (e.g. in nestings which
+	 * share a prefix in a {@link NestingRegistry}) are part of the batch as well.
+	 * <p>
+	 * Batches are confined to the current thread. If this method is called while a batch is running, the action
+	 * becomes part of that batch. The batch ends when the action returns or throws an exception.
+	 *
+	 * @param action
+	 *            the {@link Runnable} which is run in the batch
+	 */
+	public static void batch(Runnable action) {
+		NestingBatch.run(action);
+	}
+
 }
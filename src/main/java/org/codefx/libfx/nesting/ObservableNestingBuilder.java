@@ -8,7 +8,8 @@ import javafx.beans.Observable;
  * Note that an {@code Observable} provides no way do access a value. It is hence not possible to nest further or create
  * nestings which depend on a value, e.g. nested properties.
  */
-public class ObservableNestingBuilder extends AbstractNestingBuilderOnObservable<Object, Observable> {
+public class ObservableNestingBuilder
+		extends AbstractNestingBuilderOnObservable<Object, Observable, ObservableNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -33,7 +34,8 @@ public class ObservableNestingBuilder extends AbstractNestingBuilderOnObservable
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> ObservableNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder, NestingStep<P, Observable> nestingStep) {
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
+			NestingStep<P, Observable> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
 	}
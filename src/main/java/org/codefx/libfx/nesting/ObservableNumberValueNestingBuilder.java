@@ -8,8 +8,8 @@ import javafx.beans.value.ObservableNumberValue;
  * Note that an {@code ObservableNumberValue} provides no way do write a value. It is hence not possible to create
  * nestings which depend on writing a value, e.g. nested properties.
  */
-public class ObservableNumberValueNestingBuilder extends
-		AbstractNestingBuilderOnObservableValue<Number, ObservableNumberValue> {
+public class ObservableNumberValueNestingBuilder extends AbstractNestingBuilderOnObservableValue<
+		Number, ObservableNumberValue, ObservableNumberValueNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -34,7 +34,7 @@ public class ObservableNumberValueNestingBuilder extends
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> ObservableNumberValueNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, ObservableNumberValue> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
@@ -1,6 +1,7 @@
 package org.codefx.libfx.nesting;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
@@ -12,6 +13,13 @@ import javafx.beans.property.Property;
 import javafx.beans.property.StringProperty;
 import javafx.beans.value.ObservableNumberValue;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+
+import org.codefx.libfx.nesting.property.NestedListProperty;
+import org.codefx.libfx.nesting.property.NestedMapProperty;
+import org.codefx.libfx.nesting.property.NestedSetProperty;
 
 /**
  * A builder for all kinds of nested functionality whose inner observable is an {@link ObservableValue}.
@@ -25,7 +33,8 @@ import javafx.beans.value.ObservableValue;
  * @param <T>
  *            the type of the value wrapped by the {@link ObservableValue}
  */
-public class ObservableValueNestingBuilder<T> extends AbstractNestingBuilderOnObservableValue<T, ObservableValue<T>> {
+public class ObservableValueNestingBuilder<T>
+		extends AbstractNestingBuilderOnObservableValue<T, ObservableValue<T>, ObservableValueNestingBuilder<T>> {
 
 	// #region CONSTRUCTION
 
@@ -50,7 +59,7 @@ public class ObservableValueNestingBuilder<T> extends AbstractNestingBuilderOnOb
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> ObservableValueNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, ObservableValue<T>> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
@@ -239,6 +248,177 @@ public class ObservableValueNestingBuilder<T> extends AbstractNestingBuilderOnOb
 		return new StringPropertyNestingBuilder(this, nestingStep);
 	}
 
+	/**
+	 * Returns a builder for nestings whose inner observable is a {@link Property} which holds an
+	 * {@link ObservableList}. The created nestings depend on this builder's outer observable and nesting steps and adds
+	 * the specified step as the next one. Unlike a nested object property, the {@link NestedListProperty} built
+	 * from them forwards the changes of the inner observable's list.
+	 *
+	 * @param <N>
+	 *            the type of the list's elements
+	 * @param nestingStep
+	 *            the function which performs the nesting step from one observable to the next
+	 * @return a {@link ListPropertyNestingBuilder} which builds a nesting from this builder's settings and the
+	 *         specified nesting steps
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 */
+	public <N> ListPropertyNestingBuilder<N> nestListProperty(
+			NestingStep<T, Property<ObservableList<N>>> nestingStep) {
+
+		Objects.requireNonNull(nestingStep, "The argument 'nestingStep' must not be null.");
+		return new ListPropertyNestingBuilder<>(this, nestingStep);
+	}
+
+	/**
+	 * Returns a builder for nestings whose inner observable is a {@link Property} which holds an
+	 * {@link ObservableSet}. The created nestings depend on this builder's outer observable and nesting steps and adds
+	 * the specified step as the next one. Unlike a nested object property, the {@link NestedSetProperty} built
+	 * from them forwards the changes of the inner observable's set.
+	 *
+	 * @param <N>
+	 *            the type of the set's elements
+	 * @param nestingStep
+	 *            the function which performs the nesting step from one observable to the next
+	 * @return a {@link SetPropertyNestingBuilder} which builds a nesting from this builder's settings and the
+	 *         specified nesting steps
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 */
+	public <N> SetPropertyNestingBuilder<N> nestSetProperty(
+			NestingStep<T, Property<ObservableSet<N>>> nestingStep) {
+
+		Objects.requireNonNull(nestingStep, "The argument 'nestingStep' must not be null.");
+		return new SetPropertyNestingBuilder<>(this, nestingStep);
+	}
+
+	/**
+	 * Returns a builder for nestings whose inner observable is a {@link Property} which holds an
+	 * {@link ObservableMap}. The created nestings depend on this builder's outer observable and nesting steps and adds
+	 * the specified step as the next one. Unlike a nested object property, the {@link NestedMapProperty} built
+	 * from them forwards the changes of the inner observable's map.
+	 *
+	 * @param <K>
+	 *            the type of the map's keys
+	 * @param <V>
+	 *            the type of the map's values
+	 * @param nestingStep
+	 *            the function which performs the nesting step from one observable to the next
+	 * @return a {@link MapPropertyNestingBuilder} which builds a nesting from this builder's settings and the
+	 *         specified nesting steps
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 */
+	public <K, V> MapPropertyNestingBuilder<K, V> nestMapProperty(
+			NestingStep<T, Property<ObservableMap<K, V>>> nestingStep) {
+
+		Objects.requireNonNull(nestingStep, "The argument 'nestingStep' must not be null.");
+		return new MapPropertyNestingBuilder<>(this, nestingStep);
+	}
+
+	/**
+	 * Returns a builder for nestings whose inner observable is a {@link Property} which is loaded asynchronously. The
+	 * created nestings depend on this builder's outer observable and nesting steps and adds the specified step as the
+	 * next one. The loaded properties are handed to the nesting on the JavaFX application thread.
+	 * <p>
+	 * While a property is loading, it is treated as missing. If the value from which the step started changes before
+	 * the loading completed, the loading is cancelled and its result is discarded.
+	 *
+	 * @param <N>
+	 *            the type wrapped by the created nesting builder
+	 * @param asyncStep
+	 *            the function which starts the nesting step from one observable to the next
+	 * @return an {@link ObjectPropertyNestingBuilder} which builds a nesting from this builder's settings and the
+	 *         specified nesting steps
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 */
+	public <N> ObjectPropertyNestingBuilder<N> nestAsync(AsyncNestingStep<T, Property<N>> asyncStep) {
+		return nestAsync(asyncStep, LoadingNestingStep.FX_APPLICATION_THREAD);
+	}
+
+	/**
+	 * Returns a builder for nestings whose inner observable is a {@link Property} which is loaded asynchronously. The
+	 * created nestings depend on this builder's outer observable and nesting steps and adds the specified step as the
+	 * next one. The loaded properties are handed to the nesting with the specified executor.
+	 * <p>
+	 * While a property is loading, it is treated as missing. If the value from which the step started changes before
+	 * the loading completed, the loading is cancelled and its result is discarded.
+	 *
+	 * @param <N>
+	 *            the type wrapped by the created nesting builder
+	 * @param asyncStep
+	 *            the function which starts the nesting step from one observable to the next
+	 * @param completionExecutor
+	 *            the {@link Executor} which hands the loaded properties to the nesting; must run them on the thread
+	 *            which updates the nesting
+	 * @return an {@link ObjectPropertyNestingBuilder} which builds a nesting from this builder's settings and the
+	 *         specified nesting steps
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public <N> ObjectPropertyNestingBuilder<N> nestAsync(
+			AsyncNestingStep<T, Property<N>> asyncStep, Executor completionExecutor) {
+
+		LoadingNestingStep<T, Property<N>> loadingStep = new LoadingNestingStep<>(asyncStep, completionExecutor);
+		ObservableValueNestingBuilder<Property<N>> loadingBuilder =
+				new ObservableValueNestingBuilder<Property<N>>(this, loadingStep);
+		return new ObjectPropertyNestingBuilder<N>(loadingBuilder, LoadingNestingStep.loaded());
+	}
+
+	/**
+	 * Returns a builder for nestings whose inner observable is an {@link ObservableValue} which is loaded
+	 * asynchronously. The created nestings depend on this builder's outer observable and nesting steps and adds the
+	 * specified step as the next one. The loaded observables are handed to the nesting on the JavaFX application
+	 * thread.
+	 * <p>
+	 * While an observable is loading, it is treated as missing. If the value from which the step started changes
+	 * before the loading completed, the loading is cancelled and its result is discarded.
+	 *
+	 * @param <N>
+	 *            the type wrapped by the created nesting builder
+	 * @param asyncStep
+	 *            the function which starts the nesting step from one observable to the next
+	 * @return an {@link ObservableValueNestingBuilder} which builds a nesting from this builder's settings and the
+	 *         specified nesting steps
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 */
+	public <N> ObservableValueNestingBuilder<N> nestAsyncObservableValue(
+			AsyncNestingStep<T, ObservableValue<N>> asyncStep) {
+
+		return nestAsyncObservableValue(asyncStep, LoadingNestingStep.FX_APPLICATION_THREAD);
+	}
+
+	/**
+	 * Returns a builder for nestings whose inner observable is an {@link ObservableValue} which is loaded
+	 * asynchronously. The created nestings depend on this builder's outer observable and nesting steps and adds the
+	 * specified step as the next one. The loaded observables are handed to the nesting with the specified executor.
+	 * <p>
+	 * While an observable is loading, it is treated as missing. If the value from which the step started changes
+	 * before the loading completed, the loading is cancelled and its result is discarded.
+	 *
+	 * @param <N>
+	 *            the type wrapped by the created nesting builder
+	 * @param asyncStep
+	 *            the function which starts the nesting step from one observable to the next
+	 * @param completionExecutor
+	 *            the {@link Executor} which hands the loaded observables to the nesting; must run them on the thread
+	 *            which updates the nesting
+	 * @return an {@link ObservableValueNestingBuilder} which builds a nesting from this builder's settings and the
+	 *         specified nesting steps
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public <N> ObservableValueNestingBuilder<N> nestAsyncObservableValue(
+			AsyncNestingStep<T, ObservableValue<N>> asyncStep, Executor completionExecutor) {
+
+		LoadingNestingStep<T, ObservableValue<N>> loadingStep = new LoadingNestingStep<>(asyncStep, completionExecutor);
+		ObservableValueNestingBuilder<ObservableValue<N>> loadingBuilder =
+				new ObservableValueNestingBuilder<ObservableValue<N>>(this, loadingStep);
+		return new ObservableValueNestingBuilder<N>(loadingBuilder, LoadingNestingStep.loaded());
+	}
+
 	//#end NEST
 
 }
@@ -0,0 +1,206 @@
+package org.codefx.libfx.nesting;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.beans.value.ObservableValue;
+
+/**
+ * A {@link NestingStep} which leads from a value to its property with a specific name by calling the value's method
+ * {@code nameProperty()} or, if there is none, {@code name()}. It is used by {@link Nestings#onPath(ObservableValue,
+ * String) Nestings.onPath}.
+ * <p>
+ * The method is looked up only once per class of values and then stored as a {@link MethodHandle} in a
+ * {@link ClassValue}. Because there is only one step per property name (see {@link #forName(String)}), all nestings
+ * which use the same name share these handles.
+ */
+final class PropertyPathStep implements NestingStep<Object, ObservableValue<Object>> {
+
+	/**
+	 * The type to which all accessors are adapted.
+	 */
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/**
+	 * The steps by their property names.
+	 */
+	private static final Map<String, PropertyPathStep> STEPS = new ConcurrentHashMap<>();
+
+	// #region PROPERTIES
+
+	/**
+	 * The name of the property to which this step leads.
+	 */
+	private final String name;
+
+	/**
+	 * The accessors of the property by the classes which declare them.
+	 */
+	private final ClassValue<MethodHandle> accessors;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new step to the property with the specified name.
+	 *
+	 * @param name
+	 *            the property's name
+	 */
+	private PropertyPathStep(String name) {
+		this.name = name;
+		this.accessors = new ClassValue<MethodHandle>() {
+			@Override
+			protected MethodHandle computeValue(Class<?> type) {
+				return resolveAccessor(type);
+			}
+		};
+	}
+
+	/**
+	 * Returns the step to the property with the specified name.
+	 *
+	 * @param name
+	 *            the property's name
+	 * @return the {@link PropertyPathStep} for that name; always the same instance for the same name
+	 */
+	public static PropertyPathStep forName(String name) {
+		Objects.requireNonNull(name, "The argument 'name' must not be null.");
+		return STEPS.computeIfAbsent(name, PropertyPathStep::new);
+	}
+
+	/**
+	 * Splits the specified path into steps.
+	 *
+	 * @param path
+	 *            the dot-separated list of property names
+	 * @return a {@link PropertyPathStep} for each name in the path
+	 * @throws IllegalArgumentException
+	 *             if the path contains an empty name
+	 */
+	public static PropertyPathStep[] forPath(String path) {
+		Objects.requireNonNull(path, "The argument 'path' must not be null.");
+
+		String[] names = path.split("\\.", -1);
+		PropertyPathStep[] steps = new PropertyPathStep[names.length];
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].isEmpty())
+				throw new IllegalArgumentException(
+						"The path '" + path + "' must be a dot-separated list of non-empty property names.");
+			steps[i] = forName(names[i]);
+		}
+		return steps;
+	}
+
+	//#end CONSTRUCTION
+
+	// #region STEP
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ObservableValue<Object> step(Object from) {
+		MethodHandle accessor = accessors.get(from.getClass());
+		try {
+			return (ObservableValue<Object>) (Object) accessor.invokeExact(from);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			// the accessor can not throw checked exceptions (see 'resolveAccessor')
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Looks up the accessor of this step's property in the specified class.
+	 *
+	 * @param type
+	 *            the class of a value on which this step is used
+	 * @return a {@link MethodHandle} to the accessor, adapted to {@link #ACCESSOR_TYPE}
+	 * @throws IllegalArgumentException
+	 *             if the class has no suitable method
+	 */
+	private MethodHandle resolveAccessor(Class<?> type) {
+		Method accessor = findAccessor(type, name + "Property");
+		if (accessor == null)
+			accessor = findAccessor(type, name);
+		if (accessor == null)
+			throw new IllegalArgumentException("The class " + type.getName() + " has no public method '"
+					+ name + "Property()' or '" + name + "()' which returns an ObservableValue "
+					+ "and throws no checked exceptions.");
+
+		try {
+			if (!Modifier.isPublic(accessor.getDeclaringClass().getModifiers()))
+				makeAccessible(accessor);
+			return MethodHandles.publicLookup().unreflect(accessor).asType(ACCESSOR_TYPE);
+		} catch (IllegalAccessException ex) {
+			throw new IllegalArgumentException("The method " + accessor + " can not be accessed.", ex);
+		}
+	}
+
+	/**
+	 * Suppresses the access checks for the specified method.
+	 *
+	 * @param accessor
+	 *            the method which is made accessible
+	 * @throws IllegalArgumentException
+	 *             if the method can not be made accessible
+	 */
+	private static void makeAccessible(Method accessor) {
+		try {
+			accessor.setAccessible(true);
+		} catch (RuntimeException ex) {
+			// besides a 'SecurityException' this catches the 'InaccessibleObjectException' which Java 9 and later
+			// throw for packages which are not opened; 'trySetAccessible' does not exist on Java 8
+			throw new IllegalArgumentException("The method " + accessor + " can not be accessed.", ex);
+		}
+	}
+
+	/**
+	 * Finds the public, non-static method with the specified name which takes no arguments, returns an
+	 * {@link ObservableValue} and throws no checked exceptions.
+	 *
+	 * @param type
+	 *            the class in which the method is searched
+	 * @param methodName
+	 *            the method's name
+	 * @return the method; null if there is none
+	 */
+	private static Method findAccessor(Class<?> type, String methodName) {
+		try {
+			Method method = type.getMethod(methodName);
+			boolean suitable = !Modifier.isStatic(method.getModifiers())
+					&& ObservableValue.class.isAssignableFrom(method.getReturnType())
+					&& throwsNoCheckedExceptions(method);
+			return suitable ? method : null;
+		} catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * @param method
+	 *            the checked method
+	 * @return true if the specified method declares no checked exceptions
+	 */
+	private static boolean throwsNoCheckedExceptions(Method method) {
+		for (Class<?> exceptionType : method.getExceptionTypes())
+			if (!RuntimeException.class.isAssignableFrom(exceptionType) && !Error.class.isAssignableFrom(exceptionType))
+				return false;
+		return true;
+	}
+
+	//#end STEP
+
+	@Override
+	public String toString() {
+		return "PropertyPathStep [" + name + "]";
+	}
+
+}
@@ -0,0 +1,65 @@
+package org.codefx.libfx.nesting;
+
+import javafx.beans.property.Property;
+import javafx.collections.ObservableSet;
+
+import org.codefx.libfx.nesting.property.NestedSetProperty;
+import org.codefx.libfx.nesting.property.NestedSetPropertyBuilder;
+
+/**
+ * A builder for all kinds of nested functionality whose inner observable is a {@link Property} which holds an
+ * {@link ObservableSet}.
+ *
+ * @param <E>
+ *            the type of the set's elements
+ */
+public class SetPropertyNestingBuilder<E> extends AbstractNestingBuilderOnProperty<
+		ObservableSet<E>, Property<ObservableSet<E>>, SetPropertyNestingBuilder<E>> {
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new nesting builder which acts as a nested builder.
+	 *
+	 * @param <P>
+	 *            the type the previous builder wraps
+	 * @param previousNestedBuilder
+	 *            the previous builder
+	 * @param nestingStep
+	 *            the function which performs the nesting step from one observable to the next
+	 */
+	<P> SetPropertyNestingBuilder(
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
+			NestingStep<P, Property<ObservableSet<E>>> nestingStep) {
+
+		super(previousNestedBuilder, nestingStep);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region BUILD
+
+	/**
+	 * Creates a nested property from this builder's settings. This method can be called arbitrarily often and each call
+	 * returns a new instance.
+	 *
+	 * @return a new {@link NestedSetProperty} instance with no owning bean and no name
+	 */
+	public NestedSetProperty<E> buildProperty() {
+		Nesting<Property<ObservableSet<E>>> nesting = buildNesting();
+		return NestedSetPropertyBuilder.forNesting(nesting).build();
+	}
+
+	/**
+	 * Returns a nested set property builder which can be used to define the new property's attributes before
+	 * building it.
+	 *
+	 * @return a new instance of {@link NestedSetPropertyBuilder}
+	 */
+	public NestedSetPropertyBuilder<E> buildPropertyWithBuilder() {
+		Nesting<Property<ObservableSet<E>>> nesting = buildNesting();
+		return NestedSetPropertyBuilder.forNesting(nesting);
+	}
+
+	//#end BUILD
+}
@@ -4,8 +4,10 @@ import java.util.Objects;
 import java.util.Optional;
 
 import javafx.beans.Observable;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 
 /**
  * An implementation of {@link Nesting} which solely consists of an outer {@link Observable}.
@@ -16,10 +18,14 @@ import javafx.beans.property.SimpleObjectProperty;
 final class ShallowNesting<O extends Observable> implements Nesting<O> {
 
 	/**
-	 * The property holding the current inner observable, which is always the outer observable specified during
-	 * construction.
+	 * The property holding the current inner observable, which is always the current outer observable.
 	 */
-	private final ReadOnlyProperty<Optional<O>> inner;
+	private final ObjectProperty<Optional<O>> inner;
+
+	/**
+	 * Indicates whether this nesting was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
 
 	/**
 	 * Creates a new shallow nesting whose {@link #innerObservableProperty() innerObservable} property always holds the
@@ -36,7 +42,37 @@ final class ShallowNesting<O extends Observable> implements Nesting<O> {
 
 	@Override
 	public ReadOnlyProperty<Optional<O>> innerObservableProperty() {
+		if (disposed)
+			throw new IllegalStateException("This nesting was disposed.");
 		return inner;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Because the outer observable of a shallow nesting is its inner observable, re-rooting it simply replaces the
+	 * inner observable.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void reroot(ObservableValue<?> outerObservable) {
+		Objects.requireNonNull(outerObservable, "The argument 'outerObservable' must not be null.");
+		if (disposed)
+			throw new IllegalStateException("This nesting was disposed.");
+		if (inner.get().get() == outerObservable)
+			return;
+
+		inner.set(Optional.of((O) outerObservable));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A shallow nesting adds no listeners so disposing it only prevents further use.
+	 */
+	@Override
+	public void dispose() {
+		disposed = true;
+	}
+
 }
@@ -8,7 +8,8 @@ import org.codefx.libfx.nesting.property.NestedStringPropertyBuilder;
 /**
  * A builder for all kinds of nested functionality whose inner observable is a {@link StringProperty}.
  */
-public class StringPropertyNestingBuilder extends AbstractNestingBuilderOnProperty<String, StringProperty> {
+public class StringPropertyNestingBuilder
+		extends AbstractNestingBuilderOnProperty<String, StringProperty, StringPropertyNestingBuilder> {
 
 	// #region CONSTRUCTION
 
@@ -23,7 +24,7 @@ public class StringPropertyNestingBuilder extends AbstractNestingBuilderOnProper
 	 *            the function which performs the nesting step from one observable to the next
 	 */
 	<P> StringPropertyNestingBuilder(
-			AbstractNestingBuilderOnObservableValue<P, ?> previousNestedBuilder,
+			AbstractNestingBuilderOnObservableValue<P, ?, ?> previousNestedBuilder,
 			NestingStep<P, StringProperty> nestingStep) {
 
 		super(previousNestedBuilder, nestingStep);
@@ -0,0 +1,341 @@
+package org.codefx.libfx.nesting.binding;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * A read-only {@link javafx.beans.binding.Binding Binding} whose value is computed from the value of a nesting's
+ * {@link Nesting#innerObservableProperty() innerObservable}.
+ * <p>
+ * Like all JavaFX bindings, a nested binding is evaluated lazily. When the nesting's inner observable is replaced or
+ * its value changes, the binding is only invalidated. Its value is recomputed when it is requested for the first time
+ * afterwards. This is also when the binding moves its listener from the old to the new inner observable. Until then,
+ * no listener is moved and no function is called, regardless of how often the hierarchy changes.
+ * <p>
+ * Like JavaFX bindings, the nested binding is only weakly referenced by the observables it depends on. It references
+ * the nesting, which therefore stays reachable as long as the binding is.
+ * <p>
+ * Nested bindings are created with {@link #map(Nesting, Function) map} and {@link #flatMap(Nesting, Function)
+ * flatMap} or with the corresponding methods on the nesting builders. If the inner observable is missing or its value
+ * is null, the functions are not called and the binding's value is null.
+ *
+ * @param <R>
+ *            the type of the binding's value
+ */
+public abstract class NestedBinding<R> extends ObjectBinding<R> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The nesting from whose inner observable this binding's value is computed.
+	 */
+	private final Nesting<? extends ObservableValue<?>> nesting;
+
+	/**
+	 * The nesting's {@link Nesting#innerObservableProperty() innerObservable} property. It is stored so that this
+	 * binding can be validated and disposed even if the nesting was disposed before it.
+	 */
+	private final ReadOnlyProperty<? extends Optional<? extends ObservableValue<?>>> innerObservableProperty;
+
+	/**
+	 * The listener which invalidates this binding. It is wrapped by the {@link #weakDependencyListener}.
+	 */
+	private final InvalidationListener dependencyListener;
+
+	/**
+	 * The listener which is added to the observables on which this binding depends, so they do not keep it alive.
+	 */
+	private final InvalidationListener weakDependencyListener;
+
+	/**
+	 * The inner observable on which this binding currently depends; null if it is missing.
+	 */
+	private ObservableValue<?> innerObservable;
+
+	/**
+	 * Indicates whether this binding was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new binding which depends on the specified nesting.
+	 *
+	 * @param nesting
+	 *            the {@link Nesting} from whose inner observable this binding's value is computed
+	 */
+	NestedBinding(Nesting<? extends ObservableValue<?>> nesting) {
+		this.nesting = nesting;
+		this.innerObservableProperty = nesting.innerObservableProperty();
+		this.dependencyListener = observable -> invalidate();
+		this.weakDependencyListener = new WeakInvalidationListener(dependencyListener);
+		dependOn(innerObservableProperty);
+	}
+
+	/**
+	 * Creates a binding whose value is computed by applying the specified function to the value of the specified
+	 * nesting's inner observable.
+	 *
+	 * @param <T>
+	 *            the type of the inner observable's value
+	 * @param <R>
+	 *            the type of the binding's value
+	 * @param nesting
+	 *            the {@link Nesting} from whose inner observable the binding's value is computed
+	 * @param mapper
+	 *            the {@link Function} which computes the binding's value from the inner observable's value; only
+	 *            called with non-null values
+	 * @return a new {@link NestedBinding}
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public static <T, R> NestedBinding<R> map(
+			Nesting<? extends ObservableValue<T>> nesting, Function<? super T, ? extends R> mapper) {
+
+		Objects.requireNonNull(nesting, "The argument 'nesting' must not be null.");
+		Objects.requireNonNull(mapper, "The argument 'mapper' must not be null.");
+		return new MappingNestedBinding<>(nesting, mapper);
+	}
+
+	/**
+	 * Creates a binding whose value is the value of the observable which the specified function returns for the value
+	 * of the specified nesting's inner observable. The binding also depends on that observable.
+	 *
+	 * @param <T>
+	 *            the type of the inner observable's value
+	 * @param <R>
+	 *            the type of the binding's value
+	 * @param nesting
+	 *            the {@link Nesting} from whose inner observable the binding's value is computed
+	 * @param mapper
+	 *            the {@link Function} which returns the observable which holds the binding's value; only called with
+	 *            non-null values; can return null
+	 * @return a new {@link NestedBinding}
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public static <T, R> NestedBinding<R> flatMap(
+			Nesting<? extends ObservableValue<T>> nesting,
+			Function<? super T, ? extends ObservableValue<? extends R>> mapper) {
+
+		Objects.requireNonNull(nesting, "The argument 'nesting' must not be null.");
+		Objects.requireNonNull(mapper, "The argument 'mapper' must not be null.");
+		return new FlatMappingNestedBinding<>(nesting, mapper);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region COMPUTATION
+
+	/**
+	 * Moves this binding's listener to the nesting's current inner observable and computes the value from its value.
+	 */
+	@Override
+	protected final R computeValue() {
+		ObservableValue<?> newInnerObservable = innerObservableProperty.getValue().orElse(null);
+		if (newInnerObservable != innerObservable) {
+			if (innerObservable != null)
+				stopDependingOn(innerObservable);
+			innerObservable = newInnerObservable;
+			if (newInnerObservable != null)
+				dependOn(newInnerObservable);
+		}
+
+		Object innerValue = newInnerObservable == null ? null : newInnerObservable.getValue();
+		return computeValue(innerValue);
+	}
+
+	/**
+	 * Computes this binding's value from the specified value of the inner observable.
+	 *
+	 * @param innerValue
+	 *            the inner observable's value; null if it is missing
+	 * @return the binding's value
+	 */
+	abstract R computeValue(Object innerValue);
+
+	/**
+	 * Lets this binding depend on the specified observable, i.e. the binding is invalidated when the observable is.
+	 * <p>
+	 * Unlike {@link #bind(Observable...) bind}, which uses a single listener for all calls until
+	 * {@link #unbind(Observable...) unbind} is called, this can be used to depend on and stop depending on single
+	 * observables while depending on others.
+	 *
+	 * @param observable
+	 *            the {@link Observable} on which this binding depends from now on
+	 */
+	final void dependOn(Observable observable) {
+		observable.addListener(weakDependencyListener);
+	}
+
+	/**
+	 * Lets this binding no longer depend on the specified observable.
+	 *
+	 * @param observable
+	 *            the {@link Observable} on which this binding no longer depends
+	 */
+	final void stopDependingOn(Observable observable) {
+		observable.removeListener(weakDependencyListener);
+	}
+
+	//#end COMPUTATION
+
+	// #region DISPOSAL
+
+	/**
+	 * Indicates whether this binding was {@link #dispose() disposed}.
+	 *
+	 * @return true if {@link #dispose()} was called
+	 */
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * Disposes this binding and its nesting. Afterwards the binding keeps its current value and no longer depends on
+	 * any observable.
+	 * <p>
+	 * Disposing a binding which is already disposed has no effect. The nesting may have been disposed before (e.g.
+	 * because it is shared), in which case an invalid binding computes its value from the inner observable the
+	 * nesting kept on its disposal.
+	 */
+	@Override
+	public void dispose() {
+		if (disposed)
+			return;
+
+		// validate the binding so it keeps its current value; this only reads the stored innerObservable property
+		get();
+		disposed = true;
+		stopDependingOn(innerObservableProperty);
+		if (innerObservable != null) {
+			stopDependingOn(innerObservable);
+			innerObservable = null;
+		}
+		nesting.dispose();
+	}
+
+	//#end DISPOSAL
+
+	// #region INNER CLASSES
+
+	/**
+	 * A nested binding which applies a function to the inner observable's value.
+	 *
+	 * @param <T>
+	 *            the type of the inner observable's value
+	 * @param <R>
+	 *            the type of the binding's value
+	 */
+	private static final class MappingNestedBinding<T, R> extends NestedBinding<R> {
+
+		/**
+		 * Computes this binding's value from the inner observable's value.
+		 */
+		private final Function<? super T, ? extends R> mapper;
+
+		/**
+		 * Creates a new binding.
+		 *
+		 * @param nesting
+		 *            the {@link Nesting} from whose inner observable this binding's value is computed
+		 * @param mapper
+		 *            the {@link Function} which computes this binding's value from the inner observable's value
+		 */
+		public MappingNestedBinding(
+				Nesting<? extends ObservableValue<T>> nesting, Function<? super T, ? extends R> mapper) {
+			super(nesting);
+			this.mapper = mapper;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		R computeValue(Object innerValue) {
+			// the value stems from the nesting's inner observable, which is an 'ObservableValue<T>'
+			return innerValue == null ? null : mapper.apply((T) innerValue);
+		}
+
+	}
+
+	/**
+	 * A nested binding which takes its value from the observable returned by a function for the inner observable's
+	 * value.
+	 *
+	 * @param <T>
+	 *            the type of the inner observable's value
+	 * @param <R>
+	 *            the type of the binding's value
+	 */
+	private static final class FlatMappingNestedBinding<T, R> extends NestedBinding<R> {
+
+		/**
+		 * Returns the observable which holds this binding's value for the inner observable's value.
+		 */
+		private final Function<? super T, ? extends ObservableValue<? extends R>> mapper;
+
+		/**
+		 * The observable returned by the {@link #mapper} on which this binding currently depends; null if there is
+		 * none.
+		 */
+		private ObservableValue<? extends R> mappedObservable;
+
+		/**
+		 * Creates a new binding.
+		 *
+		 * @param nesting
+		 *            the {@link Nesting} from whose inner observable this binding's value is computed
+		 * @param mapper
+		 *            the {@link Function} which returns the observable which holds this binding's value
+		 */
+		public FlatMappingNestedBinding(
+				Nesting<? extends ObservableValue<T>> nesting,
+				Function<? super T, ? extends ObservableValue<? extends R>> mapper) {
+			super(nesting);
+			this.mapper = mapper;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		R computeValue(Object innerValue) {
+			// the value stems from the nesting's inner observable, which is an 'ObservableValue<T>'
+			ObservableValue<? extends R> newMappedObservable = innerValue == null ? null : mapper.apply((T) innerValue);
+			if (newMappedObservable != mappedObservable) {
+				if (mappedObservable != null)
+					stopDependingOn(mappedObservable);
+				mappedObservable = newMappedObservable;
+				if (newMappedObservable != null)
+					dependOn(newMappedObservable);
+			}
+			return newMappedObservable == null ? null : newMappedObservable.getValue();
+		}
+
+		@Override
+		public void dispose() {
+			if (isDisposed())
+				return;
+
+			super.dispose();
+			if (mappedObservable != null) {
+				stopDependingOn(mappedObservable);
+				mappedObservable = null;
+			}
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Contains {@link org.codefx.libfx.nesting.binding.NestedBinding NestedBinding}, a lazily evaluated read-only binding
+ * whose value is computed from a nesting's inner observable.
+ * <p>
+ * See {@link org.codefx.libfx.nesting nesting} for a more comprehensive overview.
+ */
+package org.codefx.libfx.nesting.binding;
@@ -0,0 +1,109 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.List;
+
+import javafx.beans.property.ReadOnlyIntegerPropertyBase;
+
+/**
+ * A property holding the number of present nested values of some {@link ElementNestings}. It is updated in constant
+ * time per changed element.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+final class CountAggregate<E, V> extends ReadOnlyIntegerPropertyBase implements ElementNestingsListener<E, V> {
+
+	/**
+	 * The element nestings whose present nested values are counted.
+	 */
+	private final ElementNestings<E, V> elements;
+
+	/**
+	 * The current count.
+	 */
+	private int count;
+
+	/**
+	 * Creates a new count of the current present nested values of the specified element nestings.
+	 *
+	 * @param elements
+	 *            the {@link ElementNestings} whose present nested values are counted
+	 */
+	public CountAggregate(ElementNestings<E, V> elements) {
+		this.elements = elements;
+		for (ElementNesting<E, V> element : elements.getElementNestings())
+			if (element.getNestedValue() != null)
+				count++;
+	}
+
+	// #region UPDATE
+
+	@Override
+	public void elementsAdded(int from, int to) {
+		int added = 0;
+		for (int index = from; index < to; index++)
+			if (elements.getNestedValue(index) != null)
+				added++;
+		setCount(count + added);
+	}
+
+	@Override
+	public void elementsRemoved(int from, List<ElementNesting<E, V>> removed) {
+		int removedCount = 0;
+		for (ElementNesting<E, V> element : removed)
+			if (element.getNestedValue() != null)
+				removedCount++;
+		setCount(count - removedCount);
+	}
+
+	@Override
+	public void elementsPermuted(int from, int to, int[] permutation) {
+		// the order does not matter
+	}
+
+	@Override
+	public void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue) {
+		if (oldValue == null)
+			setCount(count + 1);
+		else if (newValue == null)
+			setCount(count - 1);
+	}
+
+	/**
+	 * Sets the specified count and fires an event if it changed.
+	 *
+	 * @param newCount
+	 *            the new count
+	 */
+	private void setCount(int newCount) {
+		if (count == newCount)
+			return;
+
+		count = newCount;
+		fireValueChangedEvent();
+	}
+
+	//#end UPDATE
+
+	// #region PROPERTY
+
+	@Override
+	public int get() {
+		return count;
+	}
+
+	@Override
+	public Object getBean() {
+		return elements;
+	}
+
+	@Override
+	public String getName() {
+		return "count";
+	}
+
+	//#end PROPERTY
+
+}
@@ -0,0 +1,34 @@
+package org.codefx.libfx.nesting.collection;
+
+import javafx.collections.ObservableList;
+
+/**
+ * An index which maps nested values to the elements which currently have them. It is created by
+ * {@link ElementNestings#index()} and updated incrementally when elements are added, removed or permuted and when
+ * their nested values change.
+ * <p>
+ * The elements with the same nested value form a <b>bucket</b>, which is an unmodifiable {@link ObservableList}.
+ * Each bucket keeps the order of the elements in the list and stays up to date, so it can be bound directly to
+ * controls which display lists.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values, which are used as the keys
+ */
+public interface ElementIndex<E, V> {
+
+	/**
+	 * Returns the bucket of elements whose nested value equals the specified key. Elements whose nested value is
+	 * missing are in the bucket of null.
+	 * <p>
+	 * The same bucket is returned for equal keys as long as the index exists. It is kept up to date even while it is
+	 * empty, so it can be requested before the first element with that key is added.
+	 *
+	 * @param key
+	 *            the nested value; can be null
+	 * @return an unmodifiable {@link ObservableList} of the elements whose nested value equals the key
+	 */
+	ObservableList<E> get(V key);
+
+}
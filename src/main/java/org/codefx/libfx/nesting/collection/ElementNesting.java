@@ -0,0 +1,226 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.NestingTemplate;
+
+/**
+ * The nesting on one element of the list observed by {@link ElementNestings}. It holds the element, its nesting and
+ * the current value of the nesting's inner observable and reports changes of that value to its owner.
+ * <p>
+ * To keep the footprint per element small, an element nesting plays two more roles:
+ * <ul>
+ * <li>It is the outer observable of its nesting. Because the element never changes (the owner replaces the whole
+ * element nesting when the list replaces an element), it does not need to manage listeners.
+ * <li>It is the listener which is added to the nesting's {@link Nesting#innerObservableProperty() innerObservable}
+ * property and to the inner observable.
+ * </ul>
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the value held by the nestings' inner observables
+ */
+final class ElementNesting<E, V> implements ObservableValue<E>, InvalidationListener {
+
+	// #region PROPERTIES
+
+	/**
+	 * The owner which is notified when the {@link #value} changes.
+	 */
+	private final ElementNestings<E, V> owner;
+
+	/**
+	 * The element on which the nesting starts.
+	 */
+	private final E element;
+
+	/**
+	 * The nesting from the element to the observable holding the {@link #value}.
+	 */
+	private final Nesting<? extends ObservableValue<V>> nesting;
+
+	/**
+	 * The nesting's current inner observable to which this element nesting is added as a listener; null if it is
+	 * missing.
+	 */
+	private ObservableValue<V> innerObservable;
+
+	/**
+	 * The inner observable's current value; null if it is missing.
+	 */
+	private V value;
+
+	/**
+	 * The element's index in the list; maintained by the owner.
+	 */
+	private int index;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new element nesting.
+	 *
+	 * @param owner
+	 *            the {@link ElementNestings} which is notified when the value changes
+	 * @param element
+	 *            the element on which the nesting starts
+	 * @param index
+	 *            the element's index in the list
+	 * @param template
+	 *            the {@link NestingTemplate} used to create the nesting
+	 */
+	public ElementNesting(
+			ElementNestings<E, V> owner, E element, int index, NestingTemplate<? extends ObservableValue<V>> template) {
+		this.owner = owner;
+		this.element = element;
+		this.index = index;
+		this.nesting = template.createNesting(this);
+
+		nesting.innerObservableProperty().addListener(this);
+		innerObservable = nesting.innerObservableProperty().getValue().orElse(null);
+		if (innerObservable != null) {
+			innerObservable.addListener(this);
+			value = innerObservable.getValue();
+		}
+	}
+
+	//#end CONSTRUCTION
+
+	// #region UPDATE
+
+	@Override
+	public void invalidated(Observable observable) {
+		if (observable == nesting.innerObservableProperty())
+			updateInnerObservable();
+		updateValue();
+	}
+
+	/**
+	 * Moves this listener to the nesting's new inner observable.
+	 */
+	private void updateInnerObservable() {
+		ObservableValue<V> newInnerObservable = nesting.innerObservableProperty().getValue().orElse(null);
+		if (newInnerObservable == innerObservable)
+			return;
+
+		if (innerObservable != null)
+			innerObservable.removeListener(this);
+		innerObservable = newInnerObservable;
+		if (newInnerObservable != null)
+			newInnerObservable.addListener(this);
+	}
+
+	/**
+	 * Reads the inner observable's value and notifies the owner if it changed.
+	 */
+	private void updateValue() {
+		V oldValue = value;
+		V newValue = innerObservable == null ? null : innerObservable.getValue();
+		if (Objects.equals(oldValue, newValue))
+			return;
+
+		value = newValue;
+		owner.valueChanged(this, oldValue, newValue);
+	}
+
+	/**
+	 * Removes all listeners and disposes the nesting. Afterwards the element nesting keeps its last value.
+	 */
+	public void dispose() {
+		nesting.innerObservableProperty().removeListener(this);
+		if (innerObservable != null) {
+			innerObservable.removeListener(this);
+			innerObservable = null;
+		}
+		nesting.dispose();
+	}
+
+	//#end UPDATE
+
+	// #region ACCESSORS
+
+	/**
+	 * @return the element on which the nesting starts
+	 */
+	public E getElement() {
+		return element;
+	}
+
+	/**
+	 * @return the inner observable's current value; null if it is missing
+	 */
+	public V getNestedValue() {
+		return value;
+	}
+
+	/**
+	 * @return the element's index in the list
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @param index
+	 *            the element's new index in the list
+	 */
+	void setIndex(int index) {
+		this.index = index;
+	}
+
+	//#end ACCESSORS
+
+	// #region IMPLEMENTATION OF 'ObservableValue<E>'
+
+	/**
+	 * Returns the element, which is the value of the nesting's outer observable.
+	 */
+	@Override
+	public E getValue() {
+		return element;
+	}
+
+	/**
+	 * Does nothing because the element never changes.
+	 */
+	@Override
+	public void addListener(InvalidationListener listener) {
+		// the element never changes, so there is no need to keep the listener
+	}
+
+	/**
+	 * Does nothing because the element never changes.
+	 */
+	@Override
+	public void removeListener(InvalidationListener listener) {
+		// the element never changes, so no listener was kept
+	}
+
+	/**
+	 * Does nothing because the element never changes.
+	 */
+	@Override
+	public void addListener(ChangeListener<? super E> listener) {
+		// the element never changes, so there is no need to keep the listener
+	}
+
+	/**
+	 * Does nothing because the element never changes.
+	 */
+	@Override
+	public void removeListener(ChangeListener<? super E> listener) {
+		// the element never changes, so no listener was kept
+	}
+
+	//#end IMPLEMENTATION OF 'ObservableValue<E>'
+
+}
@@ -0,0 +1,484 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.NestingTemplate;
+
+/**
+ * Keeps one {@link Nesting} per element of an {@link ObservableList} and tracks the values of their inner observables,
+ * the so called <b>nested values</b>.
+ * <p>
+ * The nestings are created with a {@link NestingTemplate}, so they share their nesting steps:
+ *
+ * <pre>
+ * NestingTemplate&lt;DoubleProperty&gt; salaryTemplate = Nestings.on(new SimpleObjectProperty&lt;Employee&gt;())
+ * 		.nest(Employee::contractProperty)
+ * 		.nestDoubleProperty(Contract::salaryProperty)
+ * 		.buildTemplate();
+ * ElementNestings&lt;Employee, Number&gt; salaries = ElementNestings.on(employees, salaryTemplate);
+ * ReadOnlyDoubleProperty salarySum = salaries.sum(Number::doubleValue);
+ * </pre>
+ *
+ * <h2>Incremental Updates</h2> The element nestings are updated from the list's {@link Change Changes}: only added
+ * elements get new nestings, only removed elements' nestings are disposed and permutations only reorder the existing
+ * nestings. When the nested value of an element changes, only that element is looked at.
+ * <h2>Aggregates</h2> The nested values can be aggregated with {@link #sum(ToDoubleFunction) sum}, {@link #count()
+ * count}, {@link #min(Comparator) min} and {@link #max(Comparator) max}. Each aggregate is updated incrementally: the
+ * sum and count in constant time per changed element, minimum and maximum in logarithmic time. Missing nested values
+ * (i.e. null) are ignored by all aggregates.
+ * <h2>Views</h2> The list's elements can be {@link #filter(Predicate) filtered} and {@link #sort(Comparator) sorted}
+ * by their nested values. When the nested value of a single element changes, the views only look at that element and
+ * emit a change which involves only that element (for the filtered view) or a single move (for the sorted view).
+ * The elements can also be grouped by their nested values with an {@link #index() index}, whose buckets are views as
+ * well.
+ * <h2>Disposal</h2> The nestings add listeners to the observables in each element's hierarchy and this instance adds
+ * a listener to the list. If the nestings are no longer needed, they should be {@link #dispose() disposed}, which
+ * removes all of these listeners. Afterwards the aggregates and views keep their last state.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+public final class ElementNestings<E, V> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The list on whose elements the nestings are created.
+	 */
+	private final ObservableList<E> list;
+
+	/**
+	 * The template used to create the nestings.
+	 */
+	private final NestingTemplate<? extends ObservableValue<V>> template;
+
+	/**
+	 * One element nesting per element in the list, in the same order.
+	 */
+	private final List<ElementNesting<E, V>> elements;
+
+	/**
+	 * The listener added to the {@link #list}.
+	 */
+	private final ListChangeListener<E> listListener;
+
+	/**
+	 * The listeners which maintain aggregates and views.
+	 */
+	private final List<ElementNestingsListener<E, V>> listeners;
+
+	/**
+	 * Indicates whether this instance was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates new element nestings.
+	 *
+	 * @param list
+	 *            the {@link ObservableList} on whose elements the nestings are created
+	 * @param template
+	 *            the {@link NestingTemplate} used to create the nestings
+	 */
+	private ElementNestings(ObservableList<E> list, NestingTemplate<? extends ObservableValue<V>> template) {
+		this.list = list;
+		this.template = template;
+		this.elements = new ArrayList<>(list.size());
+		this.listeners = new ArrayList<>(2);
+		this.listListener = this::listChanged;
+
+		for (int index = 0; index < list.size(); index++)
+			elements.add(new ElementNesting<>(this, list.get(index), index, template));
+		list.addListener(listListener);
+	}
+
+	/**
+	 * Creates one nesting per element of the specified list. The nestings are created with the specified template and
+	 * use the elements as their outer observables' values.
+	 *
+	 * @param <E>
+	 *            the type of the list's elements
+	 * @param <V>
+	 *            the type of the nested values
+	 * @param list
+	 *            the {@link ObservableList} on whose elements the nestings are created
+	 * @param template
+	 *            the {@link NestingTemplate} used to create the nestings; its first nesting step must accept the
+	 *            list's elements
+	 * @return new {@link ElementNestings}
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public static <E, V> ElementNestings<E, V> on(
+			ObservableList<E> list, NestingTemplate<? extends ObservableValue<V>> template) {
+
+		Objects.requireNonNull(list, "The argument 'list' must not be null.");
+		Objects.requireNonNull(template, "The argument 'template' must not be null.");
+		return new ElementNestings<>(list, template);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region UPDATE
+
+	/**
+	 * Updates the element nestings according to the specified change.
+	 *
+	 * @param change
+	 *            the {@link Change} of the {@link #list}
+	 */
+	private void listChanged(Change<? extends E> change) {
+		while (change.next())
+			if (change.wasPermutated())
+				permute(change);
+			else {
+				// updated elements need no handling because their nestings observe them
+				if (change.wasRemoved())
+					remove(change.getFrom(), change.getRemovedSize());
+				if (change.wasAdded())
+					add(change.getFrom(), change.getTo());
+			}
+	}
+
+	/**
+	 * Reorders the element nestings according to the specified permutation.
+	 *
+	 * @param change
+	 *            the permutating {@link Change}
+	 */
+	private void permute(Change<? extends E> change) {
+		int from = change.getFrom();
+		int to = change.getTo();
+		int[] permutation = new int[to - from];
+		List<ElementNesting<E, V>> permuted = new ArrayList<>(elements.subList(from, to));
+		for (int oldIndex = from; oldIndex < to; oldIndex++) {
+			int newIndex = change.getPermutation(oldIndex);
+			permutation[oldIndex - from] = newIndex;
+			ElementNesting<E, V> element = permuted.get(oldIndex - from);
+			element.setIndex(newIndex);
+			elements.set(newIndex, element);
+		}
+
+		for (ElementNestingsListener<E, V> listener : listeners)
+			listener.elementsPermuted(from, to, permutation);
+	}
+
+	/**
+	 * Removes and disposes the element nestings in the specified range.
+	 *
+	 * @param from
+	 *            the index of the first removed element
+	 * @param removedSize
+	 *            the number of removed elements
+	 */
+	private void remove(int from, int removedSize) {
+		List<ElementNesting<E, V>> removedRange = elements.subList(from, from + removedSize);
+		List<ElementNesting<E, V>> removed = Collections.unmodifiableList(new ArrayList<>(removedRange));
+		removedRange.clear();
+		removed.forEach(ElementNesting::dispose);
+		updateIndices(from);
+
+		for (ElementNestingsListener<E, V> listener : listeners)
+			listener.elementsRemoved(from, removed);
+	}
+
+	/**
+	 * Creates element nestings for the list's elements in the specified range.
+	 *
+	 * @param from
+	 *            the index of the first added element
+	 * @param to
+	 *            the index after the last added element
+	 */
+	private void add(int from, int to) {
+		List<ElementNesting<E, V>> added = new ArrayList<>(to - from);
+		for (int index = from; index < to; index++)
+			added.add(new ElementNesting<>(this, list.get(index), index, template));
+		elements.addAll(from, added);
+		updateIndices(to);
+
+		for (ElementNestingsListener<E, V> listener : listeners)
+			listener.elementsAdded(from, to);
+	}
+
+	/**
+	 * Updates the indices of the element nestings from the specified one on.
+	 *
+	 * @param from
+	 *            the index of the first element nesting whose index is updated
+	 */
+	private void updateIndices(int from) {
+		for (int index = from; index < elements.size(); index++)
+			elements.get(index).setIndex(index);
+	}
+
+	/**
+	 * Called by the element nestings when their nested value changed.
+	 *
+	 * @param element
+	 *            the {@link ElementNesting} whose value changed
+	 * @param oldValue
+	 *            the old nested value
+	 * @param newValue
+	 *            the new nested value
+	 */
+	void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue) {
+		for (ElementNestingsListener<E, V> listener : listeners)
+			listener.valueChanged(element, oldValue, newValue);
+	}
+
+	//#end UPDATE
+
+	// #region AGGREGATES
+
+	/**
+	 * Returns a property which holds the sum of the nested values. Missing values are ignored.
+	 * <p>
+	 * The sum is updated in constant time per changed element. Like every running sum of floating point numbers it
+	 * can accumulate rounding errors; it is reset to zero whenever the list becomes empty.
+	 *
+	 * @param toDouble
+	 *            the function which converts each non-null value to a {@code double}
+	 * @return a {@link ReadOnlyDoubleProperty} holding the sum
+	 * @throws NullPointerException
+	 *             if the specified function is null
+	 */
+	public ReadOnlyDoubleProperty sum(ToDoubleFunction<? super V> toDouble) {
+		Objects.requireNonNull(toDouble, "The argument 'toDouble' must not be null.");
+		return addListener(new SumAggregate<>(this, toDouble));
+	}
+
+	/**
+	 * Returns a property which holds the number of present (i.e. non-null) nested values.
+	 * <p>
+	 * The count is updated in constant time per changed element.
+	 *
+	 * @return a {@link ReadOnlyIntegerProperty} holding the count
+	 */
+	public ReadOnlyIntegerProperty count() {
+		return addListener(new CountAggregate<>(this));
+	}
+
+	/**
+	 * Returns a property which holds the smallest nested value according to the specified comparator; null if there
+	 * is none. Missing values are ignored.
+	 * <p>
+	 * The minimum is updated in logarithmic time per changed element.
+	 *
+	 * @param comparator
+	 *            the {@link Comparator} used to compare the nested values
+	 * @return a {@link ReadOnlyObjectProperty} holding the minimum
+	 * @throws NullPointerException
+	 *             if the specified comparator is null
+	 */
+	public ReadOnlyObjectProperty<V> min(Comparator<? super V> comparator) {
+		Objects.requireNonNull(comparator, "The argument 'comparator' must not be null.");
+		return addListener(new ExtremumAggregate<>(this, comparator, false));
+	}
+
+	/**
+	 * Returns a property which holds the largest nested value according to the specified comparator; null if there is
+	 * none. Missing values are ignored.
+	 * <p>
+	 * The maximum is updated in logarithmic time per changed element.
+	 *
+	 * @param comparator
+	 *            the {@link Comparator} used to compare the nested values
+	 * @return a {@link ReadOnlyObjectProperty} holding the maximum
+	 * @throws NullPointerException
+	 *             if the specified comparator is null
+	 */
+	public ReadOnlyObjectProperty<V> max(Comparator<? super V> comparator) {
+		Objects.requireNonNull(comparator, "The argument 'comparator' must not be null.");
+		return addListener(new ExtremumAggregate<>(this, comparator, true));
+	}
+
+	//#end AGGREGATES
+
+	// #region VIEWS
+
+	/**
+	 * Returns an unmodifiable view on the list's elements whose nested values pass the specified predicate. The view
+	 * keeps the elements' order.
+	 * <p>
+	 * The predicate is only evaluated for elements which are added to the list or whose nested value changes. Mapping
+	 * an index in the view to an index in the list and vice versa takes logarithmic time, so a change of a single
+	 * element's nested value is processed in logarithmic time as well.
+	 *
+	 * @param predicate
+	 *            the {@link Predicate} which the nested values of the elements in the view pass; missing values are
+	 *            tested as null
+	 * @return an {@link ObservableList} of the elements whose nested values pass the predicate
+	 * @throws NullPointerException
+	 *             if the specified predicate is null
+	 */
+	public ObservableList<E> filter(Predicate<? super V> predicate) {
+		Objects.requireNonNull(predicate, "The argument 'predicate' must not be null.");
+		return addListener(new FilteredElementList<>(this, predicate));
+	}
+
+	/**
+	 * Returns an unmodifiable view on the list's elements which is sorted by their nested values. Elements whose
+	 * nested value is missing are sorted last. Elements with equal nested values keep the order in which they entered
+	 * the view or got their current value.
+	 * <p>
+	 * The view caches each element's nested value. When it changes, the element is moved to its new position in
+	 * logarithmic time plus the time to shift the elements in between, which the view emits as a single permutation.
+	 * Permutations of the list do not change the view.
+	 *
+	 * @param comparator
+	 *            the {@link Comparator} which compares the non-null nested values
+	 * @return an {@link ObservableList} of the elements sorted by their nested values
+	 * @throws NullPointerException
+	 *             if the specified comparator is null
+	 */
+	public ObservableList<E> sort(Comparator<? super V> comparator) {
+		Objects.requireNonNull(comparator, "The argument 'comparator' must not be null.");
+		return addListener(new SortedElementList<>(this, comparator));
+	}
+
+	/**
+	 * Returns an index which maps nested values to the elements which currently have them. Its buckets are
+	 * unmodifiable lists which keep the elements' order and can be bound to controls.
+	 * <p>
+	 * A lookup takes constant time. When the nested value of a single element changes, the element is moved from one
+	 * bucket to another in logarithmic time plus the time to shift the elements behind it in both buckets.
+	 *
+	 * @return an {@link ElementIndex} over the elements by their nested values
+	 */
+	public ElementIndex<E, V> index() {
+		return addListener(new HashElementIndex<>(this));
+	}
+
+	//#end VIEWS
+
+	// #region LISTENERS
+
+	/**
+	 * Adds the specified listener, which will be notified of all changes until this instance is disposed.
+	 *
+	 * @param <L>
+	 *            the type of the listener
+	 * @param listener
+	 *            the {@link ElementNestingsListener} to add
+	 * @return the specified listener
+	 */
+	<L extends ElementNestingsListener<E, V>> L addListener(L listener) {
+		if (!disposed)
+			listeners.add(listener);
+		return listener;
+	}
+
+	/**
+	 * Removes the specified listener.
+	 *
+	 * @param listener
+	 *            the {@link ElementNestingsListener} to remove
+	 */
+	void removeListener(ElementNestingsListener<E, V> listener) {
+		listeners.remove(listener);
+	}
+
+	//#end LISTENERS
+
+	// #region ACCESSORS
+
+	/**
+	 * @return the list on whose elements the nestings are created
+	 */
+	public ObservableList<E> getList() {
+		return list;
+	}
+
+	/**
+	 * @return the number of elements, which is the list's size unless the list changed after this instance was
+	 *         disposed
+	 */
+	public int size() {
+		return elements.size();
+	}
+
+	/**
+	 * Returns the nested value of the element at the specified index.
+	 *
+	 * @param index
+	 *            the element's index in the list
+	 * @return the nested value; null if it is missing
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public V getNestedValue(int index) {
+		return elements.get(index).getNestedValue();
+	}
+
+	/**
+	 * Returns the element nesting at the specified index.
+	 *
+	 * @param index
+	 *            the element's index in the list
+	 * @return the {@link ElementNesting}
+	 */
+	ElementNesting<E, V> getElementNesting(int index) {
+		return elements.get(index);
+	}
+
+	/**
+	 * @return an unmodifiable view on the element nestings
+	 */
+	List<ElementNesting<E, V>> getElementNestings() {
+		return Collections.unmodifiableList(elements);
+	}
+
+	//#end ACCESSORS
+
+	// #region DISPOSAL
+
+	/**
+	 * Indicates whether this instance was {@link #dispose() disposed}.
+	 *
+	 * @return true if {@link #dispose()} was called
+	 */
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * Removes the listener from the list and disposes all nestings. Afterwards the element nestings as well as all
+	 * aggregates and views keep their last state.
+	 * <p>
+	 * Disposing an instance which is already disposed has no effect.
+	 */
+	public void dispose() {
+		if (disposed)
+			return;
+
+		disposed = true;
+		list.removeListener(listListener);
+		elements.forEach(ElementNesting::dispose);
+		listeners.clear();
+	}
+
+	//#end DISPOSAL
+
+}
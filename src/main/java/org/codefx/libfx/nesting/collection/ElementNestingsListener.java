@@ -0,0 +1,60 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.List;
+
+/**
+ * A listener which is notified by {@link ElementNestings} when elements are added, removed or permuted and when the
+ * nested value of an element changes. It is used to incrementally maintain aggregates and views.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+interface ElementNestingsListener<E, V> {
+
+	/**
+	 * Called after the element nestings at the specified indices were added.
+	 *
+	 * @param from
+	 *            the index of the first added element nesting
+	 * @param to
+	 *            the index after the last added element nesting
+	 */
+	void elementsAdded(int from, int to);
+
+	/**
+	 * Called after the specified element nestings were removed. They keep their last nested value.
+	 *
+	 * @param from
+	 *            the index at which the element nestings were removed
+	 * @param removed
+	 *            the removed element nestings
+	 */
+	void elementsRemoved(int from, List<ElementNesting<E, V>> removed);
+
+	/**
+	 * Called after the element nestings in the specified range were permuted.
+	 *
+	 * @param from
+	 *            the index of the first permuted element nesting
+	 * @param to
+	 *            the index after the last permuted element nesting
+	 * @param permutation
+	 *            for each old index {@code i} in the range, {@code permutation[i - from]} is its new index
+	 */
+	void elementsPermuted(int from, int to, int[] permutation);
+
+	/**
+	 * Called after the nested value of the specified element changed.
+	 *
+	 * @param element
+	 *            the {@link ElementNesting} whose value changed
+	 * @param oldValue
+	 *            the old nested value; null if it was missing
+	 * @param newValue
+	 *            the new nested value; null if it is missing
+	 */
+	void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue);
+
+}
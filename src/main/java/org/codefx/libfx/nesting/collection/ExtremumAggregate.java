@@ -0,0 +1,172 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+
+import javafx.beans.property.ReadOnlyObjectPropertyBase;
+
+/**
+ * A property holding the smallest or largest nested value of some {@link ElementNestings}. The present nested values
+ * are kept in a {@link TreeMap} which maps each value to all present instances which are equal to it according to the
+ * comparator, so the property is updated in logarithmic time per changed element (plus the time to find the changed
+ * instance among those equal to it).
+ * <p>
+ * Distinct instances can be equal according to the comparator (e.g. two contracts with the same salary when comparing
+ * salaries). The property always holds an instance which is still present, namely the earliest added one of those
+ * which are equal to the extremum.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+final class ExtremumAggregate<E, V> extends ReadOnlyObjectPropertyBase<V> implements ElementNestingsListener<E, V> {
+
+	/**
+	 * The element nestings whose nested values are aggregated.
+	 */
+	private final ElementNestings<E, V> elements;
+
+	/**
+	 * Maps each present nested value to all present instances which are equal to it according to the comparator, in
+	 * the order in which they were added. Each occurrence of an instance is contained once.
+	 */
+	private final TreeMap<V, Deque<V>> occurrences;
+
+	/**
+	 * Indicates whether this is the maximum (true) or the minimum (false).
+	 */
+	private final boolean max;
+
+	/**
+	 * The current extremum; null if there is none.
+	 */
+	private V extremum;
+
+	/**
+	 * Creates a new extremum of the current nested values of the specified element nestings.
+	 *
+	 * @param elements
+	 *            the {@link ElementNestings} whose nested values are aggregated
+	 * @param comparator
+	 *            the {@link Comparator} used to compare the nested values
+	 * @param max
+	 *            true if this is the maximum; false if it is the minimum
+	 */
+	public ExtremumAggregate(ElementNestings<E, V> elements, Comparator<? super V> comparator, boolean max) {
+		this.elements = elements;
+		this.occurrences = new TreeMap<>(comparator);
+		this.max = max;
+		for (ElementNesting<E, V> element : elements.getElementNestings())
+			add(element.getNestedValue());
+		extremum = computeExtremum();
+	}
+
+	// #region UPDATE
+
+	@Override
+	public void elementsAdded(int from, int to) {
+		for (int index = from; index < to; index++)
+			add(elements.getNestedValue(index));
+		updateExtremum();
+	}
+
+	@Override
+	public void elementsRemoved(int from, List<ElementNesting<E, V>> removed) {
+		for (ElementNesting<E, V> element : removed)
+			remove(element.getNestedValue());
+		updateExtremum();
+	}
+
+	@Override
+	public void elementsPermuted(int from, int to, int[] permutation) {
+		// the order does not matter
+	}
+
+	@Override
+	public void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue) {
+		remove(oldValue);
+		add(newValue);
+		updateExtremum();
+	}
+
+	/**
+	 * Adds an occurrence of the specified value.
+	 *
+	 * @param value
+	 *            the added value; ignored if null
+	 */
+	private void add(V value) {
+		if (value != null)
+			occurrences.computeIfAbsent(value, key -> new ArrayDeque<>(1)).addLast(value);
+	}
+
+	/**
+	 * Removes an occurrence of the specified value.
+	 *
+	 * @param value
+	 *            the removed value; ignored if null
+	 */
+	private void remove(V value) {
+		if (value == null)
+			return;
+
+		Deque<V> instances = occurrences.get(value);
+		// remove the instance itself and not just one which is equal to it
+		for (Iterator<V> iterator = instances.iterator(); iterator.hasNext();)
+			if (iterator.next() == value) {
+				iterator.remove();
+				break;
+			}
+		if (instances.isEmpty())
+			occurrences.remove(value);
+	}
+
+	/**
+	 * @return the current extremum; null if there are no values
+	 */
+	private V computeExtremum() {
+		if (occurrences.isEmpty())
+			return null;
+		Deque<V> instances = max ? occurrences.lastEntry().getValue() : occurrences.firstEntry().getValue();
+		return instances.getFirst();
+	}
+
+	/**
+	 * Computes the extremum and fires an event if it changed.
+	 */
+	private void updateExtremum() {
+		V newExtremum = computeExtremum();
+		if (extremum == newExtremum)
+			return;
+
+		extremum = newExtremum;
+		fireValueChangedEvent();
+	}
+
+	//#end UPDATE
+
+	// #region PROPERTY
+
+	@Override
+	public V get() {
+		return extremum;
+	}
+
+	@Override
+	public Object getBean() {
+		return elements;
+	}
+
+	@Override
+	public String getName() {
+		return max ? "max" : "min";
+	}
+
+	//#end PROPERTY
+
+}
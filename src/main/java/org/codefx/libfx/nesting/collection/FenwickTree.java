@@ -0,0 +1,245 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.Arrays;
+
+/**
+ * A Fenwick tree (or binary indexed tree) over a list of flags. It answers how many flags are set before an index and
+ * which index holds the k-th set flag in logarithmic time.
+ * <p>
+ * Setting or clearing a single flag as well as appending and removing flags at the end also take logarithmic time.
+ * Inserting or removing flags anywhere else shifts the following flags and rebuilds the tree in linear time.
+ */
+final class FenwickTree {
+
+	// #region PROPERTIES
+
+	/**
+	 * The flags; only the first {@link #size} entries are used.
+	 */
+	private boolean[] flags;
+
+	/**
+	 * The tree, which uses 1-based indices; entry {@code i} holds the number of set flags in the range
+	 * {@code (i - lowestOneBit(i), i]}.
+	 */
+	private int[] tree;
+
+	/**
+	 * The number of flags.
+	 */
+	private int size;
+
+	/**
+	 * The number of set flags.
+	 */
+	private int setCount;
+
+	//#end PROPERTIES
+
+	/**
+	 * Creates an empty tree.
+	 */
+	public FenwickTree() {
+		flags = new boolean[16];
+		tree = new int[17];
+	}
+
+	// #region QUERIES
+
+	/**
+	 * @return the number of flags
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of set flags
+	 */
+	public int setCount() {
+		return setCount;
+	}
+
+	/**
+	 * @param index
+	 *            the flag's index
+	 * @return whether the flag at the specified index is set
+	 */
+	public boolean isSet(int index) {
+		return flags[index];
+	}
+
+	/**
+	 * Returns the number of set flags before the specified index.
+	 *
+	 * @param index
+	 *            the index up to which (exclusively) set flags are counted; between 0 and {@link #size()}
+	 * @return the number of set flags in {@code [0, index)}
+	 */
+	public int countBefore(int index) {
+		int count = 0;
+		for (int i = index; i > 0; i -= Integer.lowestOneBit(i))
+			count += tree[i];
+		return count;
+	}
+
+	/**
+	 * Returns the index of the set flag with the specified rank.
+	 *
+	 * @param rank
+	 *            the number of set flags before the searched one; between 0 and {@link #setCount()} (exclusive)
+	 * @return the index of the set flag which is preceded by {@code rank} set flags
+	 */
+	public int indexOfSet(int rank) {
+		int index = 0;
+		int remaining = rank + 1;
+		for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+			int next = index + step;
+			if (next <= size && tree[next] < remaining) {
+				index = next;
+				remaining -= tree[next];
+			}
+		}
+		// 'index' is the 1-based index of the last flag before the searched one, i.e. the searched one's 0-based index
+		return index;
+	}
+
+	//#end QUERIES
+
+	// #region UPDATES
+
+	/**
+	 * Sets or clears the flag at the specified index.
+	 *
+	 * @param index
+	 *            the flag's index
+	 * @param flag
+	 *            the new flag
+	 */
+	public void set(int index, boolean flag) {
+		if (flags[index] == flag)
+			return;
+
+		flags[index] = flag;
+		int delta = flag ? 1 : -1;
+		setCount += delta;
+		for (int i = index + 1; i <= size; i += Integer.lowestOneBit(i))
+			tree[i] += delta;
+	}
+
+	/**
+	 * Inserts the specified flags at the specified index.
+	 *
+	 * @param index
+	 *            the index at which the flags are inserted
+	 * @param inserted
+	 *            the inserted flags
+	 */
+	public void insert(int index, boolean[] inserted) {
+		ensureCapacity(size + inserted.length);
+		if (index == size) {
+			// appending only needs to compute the new tree entries
+			for (boolean flag : inserted)
+				append(flag);
+			return;
+		}
+
+		System.arraycopy(flags, index, flags, index + inserted.length, size - index);
+		System.arraycopy(inserted, 0, flags, index, inserted.length);
+		size += inserted.length;
+		for (boolean flag : inserted)
+			if (flag)
+				setCount++;
+		rebuild();
+	}
+
+	/**
+	 * Appends the specified flag.
+	 *
+	 * @param flag
+	 *            the appended flag
+	 */
+	private void append(boolean flag) {
+		flags[size] = flag;
+		size++;
+		if (flag)
+			setCount++;
+		// the new entry covers the range '(size - lowestOneBit(size), size]'
+		int lowerBound = size - Integer.lowestOneBit(size);
+		tree[size] = countBefore(size - 1) - countBefore(lowerBound) + (flag ? 1 : 0);
+	}
+
+	/**
+	 * Removes the specified number of flags at the specified index.
+	 *
+	 * @param index
+	 *            the index of the first removed flag
+	 * @param removedSize
+	 *            the number of removed flags
+	 */
+	public void remove(int index, int removedSize) {
+		for (int i = index; i < index + removedSize; i++)
+			if (flags[i])
+				setCount--;
+
+		if (index + removedSize == size) {
+			// removing from the end does not change the entries of the remaining flags
+			Arrays.fill(flags, index, size, false);
+			Arrays.fill(tree, index + 1, size + 1, 0);
+			size = index;
+			return;
+		}
+
+		System.arraycopy(flags, index + removedSize, flags, index, size - index - removedSize);
+		Arrays.fill(flags, size - removedSize, size, false);
+		size -= removedSize;
+		rebuild();
+	}
+
+	/**
+	 * Reorders the flags in the specified range.
+	 *
+	 * @param from
+	 *            the index of the first permuted flag
+	 * @param permutation
+	 *            for each old index {@code i} in the range, {@code permutation[i - from]} is its new index
+	 */
+	public void permute(int from, int[] permutation) {
+		boolean[] permuted = Arrays.copyOfRange(flags, from, from + permutation.length);
+		for (int i = 0; i < permutation.length; i++)
+			flags[permutation[i]] = permuted[i];
+		rebuild();
+	}
+
+	/**
+	 * Makes sure the arrays can hold the specified number of flags.
+	 *
+	 * @param capacity
+	 *            the required capacity
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity <= flags.length)
+			return;
+
+		int newCapacity = Math.max(capacity, flags.length + (flags.length >> 1));
+		flags = Arrays.copyOf(flags, newCapacity);
+		tree = Arrays.copyOf(tree, newCapacity + 1);
+	}
+
+	/**
+	 * Rebuilds the tree from the flags in linear time.
+	 */
+	private void rebuild() {
+		Arrays.fill(tree, 0);
+		for (int i = 1; i <= size; i++) {
+			if (flags[i - 1])
+				tree[i]++;
+			int parent = i + Integer.lowestOneBit(i);
+			if (parent <= size)
+				tree[parent] += tree[i];
+		}
+	}
+
+	//#end UPDATES
+
+}
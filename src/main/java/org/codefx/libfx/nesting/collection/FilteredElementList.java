@@ -0,0 +1,174 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view on the elements of some {@link ElementNestings} whose nested values pass a predicate.
+ * <p>
+ * Which elements pass is stored in a {@link FenwickTree}, so mapping between indices in the view and in the list
+ * takes logarithmic time. When the nested value of a single element changes, only that element is re-tested and at
+ * most a single element is added to or removed from the view.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+final class FilteredElementList<E, V> extends ObservableListBase<E> implements ElementNestingsListener<E, V> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The element nestings whose elements are filtered.
+	 */
+	private final ElementNestings<E, V> elements;
+
+	/**
+	 * The predicate which the nested values of the elements in this view pass.
+	 */
+	private final Predicate<? super V> predicate;
+
+	/**
+	 * Indicates for each element in the list whether it passes the {@link #predicate}.
+	 */
+	private final FenwickTree passing;
+
+	//#end PROPERTIES
+
+	/**
+	 * Creates a new view on the elements of the specified element nestings whose nested values pass the specified
+	 * predicate.
+	 *
+	 * @param elements
+	 *            the {@link ElementNestings} whose elements are filtered
+	 * @param predicate
+	 *            the {@link Predicate} which the nested values of the elements in this view pass
+	 */
+	public FilteredElementList(ElementNestings<E, V> elements, Predicate<? super V> predicate) {
+		this.elements = elements;
+		this.predicate = predicate;
+		this.passing = new FenwickTree();
+		passing.insert(0, test(0, elements.size()));
+	}
+
+	// #region UPDATE
+
+	@Override
+	public void elementsAdded(int from, int to) {
+		int viewFrom = passing.countBefore(from);
+		boolean[] passes = test(from, to);
+		passing.insert(from, passes);
+		int viewTo = passing.countBefore(to);
+		if (viewFrom == viewTo)
+			return;
+
+		beginChange();
+		nextAdd(viewFrom, viewTo);
+		endChange();
+	}
+
+	@Override
+	public void elementsRemoved(int from, List<ElementNesting<E, V>> removed) {
+		int viewFrom = passing.countBefore(from);
+		List<E> removedFromView = new ArrayList<>();
+		for (int index = 0; index < removed.size(); index++)
+			if (passing.isSet(from + index))
+				removedFromView.add(removed.get(index).getElement());
+		passing.remove(from, removed.size());
+		if (removedFromView.isEmpty())
+			return;
+
+		beginChange();
+		nextRemove(viewFrom, removedFromView);
+		endChange();
+	}
+
+	@Override
+	public void elementsPermuted(int from, int to, int[] permutation) {
+		int viewFrom = passing.countBefore(from);
+		int viewTo = passing.countBefore(to);
+		if (viewFrom == viewTo) {
+			passing.permute(from, permutation);
+			return;
+		}
+
+		// record the old view index of each passing element at its new list index
+		int[] oldViewIndices = new int[to - from];
+		int oldViewIndex = viewFrom;
+		for (int index = from; index < to; index++)
+			if (passing.isSet(index))
+				oldViewIndices[permutation[index - from] - from] = oldViewIndex++;
+		passing.permute(from, permutation);
+
+		int[] viewPermutation = new int[viewTo - viewFrom];
+		int newViewIndex = viewFrom;
+		for (int index = from; index < to; index++)
+			if (passing.isSet(index))
+				viewPermutation[oldViewIndices[index - from] - viewFrom] = newViewIndex++;
+
+		beginChange();
+		nextPermutation(viewFrom, viewTo, viewPermutation);
+		endChange();
+	}
+
+	@Override
+	public void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue) {
+		int index = element.getIndex();
+		boolean passedBefore = passing.isSet(index);
+		boolean passesNow = predicate.test(newValue);
+		if (!passedBefore && !passesNow)
+			return;
+
+		int viewIndex = passing.countBefore(index);
+		beginChange();
+		if (passedBefore && passesNow)
+			nextUpdate(viewIndex);
+		else if (passedBefore) {
+			passing.set(index, false);
+			nextRemove(viewIndex, element.getElement());
+		} else {
+			passing.set(index, true);
+			nextAdd(viewIndex, viewIndex + 1);
+		}
+		endChange();
+	}
+
+	/**
+	 * Tests the nested values of the elements in the specified range.
+	 *
+	 * @param from
+	 *            the index of the first tested element
+	 * @param to
+	 *            the index after the last tested element
+	 * @return for each element in the range whether it passes the {@link #predicate}
+	 */
+	private boolean[] test(int from, int to) {
+		boolean[] passes = new boolean[to - from];
+		for (int index = from; index < to; index++)
+			passes[index - from] = predicate.test(elements.getNestedValue(index));
+		return passes;
+	}
+
+	//#end UPDATE
+
+	// #region LIST
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || size() <= index)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		return elements.getElementNesting(passing.indexOfSet(index)).getElement();
+	}
+
+	@Override
+	public int size() {
+		return passing.setCount();
+	}
+
+	//#end LIST
+
+}
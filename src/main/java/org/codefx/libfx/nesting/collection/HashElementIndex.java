@@ -0,0 +1,270 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An {@link ElementIndex} which keeps its buckets in a {@link HashMap}.
+ * <p>
+ * Each bucket holds its element nestings in the order of the list, so the position of an element in its bucket is
+ * found by binary search over the elements' indices. Elements which are added, removed or permuted together occupy
+ * consecutive positions in each bucket, so every bucket emits at most one change per change of the list.
+ * <p>
+ * Empty buckets are dropped unless they were returned by {@link #get(Object) get}, because someone might observe them.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+final class HashElementIndex<E, V> implements ElementIndex<E, V>, ElementNestingsListener<E, V> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The element nestings whose elements are indexed.
+	 */
+	private final ElementNestings<E, V> elements;
+
+	/**
+	 * The buckets by key.
+	 */
+	private final Map<V, Bucket<E, V>> buckets;
+
+	//#end PROPERTIES
+
+	/**
+	 * Creates a new index over the elements of the specified element nestings.
+	 *
+	 * @param elements
+	 *            the {@link ElementNestings} whose elements are indexed
+	 */
+	public HashElementIndex(ElementNestings<E, V> elements) {
+		this.elements = elements;
+		this.buckets = new HashMap<>();
+		for (ElementNesting<E, V> element : elements.getElementNestings())
+			bucketFor(element.getNestedValue()).elements.add(element);
+	}
+
+	// #region UPDATE
+
+	@Override
+	public void elementsAdded(int from, int to) {
+		Map<V, List<ElementNesting<E, V>>> addedByKey = groupByKey(elements.getElementNestings().subList(from, to));
+		addedByKey.forEach((key, added) -> bucketFor(key).insertElements(added));
+	}
+
+	@Override
+	public void elementsRemoved(int from, List<ElementNesting<E, V>> removed) {
+		Map<V, List<ElementNesting<E, V>>> removedByKey = groupByKey(removed);
+		removedByKey.forEach((key, removedFromBucket) -> {
+			Bucket<E, V> bucket = buckets.get(key);
+			bucket.removeElements(from, removedFromBucket.size());
+			dropIfUnused(key, bucket);
+		});
+	}
+
+	@Override
+	public void elementsPermuted(int from, int to, int[] permutation) {
+		Map<V, List<ElementNesting<E, V>>> permutedByKey = groupByKey(elements.getElementNestings().subList(from, to));
+		permutedByKey.keySet().forEach(key -> buckets.get(key).reorder(from, to));
+	}
+
+	@Override
+	public void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue) {
+		Bucket<E, V> oldBucket = buckets.get(oldValue);
+		oldBucket.removeElements(element.getIndex(), 1);
+		dropIfUnused(oldValue, oldBucket);
+
+		bucketFor(newValue).insertElements(Arrays.asList(element));
+	}
+
+	/**
+	 * Groups the specified element nestings by their nested values.
+	 *
+	 * @param elementNestings
+	 *            the element nestings to group
+	 * @return a map from nested values to the element nestings which have them, in the specified order
+	 */
+	private static <E, V> Map<V, List<ElementNesting<E, V>>> groupByKey(List<ElementNesting<E, V>> elementNestings) {
+		Map<V, List<ElementNesting<E, V>>> byKey = new LinkedHashMap<>();
+		for (ElementNesting<E, V> element : elementNestings)
+			byKey.computeIfAbsent(element.getNestedValue(), key -> new ArrayList<>()).add(element);
+		return byKey;
+	}
+
+	/**
+	 * Removes the specified bucket from the map if it is empty and was never returned by {@link #get(Object) get}.
+	 *
+	 * @param key
+	 *            the bucket's key
+	 * @param bucket
+	 *            the bucket
+	 */
+	private void dropIfUnused(V key, Bucket<E, V> bucket) {
+		if (bucket.isEmpty() && !bucket.exposed)
+			buckets.remove(key);
+	}
+
+	//#end UPDATE
+
+	// #region IMPLEMENTATION OF 'ElementIndex'
+
+	@Override
+	public ObservableList<E> get(V key) {
+		Bucket<E, V> bucket = bucketFor(key);
+		bucket.exposed = true;
+		return bucket;
+	}
+
+	/**
+	 * Returns the bucket for the specified key; creates it if necessary.
+	 *
+	 * @param key
+	 *            the nested value
+	 * @return the {@link Bucket}
+	 */
+	private Bucket<E, V> bucketFor(V key) {
+		return buckets.computeIfAbsent(key, k -> new Bucket<>());
+	}
+
+	//#end IMPLEMENTATION OF 'ElementIndex'
+
+	// #region INNER CLASSES
+
+	/**
+	 * The elements with the same nested value in the order of the list.
+	 *
+	 * @param <E>
+	 *            the type of the list's elements
+	 * @param <V>
+	 *            the type of the nested values
+	 */
+	private static final class Bucket<E, V> extends ObservableListBase<E> {
+
+		/**
+		 * The element nestings ordered by their indices.
+		 */
+		private final List<ElementNesting<E, V>> elements = new ArrayList<>(2);
+
+		/**
+		 * Indicates whether this bucket was returned by {@link HashElementIndex#get(Object) get}.
+		 */
+		private boolean exposed;
+
+		/**
+		 * Returns the position of the first element nesting whose index is not smaller than the specified one. The
+		 * element nestings before that position must have smaller indices and those after it must not.
+		 *
+		 * @param index
+		 *            an index in the list
+		 * @return a position in this bucket
+		 */
+		private int positionOf(int index) {
+			int low = 0;
+			int high = elements.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (elements.get(middle).getIndex() < index)
+					low = middle + 1;
+				else
+					high = middle;
+			}
+			return low;
+		}
+
+		/**
+		 * Inserts the specified element nestings, which must be consecutive in the list's order.
+		 *
+		 * @param added
+		 *            the added element nestings ordered by their current indices
+		 */
+		private void insertElements(List<ElementNesting<E, V>> added) {
+			int position = positionOf(added.get(0).getIndex());
+			elements.addAll(position, added);
+
+			beginChange();
+			nextAdd(position, position + added.size());
+			endChange();
+		}
+
+		/**
+		 * Removes element nestings which were removed from the list at the specified index or whose nested value
+		 * changed. Those still carry their old indices while all others carry their current indices.
+		 *
+		 * @param from
+		 *            the index in the list at which the element nestings were removed
+		 * @param count
+		 *            the number of element nestings to remove from this bucket
+		 */
+		private void removeElements(int from, int count) {
+			int position = positionOf(from);
+			List<ElementNesting<E, V>> removedRange = elements.subList(position, position + count);
+			List<E> removed = new ArrayList<>(count);
+			removedRange.forEach(element -> removed.add(element.getElement()));
+			removedRange.clear();
+
+			beginChange();
+			nextRemove(position, removed);
+			endChange();
+		}
+
+		/**
+		 * Restores the order of the element nestings whose indices lie in the specified range after the list was
+		 * permuted.
+		 *
+		 * @param from
+		 *            the index of the first permuted element in the list
+		 * @param to
+		 *            the index after the last permuted element in the list
+		 */
+		private void reorder(int from, int to) {
+			int first = positionOf(from);
+			int last = positionOf(to);
+			List<ElementNesting<E, V>> range = elements.subList(first, last);
+			List<ElementNesting<E, V>> oldOrder = new ArrayList<>(range);
+
+			// sort the old positions by the elements' new indices; the n-th of them moves to the n-th position
+			Integer[] oldPositions = new Integer[range.size()];
+			for (int offset = 0; offset < oldPositions.length; offset++)
+				oldPositions[offset] = offset;
+			Arrays.sort(oldPositions, Comparator.comparingInt(offset -> oldOrder.get(offset).getIndex()));
+
+			int[] permutation = new int[oldPositions.length];
+			boolean moved = false;
+			for (int offset = 0; offset < oldPositions.length; offset++) {
+				range.set(offset, oldOrder.get(oldPositions[offset]));
+				permutation[oldPositions[offset]] = first + offset;
+				moved |= oldPositions[offset] != offset;
+			}
+			if (!moved)
+				return;
+
+			beginChange();
+			nextPermutation(first, last, permutation);
+			endChange();
+		}
+
+		@Override
+		public E get(int index) {
+			return elements.get(index).getElement();
+		}
+
+		@Override
+		public int size() {
+			return elements.size();
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
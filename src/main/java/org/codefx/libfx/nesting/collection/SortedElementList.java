@@ -0,0 +1,347 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view on the elements of some {@link ElementNestings} which is sorted by their nested values.
+ * <p>
+ * The view holds one entry per element, which caches the element's sort key (i.e. its nested value). The entries are
+ * kept in an array sorted by key. Elements with equal keys are ordered by a sequence number which is assigned when an
+ * element enters the view or its key changes, so every entry has a unique position which is found by binary search.
+ * <p>
+ * When the key of a single element changes, its entry is removed and reinserted and the view emits a single
+ * permutation of the range between the old and the new position. Permutations of the list do not affect the view.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+final class SortedElementList<E, V> extends ObservableListBase<E> implements ElementNestingsListener<E, V> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The element nestings whose elements are sorted.
+	 */
+	private final ElementNestings<E, V> elements;
+
+	/**
+	 * Compares the keys; missing keys (i.e. null) are sorted last.
+	 */
+	private final Comparator<? super V> keyComparator;
+
+	/**
+	 * Compares the entries by key and sequence number.
+	 */
+	private final Comparator<Entry<E, V>> entryComparator;
+
+	/**
+	 * The entries in the order of the elements in the list.
+	 */
+	private final List<Entry<E, V>> entriesInListOrder;
+
+	/**
+	 * The entries in the order of this view.
+	 */
+	private final List<Entry<E, V>> sortedEntries;
+
+	/**
+	 * The sequence number which is assigned next.
+	 */
+	private long nextSequenceNumber;
+
+	//#end PROPERTIES
+
+	/**
+	 * Creates a new view on the elements of the specified element nestings which is sorted by their nested values.
+	 *
+	 * @param elements
+	 *            the {@link ElementNestings} whose elements are sorted
+	 * @param comparator
+	 *            the {@link Comparator} which compares the non-null nested values
+	 */
+	public SortedElementList(ElementNestings<E, V> elements, Comparator<? super V> comparator) {
+		this.elements = elements;
+		this.keyComparator = Comparator.nullsLast(comparator);
+		this.entryComparator = this::compare;
+		this.entriesInListOrder = new ArrayList<>(elements.size());
+		for (ElementNesting<E, V> element : elements.getElementNestings())
+			entriesInListOrder.add(new Entry<>(element, nextSequenceNumber++));
+		this.sortedEntries = new ArrayList<>(entriesInListOrder);
+		sortedEntries.sort(entryComparator);
+	}
+
+	// #region UPDATE
+
+	@Override
+	public void elementsRemoved(int from, List<ElementNesting<E, V>> removed) {
+		List<Entry<E, V>> removedRange = entriesInListOrder.subList(from, from + removed.size());
+		List<Entry<E, V>> removedEntries = new ArrayList<>(removedRange);
+		removedRange.clear();
+
+		beginChange();
+		if (removedEntries.size() == 1) {
+			int position = positionOf(removedEntries.get(0));
+			sortedEntries.remove(position);
+			nextRemove(position, removedEntries.get(0).getElement());
+		} else
+			removeAll(removedEntries);
+		endChange();
+	}
+
+	/**
+	 * Removes the specified entries from the sorted entries in one pass and emits their removal.
+	 *
+	 * @param removedEntries
+	 *            the removed entries
+	 */
+	private void removeAll(List<Entry<E, V>> removedEntries) {
+		for (Entry<E, V> entry : removedEntries)
+			entry.removed = true;
+
+		// compact the sorted entries; each removal's index is relative to the list after the previous removals
+		int kept = 0;
+		for (int position = 0; position < sortedEntries.size(); position++) {
+			Entry<E, V> entry = sortedEntries.get(position);
+			if (entry.removed)
+				nextRemove(kept, entry.getElement());
+			else
+				sortedEntries.set(kept++, entry);
+		}
+		sortedEntries.subList(kept, sortedEntries.size()).clear();
+	}
+
+	@Override
+	public void elementsPermuted(int from, int to, int[] permutation) {
+		// the view's order does not depend on the list's order
+		List<Entry<E, V>> permuted = new ArrayList<>(entriesInListOrder.subList(from, to));
+		for (int index = 0; index < permutation.length; index++)
+			entriesInListOrder.set(permutation[index], permuted.get(index));
+	}
+
+	@Override
+	public void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue) {
+		Entry<E, V> entry = entriesInListOrder.get(element.getIndex());
+		int oldPosition = positionOf(entry);
+		if (keyComparator.compare(oldValue, newValue) == 0) {
+			// the order does not change; updating the key keeps the entry's position
+			entry.key = newValue;
+			beginChange();
+			nextUpdate(oldPosition);
+			endChange();
+			return;
+		}
+
+		sortedEntries.remove(oldPosition);
+		entry.key = newValue;
+		entry.sequenceNumber = nextSequenceNumber++;
+		int newPosition = insertionPositionOf(entry);
+		sortedEntries.add(newPosition, entry);
+
+		beginChange();
+		if (oldPosition == newPosition)
+			nextUpdate(newPosition);
+		else
+			nextMove(oldPosition, newPosition);
+		endChange();
+	}
+
+	/**
+	 * Emits the permutation which results from moving an entry from the old to the new position.
+	 *
+	 * @param oldPosition
+	 *            the entry's old position
+	 * @param newPosition
+	 *            the entry's new position
+	 */
+	private void nextMove(int oldPosition, int newPosition) {
+		int from = Math.min(oldPosition, newPosition);
+		int to = Math.max(oldPosition, newPosition) + 1;
+		int[] permutation = new int[to - from];
+		// the entries between the two positions move by one towards the old position
+		int shift = oldPosition < newPosition ? -1 : 1;
+		for (int position = from; position < to; position++)
+			permutation[position - from] = position + shift;
+		permutation[oldPosition - from] = newPosition;
+		nextPermutation(from, to, permutation);
+	}
+
+	//#end UPDATE
+
+	// #region ADDING
+
+	@Override
+	public void elementsAdded(int from, int to) {
+		List<Entry<E, V>> addedEntries = new ArrayList<>(to - from);
+		for (int index = from; index < to; index++)
+			addedEntries.add(new Entry<>(elements.getElementNesting(index), nextSequenceNumber++));
+		entriesInListOrder.addAll(from, addedEntries);
+
+		beginChange();
+		if (addedEntries.size() == 1) {
+			int position = insertionPositionOf(addedEntries.get(0));
+			sortedEntries.add(position, addedEntries.get(0));
+			nextAdd(position, position + 1);
+		} else
+			addAll(addedEntries);
+		endChange();
+	}
+
+	/**
+	 * Merges the specified entries into the sorted entries in one pass and emits their addition.
+	 *
+	 * @param addedEntries
+	 *            the added entries
+	 */
+	private void addAll(List<Entry<E, V>> addedEntries) {
+		addedEntries.sort(entryComparator);
+		List<Entry<E, V>> merged = new ArrayList<>(sortedEntries.size() + addedEntries.size());
+		int existing = 0;
+		int runStart = -1;
+		for (Entry<E, V> addedEntry : addedEntries) {
+			while (existing < sortedEntries.size() && compare(sortedEntries.get(existing), addedEntry) < 0) {
+				runStart = emitRun(runStart, merged.size());
+				merged.add(sortedEntries.get(existing++));
+			}
+			if (runStart < 0)
+				runStart = merged.size();
+			merged.add(addedEntry);
+		}
+		emitRun(runStart, merged.size());
+		merged.addAll(sortedEntries.subList(existing, sortedEntries.size()));
+
+		sortedEntries.clear();
+		sortedEntries.addAll(merged);
+	}
+
+	/**
+	 * Emits the addition of a run of consecutive entries if there is one.
+	 *
+	 * @param runStart
+	 *            the position of the run's first entry; negative if there is no run
+	 * @param runEnd
+	 *            the position after the run's last entry
+	 * @return -1, which indicates that there is no run
+	 */
+	private int emitRun(int runStart, int runEnd) {
+		if (runStart >= 0)
+			nextAdd(runStart, runEnd);
+		return -1;
+	}
+
+	//#end ADDING
+
+	// #region SEARCH
+
+	/**
+	 * Compares the specified entries by key and sequence number.
+	 *
+	 * @param left
+	 *            an entry
+	 * @param right
+	 *            another entry
+	 * @return the result of the comparison as specified by {@link Comparator#compare(Object, Object)}
+	 */
+	private int compare(Entry<E, V> left, Entry<E, V> right) {
+		int byKey = keyComparator.compare(left.key, right.key);
+		return byKey != 0 ? byKey : Long.compare(left.sequenceNumber, right.sequenceNumber);
+	}
+
+	/**
+	 * @param entry
+	 *            an entry in {@link #sortedEntries}
+	 * @return the entry's position
+	 */
+	private int positionOf(Entry<E, V> entry) {
+		return Collections.binarySearch(sortedEntries, entry, entryComparator);
+	}
+
+	/**
+	 * @param entry
+	 *            an entry which is not in {@link #sortedEntries}
+	 * @return the position at which the entry has to be inserted
+	 */
+	private int insertionPositionOf(Entry<E, V> entry) {
+		return -Collections.binarySearch(sortedEntries, entry, entryComparator) - 1;
+	}
+
+	//#end SEARCH
+
+	// #region LIST
+
+	@Override
+	public E get(int index) {
+		return sortedEntries.get(index).getElement();
+	}
+
+	@Override
+	public int size() {
+		return sortedEntries.size();
+	}
+
+	//#end LIST
+
+	// #region INNER CLASSES
+
+	/**
+	 * An element with its cached sort key and its sequence number.
+	 *
+	 * @param <E>
+	 *            the type of the list's elements
+	 * @param <V>
+	 *            the type of the nested values
+	 */
+	private static final class Entry<E, V> {
+
+		/**
+		 * The element nesting.
+		 */
+		private final ElementNesting<E, V> element;
+
+		/**
+		 * The cached sort key.
+		 */
+		private V key;
+
+		/**
+		 * Orders entries with equal keys.
+		 */
+		private long sequenceNumber;
+
+		/**
+		 * Marks the entry while a range of entries is removed.
+		 */
+		private boolean removed;
+
+		/**
+		 * Creates a new entry.
+		 *
+		 * @param element
+		 *            the element nesting
+		 * @param sequenceNumber
+		 *            the sequence number
+		 */
+		public Entry(ElementNesting<E, V> element, long sequenceNumber) {
+			this.element = element;
+			this.key = element.getNestedValue();
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		/**
+		 * @return the element
+		 */
+		public E getElement() {
+			return element.getElement();
+		}
+
+	}
+
+	//#end INNER CLASSES
+
+}
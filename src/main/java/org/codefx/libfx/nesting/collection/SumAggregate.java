@@ -0,0 +1,126 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import javafx.beans.property.ReadOnlyDoublePropertyBase;
+
+/**
+ * A property holding the sum of the nested values of some {@link ElementNestings}. It is updated in constant time per
+ * changed element.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ * @param <V>
+ *            the type of the nested values
+ */
+final class SumAggregate<E, V> extends ReadOnlyDoublePropertyBase implements ElementNestingsListener<E, V> {
+
+	/**
+	 * The element nestings whose nested values are summed up.
+	 */
+	private final ElementNestings<E, V> elements;
+
+	/**
+	 * Converts each non-null value to a {@code double}.
+	 */
+	private final ToDoubleFunction<? super V> toDouble;
+
+	/**
+	 * The current sum.
+	 */
+	private double sum;
+
+	/**
+	 * Creates a new sum of the current nested values of the specified element nestings.
+	 *
+	 * @param elements
+	 *            the {@link ElementNestings} whose nested values are summed up
+	 * @param toDouble
+	 *            the function which converts each non-null value to a {@code double}
+	 */
+	public SumAggregate(ElementNestings<E, V> elements, ToDoubleFunction<? super V> toDouble) {
+		this.elements = elements;
+		this.toDouble = toDouble;
+		for (ElementNesting<E, V> element : elements.getElementNestings())
+			sum += valueOf(element.getNestedValue());
+	}
+
+	// #region UPDATE
+
+	@Override
+	public void elementsAdded(int from, int to) {
+		double added = 0;
+		for (int index = from; index < to; index++)
+			added += valueOf(elements.getNestedValue(index));
+		setSum(sum + added);
+	}
+
+	@Override
+	public void elementsRemoved(int from, List<ElementNesting<E, V>> removed) {
+		double removedSum = 0;
+		for (ElementNesting<E, V> element : removed)
+			removedSum += valueOf(element.getNestedValue());
+		setSum(sum - removedSum);
+	}
+
+	@Override
+	public void elementsPermuted(int from, int to, int[] permutation) {
+		// the order of the summands does not matter
+	}
+
+	@Override
+	public void valueChanged(ElementNesting<E, V> element, V oldValue, V newValue) {
+		setSum(sum - valueOf(oldValue) + valueOf(newValue));
+	}
+
+	/**
+	 * Converts the specified value to a {@code double}.
+	 *
+	 * @param value
+	 *            the nested value; can be null
+	 * @return the value as a {@code double}; 0 if it is null
+	 */
+	private double valueOf(V value) {
+		return value == null ? 0 : toDouble.applyAsDouble(value);
+	}
+
+	/**
+	 * Sets the specified sum and fires an event if it changed. If there are no more elements, the sum is reset to
+	 * zero, which removes accumulated rounding errors.
+	 *
+	 * @param newSum
+	 *            the new sum
+	 */
+	private void setSum(double newSum) {
+		if (elements.size() == 0)
+			newSum = 0;
+		if (sum == newSum)
+			return;
+
+		sum = newSum;
+		fireValueChangedEvent();
+	}
+
+	//#end UPDATE
+
+	// #region PROPERTY
+
+	@Override
+	public double get() {
+		return sum;
+	}
+
+	@Override
+	public Object getBean() {
+		return elements;
+	}
+
+	@Override
+	public String getName() {
+		return "sum";
+	}
+
+	//#end PROPERTY
+
+}
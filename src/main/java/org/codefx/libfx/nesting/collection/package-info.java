@@ -0,0 +1,8 @@
+/**
+ * Contains {@link org.codefx.libfx.nesting.collection.ElementNestings ElementNestings}, which keeps one nesting per
+ * element of an {@link javafx.collections.ObservableList ObservableList} and incrementally aggregates their inner
+ * observables' values or filters, sorts and indexes the elements by them.
+ * <p>
+ * See {@link org.codefx.libfx.nesting nesting} for a more comprehensive overview.
+ */
+package org.codefx.libfx.nesting.collection;
@@ -1,15 +1,16 @@
 package org.codefx.libfx.nesting.listener;
 
 import java.util.Objects;
+import java.util.Optional;
 
-import javafx.beans.property.BooleanProperty;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyBooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import org.codefx.libfx.nesting.Nesting;
-import org.codefx.libfx.nesting.NestingObserver;
 import org.codefx.libfx.nesting.property.NestedProperty;
 
 /**
@@ -24,6 +25,10 @@ import org.codefx.libfx.nesting.property.NestedProperty;
  * <p>
  * Note that if the observable is replaced, <b>the listener is not called</b>! If this is the desired behavior, a
  * listener has to be added to a {@link NestedProperty}.
+ * <p>
+ * The handle only observes the nesting while the listener is attached or the
+ * {@link #innerObservablePresentProperty() innerObservablePresent} property exists. A detached handle hence lets a
+ * nesting which uses lazy listeners release its hierarchy.
  *
  * @param <T>
  *            the type of the value wrapped by the {@link ObservableValue}
@@ -38,9 +43,10 @@ public class NestedChangeListenerHandle<T> implements NestedListenerHandle {
 	private final Nesting<? extends ObservableValue<T>> nesting;
 
 	/**
-	 * The property indicating whether the nesting's inner observable is currently present, i.e. not null.
+	 * The nesting's {@link Nesting#innerObservableProperty() innerObservable} property. It is stored so that the
+	 * listener on it can be removed even if the nesting was disposed before this instance.
 	 */
-	private final BooleanProperty innerObservablePresent;
+	private final ReadOnlyProperty<? extends Optional<? extends ObservableValue<T>>> innerObservableProperty;
 
 	/**
 	 * The {@link ChangeListener} which is added to the {@link #nesting}'s inner observable.
@@ -52,6 +58,29 @@ public class NestedChangeListenerHandle<T> implements NestedListenerHandle {
 	 */
 	private boolean attached;
 
+	/**
+	 * The listener which is added to the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable}
+	 * property and moves the {@link #listener} when the inner observable changes.
+	 */
+	private final InvalidationListener nestingListener;
+
+	/**
+	 * The nesting's current inner observable; null if it is missing. Only up to date while the handle
+	 * {@link #isObservingNesting() observes the nesting}.
+	 */
+	private ObservableValue<T> innerObservable;
+
+	/**
+	 * The property indicating whether the nesting's inner observable is currently present; created on the first call
+	 * to {@link #innerObservablePresentProperty()}.
+	 */
+	private ReadOnlyBooleanWrapper innerObservablePresent;
+
+	/**
+	 * Indicates whether this handle was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
+
 	//#end PROPERTIES
 
 	// #region CONSTUCTION
@@ -73,71 +102,159 @@ public class NestedChangeListenerHandle<T> implements NestedListenerHandle {
 		Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
 
 		this.nesting = nesting;
-		this.innerObservablePresent = new SimpleBooleanProperty(this, "innerObservablePresent");
+		this.innerObservableProperty = nesting.innerObservableProperty();
 		this.listener = listener;
-
-		NestingObserver
-				.forNesting(nesting)
-				.withOldInnerObservable(this::remove)
-				.withNewInnerObservable(this::addIfAttached)
-				.whenInnerObservableChanges(
-						(any, newInnerObservablePresent) -> innerObservablePresent.set(newInnerObservablePresent))
-				.observe();
+		this.nestingListener = observable -> updateInnerObservable();
 	}
 
 	//#end CONSTUCTION
 
-	// #region ADD & REMOVE
+	// #region INNER OBSERVABLE
+
+	/**
+	 * Moves the {@link #listener} (if it is attached) to the nesting's current inner observable.
+	 */
+	private void updateInnerObservable() {
+		ObservableValue<T> newInnerObservable = innerObservableProperty.getValue().orElse(null);
+		if (newInnerObservable == innerObservable)
+			return;
+
+		if (attached && innerObservable != null)
+			innerObservable.removeListener(listener);
+		innerObservable = newInnerObservable;
+		if (attached && newInnerObservable != null)
+			newInnerObservable.addListener(listener);
+		if (innerObservablePresent != null)
+			innerObservablePresent.set(newInnerObservable != null);
+	}
 
 	/**
-	 * Adds the {@link #listener} to the specified observable, when indicated by {@link #attached}.
+	 * Indicates whether this handle observes the nesting, which is the case while the listener is attached or the
+	 * {@link #innerObservablePresentProperty() innerObservablePresent} property exists.
 	 *
-	 * @param observable
-	 *            the {@link ObservableValue} to which the listener will be added
+	 * @return true if the {@link #nestingListener} is added to the nesting's innerObservable property
 	 */
-	private void addIfAttached(ObservableValue<T> observable) {
-		if (attached)
-			observable.addListener(listener);
+	private boolean isObservingNesting() {
+		return attached || innerObservablePresent != null;
 	}
 
 	/**
-	 * Removes the {@link #listener} from the specified observable.
-	 * 
-	 * @param observable
-	 *            the {@link ObservableValue} from which the listener will be removed.
+	 * Starts observing the nesting (unless it already is) and updates the {@link #innerObservable}. Must be called
+	 * before the state checked by {@link #isObservingNesting()} changes.
 	 */
-	private void remove(ObservableValue<T> observable) {
-		observable.removeListener(listener);
+	private void startObservingNesting() {
+		if (isObservingNesting())
+			return;
+
+		innerObservableProperty.addListener(nestingListener);
+		updateInnerObservable();
+	}
+
+	/**
+	 * Stops observing the nesting if neither the listener is attached nor the
+	 * {@link #innerObservablePresentProperty() innerObservablePresent} property exists. Must be called after the state
+	 * checked by {@link #isObservingNesting()} changed.
+	 */
+	private void stopObservingNestingIfUnused() {
+		if (isObservingNesting())
+			return;
+
+		innerObservableProperty.removeListener(nestingListener);
+		innerObservable = null;
 	}
 
-	// #end ADD & REMOVE
+	// #end INNER OBSERVABLE
 
 	// #region IMPLEMENTATION OF 'NestedListenerHandle'
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalStateException
+	 *             if this handle was {@link #dispose() disposed}
+	 */
 	@Override
 	public void attach() {
+		checkNotDisposed();
 		if (!attached) {
+			startObservingNesting();
 			attached = true;
-			nesting.innerObservableProperty().getValue().ifPresent(this::addIfAttached);
+			if (innerObservable != null)
+				innerObservable.addListener(listener);
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A {@link #dispose() disposed} handle is always detached so calling this method has no effect.
+	 */
 	@Override
 	public void detach() {
 		if (attached) {
 			attached = false;
-			nesting.innerObservableProperty().getValue().ifPresent(this::remove);
+			if (innerObservable != null)
+				innerObservable.removeListener(listener);
+			stopObservingNestingIfUnused();
 		}
 	}
 
 	@Override
 	public ReadOnlyBooleanProperty innerObservablePresentProperty() {
-		return innerObservablePresent;
+		checkNotDisposed();
+		if (innerObservablePresent == null) {
+			startObservingNesting();
+			innerObservablePresent =
+					new ReadOnlyBooleanWrapper(this, "innerObservablePresent", innerObservable != null);
+		}
+		return innerObservablePresent.getReadOnlyProperty();
 	}
 
 	@Override
 	public boolean isInnerObservablePresent() {
-		return innerObservablePresent.get();
+		checkNotDisposed();
+		if (isObservingNesting())
+			return innerObservable != null;
+		else
+			return innerObservableProperty.getValue().isPresent();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the handle is attached, the listener is moved to the new inner observable.
+	 */
+	@Override
+	public void reroot(ObservableValue<?> outerObservable) {
+		checkNotDisposed();
+		nesting.reroot(outerObservable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The listener is detached before the handle is disposed.
+	 */
+	@Override
+	public void dispose() {
+		if (disposed)
+			return;
+
+		detach();
+		innerObservableProperty.removeListener(nestingListener);
+		nesting.dispose();
+		disposed = true;
+	}
+
+	/**
+	 * Throws an exception if this handle was {@link #dispose() disposed}.
+	 *
+	 * @throws IllegalStateException
+	 *             if this handle was disposed
+	 */
+	private void checkNotDisposed() {
+		if (disposed)
+			throw new IllegalStateException("This nested listener handle was disposed.");
 	}
 
 	//#end IMPLEMENTATION OF 'NestedListenerHandle'
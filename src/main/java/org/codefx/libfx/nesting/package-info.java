@@ -11,19 +11,40 @@
  * {@code Property} in a nesting hierarchy, updating the binding as the inner observable changes its value or is
  * replaced. It can thus be used to collapse a nesting hierarchy into a single property.
  * <p>
+ * If the inner property holds an {@code ObservableList}, {@code ObservableSet} or {@code ObservableMap}, a nested
+ * list, set or map property can be used instead. It holds the very collection of the inner property and forwards its
+ * changes, so controls can be bound to it and keep working when the inner property is replaced.
+ * <p>
  * See the comment on {@link org.codefx.libfx.nesting.property.NestedProperty NestedProperty} for details.
  * <h2>Nested Listeners</h2> A {@code Nesting} can also be used to add listeners to its inner observable. These
  * listeners are moved from one observable to the next as they are replaced.
  * <p>
  * See the comments on {@link org.codefx.libfx.nesting.listener.NestedChangeListenerHandle NestedChangeListener} and
  * {@link org.codefx.libfx.nesting.listener.NestedInvalidationListenerHandle NestedInvalidationListener} for details.
+ * <h2>Nested Bindings</h2> If only a value derived from the inner observable's value is needed, a {@code Nesting} can
+ * be used to create a lazily evaluated, read-only binding. It is invalidated when the hierarchy changes and only
+ * recomputes its value when it is requested.
+ * <p>
+ * See the comment on {@link org.codefx.libfx.nesting.binding.NestedBinding NestedBinding} for details.
+ * <h2>Nestings on Elements</h2> To follow the same nested path on every element of an {@code ObservableList}, a
+ * {@code NestingTemplate} can be applied to the list's elements. The nestings are updated incrementally when the list
+ * changes and the values of their inner observables can be aggregated or used to filter, sort and index the elements.
+ * <p>
+ * See the comment on {@link org.codefx.libfx.nesting.collection.ElementNestings ElementNestings} for details.
  * <h2>Builders</h2> Instances of the classes described above can be build by starting with the methods in
  * {@link org.codefx.libfx.nesting.Nestings Nestings}.
+ * <h2>Asynchronous Steps</h2> Nesting steps which can not be performed right away (e.g. because an observable has to
+ * be loaded first) can be expressed as an {@link org.codefx.libfx.nesting.AsyncNestingStep AsyncNestingStep} and
+ * mixed with synchronous ones. While such a step is loading, the inner observable is missing.
+ * <h2>Generated Nestings</h2> For fixed paths which are updated very often, specialized nestings can be generated by
+ * annotating the model class with {@link org.codefx.libfx.nesting.NestedPath NestedPath}.
  *
  * @see org.codefx.libfx.nesting.Nesting Nesting
  * @see org.codefx.libfx.nesting.property.NestedProperty NestedProperty
  * @see org.codefx.libfx.nesting.listener.NestedChangeListenerHandle NestedChangeListener
  * @see org.codefx.libfx.nesting.listener.NestedInvalidationListenerHandle NestedInvalidationListener
+ * @see org.codefx.libfx.nesting.binding.NestedBinding NestedBinding
+ * @see org.codefx.libfx.nesting.collection.ElementNestings ElementNestings
  */
 package org.codefx.libfx.nesting;
 
@@ -0,0 +1,311 @@
+package org.codefx.libfx.nesting.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes the source of a nesting which follows a fixed, already resolved path.
+ * <p>
+ * The generated class extends {@link org.codefx.libfx.nesting.AbstractFixedPathNesting AbstractFixedPathNesting}. For
+ * each level of the hierarchy it has a final listener as well as fields for the level's observable and value, which
+ * are typed as declared by the model. The update falls through the levels in a single {@code switch} statement and
+ * calls the path's methods directly.
+ */
+class FixedPathNestingWriter {
+
+	/**
+	 * The fully qualified name of the superclass of the generated nestings.
+	 */
+	private static final String SUPERCLASS = "org.codefx.libfx.nesting.AbstractFixedPathNesting";
+
+	/**
+	 * The fully qualified name of {@link javafx.beans.value.ObservableValue ObservableValue}.
+	 */
+	private static final String OBSERVABLE_VALUE = "javafx.beans.value.ObservableValue";
+
+	// #region PROPERTIES
+
+	/**
+	 * The package of the generated class; empty for the default package.
+	 */
+	private final String packageName;
+
+	/**
+	 * The simple name of the generated class.
+	 */
+	private final String className;
+
+	/**
+	 * The qualified name of the model class on which the path starts.
+	 */
+	private final String modelName;
+
+	/**
+	 * The path as specified in the annotation.
+	 */
+	private final String path;
+
+	/**
+	 * The names of the methods which lead from one level's value to the next level's observable.
+	 */
+	private final List<String> methodNames;
+
+	/**
+	 * The types of the observables on each level.
+	 */
+	private final List<String> observableTypes;
+
+	/**
+	 * The types of the values on each level.
+	 */
+	private final List<String> valueTypes;
+
+	/**
+	 * The type of the inner observable.
+	 */
+	private final String innerType;
+
+	//#end PROPERTIES
+
+	/**
+	 * Creates a new writer.
+	 *
+	 * @param packageName
+	 *            the package of the generated class; empty for the default package
+	 * @param className
+	 *            the simple name of the generated class
+	 * @param modelName
+	 *            the qualified name of the model class on which the path starts
+	 * @param path
+	 *            the path as specified in the annotation
+	 * @param methodNames
+	 *            the names of the methods which lead from one level's value to the next level's observable
+	 * @param observableTypes
+	 *            the types of the observables on each level (one per method)
+	 * @param valueTypes
+	 *            the types of the values on each level (one per method)
+	 * @param innerType
+	 *            the type of the inner observable
+	 */
+	public FixedPathNestingWriter(String packageName, String className, String modelName, String path,
+			List<String> methodNames, List<String> observableTypes, List<String> valueTypes, String innerType) {
+
+		this.packageName = packageName;
+		this.className = className;
+		this.modelName = modelName;
+		this.path = path;
+		this.methodNames = methodNames;
+		this.observableTypes = observableTypes;
+		this.valueTypes = valueTypes;
+		this.innerType = innerType;
+	}
+
+	// #region WRITE
+
+	/**
+	 * Writes the source of the generated class to the specified writer.
+	 *
+	 * @param writer
+	 *            the {@link Writer} to which the source is written
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public void write(Writer writer) throws IOException {
+		StringBuilder source = new StringBuilder();
+		writeHeader(source);
+		writeFields(source);
+		writeConstructor(source);
+		writeUpdate(source);
+		writeReroot(source);
+		writeRelease(source);
+		writeObservableSetters(source);
+		source.append("}\n");
+		writer.write(source.toString());
+	}
+
+	/**
+	 * Writes the package declaration, the class comment and the class declaration.
+	 *
+	 * @param source
+	 *            the source to append to
+	 */
+	private void writeHeader(StringBuilder source) {
+		if (!packageName.isEmpty())
+			source.append("package ").append(packageName).append(";\n\n");
+		source
+				.append("/**\n")
+				.append(" * A {@link org.codefx.libfx.nesting.Nesting Nesting} which follows the fixed path {@code ")
+				.append(path).append("} starting at {@link ").append(modelName).append("}.\n")
+				.append(" * <p>\n")
+				.append(" * This class was generated by the {@link org.codefx.libfx.nesting.processor.NestedPathProcessor")
+				.append(" NestedPathProcessor}.\n")
+				.append(" */\n")
+				.append("public final class ").append(className)
+				.append(" extends ").append(SUPERCLASS).append("<").append(innerType).append("> {\n\n");
+	}
+
+	/**
+	 * Writes the listener, observable and value fields for each level.
+	 *
+	 * @param source
+	 *            the source to append to
+	 */
+	private void writeFields(StringBuilder source) {
+		for (int level = 0; level < levels(); level++)
+			source
+					.append("\t/**\n\t * The listener on the observable on level ").append(level).append(".\n\t */\n")
+					.append("\tprivate final javafx.beans.value.ChangeListener<Object> listener").append(level)
+					.append(" = (observable, oldValue, newValue) -> updateFromLevel(").append(level).append(");\n\n");
+		for (int level = 0; level < levels(); level++)
+			source
+					.append("\t/**\n\t * The observable on level ").append(level).append(".\n\t */\n")
+					.append("\tprivate ").append(observableTypes.get(level)).append(" observable").append(level)
+					.append(";\n\n")
+					.append("\t/**\n\t * The value of the observable on level ").append(level).append(".\n\t */\n")
+					.append("\tprivate ").append(valueTypes.get(level)).append(" value").append(level).append(";\n\n");
+	}
+
+	/**
+	 * Writes the constructor, which observes the outer observable and updates the hierarchy.
+	 *
+	 * @param source
+	 *            the source to append to
+	 */
+	private void writeConstructor(StringBuilder source) {
+		source
+				.append("\t/**\n")
+				.append("\t * Creates a new nesting which depends on the specified outer observable.\n")
+				.append("\t *\n")
+				.append("\t * @param outerObservable\n")
+				.append("\t *            the {@link ").append(OBSERVABLE_VALUE)
+				.append(" ObservableValue} on which this nesting depends\n")
+				.append("\t */\n")
+				.append("\tpublic ").append(className).append("(").append(observableTypes.get(0))
+				.append(" outerObservable) {\n")
+				.append("\t\tjava.util.Objects.requireNonNull(outerObservable, ")
+				.append("\"The argument 'outerObservable' must not be null.\");\n")
+				.append("\t\tobservable0 = outerObservable;\n")
+				.append("\t\tobservable0.addListener(listener0);\n")
+				.append("\t\tupdateFromLevel(0);\n")
+				.append("\t}\n\n");
+	}
+
+	/**
+	 * Writes the update, which falls through the levels and stops at the first one whose value did not change.
+	 *
+	 * @param source
+	 *            the source to append to
+	 */
+	private void writeUpdate(StringBuilder source) {
+		source
+				.append("\t@Override\n")
+				.append("\t@SuppressWarnings(\"fallthrough\")\n")
+				.append("\tprotected void updateFromLevel(int level) {\n")
+				.append("\t\tswitch (level) {\n");
+		for (int level = 0; level < levels(); level++) {
+			boolean innerLevel = level == levels() - 1;
+			String getValue = level == 0
+					? "observable0.getValue()"
+					: "observable" + level + " == null ? null : observable" + level + ".getValue()";
+			String nextObservable = "value == null ? null : value." + methodNames.get(level) + "()";
+			if (level > 0)
+				source.append("\t\t\t//$FALL-THROUGH$\n");
+			source
+					.append("\t\t\tcase ").append(level).append(": {\n")
+					.append("\t\t\t\t").append(valueTypes.get(level)).append(" value = ").append(getValue)
+					.append(";\n")
+					.append("\t\t\t\tif (value == value").append(level).append(")\n")
+					.append("\t\t\t\t\treturn;\n")
+					.append("\t\t\t\tvalue").append(level).append(" = value;\n");
+			if (innerLevel)
+				source.append("\t\t\t\tsetInnerObservable(").append(nextObservable).append(");\n");
+			else
+				source.append("\t\t\t\tsetObservable").append(level + 1).append("(").append(nextObservable)
+						.append(");\n");
+			source.append("\t\t\t}\n");
+		}
+		source
+				.append("\t\t}\n")
+				.append("\t}\n\n");
+	}
+
+	/**
+	 * Writes the method which moves the outer listener to a new outer observable.
+	 *
+	 * @param source
+	 *            the source to append to
+	 */
+	private void writeReroot(StringBuilder source) {
+		source
+				.append("\t@Override\n")
+				.append("\t@SuppressWarnings(\"unchecked\")\n")
+				.append("\tprotected void replaceOuterObservable(").append(OBSERVABLE_VALUE)
+				.append("<?> outerObservable) {\n")
+				.append("\t\tif (observable0 == outerObservable)\n")
+				.append("\t\t\treturn;\n\n")
+				.append("\t\tobservable0.removeListener(listener0);\n")
+				.append("\t\tobservable0 = (").append(observableTypes.get(0)).append(") outerObservable;\n")
+				.append("\t\tobservable0.addListener(listener0);\n")
+				.append("\t\tupdateFromLevel(0);\n")
+				.append("\t}\n\n");
+	}
+
+	/**
+	 * Writes the method which removes all listeners.
+	 *
+	 * @param source
+	 *            the source to append to
+	 */
+	private void writeRelease(StringBuilder source) {
+		source
+				.append("\t@Override\n")
+				.append("\tprotected void releaseHierarchy() {\n")
+				.append("\t\tobservable0.removeListener(listener0);\n")
+				.append("\t\tobservable0 = null;\n")
+				.append("\t\tvalue0 = null;\n");
+		for (int level = 1; level < levels(); level++)
+			source
+					.append("\t\tsetObservable").append(level).append("(null);\n")
+					.append("\t\tvalue").append(level).append(" = null;\n");
+		source.append("\t}\n\n");
+	}
+
+	/**
+	 * Writes a method for each nested level which moves the listener to the level's new observable.
+	 *
+	 * @param source
+	 *            the source to append to
+	 */
+	private void writeObservableSetters(StringBuilder source) {
+		for (int level = 1; level < levels(); level++)
+			source
+					.append("\t/**\n")
+					.append("\t * Replaces the observable on level ").append(level).append(".\n")
+					.append("\t *\n")
+					.append("\t * @param observable\n")
+					.append("\t *            the new observable; can be null\n")
+					.append("\t */\n")
+					.append("\tprivate void setObservable").append(level).append("(")
+					.append(observableTypes.get(level)).append(" observable) {\n")
+					.append("\t\tif (observable").append(level).append(" == observable)\n")
+					.append("\t\t\treturn;\n\n")
+					.append("\t\tif (observable").append(level).append(" != null)\n")
+					.append("\t\t\tobservable").append(level).append(".removeListener(listener").append(level)
+					.append(");\n")
+					.append("\t\tobservable").append(level).append(" = observable;\n")
+					.append("\t\tif (observable != null)\n")
+					.append("\t\t\tobservable.addListener(listener").append(level).append(");\n")
+					.append("\t}\n\n");
+	}
+
+	//#end WRITE
+
+	/**
+	 * @return the number of levels whose values are used, which equals the number of methods in the path
+	 */
+	private int levels() {
+		return methodNames.size();
+	}
+
+}
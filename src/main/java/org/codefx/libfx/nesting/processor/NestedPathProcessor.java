@@ -0,0 +1,303 @@
+package org.codefx.libfx.nesting.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import org.codefx.libfx.nesting.NestedPath;
+
+/**
+ * An annotation processor which generates a specialized {@link org.codefx.libfx.nesting.Nesting Nesting} for each path
+ * specified by a {@link NestedPath} annotation.
+ * <p>
+ * The processor resolves each path against the annotated class: every name must lead to an accessible, non-static
+ * method without parameters which returns an {@link javafx.beans.value.ObservableValue ObservableValue} (or, for the
+ * last name, an {@link javafx.beans.Observable Observable}). If that is not the case, an error is reported on the
+ * annotated class and no nesting is generated for the path. Otherwise the nesting's source is written by a
+ * {@link FixedPathNestingWriter}.
+ * <p>
+ * The processor is not registered as a service so it does not run when LibFX itself is compiled. To use it, it has
+ * to be specified explicitly, e.g. with javac's {@code -processor} option or the Maven compiler plugin's
+ * {@code annotationProcessors} configuration.
+ */
+@SupportedAnnotationTypes("org.codefx.libfx.nesting.NestedPath")
+public class NestedPathProcessor extends AbstractProcessor {
+
+	/**
+	 * The qualified name of {@link javafx.beans.Observable Observable}.
+	 */
+	private static final String OBSERVABLE = "javafx.beans.Observable";
+
+	/**
+	 * The qualified name of {@link javafx.beans.value.ObservableValue ObservableValue}.
+	 */
+	private static final String OBSERVABLE_VALUE = "javafx.beans.value.ObservableValue";
+
+	// #region PROCESS
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(NestedPath.class))
+			if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE)
+				processModel((TypeElement) element);
+			else
+				error(element, "Only classes and interfaces can be annotated with @NestedPath.");
+		return true;
+	}
+
+	/**
+	 * Generates the nestings for all paths specified on the specified model class.
+	 *
+	 * @param model
+	 *            the class annotated with {@link NestedPath}
+	 */
+	private void processModel(TypeElement model) {
+		if (!model.getTypeParameters().isEmpty()) {
+			error(model, "Generic classes can not be annotated with @NestedPath.");
+			return;
+		}
+
+		for (String path : model.getAnnotation(NestedPath.class).value())
+			processPath(model, path);
+	}
+
+	/**
+	 * Resolves the specified path and generates a nesting for it.
+	 *
+	 * @param model
+	 *            the class annotated with {@link NestedPath}
+	 * @param path
+	 *            the path starting at the model class
+	 */
+	private void processPath(TypeElement model, String path) {
+		String[] names = path.split("\\.", -1);
+		for (String name : names)
+			if (!SourceVersion.isIdentifier(name) || SourceVersion.isKeyword(name)) {
+				error(model, "The path '" + path + "' is not a dot-separated list of property names.");
+				return;
+			}
+
+		PackageElement modelPackage = processingEnv.getElementUtils().getPackageOf(model);
+		List<String> methodNames = new ArrayList<>();
+		List<String> observableTypes = new ArrayList<>();
+		List<String> valueTypes = new ArrayList<>();
+		observableTypes.add(OBSERVABLE_VALUE + "<? extends " + model.getQualifiedName() + ">");
+		valueTypes.add(model.getQualifiedName().toString());
+
+		DeclaredType currentType = (DeclaredType) model.asType();
+		String innerType = null;
+		for (int level = 0; level < names.length; level++) {
+			ExecutableElement method = findMethod(currentType, names[level], modelPackage);
+			if (method == null) {
+				error(model, "The path '" + path + "' can not be resolved because " + currentType + " has no accessible "
+						+ "method '" + names[level] + "Property()' or '" + names[level] + "()'.");
+				return;
+			}
+			TypeMirror returnType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(currentType, method))
+					.getReturnType();
+			methodNames.add(method.getSimpleName().toString());
+
+			boolean innerLevel = level == names.length - 1;
+			if (innerLevel) {
+				if (!isSubtypeOf(returnType, OBSERVABLE)) {
+					error(model, "The path '" + path + "' can not be resolved because " + method + " in "
+							+ currentType + " does not return an Observable.");
+					return;
+				}
+				innerType = returnType.toString();
+			} else {
+				TypeMirror valueType = getObservableValueType(returnType);
+				if (valueType == null || valueType.getKind() != TypeKind.DECLARED) {
+					error(model, "The path '" + path + "' can not be resolved because " + method + " in "
+							+ currentType + " does not return an ObservableValue of a declared type.");
+					return;
+				}
+				observableTypes.add(returnType.toString());
+				valueTypes.add(valueType.toString());
+				currentType = (DeclaredType) valueType;
+			}
+		}
+
+		writeNesting(model, path, names, methodNames, observableTypes, valueTypes, innerType);
+	}
+
+	/**
+	 * Writes the source of the nesting for the specified, resolved path.
+	 *
+	 * @param model
+	 *            the class annotated with {@link NestedPath}
+	 * @param path
+	 *            the path starting at the model class
+	 * @param names
+	 *            the property names in the path
+	 * @param methodNames
+	 *            the names of the methods which lead from one level to the next
+	 * @param observableTypes
+	 *            the types of the observables on each level
+	 * @param valueTypes
+	 *            the types of the values on each level
+	 * @param innerType
+	 *            the type of the inner observable
+	 */
+	private void writeNesting(TypeElement model, String path, String[] names, List<String> methodNames,
+			List<String> observableTypes, List<String> valueTypes, String innerType) {
+
+		String packageName = processingEnv.getElementUtils().getPackageOf(model).getQualifiedName().toString();
+		StringBuilder className = new StringBuilder(model.getSimpleName());
+		for (String name : names)
+			className.append(Character.toUpperCase(name.charAt(0))).append(name.substring(1));
+		className.append("Nesting");
+		String qualifiedClassName = packageName.isEmpty() ? className.toString() : packageName + "." + className;
+
+		FixedPathNestingWriter nestingWriter = new FixedPathNestingWriter(
+				packageName, className.toString(), model.getQualifiedName().toString(), path,
+				methodNames, observableTypes, valueTypes, innerType);
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedClassName, model);
+			try (Writer writer = sourceFile.openWriter()) {
+				nestingWriter.write(writer);
+			}
+		} catch (IOException ex) {
+			error(model, "The nesting for the path '" + path + "' could not be written: " + ex.getMessage());
+		}
+	}
+
+	//#end PROCESS
+
+	// #region TYPES
+
+	/**
+	 * Finds the method which leads from the specified type to the next observable in the path.
+	 *
+	 * @param type
+	 *            the type on which the method is searched
+	 * @param name
+	 *            the property's name
+	 * @param generatedPackage
+	 *            the package the nesting will be generated in
+	 * @return the method {@code nameProperty()} or, if there is none, {@code name()}; null if none of them exists or is
+	 *         accessible
+	 */
+	private ExecutableElement findMethod(DeclaredType type, String name, PackageElement generatedPackage) {
+		List<ExecutableElement> methods = ElementFilter.methodsIn(
+				processingEnv.getElementUtils().getAllMembers((TypeElement) type.asElement()));
+		ExecutableElement method = findMethod(methods, name + "Property", generatedPackage);
+		return method != null ? method : findMethod(methods, name, generatedPackage);
+	}
+
+	/**
+	 * Finds the accessible, non-static method without parameters with the specified name.
+	 *
+	 * @param methods
+	 *            the methods to search
+	 * @param methodName
+	 *            the method's name
+	 * @param generatedPackage
+	 *            the package the nesting will be generated in
+	 * @return the method; null if there is none
+	 */
+	private ExecutableElement findMethod(
+			List<ExecutableElement> methods, String methodName, PackageElement generatedPackage) {
+
+		for (ExecutableElement method : methods) {
+			boolean matches = method.getSimpleName().contentEquals(methodName)
+					&& method.getParameters().isEmpty()
+					&& !method.getModifiers().contains(Modifier.STATIC)
+					&& !method.getModifiers().contains(Modifier.PRIVATE);
+			boolean accessible = method.getModifiers().contains(Modifier.PUBLIC)
+					|| processingEnv.getElementUtils().getPackageOf(method).equals(generatedPackage);
+			if (matches && accessible)
+				return method;
+		}
+		return null;
+	}
+
+	/**
+	 * Indicates whether the erasure of the specified type is a subtype of the specified class or interface.
+	 *
+	 * @param type
+	 *            the checked type
+	 * @param qualifiedName
+	 *            the qualified name of the class or interface
+	 * @return true if the specified type is a subtype
+	 */
+	private boolean isSubtypeOf(TypeMirror type, String qualifiedName) {
+		TypeElement superElement = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+		if (superElement == null)
+			return false;
+		return processingEnv.getTypeUtils().isSubtype(
+				processingEnv.getTypeUtils().erasure(type),
+				processingEnv.getTypeUtils().erasure(superElement.asType()));
+	}
+
+	/**
+	 * Determines the type of the values held by the specified observable value type.
+	 *
+	 * @param type
+	 *            a type which should be a subtype of {@link javafx.beans.value.ObservableValue ObservableValue}
+	 * @return the type argument of {@code ObservableValue} (or its upper bound if it is a wildcard); null if the
+	 *         specified type is no {@code ObservableValue}
+	 */
+	private TypeMirror getObservableValueType(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED)
+			return null;
+
+		DeclaredType declaredType = (DeclaredType) type;
+		if (((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(OBSERVABLE_VALUE)) {
+			if (declaredType.getTypeArguments().isEmpty())
+				return null;
+			TypeMirror valueType = declaredType.getTypeArguments().get(0);
+			if (valueType.getKind() == TypeKind.WILDCARD)
+				return ((WildcardType) valueType).getExtendsBound();
+			return valueType;
+		}
+
+		for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+			TypeMirror valueType = getObservableValueType(supertype);
+			if (valueType != null)
+				return valueType;
+		}
+		return null;
+	}
+
+	//#end TYPES
+
+	/**
+	 * Reports the specified error on the specified element.
+	 *
+	 * @param element
+	 *            the element on which the error is reported
+	 * @param message
+	 *            the error message
+	 */
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+	}
+
+}
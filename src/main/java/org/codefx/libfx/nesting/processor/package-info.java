@@ -0,0 +1,8 @@
+/**
+ * Contains the {@link org.codefx.libfx.nesting.processor.NestedPathProcessor NestedPathProcessor}, an annotation
+ * processor which generates specialized nestings for the paths specified with
+ * {@link org.codefx.libfx.nesting.NestedPath NestedPath}.
+ * <p>
+ * See {@link org.codefx.libfx.nesting nesting} for a more comprehensive overview.
+ */
+package org.codefx.libfx.nesting.processor;
@@ -0,0 +1,475 @@
+package org.codefx.libfx.nesting.property;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * An {@link javafx.beans.property.ObjectProperty ObjectProperty} which implements {@link NestedProperty} by delegating
+ * to the nesting's current inner observable instead of being bound to it.
+ * <p>
+ * A {@link NestedObjectProperty} holds a copy of the inner observable's value, which is kept in sync by two listeners
+ * (one on each property) that copy every change. This property instead reads and writes the inner observable's value
+ * directly and only adds a single listener to it, which forwards its invalidations to this property's listeners. When
+ * the nesting's inner observable is replaced, that listener is moved to the new one. This spares the duplicated state
+ * and the copy on each change, which makes a difference for large models with many nested properties.
+ * <p>
+ * From the outside both implementations behave the same (as described by {@link NestedProperty}). In particular, this
+ * property keeps its value when the inner observable goes missing. Only then does it hold a value of its own.
+ * <p>
+ * This property can be bound to another observable like any other property. While it is bound, the bound
+ * observable's value is written to the inner observable (including each new one).
+ * <p>
+ * To keep the footprint small, this property does not extend {@link javafx.beans.property.ObjectPropertyBase
+ * ObjectPropertyBase}, whose value, validity and binding fields would go unused, and manages its listeners itself.
+ * <p>
+ * There are no delegating variants of the primitive and string nested properties, so nestings which end in an
+ * {@code IntegerProperty}, {@code StringProperty}, etc. can only build the copying properties.
+ *
+ * @param <T>
+ *            the type of the value wrapped by this property
+ */
+public class DelegatingNestedObjectProperty<T> extends ObjectProperty<T> implements NestedProperty<T> {
+
+	/**
+	 * The empty array of invalidation listeners; shared by all instances which have none.
+	 */
+	private static final InvalidationListener[] NO_INVALIDATION_LISTENERS = new InvalidationListener[0];
+
+	/**
+	 * The empty array of change listeners; shared by all instances which have none.
+	 */
+	private static final ChangeListener<?>[] NO_CHANGE_LISTENERS = new ChangeListener<?>[0];
+
+	// #region PROPERTIES
+
+	/**
+	 * The nesting to whose inner observable this property delegates. This property references it, so it stays
+	 * reachable as long as this property is, even if the nesting only added weak listeners to its hierarchy.
+	 */
+	private final Nesting<? extends Property<T>> nesting;
+
+	/**
+	 * The nesting's {@link Nesting#innerObservableProperty() innerObservable} property. It is stored so that the
+	 * listener on it can be removed even if the nesting was disposed before this instance.
+	 */
+	private final ReadOnlyProperty<? extends Optional<? extends Property<T>>> innerObservableProperty;
+
+	/**
+	 * The bean which owns this property; can be null.
+	 */
+	private final Object bean;
+
+	/**
+	 * This property's name; can be null.
+	 */
+	private final String name;
+
+	/**
+	 * The listener on the nesting's {@link Nesting#innerObservableProperty() innerObservable} property.
+	 */
+	private final InvalidationListener nestingListener;
+
+	/**
+	 * The listener which forwards the {@link #innerObservable}'s invalidations to this property's listeners. It is
+	 * wrapped by the {@link #weakInnerObservableListener}.
+	 */
+	private final InvalidationListener innerObservableListener;
+
+	/**
+	 * The listener which is added to the {@link #innerObservable}, so it does not keep this property alive.
+	 */
+	private final InvalidationListener weakInnerObservableListener;
+
+	/**
+	 * The inner observable to which this property currently delegates; null if it is missing.
+	 */
+	private Property<T> innerObservable;
+
+	/**
+	 * This property's own value, which is only used while the {@link #innerObservable} is missing.
+	 */
+	private T ownValue;
+
+	/**
+	 * The observable to which this property is bound; null if it is unbound.
+	 */
+	private ObservableValue<? extends T> boundObservable;
+
+	/**
+	 * The listener which writes the {@link #boundObservable}'s value to this property; created on the first call to
+	 * {@link #bind(ObservableValue) bind}. It is wrapped by the {@link #weakBoundObservableListener}.
+	 */
+	private InvalidationListener boundObservableListener;
+
+	/**
+	 * The listener which is added to the {@link #boundObservable}; created on the first call to
+	 * {@link #bind(ObservableValue) bind}.
+	 */
+	private InvalidationListener weakBoundObservableListener;
+
+	/**
+	 * The property indicating whether the nesting's inner observable is currently present; created on the first call
+	 * to {@link #innerObservablePresentProperty()}.
+	 */
+	private ReadOnlyBooleanWrapper innerObservablePresent;
+
+	/**
+	 * Indicates whether this property was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
+
+	/**
+	 * The invalidation listeners added to this property. The array is replaced (and never modified) when a listener
+	 * is added or removed, so a listener can do that while the listeners are notified.
+	 */
+	private InvalidationListener[] invalidationListeners;
+
+	/**
+	 * The change listeners added to this property; replaced like the {@link #invalidationListeners}.
+	 */
+	private ChangeListener<? super T>[] changeListeners;
+
+	/**
+	 * The value which was last reported to the {@link #changeListeners}; only up to date while there are some.
+	 */
+	private T reportedValue;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new property. Except {@code nesting} all arguments can be null.
+	 *
+	 * @param nesting
+	 *            the nesting this property is based on
+	 * @param bean
+	 *            the bean which owns this property; can be null
+	 * @param name
+	 *            this property's name; can be null
+	 */
+	DelegatingNestedObjectProperty(Nesting<? extends Property<T>> nesting, Object bean, String name) {
+		Objects.requireNonNull(nesting, "The argument 'nesting' must not be null.");
+		this.nesting = nesting;
+		this.innerObservableProperty = nesting.innerObservableProperty();
+		this.bean = bean;
+		this.name = name;
+		this.innerObservableListener = observable -> innerObservableInvalidated();
+		this.weakInnerObservableListener = new WeakInvalidationListener(innerObservableListener);
+		this.nestingListener = observable -> updateInnerObservable();
+		this.invalidationListeners = NO_INVALIDATION_LISTENERS;
+		this.changeListeners = noChangeListeners();
+
+		innerObservableProperty.addListener(nestingListener);
+		updateInnerObservable();
+	}
+
+	//#end CONSTRUCTION
+
+	// #region DELEGATION
+
+	/**
+	 * Moves the listener to the nesting's current inner observable. If it is present, this property's value changes
+	 * to that observable's value (or, if this property is bound, that observable's value changes to the bound one).
+	 */
+	private void updateInnerObservable() {
+		Property<T> newInnerObservable = innerObservableProperty.getValue().orElse(null);
+		if (newInnerObservable == innerObservable)
+			return;
+
+		Property<T> oldInnerObservable = innerObservable;
+		if (oldInnerObservable != null) {
+			oldInnerObservable.removeListener(weakInnerObservableListener);
+			// keep the value while the inner observable is missing
+			ownValue = oldInnerObservable.getValue();
+		}
+		innerObservable = newInnerObservable;
+		if (innerObservablePresent != null)
+			innerObservablePresent.set(newInnerObservable != null);
+
+		if (newInnerObservable != null) {
+			ownValue = null;
+			// write the bound value before adding the listener, so this property's listeners are notified only once
+			if (boundObservable != null)
+				newInnerObservable.setValue(boundObservable.getValue());
+			newInnerObservable.addListener(weakInnerObservableListener);
+			fireValueChangedEvent();
+		}
+	}
+
+	/**
+	 * Called when the {@link #innerObservable} was invalidated. Validates it (so it reports its next invalidation) and
+	 * notifies this property's listeners.
+	 */
+	private void innerObservableInvalidated() {
+		if (innerObservable == null)
+			return;
+
+		innerObservable.getValue();
+		fireValueChangedEvent();
+	}
+
+	@Override
+	public T get() {
+		return innerObservable != null ? innerObservable.getValue() : ownValue;
+	}
+
+	@Override
+	public void set(T newValue) {
+		if (isBound())
+			throw new RuntimeException((bean != null && name != null ? bean.getClass().getSimpleName() + "." + name
+					+ " : " : "") + "A bound value cannot be set.");
+		writeValue(newValue);
+	}
+
+	/**
+	 * Writes the specified value to the inner observable or, if it is missing, to this property's own value.
+	 *
+	 * @param newValue
+	 *            the new value
+	 */
+	private void writeValue(T newValue) {
+		if (innerObservable != null)
+			// the inner observable's invalidation is forwarded to this property's listeners
+			innerObservable.setValue(newValue);
+		else if (ownValue != newValue) {
+			ownValue = newValue;
+			fireValueChangedEvent();
+		}
+	}
+
+	//#end DELEGATION
+
+	// #region BINDING
+
+	@Override
+	public void bind(ObservableValue<? extends T> observable) {
+		Objects.requireNonNull(observable, "Cannot bind to null");
+		if (observable == boundObservable)
+			return;
+
+		unbind();
+		if (boundObservableListener == null) {
+			boundObservableListener = invalidatedObservable -> boundObservableInvalidated();
+			weakBoundObservableListener = new WeakInvalidationListener(boundObservableListener);
+		}
+		boundObservable = observable;
+		observable.addListener(weakBoundObservableListener);
+		writeValue(observable.getValue());
+	}
+
+	/**
+	 * Called when the {@link #boundObservable} was invalidated. Writes its value to this property.
+	 */
+	private void boundObservableInvalidated() {
+		if (boundObservable != null)
+			writeValue(boundObservable.getValue());
+	}
+
+	@Override
+	public void unbind() {
+		if (boundObservable == null)
+			return;
+
+		boundObservable.removeListener(weakBoundObservableListener);
+		boundObservable = null;
+	}
+
+	@Override
+	public boolean isBound() {
+		return boundObservable != null;
+	}
+
+	//#end BINDING
+
+	// #region LISTENERS
+
+	@Override
+	public void addListener(InvalidationListener listener) {
+		Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+		invalidationListeners = Arrays.copyOf(invalidationListeners, invalidationListeners.length + 1);
+		invalidationListeners[invalidationListeners.length - 1] = listener;
+	}
+
+	@Override
+	public void removeListener(InvalidationListener listener) {
+		invalidationListeners = withoutListener(invalidationListeners, listener, NO_INVALIDATION_LISTENERS);
+	}
+
+	@Override
+	public void addListener(ChangeListener<? super T> listener) {
+		Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+		if (changeListeners.length == 0)
+			reportedValue = get();
+		changeListeners = Arrays.copyOf(changeListeners, changeListeners.length + 1);
+		changeListeners[changeListeners.length - 1] = listener;
+	}
+
+	@Override
+	public void removeListener(ChangeListener<? super T> listener) {
+		changeListeners = withoutListener(changeListeners, listener, noChangeListeners());
+		if (changeListeners.length == 0)
+			reportedValue = null;
+	}
+
+	/**
+	 * Returns a copy of the specified listeners without the first occurrence of the specified listener.
+	 *
+	 * @param <L>
+	 *            the type of the listeners
+	 * @param listeners
+	 *            the listeners
+	 * @param listener
+	 *            the listener to remove
+	 * @param noListeners
+	 *            the empty array which is returned if no listener remains
+	 * @return the remaining listeners; the specified array if it does not contain the listener
+	 */
+	private static <L> L[] withoutListener(L[] listeners, Object listener, L[] noListeners) {
+		for (int index = 0; index < listeners.length; index++)
+			if (listeners[index].equals(listener)) {
+				if (listeners.length == 1)
+					return noListeners;
+				L[] remaining = Arrays.copyOf(listeners, listeners.length - 1);
+				System.arraycopy(listeners, index + 1, remaining, index, listeners.length - index - 1);
+				return remaining;
+			}
+		return listeners;
+	}
+
+	/**
+	 * @return the shared empty array of change listeners
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> ChangeListener<? super T>[] noChangeListeners() {
+		return (ChangeListener<? super T>[]) NO_CHANGE_LISTENERS;
+	}
+
+	/**
+	 * Notifies the invalidation listeners and, if the value changed since they were last notified, the change
+	 * listeners. Like in JavaFX' own properties, exceptions thrown by a listener are handed to the current thread's
+	 * {@link Thread.UncaughtExceptionHandler} and do not prevent the other listeners from being notified.
+	 */
+	private void fireValueChangedEvent() {
+		InvalidationListener[] currentInvalidationListeners = invalidationListeners;
+		for (InvalidationListener listener : currentInvalidationListeners)
+			try {
+				listener.invalidated(this);
+			} catch (RuntimeException ex) {
+				handleListenerException(ex);
+			}
+
+		ChangeListener<? super T>[] currentChangeListeners = changeListeners;
+		if (currentChangeListeners.length == 0)
+			return;
+		T oldValue = reportedValue;
+		T newValue = get();
+		if (Objects.equals(oldValue, newValue))
+			return;
+		reportedValue = newValue;
+		for (ChangeListener<? super T> listener : currentChangeListeners)
+			try {
+				listener.changed(this, oldValue, newValue);
+			} catch (RuntimeException ex) {
+				handleListenerException(ex);
+			}
+	}
+
+	/**
+	 * Hands the specified exception, which was thrown by a listener, to the current thread's
+	 * {@link Thread.UncaughtExceptionHandler}.
+	 *
+	 * @param ex
+	 *            the exception
+	 */
+	private static void handleListenerException(RuntimeException ex) {
+		Thread thread = Thread.currentThread();
+		thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+	}
+
+	//#end LISTENERS
+
+	// #region IMPLEMENTATION OF 'NestedProperty'
+
+	@Override
+	public ReadOnlyBooleanProperty innerObservablePresentProperty() {
+		checkNotDisposed();
+		if (innerObservablePresent == null)
+			innerObservablePresent =
+					new ReadOnlyBooleanWrapper(this, "innerObservablePresent", innerObservable != null);
+		return innerObservablePresent.getReadOnlyProperty();
+	}
+
+	@Override
+	public boolean isInnerObservablePresent() {
+		checkNotDisposed();
+		return innerObservable != null;
+	}
+
+	@Override
+	public void reroot(ObservableValue<?> outerObservable) {
+		checkNotDisposed();
+		nesting.reroot(outerObservable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Afterwards this property keeps its current value but no longer delegates to any inner observable.
+	 */
+	@Override
+	public void dispose() {
+		if (disposed)
+			return;
+
+		disposed = true;
+		innerObservableProperty.removeListener(nestingListener);
+		if (innerObservable != null) {
+			innerObservable.removeListener(weakInnerObservableListener);
+			ownValue = innerObservable.getValue();
+			innerObservable = null;
+		}
+		nesting.dispose();
+	}
+
+	/**
+	 * Throws an exception if this property was {@link #dispose() disposed}.
+	 *
+	 * @throws IllegalStateException
+	 *             if this property was disposed
+	 */
+	private void checkNotDisposed() {
+		if (disposed)
+			throw new IllegalStateException("This nested property was disposed.");
+	}
+
+	//#end IMPLEMENTATION OF 'NestedProperty'
+
+	// #region BEAN & NAME
+
+	@Override
+	public Object getBean() {
+		return bean;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	//#end BEAN & NAME
+
+}
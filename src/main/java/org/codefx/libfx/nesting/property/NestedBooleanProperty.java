@@ -2,10 +2,13 @@ package org.codefx.libfx.nesting.property;
 
 import java.util.Objects;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.Property;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 
 import org.codefx.libfx.nesting.Nesting;
 
@@ -17,9 +20,11 @@ public class NestedBooleanProperty extends SimpleBooleanProperty implements Nest
 	// #region PROPERTIES
 
 	/**
-	 * The property indicating whether the nesting's inner observable is currently present, i.e. not null.
+	 * The binding between this property and the nesting's inner observable. It references the nesting, which therefore
+	 * stays reachable as long as this property is, even if the nesting only added weak listeners to its hierarchy.
+	 * The binding also tracks whether the inner observable is present.
 	 */
-	private final BooleanProperty innerObservablePresent;
+	private final PropertyToNestingBinding<Boolean> binding;
 
 	//#end PROPERTIES
 
@@ -38,9 +43,7 @@ public class NestedBooleanProperty extends SimpleBooleanProperty implements Nest
 	NestedBooleanProperty(Nesting<? extends Property<Boolean>> nesting, Object bean, String name) {
 		super(bean, name);
 		Objects.requireNonNull(nesting, "The argument 'nesting' must not be null.");
-		this.innerObservablePresent = new SimpleBooleanProperty(this, "innerObservablePresent");
-
-		PropertyToNestingBinding.bind(this, isPresent -> innerObservablePresent.set(isPresent), nesting);
+		this.binding = PropertyToNestingBinding.bind(this, nesting);
 	}
 
 	//#end CONSTUCTION
@@ -49,14 +52,101 @@ public class NestedBooleanProperty extends SimpleBooleanProperty implements Nest
 
 	@Override
 	public ReadOnlyBooleanProperty innerObservablePresentProperty() {
-		return innerObservablePresent;
+		checkNotDisposed();
+		return binding.innerObservablePresentProperty();
 	}
 
 	@Override
 	public boolean isInnerObservablePresent() {
-		return innerObservablePresent.get();
+		checkNotDisposed();
+		return binding.isInnerObservablePresent();
+	}
+
+	@Override
+	public void reroot(ObservableValue<?> outerObservable) {
+		checkNotDisposed();
+		binding.reroot(outerObservable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Afterwards this property keeps its current value but is no longer bound to any inner observable.
+	 */
+	@Override
+	public void dispose() {
+		binding.dispose();
+	}
+
+	/**
+	 * Throws an exception if this property was {@link #dispose() disposed}.
+	 *
+	 * @throws IllegalStateException
+	 *             if this property was disposed
+	 */
+	private void checkNotDisposed() {
+		if (binding.isDisposed())
+			throw new IllegalStateException("This nested property was disposed.");
 	}
 
 	//#end IMPLEMENTATION OF 'NestedProperty'
 
+	// #region ATTACHMENT TO THE NESTING
+
+	@Override
+	public boolean get() {
+		binding.synchronize();
+		return super.get();
+	}
+
+	@Override
+	public void set(boolean newValue) {
+		// synchronize first so the new value is compared to the current one
+		binding.synchronize();
+		super.set(newValue);
+	}
+
+	@Override
+	protected void invalidated() {
+		binding.nestedPropertyInvalidated();
+	}
+
+	@Override
+	public void addListener(InvalidationListener listener) {
+		binding.listenerAdded(listener);
+		super.addListener(listener);
+	}
+
+	@Override
+	public void removeListener(InvalidationListener listener) {
+		super.removeListener(listener);
+		binding.listenerRemoved(listener);
+	}
+
+	@Override
+	public void addListener(ChangeListener<? super Boolean> listener) {
+		binding.listenerAdded(listener);
+		super.addListener(listener);
+	}
+
+	@Override
+	public void removeListener(ChangeListener<? super Boolean> listener) {
+		super.removeListener(listener);
+		binding.listenerRemoved(listener);
+	}
+
+	@Override
+	public void bind(ObservableValue<? extends Boolean> observable) {
+		super.bind(observable);
+		binding.boundChanged();
+	}
+
+	@Override
+	public void unbind() {
+		super.unbind();
+		binding.boundChanged();
+	}
+
+	//#end ATTACHMENT TO THE NESTING
+
 }
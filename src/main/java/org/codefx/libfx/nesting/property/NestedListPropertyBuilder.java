@@ -0,0 +1,80 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * A builder for a {@link NestedListProperty} which is bound to the {@link Nesting#innerObservableProperty()
+ * innerObservable} of a {@link Nesting}.
+ *
+ * @param <E>
+ *            the type of the list's elements
+ */
+public final class NestedListPropertyBuilder<E>
+		extends AbstractNestedPropertyBuilder<Property<ObservableList<E>>, NestedListProperty<E>> {
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new builder which uses the specified nesting.
+	 *
+	 * @param nesting
+	 *            the nesting which will be used for all nested properties
+	 */
+	private NestedListPropertyBuilder(Nesting<Property<ObservableList<E>>> nesting) {
+		super(nesting);
+	}
+
+	/**
+	 * Creates a new builder which uses the specified nesting.
+	 *
+	 * @param <E>
+	 *            the type of the list's elements
+	 * @param nesting
+	 *            the nesting which will be used for all nested properties
+	 * @return a new instance of {@link NestedListPropertyBuilder}
+	 */
+	public static <E> NestedListPropertyBuilder<E> forNesting(Nesting<Property<ObservableList<E>>> nesting) {
+		return new NestedListPropertyBuilder<>(nesting);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region METHODS
+
+	@Override
+	public NestedListProperty<E> build() {
+		return new NestedListProperty<>(getNesting(), getBean(), getName());
+	}
+
+	/**
+	 * Sets the property's future {@link Property#getBean() bean}.
+	 *
+	 * @param bean
+	 *            the property's future bean
+	 * @return this builder
+	 */
+	@Override
+	public NestedListPropertyBuilder<E> setBean(Object bean) {
+		setTheBean(bean);
+		return this;
+	}
+
+	/**
+	 * Sets the property's future {@link Property#getName() name}.
+	 *
+	 * @param name
+	 *            the property's future name
+	 * @return this builder
+	 */
+	@Override
+	public NestedListPropertyBuilder<E> setName(String name) {
+		setTheName(name);
+		return this;
+	}
+
+	//#end METHODS
+
+}
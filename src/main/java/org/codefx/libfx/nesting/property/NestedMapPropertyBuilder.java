@@ -0,0 +1,84 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.collections.ObservableMap;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * A builder for a {@link NestedMapProperty} which is bound to the {@link Nesting#innerObservableProperty()
+ * innerObservable} of a {@link Nesting}.
+ *
+ * @param <K>
+ *            the type of the map's keys
+ * @param <V>
+ *            the type of the map's values
+ */
+public final class NestedMapPropertyBuilder<K, V>
+		extends AbstractNestedPropertyBuilder<Property<ObservableMap<K, V>>, NestedMapProperty<K, V>> {
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new builder which uses the specified nesting.
+	 *
+	 * @param nesting
+	 *            the nesting which will be used for all nested properties
+	 */
+	private NestedMapPropertyBuilder(Nesting<Property<ObservableMap<K, V>>> nesting) {
+		super(nesting);
+	}
+
+	/**
+	 * Creates a new builder which uses the specified nesting.
+	 *
+	 * @param <K>
+	 *            the type of the map's keys
+	 * @param <V>
+	 *            the type of the map's values
+	 * @param nesting
+	 *            the nesting which will be used for all nested properties
+	 * @return a new instance of {@link NestedMapPropertyBuilder}
+	 */
+	public static <K, V> NestedMapPropertyBuilder<K, V> forNesting(Nesting<Property<ObservableMap<K, V>>> nesting) {
+		return new NestedMapPropertyBuilder<>(nesting);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region METHODS
+
+	@Override
+	public NestedMapProperty<K, V> build() {
+		return new NestedMapProperty<>(getNesting(), getBean(), getName());
+	}
+
+	/**
+	 * Sets the property's future {@link Property#getBean() bean}.
+	 *
+	 * @param bean
+	 *            the property's future bean
+	 * @return this builder
+	 */
+	@Override
+	public NestedMapPropertyBuilder<K, V> setBean(Object bean) {
+		setTheBean(bean);
+		return this;
+	}
+
+	/**
+	 * Sets the property's future {@link Property#getName() name}.
+	 *
+	 * @param name
+	 *            the property's future name
+	 * @return this builder
+	 */
+	@Override
+	public NestedMapPropertyBuilder<K, V> setName(String name) {
+		setTheName(name);
+		return this;
+	}
+
+	//#end METHODS
+
+}
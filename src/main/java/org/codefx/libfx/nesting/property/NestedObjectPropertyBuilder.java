@@ -48,6 +48,17 @@ public final class NestedObjectPropertyBuilder<T>
 		return new NestedObjectProperty<>(getNesting(), getBean(), getName());
 	}
 
+	/**
+	 * Creates a new property which delegates to the nesting's inner observable instead of being bound to it (see
+	 * {@link DelegatingNestedObjectProperty}). This method can be called arbitrarily often and each call returns a new
+	 * instance.
+	 *
+	 * @return a new instance of {@link DelegatingNestedObjectProperty}
+	 */
+	public DelegatingNestedObjectProperty<T> buildDelegating() {
+		return new DelegatingNestedObjectProperty<>(getNesting(), getBean(), getName());
+	}
+
 	/**
 	 * Sets the property's future {@link Property#getBean() bean}.
 	 *
@@ -24,6 +24,11 @@ import org.codefx.libfx.nesting.Nesting;
  * nested property's value changed while the inner observable was missing, these changes are replaced by the new
  * observable's value when one is set. Since this property's change listeners are called, the replaced value can be
  * caught there before it gets lost.
+ * <h2>Observing the Nesting</h2> A nested property only observes its nesting while it has listeners, is bound or its
+ * {@link NestedProperty#innerObservablePresentProperty() innerObservablePresent} property was created. Otherwise it
+ * copies the inner observable's value when its own value is requested or set, like JavaFX bindings compute their value
+ * on request. A nesting which uses lazy listeners hence does not observe its hierarchy while the nested property based
+ * on it is unobserved.
  *
  * @param <T>
  *            the type of the value wrapped by the property
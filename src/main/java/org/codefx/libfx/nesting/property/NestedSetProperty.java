@@ -0,0 +1,189 @@
+package org.codefx.libfx.nesting.property;
+
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SetProperty;
+import javafx.beans.property.SimpleSetProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * A {@link SetProperty} which also implements {@link NestedProperty}.
+ * <p>
+ * The property's value is the very set held by the nesting's inner observable; it is never copied. Like every
+ * {@code SetProperty}, this one forwards the set's {@link SetChangeListener.Change changes} to its own set change
+ * listeners. When the inner observable's set is replaced (either because its value changes or because the inner
+ * observable itself is replaced), the removal of each old element and the addition of each new one is emitted as a
+ * separate change because a set change can only describe a single element.
+ *
+ * @param <E>
+ *            the type of the set's elements
+ */
+public class NestedSetProperty<E> extends SimpleSetProperty<E> implements NestedProperty<ObservableSet<E>> {
+
+	// #region PROPERTIES
+
+	/**
+	 * The binding between this property and the nesting's inner observable. It references the nesting, which therefore
+	 * stays reachable as long as this property is, even if the nesting only added weak listeners to its hierarchy.
+	 * The binding also tracks whether the inner observable is present.
+	 */
+	private final PropertyToNestingBinding<ObservableSet<E>> binding;
+
+	//#end PROPERTIES
+
+	// #region CONSTUCTION
+
+	/**
+	 * Creates a new property. Except {@code nesting} all arguments can be null.
+	 *
+	 * @param nesting
+	 *            the nesting this property is based on
+	 * @param bean
+	 *            the bean which owns this property; can be null
+	 * @param name
+	 *            this property's name; can be null
+	 */
+	NestedSetProperty(Nesting<? extends Property<ObservableSet<E>>> nesting, Object bean, String name) {
+		super(bean, name);
+		Objects.requireNonNull(nesting, "The argument 'nesting' must not be null.");
+		this.binding = PropertyToNestingBinding.bind(this, nesting);
+	}
+
+	//#end CONSTUCTION
+
+	// #region IMPLEMENTATION OF 'NestedProperty'
+
+	@Override
+	public ReadOnlyBooleanProperty innerObservablePresentProperty() {
+		checkNotDisposed();
+		return binding.innerObservablePresentProperty();
+	}
+
+	@Override
+	public boolean isInnerObservablePresent() {
+		checkNotDisposed();
+		return binding.isInnerObservablePresent();
+	}
+
+	@Override
+	public void reroot(ObservableValue<?> outerObservable) {
+		checkNotDisposed();
+		binding.reroot(outerObservable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Afterwards this property keeps its current set (and keeps forwarding its changes) but is no longer bound to any
+	 * inner observable.
+	 */
+	@Override
+	public void dispose() {
+		binding.dispose();
+	}
+
+	/**
+	 * Throws an exception if this property was {@link #dispose() disposed}.
+	 *
+	 * @throws IllegalStateException
+	 *             if this property was disposed
+	 */
+	private void checkNotDisposed() {
+		if (binding.isDisposed())
+			throw new IllegalStateException("This nested property was disposed.");
+	}
+
+	//#end IMPLEMENTATION OF 'NestedProperty'
+
+	// #region ATTACHMENT TO THE NESTING
+
+	@Override
+	public ObservableSet<E> get() {
+		binding.synchronize();
+		return super.get();
+	}
+
+	@Override
+	public void set(ObservableSet<E> newValue) {
+		// synchronize first so the new value is compared to the current one
+		binding.synchronize();
+		super.set(newValue);
+	}
+
+	@Override
+	protected void invalidated() {
+		binding.nestedPropertyInvalidated();
+	}
+
+	@Override
+	public void addListener(InvalidationListener listener) {
+		binding.listenerAdded(listener);
+		super.addListener(listener);
+	}
+
+	@Override
+	public void removeListener(InvalidationListener listener) {
+		super.removeListener(listener);
+		binding.listenerRemoved(listener);
+	}
+
+	@Override
+	public void addListener(ChangeListener<? super ObservableSet<E>> listener) {
+		binding.listenerAdded(listener);
+		super.addListener(listener);
+	}
+
+	@Override
+	public void removeListener(ChangeListener<? super ObservableSet<E>> listener) {
+		super.removeListener(listener);
+		binding.listenerRemoved(listener);
+	}
+
+	@Override
+	public void addListener(SetChangeListener<? super E> listener) {
+		binding.listenerAdded(listener);
+		super.addListener(listener);
+	}
+
+	@Override
+	public void removeListener(SetChangeListener<? super E> listener) {
+		super.removeListener(listener);
+		binding.listenerRemoved(listener);
+	}
+
+	@Override
+	public ReadOnlyIntegerProperty sizeProperty() {
+		binding.keepAttached();
+		return super.sizeProperty();
+	}
+
+	@Override
+	public ReadOnlyBooleanProperty emptyProperty() {
+		binding.keepAttached();
+		return super.emptyProperty();
+	}
+
+	@Override
+	public void bind(ObservableValue<? extends ObservableSet<E>> observable) {
+		super.bind(observable);
+		binding.boundChanged();
+	}
+
+	@Override
+	public void unbind() {
+		super.unbind();
+		binding.boundChanged();
+	}
+
+	//#end ATTACHMENT TO THE NESTING
+
+}
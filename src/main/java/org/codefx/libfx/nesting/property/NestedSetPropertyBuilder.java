@@ -0,0 +1,80 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.collections.ObservableSet;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * A builder for a {@link NestedSetProperty} which is bound to the {@link Nesting#innerObservableProperty()
+ * innerObservable} of a {@link Nesting}.
+ *
+ * @param <E>
+ *            the type of the set's elements
+ */
+public final class NestedSetPropertyBuilder<E>
+		extends AbstractNestedPropertyBuilder<Property<ObservableSet<E>>, NestedSetProperty<E>> {
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new builder which uses the specified nesting.
+	 *
+	 * @param nesting
+	 *            the nesting which will be used for all nested properties
+	 */
+	private NestedSetPropertyBuilder(Nesting<Property<ObservableSet<E>>> nesting) {
+		super(nesting);
+	}
+
+	/**
+	 * Creates a new builder which uses the specified nesting.
+	 *
+	 * @param <E>
+	 *            the type of the set's elements
+	 * @param nesting
+	 *            the nesting which will be used for all nested properties
+	 * @return a new instance of {@link NestedSetPropertyBuilder}
+	 */
+	public static <E> NestedSetPropertyBuilder<E> forNesting(Nesting<Property<ObservableSet<E>>> nesting) {
+		return new NestedSetPropertyBuilder<>(nesting);
+	}
+
+	//#end CONSTRUCTION
+
+	// #region METHODS
+
+	@Override
+	public NestedSetProperty<E> build() {
+		return new NestedSetProperty<>(getNesting(), getBean(), getName());
+	}
+
+	/**
+	 * Sets the property's future {@link Property#getBean() bean}.
+	 *
+	 * @param bean
+	 *            the property's future bean
+	 * @return this builder
+	 */
+	@Override
+	public NestedSetPropertyBuilder<E> setBean(Object bean) {
+		setTheBean(bean);
+		return this;
+	}
+
+	/**
+	 * Sets the property's future {@link Property#getName() name}.
+	 *
+	 * @param name
+	 *            the property's future name
+	 * @return this builder
+	 */
+	@Override
+	public NestedSetPropertyBuilder<E> setName(String name) {
+		setTheName(name);
+		return this;
+	}
+
+	//#end METHODS
+
+}
@@ -1,60 +1,684 @@
 package org.codefx.libfx.nesting.property;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
+import java.util.Optional;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.FloatProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
 import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ObservableValue;
 
 import org.codefx.libfx.nesting.Nesting;
-import org.codefx.libfx.nesting.NestingObserver;
 
 /**
  * Implements the bidirectional binding between a nested property and its nesting's
  * {@link Nesting#innerObservableProperty() innerObservable} and updates the binding when the nesting changes.
+ * <p>
+ * Instead of creating a new JavaFX bidirectional binding for each inner observable, the binding adds itself as a
+ * listener to the inner observable and to the nesting and tells them apart by the invalidated observable. When the
+ * inner observable is replaced, the binding only moves that listener. Like a JavaFX bidirectional binding, the inner
+ * observable only references this binding weakly, so it does not keep the nested property alive. The nested property
+ * does not need a listener; it calls {@link #nestedPropertyInvalidated()} when it is invalidated.
+ * <p>
+ * The binding is only <b>attached</b> to the nesting, i.e. only observes it, while the nested property has listeners,
+ * is bound or its {@link #innerObservablePresentProperty() innerObservablePresent} property was created. Otherwise the
+ * nested property's copy of the inner observable's value can be stale, so the nested property calls
+ * {@link #synchronize()} whenever its value is requested or set (like JavaFX bindings, which are only computed on
+ * request). Values which are set on the nested property are written to the current inner observable in either case.
+ * This way an unobserved nested property does not keep a nesting with lazy listeners observing its hierarchy. The
+ * nested properties report their listeners and bindings with {@link #listenerAdded(Object)},
+ * {@link #listenerRemoved(Object)} and {@link #boundChanged()}.
+ * <p>
+ * Because there can be many nested properties, the binding keeps its per-instance state small: it only tracks
+ * whether the inner observable is present with the {@link #innerObservable} field and creates the
+ * {@link #innerObservablePresentProperty() innerObservablePresent} property when it is requested.
+ * <p>
+ * The bindings for the numeric nested properties (created by {@link #bindInteger(NestedIntegerProperty, Nesting)
+ * bindInteger} and its siblings) copy the values with the properties' primitive accessors, so the values are
+ * not boxed on their way.
  *
  * @param <T>
  *            the type wrapped by the bound {@link Property Properties}
  */
-class PropertyToNestingBinding<T> {
+class PropertyToNestingBinding<T> implements InvalidationListener {
+
+	// #region PROPERTIES
+
+	/**
+	 * The nested property which is bound to the {@link #nesting}'s inner observable.
+	 */
+	private final NestedProperty<T> nestedProperty;
+
+	/**
+	 * The nesting to whose inner observable the {@link #nestedProperty} is bound.
+	 */
+	private final Nesting<? extends Property<T>> nesting;
+
+	/**
+	 * The nesting's {@link Nesting#innerObservableProperty() innerObservable} property. It is stored so that the
+	 * listener on it can be removed even if the nesting was disposed before this instance.
+	 */
+	private final ReadOnlyProperty<? extends Optional<? extends Property<T>>> innerObservableProperty;
+
+	/**
+	 * The listener which is added to the {@link #innerObservable}; it weakly references this binding.
+	 */
+	private final InvalidationListener weakInnerObservableListener;
+
+	/**
+	 * The listeners added to the {@link #nestedProperty}. They are stored (and not just counted) so removing a listener
+	 * which was never added does not detach this binding.
+	 */
+	private final List<Object> listeners;
+
+	/**
+	 * The inner observable to which the {@link #nestedProperty} is currently bound; null if it is missing or if this
+	 * binding is not {@link #attached}.
+	 */
+	private Property<T> innerObservable;
+
+	/**
+	 * Indicates whether this binding observes the nesting and the {@link #innerObservable}.
+	 */
+	private boolean attached;
+
+	/**
+	 * Indicates whether this binding stays attached until it is disposed, e.g. because a property derived from the
+	 * nested property was requested.
+	 */
+	private boolean keptAttached;
+
+	/**
+	 * The property indicating whether the nesting's inner observable is currently present; created on the first call
+	 * to {@link #innerObservablePresentProperty()}. Until then, {@link #innerObservable} is the only state.
+	 */
+	private ReadOnlyBooleanWrapper innerObservablePresent;
+
+	/**
+	 * Indicates whether a value is currently copied from one property to the other, which prevents copying it back.
+	 */
+	private boolean updating;
 
 	/**
-	 * Bidirectionally binds the specified nested property to the specified nesting's property. The specified setter is
-	 * used to update the nested property's {@link NestedProperty#innerObservablePresentProperty()
-	 * innerObservablePresent} property.
+	 * Indicates whether this binding was {@link #dispose() disposed}.
+	 */
+	private boolean disposed;
+
+	//#end PROPERTIES
+
+	// #region CONSTRUCTION
+
+	/**
+	 * Creates a new binding between the specified property and nesting.
+	 *
+	 * @param nestedProperty
+	 *            the {@link Property} which will be bound to the specified nesting
+	 * @param nesting
+	 *            the {@link Nesting} to which the property will be bound
+	 */
+	private PropertyToNestingBinding(
+			NestedProperty<T> nestedProperty,
+			Nesting<? extends Property<T>> nesting) {
+
+		this.nestedProperty = nestedProperty;
+		this.nesting = nesting;
+		this.innerObservableProperty = nesting.innerObservableProperty();
+		this.weakInnerObservableListener = new WeakInvalidationListener(this);
+		this.listeners = new ArrayList<>(1);
+	}
+
+	/**
+	 * Bidirectionally binds the specified nested property to the specified nesting's property.
 	 *
 	 * @param <T>
 	 *            the type wrapped by the property
 	 * @param nestedProperty
 	 *            the {@link Property} which will be bound to the specified nesting
-	 * @param innerObservablePresentSetter
-	 *            the {@link Consumer} which sets the {@link NestedProperty#innerObservablePresentProperty()} property
 	 * @param nesting
 	 *            the {@link Nesting} to which the property will be bound
+	 * @return the created binding, which can be used to {@link #dispose() dispose} it
 	 * @throws NullPointerException
 	 *             if any of the arguments is null
 	 */
-	public static <T> void bind(
-			NestedProperty<T> nestedProperty, Consumer<Boolean> innerObservablePresentSetter,
+	public static <T> PropertyToNestingBinding<T> bind(
+			NestedProperty<T> nestedProperty,
 			Nesting<? extends Property<T>> nesting) {
 
+		checkArguments(nestedProperty, nesting);
+		return new PropertyToNestingBinding<>(nestedProperty, nesting);
+	}
+
+	/**
+	 * Bidirectionally binds the specified nested property to the specified nesting's property. The values are copied
+	 * with {@link IntegerProperty#get()} and {@link IntegerProperty#set(int)}.
+	 *
+	 * @param nestedProperty
+	 *            the {@link NestedIntegerProperty} which will be bound to the specified nesting
+	 * @param nesting
+	 *            the {@link Nesting} to which the property will be bound
+	 * @return the created binding, which can be used to {@link #dispose() dispose} it
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public static PropertyToNestingBinding<Number> bindInteger(
+			NestedIntegerProperty nestedProperty,
+			Nesting<? extends IntegerProperty> nesting) {
+
+		checkArguments(nestedProperty, nesting);
+		return new IntegerPropertyToNestingBinding(nestedProperty, nesting);
+	}
+
+	/**
+	 * Bidirectionally binds the specified nested property to the specified nesting's property. The values are copied
+	 * with {@link LongProperty#get()} and {@link LongProperty#set(long)}.
+	 *
+	 * @param nestedProperty
+	 *            the {@link NestedLongProperty} which will be bound to the specified nesting
+	 * @param nesting
+	 *            the {@link Nesting} to which the property will be bound
+	 * @return the created binding, which can be used to {@link #dispose() dispose} it
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public static PropertyToNestingBinding<Number> bindLong(
+			NestedLongProperty nestedProperty,
+			Nesting<? extends LongProperty> nesting) {
+
+		checkArguments(nestedProperty, nesting);
+		return new LongPropertyToNestingBinding(nestedProperty, nesting);
+	}
+
+	/**
+	 * Bidirectionally binds the specified nested property to the specified nesting's property. The values are copied
+	 * with {@link FloatProperty#get()} and {@link FloatProperty#set(float)}.
+	 *
+	 * @param nestedProperty
+	 *            the {@link NestedFloatProperty} which will be bound to the specified nesting
+	 * @param nesting
+	 *            the {@link Nesting} to which the property will be bound
+	 * @return the created binding, which can be used to {@link #dispose() dispose} it
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public static PropertyToNestingBinding<Number> bindFloat(
+			NestedFloatProperty nestedProperty,
+			Nesting<? extends FloatProperty> nesting) {
+
+		checkArguments(nestedProperty, nesting);
+		return new FloatPropertyToNestingBinding(nestedProperty, nesting);
+	}
+
+	/**
+	 * Bidirectionally binds the specified nested property to the specified nesting's property. The values are copied
+	 * with {@link DoubleProperty#get()} and {@link DoubleProperty#set(double)}.
+	 *
+	 * @param nestedProperty
+	 *            the {@link NestedDoubleProperty} which will be bound to the specified nesting
+	 * @param nesting
+	 *            the {@link Nesting} to which the property will be bound
+	 * @return the created binding, which can be used to {@link #dispose() dispose} it
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public static PropertyToNestingBinding<Number> bindDouble(
+			NestedDoubleProperty nestedProperty,
+			Nesting<? extends DoubleProperty> nesting) {
+
+		checkArguments(nestedProperty, nesting);
+		return new DoublePropertyToNestingBinding(nestedProperty, nesting);
+	}
+
+	/**
+	 * Checks the arguments of the static factory methods.
+	 *
+	 * @param nestedProperty
+	 *            the {@link Property} which will be bound to the specified nesting
+	 * @param nesting
+	 *            the {@link Nesting} to which the property will be bound
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	private static void checkArguments(
+			NestedProperty<?> nestedProperty, Nesting<?> nesting) {
+
 		Objects.requireNonNull(nestedProperty, "The argument 'property' must not be null.");
-		Objects.requireNonNull(innerObservablePresentSetter,
-				"The argument 'innerObservablePresentSetter' must not be null.");
 		Objects.requireNonNull(nesting, "The argument 'nesting' must not be null.");
+	}
+
+	//#end CONSTRUCTION
 
-		// the 'innerObservablePresentSetter' only accepts one Boolean; create a 'BiConsumer' from it,
-		// which accepts two and ignores the first
-		BiConsumer<Boolean, Boolean> innerObservablePresentBiSetter =
-				(any, newPropertyPresent) -> innerObservablePresentSetter.accept(newPropertyPresent);
+	// #region BINDING
 
-		// use a nesting observer to accomplish the binding/unbinding
-		NestingObserver
-				.forNesting(nesting)
-				.withOldInnerObservable(oldProperty -> nestedProperty.unbindBidirectional(oldProperty))
-				.withNewInnerObservable(newProperty -> nestedProperty.bindBidirectional(newProperty))
-				.whenInnerObservableChanges(innerObservablePresentBiSetter)
-				.observe();
+	/**
+	 * Called when the inner observable or the nesting's {@link Nesting#innerObservableProperty() innerObservable}
+	 * property was invalidated.
+	 *
+	 * @param observable
+	 *            the invalidated {@link Observable}
+	 */
+	@Override
+	public void invalidated(Observable observable) {
+		if (observable == innerObservable)
+			innerObservableInvalidated();
+		else
+			updateInnerObservable();
 	}
 
+	/**
+	 * Binds the nested property to the nesting's current inner observable. If it is present, the nested property's
+	 * value is set to the observable's (or, if the nested property is bound, the other way around).
+	 */
+	private void updateInnerObservable() {
+		Property<T> newInnerObservable = getCurrentInnerObservable();
+		if (newInnerObservable == innerObservable)
+			return;
+
+		if (innerObservable != null)
+			innerObservable.removeListener(weakInnerObservableListener);
+		innerObservable = newInnerObservable;
+		if (newInnerObservable != null) {
+			newInnerObservable.addListener(weakInnerObservableListener);
+			if (nestedProperty.isBound())
+				copyValue(nestedProperty, newInnerObservable);
+			else
+				copyValue(newInnerObservable, nestedProperty);
+		}
+		if (innerObservablePresent != null)
+			innerObservablePresent.set(newInnerObservable != null);
+	}
+
+	/**
+	 * @return the nesting's current inner observable; null if it is missing
+	 */
+	private Property<T> getCurrentInnerObservable() {
+		return innerObservableProperty.getValue().orElse(null);
+	}
+
+	/**
+	 * Called by the {@link #nestedProperty} when it was invalidated. Writes its value to the current inner observable.
+	 */
+	public void nestedPropertyInvalidated() {
+		if (disposed)
+			return;
+
+		Property<T> target = attached ? innerObservable : getCurrentInnerObservable();
+		if (target != null)
+			copyValue(nestedProperty, target);
+		else
+			// validate the property so it is invalidated again on the next change
+			validate(nestedProperty);
+	}
+
+	/**
+	 * Called when the {@link #innerObservable} was invalidated. Writes its value to the {@link #nestedProperty} unless
+	 * that is bound.
+	 */
+	private void innerObservableInvalidated() {
+		if (innerObservable == null)
+			return;
+
+		if (nestedProperty.isBound())
+			validate(innerObservable);
+		else
+			copyValue(innerObservable, nestedProperty);
+	}
+
+	/**
+	 * Called by the {@link #nestedProperty} before its value is returned or set. If this binding is not attached, the
+	 * value of the nesting's current inner observable is copied to the nested property.
+	 */
+	public void synchronize() {
+		if (attached || updating || disposed)
+			return;
+
+		Property<T> currentInnerObservable = getCurrentInnerObservable();
+		if (currentInnerObservable != null)
+			copyValue(currentInnerObservable, nestedProperty);
+	}
+
+	/**
+	 * Copies the source's value to the target unless a value is already being copied. The source's value is always
+	 * requested so it is validated and reports its next invalidation.
+	 *
+	 * @param source
+	 *            the property whose value is copied
+	 * @param target
+	 *            the property to which the value is copied
+	 */
+	private void copyValue(Property<T> source, Property<T> target) {
+		if (updating) {
+			validate(source);
+			return;
+		}
+
+		updating = true;
+		try {
+			transferValue(source, target);
+		} finally {
+			updating = false;
+		}
+	}
+
+	/**
+	 * Requests the specified property's value so it is validated.
+	 *
+	 * @param property
+	 *            the property to validate
+	 */
+	void validate(Property<T> property) {
+		property.getValue();
+	}
+
+	/**
+	 * Sets the source's value on the target.
+	 *
+	 * @param source
+	 *            the property whose value is copied
+	 * @param target
+	 *            the property to which the value is copied
+	 */
+	void transferValue(Property<T> source, Property<T> target) {
+		target.setValue(source.getValue());
+	}
+
+	//#end BINDING
+
+	// #region ATTACHMENT
+
+	/**
+	 * Called by the {@link #nestedProperty} before the specified listener is added to it. Attaches this binding if it
+	 * is the first listener, so the listener sees the current value.
+	 *
+	 * @param listener
+	 *            the added listener
+	 */
+	public void listenerAdded(Object listener) {
+		Objects.requireNonNull(listener, "The argument 'listener' must not be null.");
+		listeners.add(listener);
+		updateAttachment();
+	}
+
+	/**
+	 * Called by the {@link #nestedProperty} after the specified listener was removed from it. Detaches this binding if
+	 * it was the last listener and nothing else requires it to be attached.
+	 *
+	 * @param listener
+	 *            the removed listener
+	 */
+	public void listenerRemoved(Object listener) {
+		if (listeners.remove(listener))
+			updateAttachment();
+	}
+
+	/**
+	 * Called by the {@link #nestedProperty} after it was bound or unbound.
+	 */
+	public void boundChanged() {
+		updateAttachment();
+	}
+
+	/**
+	 * Attaches this binding until it is disposed. Used when a property is requested which is derived from the nested
+	 * property and must hence be kept up to date, e.g. its size property.
+	 */
+	public void keepAttached() {
+		keptAttached = true;
+		updateAttachment();
+	}
+
+	/**
+	 * Attaches or detaches this binding depending on whether the nested property is observed.
+	 */
+	private void updateAttachment() {
+		if (disposed)
+			return;
+
+		boolean observed = !listeners.isEmpty() || keptAttached || innerObservablePresent != null
+				|| nestedProperty.isBound();
+		if (observed && !attached)
+			attach();
+		else if (!observed && attached)
+			detach();
+	}
+
+	/**
+	 * Starts observing the nesting and binds the nested property to the current inner observable.
+	 */
+	private void attach() {
+		attached = true;
+		innerObservableProperty.addListener(this);
+		updateInnerObservable();
+	}
+
+	/**
+	 * Stops observing the nesting and the inner observable.
+	 */
+	private void detach() {
+		attached = false;
+		innerObservableProperty.removeListener(this);
+		if (innerObservable != null) {
+			innerObservable.removeListener(weakInnerObservableListener);
+			innerObservable = null;
+		}
+	}
+
+	//#end ATTACHMENT
+
+	// #region INNER OBSERVABLE PRESENT
+
+	/**
+	 * Returns the property indicating whether the nesting's inner observable is currently present, which is created on
+	 * the first call. Its bean is the nested property.
+	 *
+	 * @return the property indicating whether the inner observable is present
+	 * @see NestedProperty#innerObservablePresentProperty()
+	 */
+	public ReadOnlyBooleanProperty innerObservablePresentProperty() {
+		if (innerObservablePresent == null) {
+			innerObservablePresent =
+					new ReadOnlyBooleanWrapper(nestedProperty, "innerObservablePresent", isInnerObservablePresent());
+			// the property must be kept up to date
+			updateAttachment();
+		}
+		return innerObservablePresent.getReadOnlyProperty();
+	}
+
+	/**
+	 * Indicates whether the nesting's inner observable is currently present.
+	 *
+	 * @return true if the inner observable is present
+	 * @see NestedProperty#isInnerObservablePresent()
+	 */
+	public boolean isInnerObservablePresent() {
+		return attached ? innerObservable != null : getCurrentInnerObservable() != null;
+	}
+
+	//#end INNER OBSERVABLE PRESENT
+
+	// #region REROOT
+
+	/**
+	 * Re-roots the nesting onto the specified outer observable. This binding then rebinds the nested property to
+	 * the new inner observable.
+	 *
+	 * @param outerObservable
+	 *            the new outer {@link ObservableValue}
+	 * @see Nesting#reroot(ObservableValue)
+	 */
+	public void reroot(ObservableValue<?> outerObservable) {
+		nesting.reroot(outerObservable);
+	}
+
+	//#end REROOT
+
+	// #region DISPOSAL
+
+	/**
+	 * Indicates whether this binding was {@link #dispose() disposed}.
+	 *
+	 * @return true if {@link #dispose()} was called
+	 */
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * Disposes this binding. The nested property is unbound from the current inner observable and no longer follows
+	 * the nesting, which is disposed as well. If the binding was not attached, the nested property's value is
+	 * synchronized with the inner observable one last time.
+	 * <p>
+	 * Disposing a binding which is already disposed has no effect.
+	 */
+	public void dispose() {
+		if (disposed)
+			return;
+
+		if (attached)
+			detach();
+		else
+			synchronize();
+		disposed = true;
+		nesting.dispose();
+	}
+
+	//#end DISPOSAL
+
+	// #region PRIMITIVE BINDINGS
+
+	/**
+	 * A binding between {@link IntegerProperty IntegerProperties} which copies their values without boxing them.
+	 */
+	private static final class IntegerPropertyToNestingBinding extends PropertyToNestingBinding<Number> {
+
+		/**
+		 * Creates a new binding between the specified property and nesting.
+		 *
+		 * @param nestedProperty
+		 *            the {@link NestedIntegerProperty} which will be bound to the specified nesting
+		 * @param nesting
+		 *            the {@link Nesting} to which the property will be bound
+		 */
+		public IntegerPropertyToNestingBinding(
+				NestedIntegerProperty nestedProperty,
+				Nesting<? extends IntegerProperty> nesting) {
+			super(nestedProperty, nesting);
+		}
+
+		@Override
+		void validate(Property<Number> property) {
+			((IntegerProperty) property).get();
+		}
+
+		@Override
+		void transferValue(Property<Number> source, Property<Number> target) {
+			((IntegerProperty) target).set(((IntegerProperty) source).get());
+		}
+
+	}
+
+	/**
+	 * A binding between {@link LongProperty LongProperties} which copies their values without boxing them.
+	 */
+	private static final class LongPropertyToNestingBinding extends PropertyToNestingBinding<Number> {
+
+		/**
+		 * Creates a new binding between the specified property and nesting.
+		 *
+		 * @param nestedProperty
+		 *            the {@link NestedLongProperty} which will be bound to the specified nesting
+		 * @param nesting
+		 *            the {@link Nesting} to which the property will be bound
+		 */
+		public LongPropertyToNestingBinding(
+				NestedLongProperty nestedProperty,
+				Nesting<? extends LongProperty> nesting) {
+			super(nestedProperty, nesting);
+		}
+
+		@Override
+		void validate(Property<Number> property) {
+			((LongProperty) property).get();
+		}
+
+		@Override
+		void transferValue(Property<Number> source, Property<Number> target) {
+			((LongProperty) target).set(((LongProperty) source).get());
+		}
+
+	}
+
+	/**
+	 * A binding between {@link FloatProperty FloatProperties} which copies their values without boxing them.
+	 */
+	private static final class FloatPropertyToNestingBinding extends PropertyToNestingBinding<Number> {
+
+		/**
+		 * Creates a new binding between the specified property and nesting.
+		 *
+		 * @param nestedProperty
+		 *            the {@link NestedFloatProperty} which will be bound to the specified nesting
+		 * @param nesting
+		 *            the {@link Nesting} to which the property will be bound
+		 */
+		public FloatPropertyToNestingBinding(
+				NestedFloatProperty nestedProperty,
+				Nesting<? extends FloatProperty> nesting) {
+			super(nestedProperty, nesting);
+		}
+
+		@Override
+		void validate(Property<Number> property) {
+			((FloatProperty) property).get();
+		}
+
+		@Override
+		void transferValue(Property<Number> source, Property<Number> target) {
+			((FloatProperty) target).set(((FloatProperty) source).get());
+		}
+
+	}
+
+	/**
+	 * A binding between {@link DoubleProperty DoubleProperties} which copies their values without boxing them.
+	 */
+	private static final class DoublePropertyToNestingBinding extends PropertyToNestingBinding<Number> {
+
+		/**
+		 * Creates a new binding between the specified property and nesting.
+		 *
+		 * @param nestedProperty
+		 *            the {@link NestedDoubleProperty} which will be bound to the specified nesting
+		 * @param nesting
+		 *            the {@link Nesting} to which the property will be bound
+		 */
+		public DoublePropertyToNestingBinding(
+				NestedDoubleProperty nestedProperty,
+				Nesting<? extends DoubleProperty> nesting) {
+			super(nestedProperty, nesting);
+		}
+
+		@Override
+		void validate(Property<Number> property) {
+			((DoubleProperty) property).get();
+		}
+
+		@Override
+		void transferValue(Property<Number> source, Property<Number> target) {
+			((DoubleProperty) target).set(((DoubleProperty) source).get());
+		}
+
+	}
+
+	//#end PRIMITIVE BINDINGS
+
 }
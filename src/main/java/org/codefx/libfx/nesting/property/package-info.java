@@ -1,7 +1,12 @@
 /**
  * Contains the definition for {@link org.codefx.libfx.nesting.property.NestedProperty NestedProperty} as well as its
- * implementations (a generic {@link org.codefx.libfx.nesting.property.NestedObjectProperty NestedObjectProperty} and
- * its primitive type wrapping counterparts) and builders for them.
+ * implementations (a generic {@link org.codefx.libfx.nesting.property.NestedObjectProperty NestedObjectProperty},
+ * its primitive type wrapping counterparts and the collection properties which forward their collection's changes,
+ * e.g. {@link org.codefx.libfx.nesting.property.NestedListProperty NestedListProperty}) and builders for them.
+ * <p>
+ * The {@link org.codefx.libfx.nesting.property.DelegatingNestedObjectProperty DelegatingNestedObjectProperty} delegates
+ * to the inner observable instead of copying its value. It only exists for object properties; there are no delegating
+ * counterparts of the primitive type and string properties.
  * <p>
  * See {@link org.codefx.libfx.nesting nesting} for a more comprehensive overview.
  */
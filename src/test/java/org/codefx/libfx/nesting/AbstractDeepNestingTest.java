@@ -1,9 +1,14 @@
 package org.codefx.libfx.nesting;
 
 import static org.codefx.libfx.nesting.testhelper.NestingAccess.getNestingObservable;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+
+import java.util.Optional;
+
 import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.value.ObservableValue;
 
 import org.junit.Test;
@@ -86,6 +91,59 @@ public abstract class AbstractDeepNestingTest<OO extends Observable, IO extends
 		assertNull(getNestingObservable(nesting));
 	}
 
+	// disposal
+
+	/**
+	 * Tests whether the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable} is no longer
+	 * updated when the {@link #outerObservable}'s outer value is changed after the nesting was disposed.
+	 */
+	@Test
+	public void testWhenSettingOuterValueAfterDispose() {
+		ReadOnlyProperty<Optional<IO>> innerObservable = nesting.innerObservableProperty();
+		Optional<IO> innerObservableBeforeDispose = innerObservable.getValue();
+
+		nesting.dispose();
+		setNewValue(outerObservable, Level.OUTER, Value.ANY);
+
+		assertEquals(innerObservableBeforeDispose, innerObservable.getValue());
+	}
+
+	// batches
+
+	/**
+	 * Tests whether the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable} is only updated
+	 * once when values on several levels are changed in a batch.
+	 */
+	@Test
+	public void testWhenSettingValuesInBatch() {
+		int[] invalidations = { 0 };
+		nesting.innerObservableProperty().addListener(observable -> invalidations[0]++);
+
+		Nestings.batch(() -> {
+			setNewValue(outerObservable, Level.OUTER, Value.ANY);
+			setNewValue(outerObservable, Level.NESTED, Value.ANY);
+			assertEquals(0, invalidations[0]);
+		});
+
+		assertEquals(1, invalidations[0]);
+		assertSame(getNestingObservable(nesting), getInnerObservable(outerObservable));
+	}
+
+	/**
+	 * Tests whether the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable} is up to date
+	 * when it is requested during a batch.
+	 */
+	@Test
+	public void testWhenRequestingInnerObservableInBatch() {
+		Nestings.batch(() -> {
+			setNewValue(outerObservable, Level.OUTER, Value.ANY);
+			assertSame(getNestingObservable(nesting), getInnerObservable(outerObservable));
+			setNewValue(outerObservable, Level.NESTED, Value.ANY);
+		});
+
+		assertSame(getNestingObservable(nesting), getInnerObservable(outerObservable));
+	}
+
 	//#end TESTS
 
 	// #region ABSTRACT METHODS
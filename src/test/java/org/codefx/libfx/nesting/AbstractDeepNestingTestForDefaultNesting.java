@@ -1,13 +1,16 @@
 package org.codefx.libfx.nesting;
 
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.getNestingObservable;
 import static org.codefx.libfx.nesting.testhelper.NestingAccess.setInnerValue;
 import static org.codefx.libfx.nesting.testhelper.NestingAccess.setOuterValue;
+import static org.junit.Assert.assertSame;
 import javafx.beans.Observable;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
 
 import org.codefx.libfx.nesting.testhelper.InnerValue;
 import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.junit.Test;
 
 /**
  * Abstract superclass to tests for deep nestings which are based on the nesting hierarchy in the package
@@ -22,6 +25,75 @@ import org.codefx.libfx.nesting.testhelper.OuterValue;
 public abstract class AbstractDeepNestingTestForDefaultNesting<O extends Observable>
 		extends AbstractDeepNestingTest<Property<OuterValue>, O> {
 
+	/**
+	 * Tests whether the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable} is updated correctly
+	 * when, during a batch, the outer value is replaced and restored while its nested value is changed.
+	 */
+	@Test
+	public void testWhenRestoringOuterValueInBatch() {
+		OuterValue originalOuterValue = outerObservable.getValue();
+
+		Nestings.batch(() -> {
+			setOuterValue(outerObservable, OuterValue.createWithInnerType());
+			originalOuterValue.setInnerValue(InnerValue.createWithObservables());
+			setOuterValue(outerObservable, originalOuterValue);
+		});
+
+		assertSame(getNestingObservable(nesting), getInnerObservable(outerObservable));
+	}
+
+	/**
+	 * Tests whether the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable} is updated correctly
+	 * when the nesting is re-rooted onto another hierarchy.
+	 */
+	@Test
+	public void testAfterReroot() {
+		Property<OuterValue> newOuterObservable = createNewNestingHierarchy();
+
+		nesting.reroot(newOuterObservable);
+
+		assertSame(getNestingObservable(nesting), getInnerObservable(newOuterObservable));
+	}
+
+	/**
+	 * Tests whether the {@link #nesting} follows the new hierarchy and ignores the old one after it was re-rooted.
+	 */
+	@Test
+	public void testWhenSettingValuesAfterReroot() {
+		Property<OuterValue> newOuterObservable = createNewNestingHierarchy();
+		nesting.reroot(newOuterObservable);
+
+		setNewValue(newOuterObservable, Level.NESTED, Value.ANY);
+		setNewValue(outerObservable, Level.OUTER, Value.ANY);
+
+		assertSame(getNestingObservable(nesting), getInnerObservable(newOuterObservable));
+	}
+
+	/**
+	 * Tests whether the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable} is updated correctly
+	 * when the nesting is re-rooted during a batch.
+	 */
+	@Test
+	public void testWhenRerootingInBatch() {
+		Property<OuterValue> newOuterObservable = createNewNestingHierarchy();
+
+		Nestings.batch(() -> {
+			nesting.reroot(newOuterObservable);
+			setNewValue(newOuterObservable, Level.NESTED, Value.ANY);
+		});
+
+		assertSame(getNestingObservable(nesting), getInnerObservable(newOuterObservable));
+	}
+
+	/**
+	 * Tests whether re-rooting the {@link #nesting} fails after it was disposed.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testRerootAfterDispose() {
+		nesting.dispose();
+		nesting.reroot(createNewNestingHierarchy());
+	}
+
 	@Override
 	protected Property<OuterValue> createNewNestingHierarchy() {
 		OuterValue outer = OuterValue.createWithInnerType();
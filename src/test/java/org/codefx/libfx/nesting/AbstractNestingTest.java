@@ -53,6 +53,25 @@ public abstract class AbstractNestingTest<OO extends Observable, IO extends Obse
 		assertSame(getNestingObservable(nesting), getInnerObservable(outerObservable));
 	}
 
+	/**
+	 * Tests whether accessing the {@link #nesting}'s {@link Nesting#innerObservableProperty() innerObservable} fails
+	 * after the nesting was disposed.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testInnerObservablePropertyAfterDispose() {
+		nesting.dispose();
+		nesting.innerObservableProperty();
+	}
+
+	/**
+	 * Tests whether disposing the {@link #nesting} repeatedly has no effect.
+	 */
+	@Test
+	public void testMultipleDispose() {
+		nesting.dispose();
+		nesting.dispose();
+	}
+
 	//#end TESTS
 
 	// #region ABSTRACT METHODS
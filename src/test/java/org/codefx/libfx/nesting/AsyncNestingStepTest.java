@@ -0,0 +1,280 @@
+package org.codefx.libfx.nesting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.codefx.libfx.nesting.property.NestedProperty;
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the nestings which are built with an {@link AsyncNestingStep}.
+ */
+public class AsyncNestingStepTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The nesting's outer observable.
+	 */
+	private Property<OuterValue> outerObservable;
+
+	/**
+	 * The futures returned by {@link #load(OuterValue)} in the order in which they were created.
+	 */
+	private List<CompletableFuture<ObjectProperty<InnerValue>>> futures;
+
+	/**
+	 * The completions which were handed to the completion executor but not yet run.
+	 */
+	private Queue<Runnable> completions;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the outer observable.
+	 */
+	@Before
+	public void setUp() {
+		outerObservable = new SimpleObjectProperty<>(OuterValue.createWithInnerType());
+		futures = new ArrayList<>();
+		completions = new ArrayDeque<>();
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the inner observable is missing while it is loading and present once the completion was run.
+	 */
+	@Test
+	public void testInnerObservableIsMissingWhileLoading() {
+		Nesting<Property<InnerValue>> nesting = buildNesting();
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+		assertEquals(1, futures.size());
+
+		futures.get(0).complete(outerObservable.getValue().innerValueProperty());
+		// the completion was not yet run
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+
+		runCompletions();
+		assertSame(outerObservable.getValue().innerValueProperty(), nesting.innerObservableProperty().getValue().get());
+	}
+
+	/**
+	 * Tests whether a loading which is still running is cancelled when the outer observable changes.
+	 */
+	@Test
+	public void testStaleLoadingIsCancelled() {
+		Nesting<Property<InnerValue>> nesting = buildNesting();
+
+		outerObservable.setValue(OuterValue.createWithInnerType());
+
+		assertTrue(futures.get(0).isCancelled());
+		assertEquals(2, futures.size());
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+	}
+
+	/**
+	 * Tests whether the result of a loading which completed after the outer observable changed is discarded.
+	 */
+	@Test
+	public void testStaleResultIsDiscarded() {
+		Nesting<Property<InnerValue>> nesting = buildNesting();
+		OuterValue staleValue = outerObservable.getValue();
+
+		futures.get(0).complete(staleValue.innerValueProperty());
+		outerObservable.setValue(OuterValue.createWithInnerType());
+		runCompletions();
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+
+		futures.get(1).complete(outerObservable.getValue().innerValueProperty());
+		runCompletions();
+		assertSame(outerObservable.getValue().innerValueProperty(), nesting.innerObservableProperty().getValue().get());
+	}
+
+	/**
+	 * Tests whether a loading which failed leaves the inner observable missing.
+	 */
+	@Test
+	public void testFailedLoadingLeavesInnerObservableMissing() {
+		Nesting<Property<InnerValue>> nesting = buildNesting();
+
+		futures.get(0).completeExceptionally(new IllegalStateException());
+		runCompletions();
+
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+	}
+
+	/**
+	 * Tests whether a future which is already completed when the step returns it is used right away.
+	 */
+	@Test
+	public void testCompletedFutureIsUsedRightAway() {
+		Nesting<Property<InnerValue>> nesting = Nestings.on(outerObservable)
+				.nestAsync(outer -> CompletableFuture.completedFuture(outer.innerValueProperty()), completions::add)
+				.buildNesting();
+
+		assertSame(outerObservable.getValue().innerValueProperty(), nesting.innerObservableProperty().getValue().get());
+		assertTrue(completions.isEmpty());
+	}
+
+	/**
+	 * Tests whether asynchronous and synchronous steps can be mixed.
+	 */
+	@Test
+	public void testMixingAsyncAndSyncSteps() {
+		NestedProperty<SomeValue> nestedProperty = Nestings.on(outerObservable)
+				.nestAsync(this::load, completions::add)
+				.nest(InnerValue::property)
+				.buildProperty();
+		assertFalse(nestedProperty.isInnerObservablePresent());
+
+		futures.get(0).complete(outerObservable.getValue().innerValueProperty());
+		runCompletions();
+		assertTrue(nestedProperty.isInnerObservablePresent());
+		Property<SomeValue> innerProperty = outerObservable.getValue().getInnerValue().property();
+		assertSame(innerProperty.getValue(), nestedProperty.getValue());
+
+		SomeValue newValue = new SomeValue();
+		nestedProperty.setValue(newValue);
+		assertSame(newValue, innerProperty.getValue());
+	}
+
+	/**
+	 * Tests whether a nesting with lazy listeners only starts loading when it is observed.
+	 */
+	@Test
+	public void testUnobservedLazyNestingDoesNotLoad() {
+		Nesting<Property<InnerValue>> nesting = Nestings.on(outerObservable)
+				.withLazyListeners()
+				.nestAsync(this::load, completions::add)
+				.buildNesting();
+
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+		assertTrue(futures.isEmpty());
+
+		nesting.innerObservableProperty().addListener(observable -> {/* observe the nesting */});
+		assertEquals(1, futures.size());
+	}
+
+	/**
+	 * Tests whether a nesting with invalidation listeners which steps again from an unchanged value does not restart
+	 * the loading.
+	 */
+	@Test
+	public void testSteppingFromUnchangedValueKeepsLoading() {
+		Nesting<Property<InnerValue>> nesting = Nestings.on(outerObservable)
+				.withInvalidationListeners()
+				.nestAsync(this::load, completions::add)
+				.buildNesting();
+		OuterValue outerValue = outerObservable.getValue();
+
+		// the outer observable only reports the first invalidation, so the nesting validates the original value
+		outerObservable.setValue(OuterValue.createWithInnerType());
+		outerObservable.setValue(outerValue);
+		nesting.innerObservableProperty().getValue();
+
+		assertEquals(1, futures.size());
+		assertFalse(futures.get(0).isCancelled());
+		futures.get(0).complete(outerValue.innerValueProperty());
+		runCompletions();
+		assertSame(outerValue.innerValueProperty(), nesting.innerObservableProperty().getValue().get());
+	}
+
+	/**
+	 * Tests whether re-rooting a nesting with invalidation listeners to an observable with the same value does not
+	 * restart the loading.
+	 */
+	@Test
+	public void testRerootToSameValueKeepsLoading() {
+		Nesting<Property<InnerValue>> nesting = Nestings.on(outerObservable)
+				.withInvalidationListeners()
+				.nestAsync(this::load, completions::add)
+				.buildNesting();
+
+		nesting.reroot(new SimpleObjectProperty<>(outerObservable.getValue()));
+		nesting.innerObservableProperty().getValue();
+
+		assertEquals(1, futures.size());
+		assertFalse(futures.get(0).isCancelled());
+	}
+
+	/**
+	 * Tests whether removing a listener which was never added does not cancel the loading and whether a cancelled
+	 * loading is started again when a listener is added.
+	 */
+	@Test
+	public void testLoadingFollowsAddedListeners() {
+		LoadingNestingStep<OuterValue, ObjectProperty<InnerValue>> step =
+				new LoadingNestingStep<>(this::load, completions::add);
+		ObservableValue<ObjectProperty<InnerValue>> holder = step.step(outerObservable.getValue());
+		InvalidationListener listener = observable -> {/* observe the holder */};
+
+		holder.addListener(listener);
+		holder.removeListener((InvalidationListener) observable -> {/* was never added */});
+		assertFalse(futures.get(0).isCancelled());
+
+		holder.removeListener(listener);
+		assertTrue(futures.get(0).isCancelled());
+
+		holder.addListener(listener);
+		assertSame(holder, step.step(outerObservable.getValue()));
+		assertEquals(2, futures.size());
+	}
+
+	//#end TESTS
+
+	// #region HELPER
+
+	/**
+	 * Builds a nesting which loads the outer value's inner value property asynchronously.
+	 *
+	 * @return the nesting
+	 */
+	private Nesting<Property<InnerValue>> buildNesting() {
+		return Nestings.on(outerObservable)
+				.nestAsync(this::load, completions::add)
+				.buildNesting();
+	}
+
+	/**
+	 * Starts "loading" the specified value's inner value property by creating a future which the tests complete.
+	 *
+	 * @param outerValue
+	 *            the value whose property is loaded
+	 * @return a future which is not yet completed
+	 */
+	private CompletableFuture<ObjectProperty<InnerValue>> load(OuterValue outerValue) {
+		CompletableFuture<ObjectProperty<InnerValue>> future = new CompletableFuture<>();
+		futures.add(future);
+		return future;
+	}
+
+	/**
+	 * Runs all completions which were handed to the completion executor.
+	 */
+	private void runCompletions() {
+		while (!completions.isEmpty())
+			completions.poll().run();
+	}
+
+	//#end HELPER
+
+}
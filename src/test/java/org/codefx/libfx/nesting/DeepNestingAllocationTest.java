@@ -0,0 +1,233 @@
+package org.codefx.libfx.nesting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.beans.Observable;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests whether updating a {@link DeepNesting} (and a {@link NestingObserver} on it) allocates memory once the code
+ * is warmed up.
+ * <p>
+ * The tests use the hierarchy {@code outer -> innerValue -> property} and change the inner value, so the nesting has
+ * to replace its inner observable but does not move any listeners. (Moving listeners between observables allocates
+ * within their listener management, which is out of this library's control.)
+ */
+public class DeepNestingAllocationTest {
+
+	/**
+	 * The number of updates which are performed before the allocations are measured.
+	 */
+	private static final int WARMUP_UPDATES = 20_000;
+
+	/**
+	 * The number of updates during which the allocations are measured.
+	 */
+	private static final int MEASURED_UPDATES = 10_000;
+
+	/**
+	 * The number of times the allocations are measured. The smallest result is used because unrelated one-time
+	 * allocations (e.g. by the JIT compiler) might occur during any single measurement, while allocations made by the
+	 * update occur during all of them.
+	 */
+	private static final int MEASUREMENTS = 5;
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The bean which measures the allocated bytes.
+	 */
+	private com.sun.management.ThreadMXBean threadBean;
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<OuterValue> outerObservable;
+
+	/**
+	 * The first of the two inner values between which the hierarchy alternates.
+	 */
+	private InnerValue firstInnerValue;
+
+	/**
+	 * The second of the two inner values between which the hierarchy alternates.
+	 */
+	private InnerValue secondInnerValue;
+
+	/**
+	 * The number of times the inner value was alternated.
+	 */
+	private int alternations;
+
+	/**
+	 * The number of inner observables which the observer saw.
+	 */
+	private int observedInnerObservables;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the hierarchy and checks whether the JVM can measure allocations.
+	 */
+	@Before
+	public void setUp() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		threadBean = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+
+		outerObservable = new SimpleObjectProperty<>(OuterValue.createWithInnerType());
+		firstInnerValue = InnerValue.createWithObservables();
+		secondInnerValue = InnerValue.createWithObservables();
+		outerObservable.getValue().setInnerValue(firstInnerValue);
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether updating a nesting allocates memory.
+	 */
+	@Test
+	public void testUpdateDoesNotAllocate() {
+		Nesting<Property<SomeValue>> nesting = Nestings.on(outerObservable)
+				.nest(OuterValue::innerValueProperty)
+				.nest(InnerValue::property)
+				.buildNesting();
+
+		long allocatedBytes = measureAllocatedBytes();
+
+		assertEquals(0, allocatedBytes);
+		assertEquals(firstInnerValue.property(), nesting.innerObservableProperty().getValue().get());
+	}
+
+	/**
+	 * Tests whether updating a nesting with invalidation listeners and requesting its inner observable allocates
+	 * memory.
+	 */
+	@Test
+	public void testUpdateWithInvalidationListenersDoesNotAllocate() {
+		Nesting<Property<SomeValue>> nesting = Nestings.on(outerObservable)
+				.withInvalidationListeners()
+				.nest(OuterValue::innerValueProperty)
+				.nest(InnerValue::property)
+				.buildNesting();
+		Runnable updateAndRequest = () -> {
+			alternateInnerValue();
+			nesting.innerObservableProperty().getValue();
+		};
+
+		long allocatedBytes = measureAllocatedBytes(updateAndRequest);
+
+		assertEquals(0, allocatedBytes);
+	}
+
+	/**
+	 * Tests whether updating a nesting which is observed by a {@link NestingObserver} allocates memory.
+	 */
+	@Test
+	public void testUpdateWithObserverDoesNotAllocate() {
+		Nesting<Property<SomeValue>> nesting = Nestings.on(outerObservable)
+				.nest(OuterValue::innerValueProperty)
+				.nest(InnerValue::property)
+				.buildNesting();
+		NestingObserver
+				.forNesting(nesting)
+				.withNewInnerObservable(this::countInnerObservable)
+				.observe();
+
+		long allocatedBytes = measureAllocatedBytes();
+
+		assertEquals(0, allocatedBytes);
+		assertEquals(1 + alternations, observedInnerObservables);
+	}
+
+	//#end TESTS
+
+	// #region MEASUREMENT
+
+	/**
+	 * Measures the bytes allocated by {@link #MEASURED_UPDATES} calls of {@link #alternateInnerValue()}.
+	 *
+	 * @return the allocated bytes
+	 */
+	private long measureAllocatedBytes() {
+		return measureAllocatedBytes(this::alternateInnerValue);
+	}
+
+	/**
+	 * Measures the bytes allocated by {@link #MEASURED_UPDATES} runs of the specified update after warming it up. The
+	 * measurement is repeated {@link #MEASUREMENTS} times and the smallest result is returned.
+	 *
+	 * @param update
+	 *            the measured update
+	 * @return the allocated bytes
+	 */
+	private long measureAllocatedBytes(Runnable update) {
+		for (int i = 0; i < WARMUP_UPDATES; i++)
+			update.run();
+
+		long allocatedBytes = Long.MAX_VALUE;
+		for (int i = 0; i < MEASUREMENTS && allocatedBytes > 0; i++)
+			allocatedBytes = Math.min(allocatedBytes, measureAllocatedBytesOnce(update));
+		return allocatedBytes;
+	}
+
+	/**
+	 * Measures the bytes allocated by {@link #MEASURED_UPDATES} runs of the specified update.
+	 *
+	 * @param update
+	 *            the measured update
+	 * @return the allocated bytes
+	 */
+	private long measureAllocatedBytesOnce(Runnable update) {
+		long threadId = Thread.currentThread().getId();
+		// measure how much the measurement itself allocates
+		long measurementStart = threadBean.getThreadAllocatedBytes(threadId);
+		long measurementEnd = threadBean.getThreadAllocatedBytes(threadId);
+		long measurementBytes = measurementEnd - measurementStart;
+
+		long start = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_UPDATES; i++)
+			update.run();
+		long end = threadBean.getThreadAllocatedBytes(threadId);
+
+		return end - start - measurementBytes;
+	}
+
+	/**
+	 * Replaces the outer value's inner value with the other of the two alternating inner values.
+	 */
+	private void alternateInnerValue() {
+		alternations++;
+		OuterValue outerValue = outerObservable.getValue();
+		if (outerValue.getInnerValue() == firstInnerValue)
+			outerValue.setInnerValue(secondInnerValue);
+		else
+			outerValue.setInnerValue(firstInnerValue);
+	}
+
+	/**
+	 * Counts the specified inner observable.
+	 *
+	 * @param innerObservable
+	 *            the new inner observable
+	 */
+	@SuppressWarnings("unused")
+	private void countInnerObservable(Observable innerObservable) {
+		observedInnerObservables++;
+	}
+
+	//#end MEASUREMENT
+
+}
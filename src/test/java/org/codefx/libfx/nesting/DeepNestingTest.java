@@ -1,11 +1,26 @@
 package org.codefx.libfx.nesting;
 
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.getNestingObservable;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.beans.binding.Binding;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 
 import org.codefx.libfx.nesting.DeepNesting;
@@ -14,7 +29,9 @@ import org.codefx.libfx.nesting.NestingStep;
 import org.codefx.libfx.nesting.testhelper.InnerValue;
 import org.codefx.libfx.nesting.testhelper.NestingAccess;
 import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.property.NestedObjectProperty;
 import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -27,6 +44,11 @@ import org.junit.runners.Suite.SuiteClasses;
 	DeepNestingTest.WithObservable.class,
 	DeepNestingTest.WithProperty.class,
 	DeepNestingTest.WithIntegerProperty.class,
+	DeepNestingTest.WithWeakListeners.class,
+	DeepNestingTest.WithLazyListeners.class,
+	DeepNestingTest.WithObservedLazyListeners.class,
+	DeepNestingTest.WithInvalidationListeners.class,
+	DeepNestingTest.WithEquivalence.class,
 })
 public class DeepNestingTest {
 
@@ -102,4 +124,364 @@ public class DeepNestingTest {
 
 	}
 
+	/**
+	 * Tests a {@link DeepNesting} which uses weak listeners.
+	 */
+	public static class WithWeakListeners
+			extends AbstractDeepNestingTestForDefaultNesting<Property<SomeValue>> {
+
+		@Override
+		protected Nesting<Property<SomeValue>> createNewNestingFromOuterObservable(
+				Property<OuterValue> outerObservable) {
+
+			return Nestings.on(outerObservable)
+					.nest(OuterValue::innerValueProperty)
+					.nest(InnerValue::property)
+					.withWeakListeners()
+					.buildNesting();
+		}
+
+		@Override
+		protected Property<SomeValue> getInnerObservable(Property<OuterValue> outerObservable) {
+			return NestingAccess.getInnerProperty(outerObservable);
+		}
+
+		/**
+		 * Tests whether a nesting which is no longer referenced is garbage collected even though the outer
+		 * observable is still reachable.
+		 */
+		@Test
+		public void testUnreferencedNestingIsCollected() {
+			WeakReference<Nesting<Property<SomeValue>>> nestingReference = new WeakReference<>(nesting);
+			nesting = null;
+
+			collectGarbage(nestingReference);
+			assertNull(nestingReference.get());
+		}
+
+		/**
+		 * Tests whether a nested property which is no longer referenced is garbage collected even though the outer
+		 * observable is still reachable.
+		 */
+		@Test
+		public void testUnreferencedNestedPropertyIsCollected() {
+			WeakReference<NestedObjectProperty<SomeValue>> propertyReference = new WeakReference<>(
+					Nestings.on(outerObservable)
+							.nest(OuterValue::innerValueProperty)
+							.nest(InnerValue::property)
+							.withWeakListeners()
+							.buildProperty());
+
+			collectGarbage(propertyReference);
+			assertNull(propertyReference.get());
+		}
+
+		/**
+		 * Tests whether a nested property which is still referenced keeps its nesting alive, so it is updated after
+		 * garbage was collected.
+		 */
+		@Test
+		public void testReferencedNestedPropertyIsUpdatedAfterCollection() {
+			NestedObjectProperty<SomeValue> property = Nestings.on(outerObservable)
+					.nest(OuterValue::innerValueProperty)
+					.nest(InnerValue::property)
+					.withWeakListeners()
+					.buildProperty();
+			WeakReference<NestedObjectProperty<SomeValue>> propertyReference = new WeakReference<>(property);
+
+			// since the property is still referenced, this only gives the GC the chance to wrongly collect the nesting
+			collectGarbage(propertyReference);
+			assertNotNull(propertyReference.get());
+
+			setNewValue(outerObservable, Level.OUTER, Value.ANY);
+			SomeValue newValue = new SomeValue();
+			getInnerObservable(outerObservable).setValue(newValue);
+			assertEquals(newValue, property.getValue());
+		}
+
+	}
+
+	/**
+	 * Tests a {@link DeepNesting} which uses lazy listeners and is not observed.
+	 */
+	public static class WithLazyListeners
+			extends AbstractDeepNestingTestForDefaultNesting<Property<SomeValue>> {
+
+		@Override
+		protected Nesting<Property<SomeValue>> createNewNestingFromOuterObservable(
+				Property<OuterValue> outerObservable) {
+
+			return Nestings.on(outerObservable)
+					.nest(OuterValue::innerValueProperty)
+					.nest(InnerValue::property)
+					.withLazyListeners()
+					.buildNesting();
+		}
+
+		@Override
+		protected Property<SomeValue> getInnerObservable(Property<OuterValue> outerObservable) {
+			return NestingAccess.getInnerProperty(outerObservable);
+		}
+
+		/**
+		 * Tests whether an unobserved nesting is garbage collected even though the outer observable is still
+		 * reachable, which is only possible if it did not add any listeners to the hierarchy.
+		 */
+		@Test
+		public void testUnobservedNestingIsCollected() {
+			WeakReference<Nesting<Property<SomeValue>>> nestingReference = new WeakReference<>(nesting);
+			nesting = null;
+
+			collectGarbage(nestingReference);
+			assertNull(nestingReference.get());
+		}
+
+		/**
+		 * Tests whether a listener on the nesting's {@link Nesting#innerObservableProperty() innerObservable} is
+		 * notified when the hierarchy changes.
+		 */
+		@Test
+		public void testListenerIsNotifiedWhenSettingOuterValue() {
+			List<Optional<Property<SomeValue>>> newInnerObservables = new ArrayList<>();
+			nesting.innerObservableProperty().addListener((o, oldValue, newValue) -> newInnerObservables.add(newValue));
+
+			setNewValue(outerObservable, Level.OUTER, Value.ANY);
+
+			assertEquals(1, newInnerObservables.size());
+			assertSame(getInnerObservable(outerObservable), newInnerObservables.get(0).get());
+		}
+
+		/**
+		 * Tests whether a nesting which is no longer observed is garbage collected even though the outer observable is
+		 * still reachable, which is only possible if it removed its listeners from the hierarchy.
+		 */
+		@Test
+		public void testNestingIsCollectedAfterLastListenerWasRemoved() {
+			InvalidationListener listener = observable -> {/* do nothing */};
+			nesting.innerObservableProperty().addListener(listener);
+			nesting.innerObservableProperty().removeListener(listener);
+
+			WeakReference<Nesting<Property<SomeValue>>> nestingReference = new WeakReference<>(nesting);
+			nesting = null;
+
+			collectGarbage(nestingReference);
+			assertNull(nestingReference.get());
+		}
+
+	}
+
+	/**
+	 * Tests a {@link DeepNesting} which uses lazy listeners and is observed.
+	 */
+	public static class WithObservedLazyListeners
+			extends AbstractDeepNestingTestForDefaultNesting<Property<SomeValue>> {
+
+		@Override
+		protected Nesting<Property<SomeValue>> createNewNestingFromOuterObservable(
+				Property<OuterValue> outerObservable) {
+
+			Nesting<Property<SomeValue>> nesting = Nestings.on(outerObservable)
+					.nest(OuterValue::innerValueProperty)
+					.nest(InnerValue::property)
+					.withLazyListeners()
+					.buildNesting();
+			nesting.innerObservableProperty().addListener(observable -> {/* only observe the nesting */});
+			return nesting;
+		}
+
+		@Override
+		protected Property<SomeValue> getInnerObservable(Property<OuterValue> outerObservable) {
+			return NestingAccess.getInnerProperty(outerObservable);
+		}
+
+	}
+
+	/**
+	 * Tests a {@link DeepNesting} which uses invalidation listeners.
+	 */
+	public static class WithInvalidationListeners
+			extends AbstractDeepNestingTestForDefaultNesting<Property<SomeValue>> {
+
+		@Override
+		protected Nesting<Property<SomeValue>> createNewNestingFromOuterObservable(
+				Property<OuterValue> outerObservable) {
+
+			return Nestings.on(outerObservable)
+					.nest(OuterValue::innerValueProperty)
+					.nest(InnerValue::property)
+					.withInvalidationListeners()
+					.buildNesting();
+		}
+
+		@Override
+		protected Property<SomeValue> getInnerObservable(Property<OuterValue> outerObservable) {
+			return NestingAccess.getInnerProperty(outerObservable);
+		}
+
+		/**
+		 * Tests whether a {@link Binding} in the hierarchy is only evaluated when the nesting's inner observable is
+		 * requested and not each time it is invalidated.
+		 */
+		@Test
+		public void testBindingIsEvaluatedOnlyWhenInnerObservableIsRequested() {
+			// create a hierarchy where the nested observable is a binding which counts its evaluations
+			Property<InnerValue> innerValue = new SimpleObjectProperty<>(InnerValue.createWithObservables());
+			int[] evaluations = new int[1];
+			ObjectBinding<InnerValue> binding = Bindings.createObjectBinding(() -> {
+				evaluations[0]++;
+				return innerValue.getValue();
+			}, innerValue);
+			Property<ObjectBinding<InnerValue>> outerBinding = new SimpleObjectProperty<>(binding);
+
+			Nesting<Property<SomeValue>> bindingNesting = Nestings.on(outerBinding)
+					.nestObservableValue(theBinding -> theBinding)
+					.nest(InnerValue::property)
+					.withInvalidationListeners()
+					.buildNesting();
+			int evaluationsAfterConstruction = evaluations[0];
+
+			// change the binding's dependency several times
+			InnerValue lastInnerValue = null;
+			for (int i = 0; i < 3; i++) {
+				lastInnerValue = InnerValue.createWithObservables();
+				innerValue.setValue(lastInnerValue);
+			}
+			assertEquals(evaluationsAfterConstruction, evaluations[0]);
+
+			// request the inner observable, which must evaluate the binding exactly once
+			assertSame(lastInnerValue.property(), bindingNesting.innerObservableProperty().getValue().get());
+			assertEquals(evaluationsAfterConstruction + 1, evaluations[0]);
+		}
+
+	}
+
+	/**
+	 * Tests a {@link DeepNesting} which compares values with an equivalence.
+	 */
+	public static class WithEquivalence
+			extends AbstractDeepNestingTestForDefaultNesting<Property<SomeValue>> {
+
+		@Override
+		protected Nesting<Property<SomeValue>> createNewNestingFromOuterObservable(
+				Property<OuterValue> outerObservable) {
+
+			// 'OuterValue' and 'InnerValue' do not override 'equals' so this behaves like identity
+			return Nestings.on(outerObservable)
+					.withEquivalence(Objects::equals)
+					.nest(OuterValue::innerValueProperty)
+					.withEquivalence(Objects::equals)
+					.nest(InnerValue::property)
+					.buildNesting();
+		}
+
+		@Override
+		protected Property<SomeValue> getInnerObservable(Property<OuterValue> outerObservable) {
+			return NestingAccess.getInnerProperty(outerObservable);
+		}
+
+		/**
+		 * Creates a nesting on the {@link #outerObservable} which considers all outer values equivalent.
+		 *
+		 * @return a new {@link Nesting}
+		 */
+		private Nesting<Property<SomeValue>> createNestingWhereAllOuterValuesAreEquivalent() {
+			return Nestings.on(outerObservable)
+					.withEquivalence((oldValue, newValue) -> true)
+					.nest(OuterValue::innerValueProperty)
+					.nest(InnerValue::property)
+					.buildNesting();
+		}
+
+		/**
+		 * Tests whether the nesting keeps its inner observable if the outer value is replaced by an equivalent one.
+		 */
+		@Test
+		public void testInnerObservableIsKeptWhenSettingEquivalentOuterValue() {
+			Nesting<Property<SomeValue>> equivalenceNesting = createNestingWhereAllOuterValuesAreEquivalent();
+			Property<SomeValue> innerObservable = getNestingObservable(equivalenceNesting);
+
+			NestingAccess.setOuterValue(outerObservable, OuterValue.createWithInnerType());
+
+			assertNotSame(innerObservable, getInnerObservable(outerObservable));
+			assertSame(innerObservable, getNestingObservable(equivalenceNesting));
+		}
+
+		/**
+		 * Tests whether null is not equivalent to any other value.
+		 */
+		@Test
+		public void testInnerObservableIsMissingWhenSettingOuterValueToNull() {
+			Nesting<Property<SomeValue>> equivalenceNesting = createNestingWhereAllOuterValuesAreEquivalent();
+
+			NestingAccess.setOuterValue(outerObservable, null);
+
+			assertNull(getNestingObservable(equivalenceNesting));
+		}
+
+		/**
+		 * Tests whether the equivalence is not used on deeper levels.
+		 */
+		@Test
+		public void testInnerObservableIsUpdatedWhenSettingNestedValue() {
+			Nesting<Property<SomeValue>> equivalenceNesting = createNestingWhereAllOuterValuesAreEquivalent();
+
+			NestingAccess.setInnerValue(outerObservable, InnerValue.createWithObservables());
+
+			assertSame(getInnerObservable(outerObservable), getNestingObservable(equivalenceNesting));
+		}
+
+		/**
+		 * Tests whether building a nesting fails if an equivalence was set on the last builder, whose observable is
+		 * the inner observable.
+		 */
+		@Test(expected = IllegalStateException.class)
+		public void testBuildingWithEquivalenceOnInnerObservableFails() {
+			Nestings.on(outerObservable)
+					.nest(OuterValue::innerValueProperty)
+					.nest(InnerValue::property)
+					.withEquivalence(Objects::equals)
+					.buildNesting();
+		}
+
+		/**
+		 * Tests whether building a nested property fails if an equivalence was set on the last builder.
+		 */
+		@Test(expected = IllegalStateException.class)
+		public void testBuildingPropertyWithEquivalenceOnInnerObservableFails() {
+			Nestings.on(outerObservable)
+					.nest(OuterValue::innerValueProperty)
+					.nestIntegerProperty(InnerValue::integerProperty)
+					.withEquivalence(Objects::equals)
+					.buildProperty();
+		}
+
+		/**
+		 * Tests whether building a shallow nesting fails if an equivalence was set on the outer builder.
+		 */
+		@Test(expected = IllegalStateException.class)
+		public void testBuildingShallowNestingWithEquivalenceFails() {
+			Nestings.on(outerObservable)
+					.withEquivalence(Objects::equals)
+					.buildNesting();
+		}
+
+	}
+
+	/**
+	 * Runs the garbage collector until the specified reference is cleared (but at most a couple of times).
+	 *
+	 * @param reference
+	 *            the {@link WeakReference} which is expected to be cleared
+	 */
+	private static void collectGarbage(WeakReference<?> reference) {
+		for (int i = 0; i < 10 && reference.get() != null; i++) {
+			System.gc();
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
 }
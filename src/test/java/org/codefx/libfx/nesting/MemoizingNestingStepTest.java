@@ -0,0 +1,148 @@
+package org.codefx.libfx.nesting;
+
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.getNestingObservable;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link MemoizingNestingStep}.
+ */
+public class MemoizingNestingStepTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The number of times the memoized step was called.
+	 */
+	private int stepCalls;
+
+	/**
+	 * The tested step, which memoizes {@link InnerValue#property()}.
+	 */
+	private MemoizingNestingStep<InnerValue, Property<SomeValue>> step;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the tested step.
+	 */
+	@Before
+	public void setUp() {
+		step = MemoizingNestingStep.memoize(innerValue -> {
+			stepCalls++;
+			return innerValue.property();
+		});
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether a step which is performed again on the same value returns the memoized result.
+	 */
+	@Test
+	public void testStepOnSameValueIsMemoized() {
+		InnerValue value = InnerValue.createWithObservables();
+
+		Property<SomeValue> firstResult = step.step(value);
+		Property<SomeValue> secondResult = step.step(value);
+
+		assertSame(value.property(), firstResult);
+		assertSame(firstResult, secondResult);
+		assertEquals(1, stepCalls);
+		assertEquals(1, step.getHitCount());
+		assertEquals(1, step.getMissCount());
+	}
+
+	/**
+	 * Tests whether a null result is memoized.
+	 */
+	@Test
+	public void testNullResultIsMemoized() {
+		InnerValue value = InnerValue.createWithNulls();
+
+		assertNull(step.step(value));
+		assertNull(step.step(value));
+
+		assertEquals(1, stepCalls);
+		assertEquals(1, step.getHitCount());
+	}
+
+	/**
+	 * Tests whether values are compared by identity.
+	 */
+	@Test
+	public void testValuesAreComparedByIdentity() {
+		MemoizingNestingStep<String, Property<String>> stringStep = MemoizingNestingStep.memoize(
+				string -> new SimpleObjectProperty<>(string));
+		String value = "value";
+		String equalValue = new String(value);
+
+		stringStep.step(value);
+		stringStep.step(equalValue);
+
+		assertEquals(0, stringStep.getHitCount());
+		assertEquals(2, stringStep.getMissCount());
+	}
+
+	/**
+	 * Tests whether a nesting which alternates between two values performs the memoized step only once per value.
+	 */
+	@Test
+	public void testNestingWhichAlternatesValues() {
+		InnerValue firstValue = InnerValue.createWithObservables();
+		InnerValue secondValue = InnerValue.createWithObservables();
+		OuterValue outerValue = OuterValue.createWithInnerType();
+		outerValue.setInnerValue(firstValue);
+		Nesting<Property<SomeValue>> nesting = Nestings.on(new SimpleObjectProperty<>(outerValue))
+				.nest(OuterValue::innerValueProperty)
+				.nest(step)
+				.buildNesting();
+
+		for (int i = 0; i < 5; i++) {
+			outerValue.setInnerValue(secondValue);
+			outerValue.setInnerValue(firstValue);
+		}
+
+		assertSame(firstValue.property(), getNestingObservable(nesting));
+		assertEquals(2, stepCalls);
+		assertEquals(2, step.getMissCount());
+		assertEquals(9, step.getHitCount());
+	}
+
+	/**
+	 * Tests whether the memoization does not keep values alive.
+	 */
+	@Test
+	public void testValuesAreNotKeptAlive() {
+		InnerValue value = InnerValue.createWithObservables();
+		step.step(value);
+		WeakReference<InnerValue> valueReference = new WeakReference<>(value);
+
+		value = null;
+		for (int i = 0; i < 10 && valueReference.get() != null; i++) {
+			System.gc();
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		assertNull(valueReference.get());
+	}
+
+	//#end TESTS
+
+}
@@ -0,0 +1,223 @@
+package org.codefx.libfx.nesting;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.listener.NestedChangeListenerBuilder;
+import org.codefx.libfx.nesting.listener.NestedChangeListenerHandle;
+import org.codefx.libfx.nesting.property.NestedIntegerProperty;
+import org.codefx.libfx.nesting.property.NestedIntegerPropertyBuilder;
+import org.codefx.libfx.nesting.property.NestedObjectProperty;
+import org.codefx.libfx.nesting.property.NestedObjectPropertyBuilder;
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests how much memory a nested property or a nested listener handle occupies on top of its nesting.
+ * <p>
+ * The memory is measured as the bytes allocated while creating the instances, which is an upper bound of what they
+ * retain. Each instance gets its own hierarchy {@code outer -> innerValue -> property} and nesting, whose allocations
+ * are measured separately and subtracted. The budgets leave some room for the measurement's noise but fail if the
+ * instances eagerly create their {@code innerObservablePresent} property or observe the nesting with a separate
+ * {@link NestingObserver}.
+ */
+public class NestedPropertyFootprintTest {
+
+	/**
+	 * The number of instances which are created for each measurement.
+	 */
+	private static final int INSTANCES = 1_000;
+
+	/**
+	 * The number of instances which are created before the allocations are measured.
+	 */
+	private static final int WARMUP_INSTANCES = 20_000;
+
+	/**
+	 * The number of times the allocations are measured. The smallest result is used because unrelated one-time
+	 * allocations (e.g. by the JIT compiler) might occur during any single measurement.
+	 */
+	private static final int MEASUREMENTS = 5;
+
+	/**
+	 * The number of bytes a {@link NestedObjectProperty} may occupy on top of its nesting.
+	 */
+	private static final long OBJECT_PROPERTY_BUDGET = 320;
+
+	/**
+	 * The number of bytes a {@link NestedIntegerProperty} may occupy on top of its nesting.
+	 */
+	private static final long INTEGER_PROPERTY_BUDGET = 320;
+
+	/**
+	 * The number of bytes a {@link NestedChangeListenerHandle} may occupy on top of its nesting.
+	 */
+	private static final long CHANGE_LISTENER_HANDLE_BUDGET = 224;
+
+	/**
+	 * The bean which measures the allocated bytes.
+	 */
+	private com.sun.management.ThreadMXBean threadBean;
+
+	/**
+	 * Checks whether the JVM can measure allocations.
+	 */
+	@Before
+	public void setUp() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		threadBean = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether a {@link NestedObjectProperty} stays within its {@link #OBJECT_PROPERTY_BUDGET budget}.
+	 */
+	@Test
+	public void testObjectPropertyFootprint() {
+		long footprint = measureFootprint(
+				NestedPropertyFootprintTest::createPropertyNesting,
+				nesting -> NestedObjectPropertyBuilder.forNesting(nesting).build());
+
+		assertWithinBudget(OBJECT_PROPERTY_BUDGET, footprint);
+	}
+
+	/**
+	 * Tests whether a {@link NestedIntegerProperty} stays within its {@link #INTEGER_PROPERTY_BUDGET budget}.
+	 */
+	@Test
+	public void testIntegerPropertyFootprint() {
+		long footprint = measureFootprint(
+				NestedPropertyFootprintTest::createIntegerPropertyNesting,
+				nesting -> NestedIntegerPropertyBuilder.forNesting(nesting).build());
+
+		assertWithinBudget(INTEGER_PROPERTY_BUDGET, footprint);
+	}
+
+	/**
+	 * Tests whether a {@link NestedChangeListenerHandle} stays within its {@link #CHANGE_LISTENER_HANDLE_BUDGET
+	 * budget}.
+	 */
+	@Test
+	public void testChangeListenerHandleFootprint() {
+		long footprint = measureFootprint(
+				NestedPropertyFootprintTest::createPropertyNesting,
+				nesting -> NestedChangeListenerBuilder
+						.forNesting(nesting)
+						.withListener((observable, oldValue, newValue) -> { /* nothing to do */})
+						.buildAttached());
+
+		assertWithinBudget(CHANGE_LISTENER_HANDLE_BUDGET, footprint);
+	}
+
+	//#end TESTS
+
+	// #region NESTINGS
+
+	/**
+	 * Creates a new hierarchy and a nesting on its {@link InnerValue#property() property}.
+	 *
+	 * @return a new nesting
+	 */
+	private static Nesting<Property<SomeValue>> createPropertyNesting() {
+		Property<InnerValue> outerObservable = new SimpleObjectProperty<>(InnerValue.createWithObservables());
+		return Nestings.on(outerObservable)
+				.nestProperty(InnerValue::property)
+				.buildNesting();
+	}
+
+	/**
+	 * Creates a new hierarchy and a nesting on its {@link InnerValue#integerProperty() integerProperty}.
+	 *
+	 * @return a new nesting
+	 */
+	private static Nesting<IntegerProperty> createIntegerPropertyNesting() {
+		Property<InnerValue> outerObservable = new SimpleObjectProperty<>(InnerValue.createWithObservables());
+		return Nestings.on(outerObservable)
+				.nestIntegerProperty(InnerValue::integerProperty)
+				.buildNesting();
+	}
+
+	//#end NESTINGS
+
+	// #region MEASUREMENT
+
+	/**
+	 * Measures how many bytes an instance created from a nesting occupies on top of the nesting.
+	 *
+	 * @param <N>
+	 *            the type of the nesting
+	 * @param createNesting
+	 *            creates a new hierarchy and a nesting on it
+	 * @param createInstance
+	 *            creates the measured instance from a nesting
+	 * @return the bytes per instance
+	 */
+	private <N> long measureFootprint(Supplier<N> createNesting, Function<N, ?> createInstance) {
+		Object[] instances = new Object[INSTANCES];
+		Runnable nestingsOnly = () -> {
+			for (int i = 0; i < INSTANCES; i++)
+				instances[i] = createNesting.get();
+		};
+		Runnable nestingsAndInstances = () -> {
+			for (int i = 0; i < INSTANCES; i++)
+				instances[i] = createInstance.apply(createNesting.get());
+		};
+
+		long nestingBytes = measureAllocatedBytes(nestingsOnly);
+		long totalBytes = measureAllocatedBytes(nestingsAndInstances);
+		return (totalBytes - nestingBytes) / INSTANCES;
+	}
+
+	/**
+	 * Measures the bytes allocated by the specified creation (which creates {@link #INSTANCES} instances) after
+	 * warming it up. The measurement is repeated {@link #MEASUREMENTS} times and the smallest result is returned.
+	 *
+	 * @param creation
+	 *            the measured creation
+	 * @return the allocated bytes
+	 */
+	private long measureAllocatedBytes(Runnable creation) {
+		for (int i = 0; i < WARMUP_INSTANCES / INSTANCES; i++)
+			creation.run();
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBytes = Long.MAX_VALUE;
+		for (int i = 0; i < MEASUREMENTS; i++) {
+			long start = threadBean.getThreadAllocatedBytes(threadId);
+			creation.run();
+			long end = threadBean.getThreadAllocatedBytes(threadId);
+			allocatedBytes = Math.min(allocatedBytes, end - start);
+		}
+		return allocatedBytes;
+	}
+
+	/**
+	 * Asserts that the specified footprint is within the specified budget.
+	 *
+	 * @param budget
+	 *            the maximal number of bytes
+	 * @param footprint
+	 *            the measured number of bytes
+	 */
+	private static void assertWithinBudget(long budget, long footprint) {
+		assertTrue("The footprint of " + footprint + " bytes exceeds the budget of " + budget + " bytes.",
+				footprint <= budget);
+	}
+
+	//#end MEASUREMENT
+
+}
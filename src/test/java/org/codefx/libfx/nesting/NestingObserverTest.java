@@ -1,5 +1,6 @@
 package org.codefx.libfx.nesting;
 
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -37,6 +38,11 @@ public class NestingObserverTest {
 	 */
 	private MethodCallVerifier verifier;
 
+	/**
+	 * The tested {@link NestingObserver}.
+	 */
+	private NestingObserver<Observable> observer;
+
 	//#end INSTANCES USED FOR TESTING
 
 	// #region INITIALIZATION
@@ -61,7 +67,7 @@ public class NestingObserverTest {
 		verifier = mock(MethodCallVerifier.class);
 
 		// create a nesting observer for the nesting which calls the verifier's methods
-		NestingObserver
+		observer = NestingObserver
 				.forNesting(nesting)
 				.withOldInnerObservable(verifier::oldInnerObservableMethod)
 				.withNewInnerObservable(verifier::newInnerObservableMethod)
@@ -183,6 +189,22 @@ public class NestingObserverTest {
 		verifyNoMoreInteractions(verifier);
 	}
 
+	/**
+	 * Tests whether replacing the inner observable after the observer was disposed leads to no method calls.
+	 */
+	@Test
+	public void testReplacingInnerObservableAfterDispose() {
+		// create a nesting with the initial inner observable and mock a call verifier, which is then reset
+		setUpObservation(INNER_OBSERVABLE_INITIALLY_PRESENT.YES, RESET_MOCK.YES);
+
+		observer.dispose();
+		nesting.setInnerObservable(Optional.of(new SimpleStringProperty()));
+
+		// the disposed observer must neither call any method nor dispose the nesting
+		verifyZeroInteractions(verifier);
+		assertFalse(nesting.isDisposed());
+	}
+
 	//#end TESTS
 
 	// #region INNER CLASSES
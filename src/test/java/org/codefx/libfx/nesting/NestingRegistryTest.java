@@ -0,0 +1,430 @@
+package org.codefx.libfx.nesting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.property.NestedObjectProperty;
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link NestingRegistry}.
+ */
+public class NestingRegistryTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The nesting step from an outer value to its inner value's property.
+	 */
+	private static final NestingStep<OuterValue, Property<InnerValue>> INNER_VALUE = OuterValue::innerValueProperty;
+
+	/**
+	 * The nesting step from an inner value to its property.
+	 */
+	private static final NestingStep<InnerValue, Property<SomeValue>> PROPERTY = InnerValue::property;
+
+	/**
+	 * The nesting step from an inner value to its integer property.
+	 */
+	private static final NestingStep<InnerValue, IntegerProperty> INTEGER_PROPERTY = InnerValue::integerProperty;
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<OuterValue> outerObservable;
+
+	/**
+	 * The tested registry.
+	 */
+	private NestingRegistry registry;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the tested instances.
+	 */
+	@Before
+	public void setUp() {
+		outerObservable = new SimpleObjectProperty<>(OuterValue.createWithInnerType());
+		registry = new NestingRegistry();
+	}
+
+	/**
+	 * Builds a nesting from {@link #outerObservable} via {@link #INNER_VALUE} and {@link #PROPERTY}.
+	 *
+	 * @return a new {@link Nesting}
+	 */
+	private Nesting<Property<SomeValue>> buildNesting() {
+		return Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nest(PROPERTY)
+				.buildNesting();
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether identical nestings share the registered nesting.
+	 */
+	@Test
+	public void testIdenticalNestingsAreShared() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		Nesting<Property<SomeValue>> otherNesting = buildNesting();
+
+		assertNotSame(nesting, otherNesting);
+		assertSame(
+				nesting.innerObservableProperty().getValue().get(),
+				otherNesting.innerObservableProperty().getValue().get());
+		assertEquals(1, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether nestings with different nesting steps are not shared.
+	 */
+	@Test
+	public void testNestingsWithDifferentStepsAreNotShared() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		Nesting<Property<SomeValue>> otherNesting = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nest(innerValue -> innerValue.property())
+				.buildNesting();
+
+		assertNotSame(nesting.innerObservableProperty(), otherNesting.innerObservableProperty());
+		assertEquals(2, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether nestings with different settings are not shared.
+	 */
+	@Test
+	public void testNestingsWithDifferentSettingsAreNotShared() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		Nesting<Property<SomeValue>> otherNesting = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.withLazyListeners()
+				.nest(INNER_VALUE)
+				.nest(PROPERTY)
+				.buildNesting();
+
+		assertNotSame(nesting.innerObservableProperty(), otherNesting.innerObservableProperty());
+		assertEquals(2, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether the shared nesting is updated.
+	 */
+	@Test
+	public void testSharedNestingIsUpdated() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		buildNesting();
+
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+		outerObservable.setValue(newOuterValue);
+
+		assertSame(newOuterValue.getInnerValue().property(), nesting.innerObservableProperty().getValue().get());
+	}
+
+	/**
+	 * Tests whether the shared nesting is only released when the last user is disposed.
+	 */
+	@Test
+	public void testSharedNestingIsReleasedWithLastUser() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		Nesting<Property<SomeValue>> otherNesting = buildNesting();
+
+		nesting.dispose();
+		// disposing the same user twice must not release the other user's share
+		nesting.dispose();
+		assertEquals(1, registry.getNestingCount());
+
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+		outerObservable.setValue(newOuterValue);
+		assertSame(newOuterValue.getInnerValue().property(), otherNesting.innerObservableProperty().getValue().get());
+
+		otherNesting.dispose();
+		assertEquals(0, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether accessing a disposed user's inner observable property throws an exception.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testAccessingInnerObservableOfDisposedUser() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		buildNesting();
+		nesting.dispose();
+
+		nesting.innerObservableProperty();
+	}
+
+	/**
+	 * Tests whether disposing nested properties releases the shared nesting.
+	 */
+	@Test
+	public void testDisposingNestedPropertiesReleasesNesting() {
+		NestedObjectProperty<SomeValue> property = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nest(PROPERTY)
+				.buildProperty();
+		NestedObjectProperty<SomeValue> otherProperty = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nest(PROPERTY)
+				.buildProperty();
+		assertEquals(1, registry.getNestingCount());
+
+		SomeValue value = new SomeValue();
+		property.setValue(value);
+		assertSame(value, otherProperty.getValue());
+
+		property.dispose();
+		otherProperty.dispose();
+		assertEquals(0, registry.getNestingCount());
+	}
+
+	// #region TESTS WITH SHARED PREFIXES
+
+	/**
+	 * Tests whether nestings with a common prefix only evaluate the prefix's nesting steps once.
+	 */
+	@Test
+	public void testSharedPrefixIsEvaluatedOnce() {
+		registry = NestingRegistry.sharingPrefixes();
+		int[] innerValueSteps = { 0 };
+		NestingStep<OuterValue, Property<InnerValue>> countingInnerValue = outerValue -> {
+			innerValueSteps[0]++;
+			return outerValue.innerValueProperty();
+		};
+		Nestings.on(outerObservable).withRegistry(registry).nest(countingInnerValue).nest(PROPERTY).buildNesting();
+		Nestings.on(outerObservable).withRegistry(registry).nest(countingInnerValue).nestIntegerProperty(
+				INTEGER_PROPERTY).buildNesting();
+		innerValueSteps[0] = 0;
+
+		outerObservable.setValue(OuterValue.createWithInnerType());
+
+		assertEquals(1, innerValueSteps[0]);
+		assertEquals(3, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether nestings with a common prefix are updated when the values on the shared or their own levels
+	 * change.
+	 */
+	@Test
+	public void testNestingsWithSharedPrefixAreUpdated() {
+		registry = NestingRegistry.sharingPrefixes();
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		Nesting<IntegerProperty> otherNesting = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nestIntegerProperty(INTEGER_PROPERTY)
+				.buildNesting();
+
+		// change the outer value
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+		outerObservable.setValue(newOuterValue);
+		assertSame(newOuterValue.getInnerValue().property(), nesting.innerObservableProperty().getValue().get());
+		assertSame(newOuterValue.getInnerValue().integerProperty(),
+				otherNesting.innerObservableProperty().getValue().get());
+
+		// change the value on the shared level
+		InnerValue newInnerValue = InnerValue.createWithObservables();
+		newOuterValue.setInnerValue(newInnerValue);
+		assertSame(newInnerValue.property(), nesting.innerObservableProperty().getValue().get());
+		assertSame(newInnerValue.integerProperty(), otherNesting.innerObservableProperty().getValue().get());
+
+		// set null on the shared level
+		newOuterValue.setInnerValue(null);
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+		assertFalse(otherNesting.innerObservableProperty().getValue().isPresent());
+	}
+
+	/**
+	 * Tests whether the shared prefix is only released when the last nesting which uses it is disposed.
+	 */
+	@Test
+	public void testSharedPrefixIsReleasedWithLastUser() {
+		registry = NestingRegistry.sharingPrefixes();
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		Nesting<IntegerProperty> otherNesting = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nestIntegerProperty(INTEGER_PROPERTY)
+				.buildNesting();
+		assertEquals(3, registry.getNestingCount());
+
+		nesting.dispose();
+		assertEquals(2, registry.getNestingCount());
+
+		InnerValue newInnerValue = InnerValue.createWithObservables();
+		outerObservable.getValue().setInnerValue(newInnerValue);
+		assertSame(newInnerValue.integerProperty(), otherNesting.innerObservableProperty().getValue().get());
+
+		otherNesting.dispose();
+		assertEquals(0, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether nested properties work on nestings with a shared prefix.
+	 */
+	@Test
+	public void testNestedPropertiesWithSharedPrefix() {
+		registry = NestingRegistry.sharingPrefixes();
+		NestedObjectProperty<SomeValue> property = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nest(PROPERTY)
+				.buildProperty();
+
+		SomeValue value = new SomeValue();
+		outerObservable.getValue().getInnerValue().property().setValue(value);
+		assertSame(value, property.getValue());
+
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+		outerObservable.setValue(newOuterValue);
+		property.setValue(value);
+		assertSame(value, newOuterValue.getInnerValue().property().getValue());
+	}
+
+	/**
+	 * Tests whether a nesting with a shared prefix changes its inner observable only once when values on several
+	 * levels are replaced in a batch, starting with the deepest.
+	 */
+	@Test
+	public void testSharedPrefixInBatch() {
+		registry = NestingRegistry.sharingPrefixes();
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		List<Optional<Property<SomeValue>>> newInnerObservables = new ArrayList<>();
+		nesting.innerObservableProperty().addListener(
+				(observable, oldValue, newValue) -> newInnerObservables.add(newValue));
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+
+		Nestings.batch(() -> {
+			outerObservable.getValue().setInnerValue(InnerValue.createWithObservables());
+			outerObservable.setValue(newOuterValue);
+		});
+
+		assertEquals(1, newInnerObservables.size());
+		assertSame(newOuterValue.getInnerValue().property(), newInnerObservables.get(0).get());
+	}
+
+	//#end TESTS WITH SHARED PREFIXES
+
+	// #region TESTS WITH RE-ROOTING
+
+	/**
+	 * Tests whether a re-rooted nesting uses the registered nesting for the new outer observable and keeps its
+	 * listeners.
+	 */
+	@Test
+	public void testReroot() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		List<Optional<Property<SomeValue>>> newInnerObservables = new ArrayList<>();
+		nesting.innerObservableProperty().addListener(
+				(observable, oldValue, newValue) -> newInnerObservables.add(newValue));
+		Property<OuterValue> newOuterObservable = new SimpleObjectProperty<>(OuterValue.createWithInnerType());
+		Nesting<Property<SomeValue>> otherNesting = Nestings.on(newOuterObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nest(PROPERTY)
+				.buildNesting();
+
+		nesting.reroot(newOuterObservable);
+		assertEquals(1, registry.getNestingCount());
+		assertSame(newOuterObservable.getValue().getInnerValue().property(),
+				nesting.innerObservableProperty().getValue().get());
+		assertEquals(1, newInnerObservables.size());
+
+		InnerValue newInnerValue = InnerValue.createWithObservables();
+		newOuterObservable.getValue().setInnerValue(newInnerValue);
+		assertEquals(2, newInnerObservables.size());
+		assertSame(newInnerValue.property(), newInnerObservables.get(1).get());
+		assertSame(newInnerValue.property(), otherNesting.innerObservableProperty().getValue().get());
+
+		// the nesting no longer follows the old outer observable
+		outerObservable.setValue(OuterValue.createWithInnerType());
+		assertEquals(2, newInnerObservables.size());
+	}
+
+	/**
+	 * Tests whether re-rooting a nesting leaves other users of the old registered nesting unaffected.
+	 */
+	@Test
+	public void testRerootDoesNotAffectOtherUsers() {
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		Nesting<Property<SomeValue>> otherNesting = buildNesting();
+
+		nesting.reroot(new SimpleObjectProperty<>(OuterValue.createWithInnerType()));
+		assertEquals(2, registry.getNestingCount());
+
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+		outerObservable.setValue(newOuterValue);
+		assertSame(newOuterValue.getInnerValue().property(), otherNesting.innerObservableProperty().getValue().get());
+
+		otherNesting.dispose();
+		assertEquals(1, registry.getNestingCount());
+		nesting.dispose();
+		assertEquals(0, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether re-rooting the last user of a registered nesting releases it.
+	 */
+	@Test
+	public void testRerootReleasesOldNesting() {
+		registry = NestingRegistry.sharingPrefixes();
+		Nesting<Property<SomeValue>> nesting = buildNesting();
+		assertEquals(2, registry.getNestingCount());
+
+		nesting.reroot(new SimpleObjectProperty<>(OuterValue.createWithInnerType()));
+		assertEquals(2, registry.getNestingCount());
+
+		nesting.dispose();
+		assertEquals(0, registry.getNestingCount());
+	}
+
+	/**
+	 * Tests whether a nested property which uses a registry can be re-rooted.
+	 */
+	@Test
+	public void testRerootNestedProperty() {
+		NestedObjectProperty<SomeValue> property = Nestings.on(outerObservable)
+				.withRegistry(registry)
+				.nest(INNER_VALUE)
+				.nest(PROPERTY)
+				.buildProperty();
+		List<SomeValue> newValues = new ArrayList<>();
+		property.addListener((observable, oldValue, newValue) -> newValues.add(newValue));
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+
+		property.reroot(new SimpleObjectProperty<>(newOuterValue));
+		SomeValue value = new SomeValue();
+		property.setValue(value);
+
+		assertSame(value, newOuterValue.getInnerValue().property().getValue());
+		assertEquals(1, newValues.size());
+		assertSame(value, newValues.get(0));
+	}
+
+	//#end TESTS WITH RE-ROOTING
+
+	//#end TESTS
+
+}
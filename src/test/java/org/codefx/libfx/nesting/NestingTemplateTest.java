@@ -0,0 +1,166 @@
+package org.codefx.libfx.nesting;
+
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.getInnerProperty;
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.getNestingObservable;
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.setInnerValue;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link NestingTemplate}.
+ */
+public class NestingTemplateTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The builder whose settings are used for the template.
+	 */
+	private ObjectPropertyNestingBuilder<InnerValue> innerValueBuilder;
+
+	/**
+	 * The tested template, which nests from the {@link #innerValueBuilder} into the inner value's property.
+	 */
+	private NestingTemplate<Property<SomeValue>> template;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the tested template.
+	 */
+	@Before
+	public void setUp() {
+		innerValueBuilder = Nestings
+				.on(new SimpleObjectProperty<OuterValue>())
+				.nest(OuterValue::innerValueProperty);
+		template = innerValueBuilder
+				.nest(InnerValue::property)
+				.buildTemplate();
+	}
+
+	/**
+	 * Creates a new outer observable whose value has an inner value with observables.
+	 *
+	 * @return a new outer observable
+	 */
+	private static Property<OuterValue> createOuterObservable() {
+		return new SimpleObjectProperty<>(OuterValue.createWithInnerType());
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the nestings created by the template depend on their own outer observables.
+	 */
+	@Test
+	public void testCreatedNestingsDependOnTheirOuterObservables() {
+		Property<OuterValue> outerObservable = createOuterObservable();
+		Property<OuterValue> otherOuterObservable = createOuterObservable();
+
+		Nesting<Property<SomeValue>> nesting = template.createNesting(outerObservable);
+		Nesting<Property<SomeValue>> otherNesting = template.createNesting(otherOuterObservable);
+
+		assertSame(getInnerProperty(outerObservable), getNestingObservable(nesting));
+		assertSame(getInnerProperty(otherOuterObservable), getNestingObservable(otherNesting));
+	}
+
+	/**
+	 * Tests whether a nesting created by the template is updated when the hierarchy changes.
+	 */
+	@Test
+	public void testCreatedNestingIsUpdated() {
+		Property<OuterValue> outerObservable = createOuterObservable();
+		Nesting<Property<SomeValue>> nesting = template.createNesting(outerObservable);
+
+		setInnerValue(outerObservable, InnerValue.createWithObservables());
+
+		assertSame(getInnerProperty(outerObservable), getNestingObservable(nesting));
+	}
+
+	/**
+	 * Tests whether changing the builder's settings after the template was built does not affect the template.
+	 */
+	@Test
+	public void testTemplateIsNotAffectedByLaterSettings() {
+		innerValueBuilder.withEquivalence((innerValue, otherInnerValue) -> true);
+		Property<OuterValue> outerObservable = createOuterObservable();
+		Nesting<Property<SomeValue>> nesting = template.createNesting(outerObservable);
+
+		setInnerValue(outerObservable, InnerValue.createWithObservables());
+
+		assertSame(getInnerProperty(outerObservable), getNestingObservable(nesting));
+	}
+
+	/**
+	 * Tests whether the nestings created by the template use the equivalences of the builders it was built from.
+	 */
+	@Test
+	public void testCreatedNestingsUseEquivalences() {
+		NestingTemplate<Property<SomeValue>> equivalenceTemplate = Nestings
+				.on(new SimpleObjectProperty<OuterValue>())
+				.nest(OuterValue::innerValueProperty)
+				.withEquivalence((innerValue, otherInnerValue) -> true)
+				.nest(InnerValue::property)
+				.buildTemplate();
+		Property<OuterValue> outerObservable = createOuterObservable();
+		Property<SomeValue> initialInnerProperty = getInnerProperty(outerObservable);
+		Nesting<Property<SomeValue>> nesting = equivalenceTemplate.createNesting(outerObservable);
+
+		setInnerValue(outerObservable, InnerValue.createWithObservables());
+
+		assertSame(initialInnerProperty, getNestingObservable(nesting));
+	}
+
+	/**
+	 * Tests whether the nestings created by a template with a registry are shared.
+	 */
+	@Test
+	public void testCreatedNestingsWithRegistryAreShared() {
+		NestingTemplate<Property<SomeValue>> registryTemplate = Nestings
+				.on(new SimpleObjectProperty<OuterValue>())
+				.withRegistry(new NestingRegistry())
+				.nest(OuterValue::innerValueProperty)
+				.nest(InnerValue::property)
+				.buildTemplate();
+		Property<OuterValue> outerObservable = createOuterObservable();
+
+		Nesting<Property<SomeValue>> nesting = registryTemplate.createNesting(outerObservable);
+		Nesting<Property<SomeValue>> otherNesting = registryTemplate.createNesting(outerObservable);
+		Nesting<Property<SomeValue>> nestingOnOtherObservable = registryTemplate.createNesting(createOuterObservable());
+
+		assertSame(
+				nesting.innerObservableProperty().getValue().get(),
+				otherNesting.innerObservableProperty().getValue().get());
+		assertNotSame(
+				nesting.innerObservableProperty().getValue().get(),
+				nestingOnOtherObservable.innerObservableProperty().getValue().get());
+	}
+
+	/**
+	 * Tests whether building a template from the outer builder throws an exception.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testBuildTemplateFromOuterBuilder() {
+		Nestings.on(createOuterObservable()).buildTemplate();
+	}
+
+	/**
+	 * Tests whether creating a nesting on null throws an exception.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testCreateNestingOnNull() {
+		template.createNesting(null);
+	}
+
+	//#end TESTS
+
+}
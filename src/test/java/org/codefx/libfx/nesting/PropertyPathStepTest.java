@@ -0,0 +1,108 @@
+package org.codefx.libfx.nesting;
+
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.getInnerProperty;
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.getNestingObservable;
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.setInnerValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link PropertyPathStep} and its use by {@link Nestings#onPath(ObservableValue, String)}.
+ */
+public class PropertyPathStepTest {
+
+	/**
+	 * The path from an {@link OuterValue} to its inner value's {@link InnerValue#property() property}.
+	 */
+	private static final String PATH = "innerValue.property";
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The outer observable.
+	 */
+	private Property<OuterValue> outerObservable;
+
+	/**
+	 * The nesting along the {@link #PATH}.
+	 */
+	private Nesting<ObservableValue<SomeValue>> nesting;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the outer observable and the nesting.
+	 */
+	@Before
+	public void setUp() {
+		outerObservable = new SimpleObjectProperty<>(OuterValue.createWithInnerType());
+		nesting = Nestings.<SomeValue> onPath(outerObservable, PATH).buildNesting();
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the nesting reaches the inner property via {@code innerValueProperty()} and {@code property()}.
+	 */
+	@Test
+	public void testNestingAlongPath() {
+		assertSame(getInnerProperty(outerObservable), getNestingObservable(nesting));
+	}
+
+	/**
+	 * Tests whether the nesting is updated when the hierarchy changes.
+	 */
+	@Test
+	public void testNestingAlongPathIsUpdated() {
+		setInnerValue(outerObservable, InnerValue.createWithObservables());
+		assertSame(getInnerProperty(outerObservable), getNestingObservable(nesting));
+
+		outerObservable.setValue(null);
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+	}
+
+	/**
+	 * Tests whether the same name always results in the same step (so the resolved accessors are shared).
+	 */
+	@Test
+	public void testSameNameSharesStep() {
+		assertSame(PropertyPathStep.forName("innerValue"), PropertyPathStep.forPath(PATH)[0]);
+	}
+
+	/**
+	 * Tests whether a name which does not lead to an observable value throws an exception.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownPropertyName() {
+		PropertyPathStep.forName("noSuchProperty").step(OuterValue.createWithInnerType());
+	}
+
+	/**
+	 * Tests whether a path with an empty name throws an exception.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testPathWithEmptyName() {
+		Nestings.onPath(outerObservable, "innerValue..property");
+	}
+
+	/**
+	 * Tests whether starting a nesting on a null path throws an exception.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testNullPath() {
+		Nestings.onPath(outerObservable, null);
+	}
+
+	//#end TESTS
+
+}
@@ -1,6 +1,12 @@
 package org.codefx.libfx.nesting;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.Property;
@@ -9,6 +15,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -106,6 +113,21 @@ public class ShallowNestingTest {
 			return new SimpleObjectProperty<SomeValue>(new SomeValue());
 		}
 
+		/**
+		 * Tests whether re-rooting the nesting replaces its inner observable and notifies its listeners.
+		 */
+		@Test
+		public void testReroot() {
+			List<Object> invalidations = new ArrayList<>();
+			nesting.innerObservableProperty().addListener(invalidations::add);
+			Property<SomeValue> newOuterObservable = createNewNestingHierarchy();
+
+			nesting.reroot(newOuterObservable);
+
+			assertSame(newOuterObservable, nesting.innerObservableProperty().getValue().get());
+			assertEquals(1, invalidations.size());
+		}
+
 	}
 
 }
@@ -0,0 +1,209 @@
+package org.codefx.libfx.nesting.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.codefx.libfx.nesting.Nestings;
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.NestingAccess;
+import org.codefx.libfx.nesting.testhelper.NestingAccess.EditableNesting;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link NestedBinding}.
+ */
+public class NestedBindingTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The nesting's inner observable.
+	 */
+	private StringProperty innerObservable;
+
+	/**
+	 * The nesting on which the bindings are created.
+	 */
+	private EditableNesting<StringProperty> nesting;
+
+	/**
+	 * Counts how often the mapping function was called.
+	 */
+	private AtomicInteger mapperCalls;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the nesting.
+	 */
+	@Before
+	public void setUp() {
+		innerObservable = new SimpleStringProperty("street");
+		nesting = EditableNesting.createWithInnerObservable(innerObservable);
+		mapperCalls = new AtomicInteger();
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether a mapping binding computes its value from the inner observable's value.
+	 */
+	@Test
+	public void testMapComputesValue() {
+		NestedBinding<Integer> length = NestedBinding.map(nesting, this::countedLength);
+
+		assertEquals(6, length.get().intValue());
+		innerObservable.set("avenue street");
+		assertEquals(13, length.get().intValue());
+	}
+
+	/**
+	 * Tests whether a mapping binding only calls the function when its value is requested.
+	 */
+	@Test
+	public void testMapIsLazy() {
+		NestedBinding<Integer> length = NestedBinding.map(nesting, this::countedLength);
+		assertEquals(0, mapperCalls.get());
+
+		length.get();
+		innerObservable.set("a");
+		innerObservable.set("ab");
+		NestingAccess.setNestingObservable(nesting, new SimpleStringProperty("abc"));
+		assertFalse(length.isValid());
+		assertEquals(1, mapperCalls.get());
+
+		assertEquals(3, length.get().intValue());
+		assertEquals(2, mapperCalls.get());
+	}
+
+	/**
+	 * Tests whether a mapping binding follows a new inner observable.
+	 */
+	@Test
+	public void testMapFollowsNewInnerObservable() {
+		NestedBinding<Integer> length = NestedBinding.map(nesting, this::countedLength);
+		StringProperty newInnerObservable = new SimpleStringProperty("abc");
+		length.get();
+
+		NestingAccess.setNestingObservable(nesting, newInnerObservable);
+		assertEquals(3, length.get().intValue());
+
+		// the binding no longer depends on the old inner observable but on the new one
+		innerObservable.set("abcd");
+		assertTrue(length.isValid());
+		newInnerObservable.set("abcde");
+		assertEquals(5, length.get().intValue());
+	}
+
+	/**
+	 * Tests whether a mapping binding's value is null without calling the function when the inner observable or its
+	 * value is missing.
+	 */
+	@Test
+	public void testMapWithMissingValue() {
+		NestedBinding<Integer> length = NestedBinding.map(nesting, this::countedLength);
+
+		innerObservable.set(null);
+		assertNull(length.get());
+		NestingAccess.setNestingObservable(nesting, null);
+		assertNull(length.get());
+		assertEquals(0, mapperCalls.get());
+	}
+
+	/**
+	 * Tests whether a flat mapping binding follows the value of the observable returned by the function.
+	 */
+	@Test
+	public void testFlatMapFollowsMappedObservable() {
+		StringProperty street = new SimpleStringProperty("street");
+		StringProperty avenue = new SimpleStringProperty("avenue");
+		NestedBinding<String> name = NestedBinding.flatMap(nesting,
+				value -> value.startsWith("s") ? street : avenue);
+
+		assertEquals("street", name.get());
+		street.set("main street");
+		assertEquals("main street", name.get());
+
+		innerObservable.set("a");
+		assertEquals("avenue", name.get());
+		// the binding no longer depends on the old mapped observable
+		street.set("side street");
+		assertTrue(name.isValid());
+	}
+
+	/**
+	 * Tests whether a disposed binding keeps its value and no longer depends on the nesting.
+	 */
+	@Test
+	public void testDispose() {
+		NestedBinding<Integer> length = NestedBinding.map(nesting, this::countedLength);
+		innerObservable.set("abc");
+
+		length.dispose();
+		innerObservable.set("abcd");
+
+		assertTrue(length.isDisposed());
+		assertTrue(length.isValid());
+		assertEquals(3, length.get().intValue());
+	}
+
+	/**
+	 * Tests whether an invalid binding can be disposed after its nesting was disposed (e.g. because it was shared).
+	 */
+	@Test
+	public void testDisposeAfterNestingWasDisposed() {
+		NestedBinding<Integer> length = NestedBinding.map(nesting, this::countedLength);
+		innerObservable.set("abc");
+
+		nesting.dispose();
+		length.dispose();
+		innerObservable.set("abcd");
+
+		assertTrue(length.isDisposed());
+		assertTrue(length.isValid());
+		assertEquals(3, length.get().intValue());
+	}
+
+	/**
+	 * Tests whether a binding created by a nesting builder follows the hierarchy.
+	 */
+	@Test
+	public void testMapOnNestingBuilder() {
+		Property<OuterValue> outerObservable = new SimpleObjectProperty<>(OuterValue.createWithInnerType());
+		NestedBinding<SomeValue> value = Nestings.on(outerObservable)
+				.nest(OuterValue::innerValueProperty)
+				.nest(InnerValue::property)
+				.map(someValue -> someValue);
+		assertEquals(NestingAccess.getInnerProperty(outerObservable).getValue(), value.get());
+
+		outerObservable.setValue(OuterValue.createWithInnerType());
+		assertEquals(NestingAccess.getInnerProperty(outerObservable).getValue(), value.get());
+	}
+
+	//#end TESTS
+
+	/**
+	 * Returns the length of the specified string and counts the call.
+	 *
+	 * @param string
+	 *            the string whose length is returned
+	 * @return the string's length
+	 */
+	private Integer countedLength(String string) {
+		mapperCalls.incrementAndGet();
+		return string.length();
+	}
+
+}
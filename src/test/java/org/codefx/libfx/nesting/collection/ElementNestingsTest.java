@@ -0,0 +1,203 @@
+package org.codefx.libfx.nesting.collection;
+
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.createTemplate;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.outerValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Comparator;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link ElementNestings}.
+ */
+public class ElementNestingsTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The list on whose elements the nestings are created.
+	 */
+	private ObservableList<OuterValue> list;
+
+	/**
+	 * The tested element nestings, which nest into each element's inner value's integer property.
+	 */
+	private ElementNestings<OuterValue, Number> elements;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the list with the values 3, 1, 2 and the element nestings.
+	 */
+	@Before
+	public void setUp() {
+		list = FXCollections.observableArrayList(outerValue(3), outerValue(1), outerValue(2));
+		elements = ElementNestings.on(list, createTemplate());
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the nested values follow the list's structural changes.
+	 */
+	@Test
+	public void testNestedValuesFollowListChanges() {
+		list.add(1, outerValue(5));
+		list.remove(0);
+		list.set(2, outerValue(7));
+		FXCollections.sort(list, Comparator.comparingInt(value -> value.getInnerValue().integerProperty().get()));
+
+		assertNestedValues(1, 5, 7);
+		for (int index = 0; index < elements.size(); index++)
+			assertEquals(index, elements.getElementNesting(index).getIndex());
+	}
+
+	/**
+	 * Tests whether the nested values follow changes within the elements' hierarchies.
+	 */
+	@Test
+	public void testNestedValuesFollowHierarchy() {
+		list.get(0).getInnerValue().integerProperty().set(4);
+		InnerValue newInnerValue = InnerValue.createWithObservables();
+		newInnerValue.integerProperty().set(8);
+		list.get(1).setInnerValue(newInnerValue);
+		list.get(2).setInnerValue(null);
+
+		assertEquals(4, elements.getNestedValue(0));
+		assertEquals(8, elements.getNestedValue(1));
+		assertNull(elements.getNestedValue(2));
+	}
+
+	/**
+	 * Tests whether the sum is updated incrementally.
+	 */
+	@Test
+	public void testSum() {
+		ReadOnlyDoubleProperty sum = elements.sum(Number::doubleValue);
+		assertEquals(6, sum.get(), 0);
+
+		list.get(0).getInnerValue().integerProperty().set(13);
+		assertEquals(16, sum.get(), 0);
+		list.add(outerValue(4));
+		assertEquals(20, sum.get(), 0);
+		list.remove(1);
+		assertEquals(19, sum.get(), 0);
+		list.get(0).setInnerValue(null);
+		assertEquals(6, sum.get(), 0);
+		list.clear();
+		assertEquals(0, sum.get(), 0);
+	}
+
+	/**
+	 * Tests whether the count of present values is updated incrementally.
+	 */
+	@Test
+	public void testCount() {
+		ReadOnlyIntegerProperty count = elements.count();
+		assertEquals(3, count.get());
+
+		list.get(0).setInnerValue(null);
+		assertEquals(2, count.get());
+		list.add(OuterValue.createWithNull());
+		assertEquals(2, count.get());
+		list.add(outerValue(1));
+		assertEquals(3, count.get());
+		list.get(0).setInnerValue(InnerValue.createWithObservables());
+		assertEquals(4, count.get());
+	}
+
+	/**
+	 * Tests whether minimum and maximum are updated incrementally.
+	 */
+	@Test
+	public void testMinAndMax() {
+		Comparator<Number> byInt = Comparator.comparingInt(Number::intValue);
+		ReadOnlyObjectProperty<Number> min = elements.min(byInt);
+		ReadOnlyObjectProperty<Number> max = elements.max(byInt);
+		assertEquals(1, min.get());
+		assertEquals(3, max.get());
+
+		list.get(1).getInnerValue().integerProperty().set(5);
+		assertEquals(2, min.get());
+		assertEquals(5, max.get());
+		list.add(outerValue(2));
+		list.remove(2);
+		assertEquals(2, min.get());
+		list.remove(2);
+		assertEquals(3, min.get());
+		list.clear();
+		assertNull(min.get());
+		assertNull(max.get());
+	}
+
+	/**
+	 * Tests whether the maximum holds an instance which is still present if distinct instances are equal according to
+	 * the comparator.
+	 */
+	@Test
+	public void testMaxWithEqualInstances() {
+		// integers outside of the cached range are boxed into distinct instances
+		list.setAll(outerValue(1000), outerValue(1000), outerValue(1));
+		ReadOnlyObjectProperty<Number> max = elements.max(Comparator.comparingInt(Number::intValue));
+		Number first = elements.getNestedValue(0);
+		Number second = elements.getNestedValue(1);
+		assertNotSame(first, second);
+		assertSame(first, max.get());
+
+		list.remove(0);
+		assertSame(second, max.get());
+		list.add(outerValue(1000));
+		list.get(0).getInnerValue().integerProperty().set(2);
+		assertSame(elements.getNestedValue(2), max.get());
+	}
+
+	/**
+	 * Tests whether disposed element nestings no longer follow the list and the aggregates keep their values.
+	 */
+	@Test
+	public void testDispose() {
+		ReadOnlyDoubleProperty sum = elements.sum(Number::doubleValue);
+
+		elements.dispose();
+		list.add(outerValue(10));
+		list.get(0).getInnerValue().integerProperty().set(10);
+
+		assertTrue(elements.isDisposed());
+		assertEquals(3, elements.size());
+		assertEquals(3, elements.getNestedValue(0));
+		assertEquals(6, sum.get(), 0);
+	}
+
+	//#end TESTS
+
+	// #region HELPER
+
+	/**
+	 * Asserts that the element nestings hold the specified nested values.
+	 *
+	 * @param values
+	 *            the expected nested values
+	 */
+	private void assertNestedValues(int... values) {
+		assertEquals(values.length, elements.size());
+		for (int index = 0; index < values.length; index++)
+			assertEquals(values[index], elements.getNestedValue(index));
+	}
+
+	//#end HELPER
+
+}
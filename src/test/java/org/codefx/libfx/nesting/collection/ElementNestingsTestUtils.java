@@ -0,0 +1,103 @@
+package org.codefx.libfx.nesting.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener.Change;
+
+import org.codefx.libfx.nesting.NestingTemplate;
+import org.codefx.libfx.nesting.Nestings;
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+
+/**
+ * Provides the setup shared by the tests of {@link ElementNestings} and the views created by it. They all nest into
+ * the integer property of each {@link OuterValue}'s {@link InnerValue}.
+ */
+final class ElementNestingsTestUtils {
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private ElementNestingsTestUtils() {
+		// nothing to do
+	}
+
+	// #region ELEMENTS
+
+	/**
+	 * @return a new template for nestings into an outer value's inner value's integer property
+	 */
+	public static NestingTemplate<IntegerProperty> createTemplate() {
+		return Nestings.on(new SimpleObjectProperty<OuterValue>())
+				.nest(OuterValue::innerValueProperty)
+				.nestIntegerProperty(InnerValue::integerProperty)
+				.buildTemplate();
+	}
+
+	/**
+	 * Creates an outer value whose nested integer has the specified value.
+	 *
+	 * @param value
+	 *            the nested integer's value
+	 * @return a new {@link OuterValue}
+	 */
+	public static OuterValue outerValue(int value) {
+		OuterValue outerValue = OuterValue.createWithInnerType();
+		outerValue.getInnerValue().integerProperty().set(value);
+		return outerValue;
+	}
+
+	/**
+	 * @param outerValue
+	 *            an outer value
+	 * @return the outer value's nested integer
+	 */
+	public static int valueOf(OuterValue outerValue) {
+		return outerValue.getInnerValue().integerProperty().get();
+	}
+
+	/**
+	 * @param outerValues
+	 *            some outer values
+	 * @return the outer values' nested integers
+	 */
+	public static List<Integer> values(List<OuterValue> outerValues) {
+		return outerValues.stream().map(ElementNestingsTestUtils::valueOf).collect(Collectors.toList());
+	}
+
+	//#end ELEMENTS
+
+	// #region CHANGES
+
+	/**
+	 * Replays the specified change onto the specified mirror.
+	 * <p>
+	 * The tests of the views replay all changes emitted by a view onto a mirror list, which starts as a copy of the
+	 * view and must then always equal it. This verifies the emitted changes and not just the view's content.
+	 *
+	 * @param <E>
+	 *            the type of the elements
+	 * @param change
+	 *            the {@link Change} emitted by a view
+	 * @param mirror
+	 *            the view's mirror
+	 */
+	public static <E> void replay(Change<? extends E> change, List<E> mirror) {
+		while (change.next())
+			if (change.wasPermutated()) {
+				List<E> unpermuted = new ArrayList<>(mirror);
+				for (int index = change.getFrom(); index < change.getTo(); index++)
+					mirror.set(change.getPermutation(index), unpermuted.get(index));
+			} else if (!change.wasUpdated()) {
+				mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+				mirror.addAll(change.getFrom(), change.getAddedSubList());
+			}
+	}
+
+	//#end CHANGES
+
+}
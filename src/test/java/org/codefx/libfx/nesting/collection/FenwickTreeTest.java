@@ -0,0 +1,147 @@
+package org.codefx.libfx.nesting.collection;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link FenwickTree} by comparing it to a plain list of flags.
+ */
+public class FenwickTreeTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The tested tree.
+	 */
+	private FenwickTree tree;
+
+	/**
+	 * The flags the tree is expected to hold.
+	 */
+	private List<Boolean> expectedFlags;
+
+	/**
+	 * The random number generator with a fixed seed, so the tests are repeatable.
+	 */
+	private Random random;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the empty tree.
+	 */
+	@Before
+	public void setUp() {
+		tree = new FenwickTree();
+		expectedFlags = new ArrayList<>();
+		random = new Random(42);
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether appending flags and setting single flags keeps the tree consistent.
+	 */
+	@Test
+	public void testAppendAndSet() {
+		for (int i = 0; i < 100; i++)
+			insert(expectedFlags.size(), 1 + random.nextInt(3));
+		assertTreeMatchesFlags();
+
+		for (int i = 0; i < 200; i++) {
+			int index = random.nextInt(expectedFlags.size());
+			boolean flag = random.nextBoolean();
+			tree.set(index, flag);
+			expectedFlags.set(index, flag);
+		}
+		assertTreeMatchesFlags();
+	}
+
+	/**
+	 * Tests whether inserting and removing flags anywhere keeps the tree consistent.
+	 */
+	@Test
+	public void testInsertAndRemove() {
+		for (int i = 0; i < 300; i++) {
+			if (expectedFlags.isEmpty() || random.nextInt(3) > 0)
+				insert(random.nextInt(expectedFlags.size() + 1), 1 + random.nextInt(4));
+			else {
+				int index = random.nextInt(expectedFlags.size());
+				int removedSize = 1 + random.nextInt(Math.min(4, expectedFlags.size() - index));
+				tree.remove(index, removedSize);
+				expectedFlags.subList(index, index + removedSize).clear();
+			}
+			assertTreeMatchesFlags();
+		}
+	}
+
+	/**
+	 * Tests whether permuting flags keeps the tree consistent.
+	 */
+	@Test
+	public void testPermute() {
+		insert(0, 50);
+		List<Integer> newIndices = new ArrayList<>();
+		for (int index = 10; index < 40; index++)
+			newIndices.add(index);
+		Collections.shuffle(newIndices, random);
+
+		int[] permutation = newIndices.stream().mapToInt(Integer::intValue).toArray();
+		tree.permute(10, permutation);
+		List<Boolean> permuted = new ArrayList<>(expectedFlags);
+		for (int i = 0; i < permutation.length; i++)
+			permuted.set(permutation[i], expectedFlags.get(10 + i));
+		expectedFlags = permuted;
+
+		assertTreeMatchesFlags();
+	}
+
+	//#end TESTS
+
+	// #region HELPER
+
+	/**
+	 * Inserts the specified number of random flags at the specified index.
+	 *
+	 * @param index
+	 *            the index at which the flags are inserted
+	 * @param count
+	 *            the number of inserted flags
+	 */
+	private void insert(int index, int count) {
+		boolean[] flags = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			flags[i] = random.nextBoolean();
+			expectedFlags.add(index + i, flags[i]);
+		}
+		tree.insert(index, flags);
+	}
+
+	/**
+	 * Asserts that the tree answers all queries like the expected flags.
+	 */
+	private void assertTreeMatchesFlags() {
+		assertEquals(expectedFlags.size(), tree.size());
+		int count = 0;
+		for (int index = 0; index < expectedFlags.size(); index++) {
+			assertEquals(expectedFlags.get(index), tree.isSet(index));
+			assertEquals(count, tree.countBefore(index));
+			if (expectedFlags.get(index)) {
+				assertEquals(index, tree.indexOfSet(count));
+				count++;
+			}
+		}
+		assertEquals(count, tree.countBefore(expectedFlags.size()));
+		assertEquals(count, tree.setCount());
+	}
+
+	//#end HELPER
+
+}
@@ -0,0 +1,165 @@
+package org.codefx.libfx.nesting.collection;
+
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.createTemplate;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.outerValue;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.values;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link FilteredElementList}, which is created by {@link ElementNestings#filter}.
+ * <p>
+ * The changes emitted by the view are {@link ElementNestingsTestUtils#replay replayed} onto a mirror.
+ */
+public class FilteredElementListTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The list whose elements are filtered.
+	 */
+	private ObservableList<OuterValue> list;
+
+	/**
+	 * The tested view, which contains the elements whose nested integer is even.
+	 */
+	private ObservableList<OuterValue> evens;
+
+	/**
+	 * The list onto which the changes emitted by the view are replayed.
+	 */
+	private List<OuterValue> mirror;
+
+	/**
+	 * The number of changes emitted by the view.
+	 */
+	private int changeCount;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the list with the values 0 to 5 and the view.
+	 */
+	@Before
+	public void setUp() {
+		list = FXCollections.observableArrayList();
+		for (int value = 0; value < 6; value++)
+			list.add(outerValue(value));
+		evens = ElementNestings.on(list, createTemplate()).filter(value -> value != null && value.intValue() % 2 == 0);
+
+		mirror = new ArrayList<>(evens);
+		evens.addListener(this::replay);
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the view initially contains the passing elements.
+	 */
+	@Test
+	public void testInitialElements() {
+		assertViewValues(0, 2, 4);
+	}
+
+	/**
+	 * Tests whether a change of a single element's nested value adds or removes only that element.
+	 */
+	@Test
+	public void testNestedValueChange() {
+		setValue(1, 6);
+		assertViewValues(0, 6, 2, 4);
+		assertEquals(1, changeCount);
+
+		setValue(2, 3);
+		assertViewValues(0, 6, 4);
+		assertEquals(2, changeCount);
+
+		// elements which still do not pass cause no change
+		setValue(3, 9);
+		assertEquals(2, changeCount);
+
+		list.get(0).setInnerValue(null);
+		assertViewValues(6, 4);
+	}
+
+	/**
+	 * Tests whether the view follows added and removed elements.
+	 */
+	@Test
+	public void testStructuralChanges() {
+		list.add(2, outerValue(8));
+		list.addAll(outerValue(10), outerValue(11));
+		assertViewValues(0, 8, 2, 4, 10);
+
+		list.remove(0, 3);
+		assertViewValues(2, 4, 10);
+		list.set(1, outerValue(12));
+		assertViewValues(2, 12, 4, 10);
+		list.remove(list.size() - 1);
+		assertViewValues(2, 12, 4, 10);
+	}
+
+	/**
+	 * Tests whether the view follows permutations of the list.
+	 */
+	@Test
+	public void testPermutation() {
+		FXCollections.sort(list, Comparator.comparingInt(ElementNestingsTestUtils::valueOf).reversed());
+		assertViewValues(4, 2, 0);
+	}
+
+	//#end TESTS
+
+	// #region HELPER
+
+	/**
+	 * Sets the nested integer of the element at the specified index.
+	 *
+	 * @param index
+	 *            the element's index in the list
+	 * @param value
+	 *            the new value
+	 */
+	private void setValue(int index, int value) {
+		list.get(index).getInnerValue().integerProperty().set(value);
+	}
+
+	/**
+	 * Counts the specified change and replays it onto the {@link #mirror}.
+	 *
+	 * @param change
+	 *            the {@link Change} emitted by the view
+	 */
+	private void replay(Change<? extends OuterValue> change) {
+		changeCount++;
+		ElementNestingsTestUtils.replay(change, mirror);
+	}
+
+	/**
+	 * Asserts that the view and the mirror contain elements with the specified nested values.
+	 *
+	 * @param values
+	 *            the expected nested values
+	 */
+	private void assertViewValues(int... values) {
+		List<Integer> expected = new ArrayList<>();
+		for (int value : values)
+			expected.add(value);
+		assertEquals(expected, values(evens));
+		assertEquals(expected, values(mirror));
+	}
+
+	//#end HELPER
+
+}
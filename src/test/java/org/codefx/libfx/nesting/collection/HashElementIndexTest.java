@@ -0,0 +1,198 @@
+package org.codefx.libfx.nesting.collection;
+
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.createTemplate;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.outerValue;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.replay;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.valueOf;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.values;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link HashElementIndex}, which is created by {@link ElementNestings#index()}.
+ * <p>
+ * The changes emitted by each requested bucket are {@link ElementNestingsTestUtils#replay replayed} onto a mirror.
+ */
+public class HashElementIndexTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The list whose elements are indexed.
+	 */
+	private ObservableList<OuterValue> list;
+
+	/**
+	 * The tested index, which maps the elements' nested integers to the elements.
+	 */
+	private ElementIndex<OuterValue, Number> index;
+
+	/**
+	 * For each requested bucket, the list onto which its changes are replayed.
+	 */
+	private Map<ObservableList<OuterValue>, List<OuterValue>> mirrors;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the list with the values 1, 2, 1, 3, 1 and the index.
+	 */
+	@Before
+	public void setUp() {
+		list = FXCollections.observableArrayList(
+				outerValue(1), outerValue(2), outerValue(1), outerValue(3), outerValue(1));
+		index = ElementNestings.on(list, createTemplate()).index();
+		// the buckets are lists, so they must be told apart by identity
+		mirrors = new IdentityHashMap<>();
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the buckets initially contain the elements with their key in the list's order.
+	 */
+	@Test
+	public void testInitialBuckets() {
+		assertEquals(Arrays.asList(list.get(0), list.get(2), list.get(4)), bucket(1));
+		assertEquals(Arrays.asList(list.get(1)), bucket(2));
+		assertTrue(bucket(4).isEmpty());
+		assertSame(bucket(1), bucket(1));
+	}
+
+	/**
+	 * Tests whether a changed nested value moves the element from one bucket to another.
+	 */
+	@Test
+	public void testNestedValueChangeMovesElement() {
+		ObservableList<OuterValue> ones = bucket(1);
+		ObservableList<OuterValue> threes = bucket(3);
+
+		setValue(2, 3);
+		assertEquals(Arrays.asList(list.get(0), list.get(4)), ones);
+		assertEquals(Arrays.asList(list.get(2), list.get(3)), threes);
+
+		// a bucket which was requested while empty is filled
+		ObservableList<OuterValue> fours = bucket(4);
+		setValue(1, 4);
+		assertEquals(Arrays.asList(list.get(1)), fours);
+		assertTrue(bucket(2).isEmpty());
+
+		list.get(0).setInnerValue(null);
+		assertEquals(Arrays.asList(list.get(0)), index.get(null));
+		assertMirrorsEqualBuckets();
+	}
+
+	/**
+	 * Tests whether the buckets follow added, removed and permuted elements.
+	 */
+	@Test
+	public void testStructuralChanges() {
+		ObservableList<OuterValue> ones = bucket(1);
+		ObservableList<OuterValue> twos = bucket(2);
+
+		list.add(1, outerValue(1));
+		list.addAll(outerValue(2), outerValue(1));
+		assertEquals(Arrays.asList(1, 1, 1, 1, 1), values(ones));
+		assertEquals(list.get(1), ones.get(1));
+		assertEquals(list.get(6), twos.get(1));
+
+		list.remove(0, 3);
+		assertEquals(Arrays.asList(list.get(0), list.get(2), list.get(4)), ones);
+
+		FXCollections.sort(list, Comparator.comparingInt(ElementNestingsTestUtils::valueOf).reversed());
+		assertEquals(Arrays.asList(list.get(2), list.get(3), list.get(4)), ones);
+		assertMirrorsEqualBuckets();
+	}
+
+	/**
+	 * Tests random sequences of changes against a grouping of the list's elements.
+	 */
+	@Test
+	public void testRandomChanges() {
+		Random random = new Random(42);
+		for (int key = 0; key < 5; key++)
+			bucket(key);
+
+		for (int i = 0; i < 500; i++) {
+			int operation = random.nextInt(5);
+			if (operation == 0 || list.isEmpty())
+				list.add(random.nextInt(list.size() + 1), outerValue(random.nextInt(5)));
+			else if (operation == 1)
+				list.remove(random.nextInt(list.size()));
+			else if (operation == 2) {
+				// sorting (unlike shuffling) permutes the list; a random factor makes it a random permutation
+				int factor = random.nextInt();
+				FXCollections.sort(list, Comparator.comparingInt(element -> System.identityHashCode(element) * factor));
+			}
+			else
+				setValue(random.nextInt(list.size()), random.nextInt(5));
+
+			Map<Integer, List<OuterValue>> expected = new HashMap<>();
+			for (OuterValue element : list)
+				expected.computeIfAbsent(valueOf(element), key -> new ArrayList<>()).add(element);
+			for (int key = 0; key < 5; key++)
+				assertEquals(expected.getOrDefault(key, new ArrayList<>()), index.get(key));
+			assertMirrorsEqualBuckets();
+		}
+	}
+
+	//#end TESTS
+
+	// #region HELPER
+
+	/**
+	 * Sets the nested integer of the element at the specified index.
+	 *
+	 * @param index
+	 *            the element's index in the list
+	 * @param value
+	 *            the new value
+	 */
+	private void setValue(int index, int value) {
+		list.get(index).getInnerValue().integerProperty().set(value);
+	}
+
+	/**
+	 * Returns the bucket for the specified key and replays its changes onto a mirror.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the bucket
+	 */
+	private ObservableList<OuterValue> bucket(int key) {
+		ObservableList<OuterValue> bucket = index.get(key);
+		if (!mirrors.containsKey(bucket)) {
+			mirrors.put(bucket, new ArrayList<>(bucket));
+			bucket.addListener((Change<? extends OuterValue> change) -> replay(change, mirrors.get(bucket)));
+		}
+		return bucket;
+	}
+
+	/**
+	 * Asserts that each requested bucket equals its mirror.
+	 */
+	private void assertMirrorsEqualBuckets() {
+		mirrors.forEach((bucket, mirror) -> assertEquals(bucket, mirror));
+	}
+
+	//#end HELPER
+
+}
@@ -0,0 +1,206 @@
+package org.codefx.libfx.nesting.collection;
+
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.createTemplate;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.outerValue;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.valueOf;
+import static org.codefx.libfx.nesting.collection.ElementNestingsTestUtils.values;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.testhelper.OuterValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link SortedElementList}, which is created by {@link ElementNestings#sort}.
+ * <p>
+ * The changes emitted by the view are {@link ElementNestingsTestUtils#replay replayed} onto a mirror.
+ */
+public class SortedElementListTest {
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The list whose elements are sorted.
+	 */
+	private ObservableList<OuterValue> list;
+
+	/**
+	 * The tested view, which sorts the elements by their nested integer.
+	 */
+	private ObservableList<OuterValue> sorted;
+
+	/**
+	 * The list onto which the changes emitted by the view are replayed.
+	 */
+	private List<OuterValue> mirror;
+
+	/**
+	 * The last change emitted by the view.
+	 */
+	private String lastChange;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Creates the list with the values 3, 1, 4, 1, 5 and the view.
+	 */
+	@Before
+	public void setUp() {
+		list = FXCollections.observableArrayList(
+				outerValue(3), outerValue(1), outerValue(4), outerValue(1), outerValue(5));
+		sorted = ElementNestings.on(list, createTemplate()).sort(Comparator.comparingInt(Number::intValue));
+
+		mirror = new ArrayList<>(sorted);
+		sorted.addListener(this::replay);
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the view is initially sorted and keeps the list's order for equal values.
+	 */
+	@Test
+	public void testInitialOrder() {
+		assertViewValues(1, 1, 3, 4, 5);
+		assertEquals(list.get(1), sorted.get(0));
+		assertEquals(list.get(3), sorted.get(1));
+	}
+
+	/**
+	 * Tests whether a changed nested value moves its element with a single permutation.
+	 */
+	@Test
+	public void testNestedValueChangeMovesElement() {
+		OuterValue three = list.get(0);
+
+		setValue(0, 7);
+		assertViewValues(1, 1, 4, 5, 7);
+		assertEquals(three, sorted.get(4));
+		assertEquals("permutation 2-5", lastChange);
+
+		setValue(0, 0);
+		assertViewValues(0, 1, 1, 4, 5);
+		assertEquals("permutation 0-5", lastChange);
+
+		// a change which keeps the position is an update
+		setValue(0, -1);
+		assertEquals("update 0-1", lastChange);
+	}
+
+	/**
+	 * Tests whether elements with missing nested values are sorted last.
+	 */
+	@Test
+	public void testMissingValuesAreSortedLast() {
+		OuterValue one = list.get(1);
+		one.setInnerValue(null);
+
+		assertEquals(one, sorted.get(4));
+		assertEquals(mirror, sorted);
+	}
+
+	/**
+	 * Tests whether the view follows added, removed and permuted elements.
+	 */
+	@Test
+	public void testStructuralChanges() {
+		list.add(outerValue(2));
+		assertViewValues(1, 1, 2, 3, 4, 5);
+		list.addAll(0, Arrays.asList(outerValue(6), outerValue(0), outerValue(3)));
+		assertViewValues(0, 1, 1, 2, 3, 3, 4, 5, 6);
+
+		list.remove(3);
+		assertViewValues(0, 1, 1, 2, 3, 4, 5, 6);
+		list.remove(0, 4);
+		assertViewValues(1, 2, 4, 5);
+
+		FXCollections.sort(list, Comparator.comparingInt(ElementNestingsTestUtils::valueOf).reversed());
+		assertViewValues(1, 2, 4, 5);
+		setValue(0, 3);
+		assertViewValues(1, 2, 3, 4);
+	}
+
+	/**
+	 * Tests random sequences of changes against a fully sorted copy of the list.
+	 */
+	@Test
+	public void testRandomChanges() {
+		Random random = new Random(42);
+		for (int i = 0; i < 500; i++) {
+			int operation = random.nextInt(4);
+			if (operation == 0 || list.isEmpty())
+				list.add(random.nextInt(list.size() + 1), outerValue(random.nextInt(10)));
+			else if (operation == 1)
+				list.remove(random.nextInt(list.size()));
+			else
+				setValue(random.nextInt(list.size()), random.nextInt(10));
+
+			List<Integer> expected = list.stream().map(ElementNestingsTestUtils::valueOf).sorted()
+					.collect(Collectors.toList());
+			assertEquals(expected, values(sorted));
+			assertEquals(mirror, sorted);
+		}
+	}
+
+	//#end TESTS
+
+	// #region HELPER
+
+	/**
+	 * Sets the nested integer of the element at the specified index.
+	 *
+	 * @param index
+	 *            the element's index in the list
+	 * @param value
+	 *            the new value
+	 */
+	private void setValue(int index, int value) {
+		list.get(index).getInnerValue().integerProperty().set(value);
+	}
+
+	/**
+	 * Replays the specified change onto the {@link #mirror} and records it in {@link #lastChange}.
+	 *
+	 * @param change
+	 *            the {@link Change} emitted by the view
+	 */
+	private void replay(Change<? extends OuterValue> change) {
+		ElementNestingsTestUtils.replay(change, mirror);
+		change.reset();
+		while (change.next())
+			if (change.wasPermutated())
+				lastChange = "permutation " + change.getFrom() + "-" + change.getTo();
+			else if (change.wasUpdated())
+				lastChange = "update " + change.getFrom() + "-" + change.getTo();
+			else
+				lastChange = "add/remove " + change.getFrom() + "-" + change.getTo();
+	}
+
+	/**
+	 * Asserts that the view and the mirror contain elements with the specified nested values.
+	 *
+	 * @param values
+	 *            the expected nested values
+	 */
+	private void assertViewValues(int... values) {
+		List<Integer> expected = new ArrayList<>();
+		for (int value : values)
+			expected.add(value);
+		assertEquals(expected, values(sorted));
+		assertEquals(expected, values(mirror));
+	}
+
+	//#end HELPER
+
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.value.ChangeListener;
@@ -211,6 +212,23 @@ public abstract class AbstractNestedChangeListenerHandleTest {
 		assertFalse(nestedListenerHandle.isInnerObservablePresent());
 	}
 
+	/**
+	 * Tests whether the {@link NestedListenerHandle#innerObservablePresentProperty() innerObservablePresent} property,
+	 * which is created on request, follows the nesting's inner observable.
+	 */
+	@Test
+	public void testInnerObservablePresentPropertyFollowsObservable() {
+		nestedListenerHandle = createAttachedNestedListenerHandle(nesting, listenerWhichFailsWhenCalled);
+		ReadOnlyBooleanProperty innerObservablePresent = nestedListenerHandle.innerObservablePresentProperty();
+		assertTrue(innerObservablePresent.get());
+
+		setNestingObservable(nesting, null);
+		assertFalse(innerObservablePresent.get());
+
+		setNestingObservable(nesting, new SimpleStringProperty());
+		assertTrue(innerObservablePresent.get());
+	}
+
 	// changing observable and value
 
 	/**
@@ -309,6 +327,106 @@ public abstract class AbstractNestedChangeListenerHandleTest {
 		verifyNoMoreInteractions(listener);
 	}
 
+	/**
+	 * Tests whether a handle which was detached while the nesting's inner observable was replaced adds the listener to
+	 * the new observable when it is attached.
+	 */
+	@Test
+	public void testAttachAfterObservableWasReplacedWhileDetached() {
+		nestedListenerHandle = createDetachedNestedListenerHandle(nesting, listener);
+		StringProperty newObservable = new SimpleStringProperty("new observable's initial value");
+		setNestingObservable(nesting, null);
+		assertFalse(nestedListenerHandle.isInnerObservablePresent());
+		setNestingObservable(nesting, newObservable);
+		assertTrue(nestedListenerHandle.isInnerObservablePresent());
+
+		nestedListenerHandle.attach();
+		innerObservable.setValue("intial observable's new value");
+		newObservable.setValue("new observable's new value");
+
+		// assert that the listener was only invoked for the new observable
+		verify(listener, times(1)).changed(newObservable,
+				"new observable's initial value", "new observable's new value");
+		verifyNoMoreInteractions(listener);
+	}
+
+	// disposal
+
+	/**
+	 * Tests whether no listener invocation occurs when the nesting's inner observable's value is changed after the
+	 * handle was disposed.
+	 */
+	@Test
+	public void testDispose() {
+		nestedListenerHandle = createAttachedNestedListenerHandle(nesting, listenerWhichFailsWhenCalled);
+		nestedListenerHandle.dispose();
+
+		innerObservable.set("new value after dispose");
+		assertTrue(nesting.isDisposed());
+	}
+
+	/**
+	 * Tests whether the handle can be disposed after its nesting was disposed (e.g. because it was shared) and no
+	 * listener invocation occurs afterwards.
+	 */
+	@Test
+	public void testDisposeAfterNestingWasDisposed() {
+		nestedListenerHandle = createAttachedNestedListenerHandle(nesting, listenerWhichFailsWhenCalled);
+		nesting.dispose();
+		nestedListenerHandle.dispose();
+
+		innerObservable.set("new value after dispose");
+	}
+
+	/**
+	 * Tests whether no listener invocation occurs when the nesting's inner observable is replaced after the handle was
+	 * disposed.
+	 */
+	@Test
+	public void testChangingObservableAfterDispose() {
+		nestedListenerHandle = createAttachedNestedListenerHandle(nesting, listenerWhichFailsWhenCalled);
+		nestedListenerHandle.dispose();
+
+		StringProperty newObservable = new SimpleStringProperty();
+		setNestingObservable(nesting, newObservable);
+		newObservable.set("new value after dispose");
+	}
+
+	/**
+	 * Tests whether attaching the listener fails after the handle was disposed.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testAttachAfterDispose() {
+		nestedListenerHandle = createDetachedNestedListenerHandle(nesting, listener);
+		nestedListenerHandle.dispose();
+
+		nestedListenerHandle.attach();
+	}
+
+	/**
+	 * Tests whether re-rooting the handle re-roots its nesting.
+	 */
+	@Test
+	public void testReroot() {
+		nestedListenerHandle = createAttachedNestedListenerHandle(nesting, listener);
+		ObservableValue<?> newOuterObservable = new SimpleStringProperty();
+
+		nestedListenerHandle.reroot(newOuterObservable);
+
+		assertSame(newOuterObservable, nesting.getOuterObservable());
+	}
+
+	/**
+	 * Tests whether re-rooting the handle fails after it was disposed.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testRerootAfterDispose() {
+		nestedListenerHandle = createAttachedNestedListenerHandle(nesting, listener);
+		nestedListenerHandle.dispose();
+
+		nestedListenerHandle.reroot(new SimpleStringProperty());
+	}
+
 	//#end TESTS
 
 }
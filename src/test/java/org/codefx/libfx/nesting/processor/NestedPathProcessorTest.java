@@ -0,0 +1,295 @@
+package org.codefx.libfx.nesting.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableValue;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the class {@link NestedPathProcessor} by compiling a model class with it and using the generated nesting.
+ */
+public class NestedPathProcessorTest {
+
+	/**
+	 * The source of the model class, which is annotated with the path from an employee to its address' street.
+	 */
+	private static final String EMPLOYEE_SOURCE = ""
+			+ "package processortest;\n"
+			+ "import javafx.beans.property.*;\n"
+			+ "@org.codefx.libfx.nesting.NestedPath(\"address.street\")\n"
+			+ "public class Employee {\n"
+			+ "	private final ObjectProperty<Address> address = new SimpleObjectProperty<>(new Address());\n"
+			+ "	public ObjectProperty<Address> addressProperty() { return address; }\n"
+			+ "	public static class Address {\n"
+			+ "		private final StringProperty street = new SimpleStringProperty();\n"
+			+ "		public StringProperty streetProperty() { return street; }\n"
+			+ "	}\n"
+			+ "}\n";
+
+	/**
+	 * The folder to which the classes are compiled.
+	 */
+	@ClassRule
+	public static final TemporaryFolder CLASS_FOLDER = new TemporaryFolder();
+
+	/**
+	 * The class loader which loads the compiled classes.
+	 */
+	private static URLClassLoader classLoader;
+
+	// #region INSTANCES USED FOR TESTING
+
+	/**
+	 * The outer observable holding an employee.
+	 */
+	private Property<Object> outerObservable;
+
+	/**
+	 * The generated nesting on the {@link #outerObservable}.
+	 */
+	private Nesting<StringProperty> nesting;
+
+	//#end INSTANCES USED FOR TESTING
+
+	/**
+	 * Compiles the model class and thus generates the nesting.
+	 *
+	 * @throws IOException
+	 *             if the class folder can not be accessed
+	 */
+	@BeforeClass
+	public static void compileModel() throws IOException {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		boolean success = compile(EMPLOYEE_SOURCE, diagnostics);
+		assertTrue(diagnostics.getDiagnostics().toString(), success);
+
+		URL classFolder = CLASS_FOLDER.getRoot().toURI().toURL();
+		classLoader = new URLClassLoader(new URL[] { classFolder }, NestedPathProcessorTest.class.getClassLoader());
+	}
+
+	/**
+	 * Closes the class loader.
+	 *
+	 * @throws IOException
+	 *             if closing fails
+	 */
+	@AfterClass
+	public static void closeClassLoader() throws IOException {
+		classLoader.close();
+	}
+
+	/**
+	 * Creates the generated nesting on a new employee.
+	 *
+	 * @throws Exception
+	 *             if the generated class can not be instantiated
+	 */
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() throws Exception {
+		outerObservable = new SimpleObjectProperty<>(createEmployee());
+		nesting = (Nesting<StringProperty>) classLoader
+				.loadClass("processortest.EmployeeAddressStreetNesting")
+				.getConstructor(ObservableValue.class)
+				.newInstance(outerObservable);
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether the generated nesting contains the employee's street property.
+	 *
+	 * @throws Exception
+	 *             if the model can not be accessed
+	 */
+	@Test
+	public void testInnerObservablePresent() throws Exception {
+		assertSame(getStreetProperty(outerObservable.getValue()), getInnerObservable());
+	}
+
+	/**
+	 * Tests whether the generated nesting is updated when the outer value or a nested value changes.
+	 *
+	 * @throws Exception
+	 *             if the model can not be accessed
+	 */
+	@Test
+	public void testInnerObservableFollowsChanges() throws Exception {
+		Object newEmployee = createEmployee();
+		outerObservable.setValue(newEmployee);
+		assertSame(getStreetProperty(newEmployee), getInnerObservable());
+
+		getAddressProperty(newEmployee).setValue(null);
+		assertFalse(nesting.innerObservableProperty().getValue().isPresent());
+
+		Object newAddress = classLoader.loadClass("processortest.Employee$Address")
+				.getDeclaredConstructor()
+				.newInstance();
+		getAddressProperty(newEmployee).setValue(newAddress);
+		assertSame(getStreetProperty(newEmployee), getInnerObservable());
+	}
+
+	/**
+	 * Tests whether the generated nesting can be re-rooted.
+	 *
+	 * @throws Exception
+	 *             if the model can not be accessed
+	 */
+	@Test
+	public void testReroot() throws Exception {
+		Property<Object> otherOuterObservable = new SimpleObjectProperty<>(createEmployee());
+
+		nesting.reroot(otherOuterObservable);
+		assertSame(getStreetProperty(otherOuterObservable.getValue()), getInnerObservable());
+
+		// the old outer observable is no longer observed
+		outerObservable.setValue(createEmployee());
+		assertSame(getStreetProperty(otherOuterObservable.getValue()), getInnerObservable());
+	}
+
+	/**
+	 * Tests whether a disposed nesting is no longer updated.
+	 *
+	 * @throws Exception
+	 *             if the model can not be accessed
+	 */
+	@Test
+	public void testDisposedNestingIsNotUpdated() throws Exception {
+		Object initialInnerObservable = getInnerObservable();
+		ObservableValue<Optional<StringProperty>> innerObservableProperty = nesting.innerObservableProperty();
+
+		nesting.dispose();
+		outerObservable.setValue(createEmployee());
+
+		assertSame(initialInnerObservable, innerObservableProperty.getValue().get());
+	}
+
+	/**
+	 * Tests whether a path which can not be resolved is reported as an error.
+	 */
+	@Test
+	public void testUnresolvablePathIsReported() {
+		String source = EMPLOYEE_SOURCE.replace("address.street", "address.zipCode");
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		boolean success = compile(source, diagnostics);
+
+		assertFalse(success);
+		assertEquals(1, diagnostics.getDiagnostics().size());
+		assertTrue(diagnostics.getDiagnostics().get(0).getMessage(null).contains("zipCode"));
+	}
+
+	//#end TESTS
+
+	// #region COMPILATION & MODEL ACCESS
+
+	/**
+	 * Compiles the specified source of the class {@code processortest.Employee} with the {@link NestedPathProcessor}
+	 * into the {@link #CLASS_FOLDER}.
+	 *
+	 * @param source
+	 *            the source of the class {@code processortest.Employee}
+	 * @param diagnostics
+	 *            the {@link DiagnosticCollector} to which the compiler reports
+	 * @return true if the compilation succeeded
+	 */
+	private static boolean compile(String source, DiagnosticCollector<JavaFileObject> diagnostics) {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+		try {
+			File classFolder = CLASS_FOLDER.getRoot();
+			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classFolder));
+			fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(classFolder));
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+
+		JavaFileObject sourceFile = new SimpleJavaFileObject(
+				URI.create("string:///processortest/Employee.java"), JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return source;
+			}
+		};
+		JavaCompiler.CompilationTask task = compiler.getTask(
+				null, fileManager, diagnostics,
+				Arrays.asList("-classpath", System.getProperty("java.class.path")),
+				null, Collections.singletonList(sourceFile));
+		task.setProcessors(Collections.singletonList(new NestedPathProcessor()));
+		return task.call();
+	}
+
+	/**
+	 * @return a new instance of the compiled employee class
+	 * @throws Exception
+	 *             if the class can not be instantiated
+	 */
+	private static Object createEmployee() throws Exception {
+		return classLoader.loadClass("processortest.Employee").getDeclaredConstructor().newInstance();
+	}
+
+	/**
+	 * @param employee
+	 *            an instance of the compiled employee class
+	 * @return the employee's address property
+	 * @throws Exception
+	 *             if the method can not be called
+	 */
+	@SuppressWarnings("unchecked")
+	private static Property<Object> getAddressProperty(Object employee) throws Exception {
+		return (Property<Object>) employee.getClass().getMethod("addressProperty").invoke(employee);
+	}
+
+	/**
+	 * @param employee
+	 *            an instance of the compiled employee class
+	 * @return the street property of the employee's address
+	 * @throws Exception
+	 *             if the methods can not be called
+	 */
+	private static StringProperty getStreetProperty(Object employee) throws Exception {
+		Object address = getAddressProperty(employee).getValue();
+		return (StringProperty) address.getClass().getMethod("streetProperty").invoke(address);
+	}
+
+	/**
+	 * @return the nesting's current inner observable
+	 */
+	private Object getInnerObservable() {
+		return nesting.innerObservableProperty().getValue().get();
+	}
+
+	//#end COMPILATION & MODEL ACCESS
+
+}
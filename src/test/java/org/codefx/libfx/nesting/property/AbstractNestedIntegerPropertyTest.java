@@ -23,7 +23,8 @@ public abstract class AbstractNestedIntegerPropertyTest extends AbstractNestedPr
 
 	@Override
 	protected Number createNewValue() {
-		return lastValue++;
+		lastValue += 1;
+		return lastValue;
 	}
 
 	@Override
@@ -0,0 +1,45 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * Abstract superclass to tests for {@link NestedListProperty NestedListProperties} which only leaves the creation of
+ * the tested properties (by {@link #createNestedPropertyFromNesting(Nesting)}) to the subclasses.
+ * <p>
+ * The created lists contain distinct elements, so they are not equal to each other.
+ */
+public abstract class AbstractNestedListPropertyTest
+		extends AbstractNestedPropertyTest<ObservableList<String>, Property<ObservableList<String>>> {
+
+	/**
+	 * The element of the last value returned by {@link #createNewValue()}.
+	 */
+	private String lastValue = "";
+
+	@Override
+	protected final boolean allowsNullValues() {
+		return true;
+	}
+
+	@Override
+	protected final ObservableList<String> createNewValue() {
+		lastValue += "a";
+		return FXCollections.observableArrayList(lastValue);
+	}
+
+	@Override
+	protected final Property<ObservableList<String>> createNewObservableWithValue(ObservableList<String> value) {
+		return new SimpleObjectProperty<>(value);
+	}
+
+	@Override
+	protected final Property<ObservableList<String>> createNewObservableWithSomeValue() {
+		return createNewObservableWithValue(FXCollections.observableArrayList());
+	}
+
+}
@@ -0,0 +1,49 @@
+package org.codefx.libfx.nesting.property;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * Abstract superclass to tests for {@link NestedMapProperty NestedMapProperties} which only leaves the creation of
+ * the tested properties (by {@link #createNestedPropertyFromNesting(Nesting)}) to the subclasses.
+ * <p>
+ * The created maps contain distinct elements, so they are not equal to each other.
+ */
+public abstract class AbstractNestedMapPropertyTest
+		extends AbstractNestedPropertyTest<ObservableMap<String, String>, Property<ObservableMap<String, String>>> {
+
+	/**
+	 * The element of the last value returned by {@link #createNewValue()}.
+	 */
+	private String lastValue = "";
+
+	@Override
+	protected final boolean allowsNullValues() {
+		return true;
+	}
+
+	@Override
+	protected final ObservableMap<String, String> createNewValue() {
+		lastValue += "a";
+		return FXCollections.observableMap(new HashMap<>(Collections.singletonMap(lastValue, lastValue)));
+	}
+
+	@Override
+	protected final Property<ObservableMap<String, String>> createNewObservableWithValue(
+			ObservableMap<String, String> value) {
+		return new SimpleObjectProperty<>(value);
+	}
+
+	@Override
+	protected final Property<ObservableMap<String, String>> createNewObservableWithSomeValue() {
+		return createNewObservableWithValue(FXCollections.observableHashMap());
+	}
+
+}
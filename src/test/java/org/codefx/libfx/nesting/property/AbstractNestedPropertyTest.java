@@ -11,7 +11,14 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 
 import org.codefx.libfx.nesting.Nesting;
 import org.codefx.libfx.nesting.testhelper.NestingAccess;
@@ -137,6 +144,22 @@ public abstract class AbstractNestedPropertyTest<T, P extends Property<T>> {
 		assertFalse(property.isInnerObservablePresent());
 	}
 
+	/**
+	 * Tests whether the {@link NestedProperty#innerObservablePresentProperty() innerObservablePresent} property, which
+	 * is created on request, follows the nesting's observable.
+	 */
+	@Test
+	public void testInnerObservablePresentPropertyFollowsObservable() {
+		ReadOnlyBooleanProperty innerObservablePresent = property.innerObservablePresentProperty();
+		assertTrue(innerObservablePresent.get());
+
+		setNestingObservable(nesting, null);
+		assertFalse(innerObservablePresent.get());
+
+		setNestingObservable(nesting, createNewObservableWithValue(createNewValue()));
+		assertTrue(innerObservablePresent.get());
+	}
+
 	/**
 	 * Tests whether changing the nested property's value while the nesting's observable is missing works.
 	 */
@@ -219,6 +242,120 @@ public abstract class AbstractNestedPropertyTest<T, P extends Property<T>> {
 		assertEquals(newValueInNewObservable, property.getValue());
 	}
 
+	/**
+	 * Tests whether the property neither follows the nesting's observable nor writes to it after it was disposed.
+	 */
+	@Test
+	public void testDispose() {
+		Property<T> observable = getNestingObservable(nesting);
+		T valueBeforeDispose = property.getValue();
+		property.dispose();
+		assertTrue(nesting.isDisposed());
+
+		// a new value in the observable is not reflected by the property ...
+		T newObservableValue = createNewValue();
+		observable.setValue(newObservableValue);
+		assertEquals(valueBeforeDispose, property.getValue());
+
+		// ... and vice versa
+		T newPropertyValue = createNewValue();
+		property.setValue(newPropertyValue);
+		assertEquals(newObservableValue, observable.getValue());
+	}
+
+	/**
+	 * Tests whether the property can be disposed after its nesting was disposed (e.g. because it was shared) and no
+	 * longer follows the nesting's observable afterwards.
+	 */
+	@Test
+	public void testDisposeAfterNestingWasDisposed() {
+		Property<T> observable = getNestingObservable(nesting);
+		T valueBeforeDispose = property.getValue();
+		nesting.dispose();
+		property.dispose();
+
+		observable.setValue(createNewValue());
+		assertEquals(valueBeforeDispose, property.getValue());
+	}
+
+	/**
+	 * Tests whether re-rooting the property re-roots its nesting.
+	 */
+	@Test
+	public void testReroot() {
+		ObservableValue<?> newOuterObservable = new SimpleObjectProperty<>();
+
+		property.reroot(newOuterObservable);
+
+		assertSame(newOuterObservable, nesting.getOuterObservable());
+	}
+
+	/**
+	 * Tests whether re-rooting the property fails after it was disposed.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testRerootAfterDispose() {
+		property.dispose();
+		property.reroot(new SimpleObjectProperty<>());
+	}
+
+	/**
+	 * Tests whether accessing the {@link NestedProperty#innerObservablePresentProperty() innerObservablePresent}
+	 * property fails after the property was disposed.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testInnerObservablePresentAfterDispose() {
+		property.dispose();
+		property.isInnerObservablePresent();
+	}
+
+	/**
+	 * Tests whether setting the value which the unobserved property held before the nesting's observable was replaced
+	 * writes it to the new observable.
+	 */
+	@Test
+	public void testSettingOldValueAfterObservableWasReplaced() {
+		T oldValue = property.getValue();
+		P newObservable = createNewObservableWithValue(createNewValue());
+		setNestingObservable(nesting, newObservable);
+
+		property.setValue(oldValue);
+
+		assertEquals(oldValue, newObservable.getValue());
+	}
+
+	/**
+	 * Tests whether a change listener which is added after the nesting's observable was replaced sees the new
+	 * observable's value as the old value of the next change.
+	 */
+	@Test
+	public void testListenerAddedAfterObservableWasReplaced() {
+		T newValue = createNewValue();
+		setNestingObservable(nesting, createNewObservableWithValue(newValue));
+		List<T> oldValues = new ArrayList<>();
+		property.addListener((observable, oldValue, value) -> oldValues.add(oldValue));
+
+		setNestingObservable(nesting, createNewObservableWithSomeValue());
+
+		assertEquals(1, oldValues.size());
+		assertEquals(newValue, oldValues.get(0));
+	}
+
+	/**
+	 * Tests whether a bound property writes the bound value to a new observable.
+	 */
+	@Test
+	public void testBoundPropertyWritesToNewObservable() {
+		P boundObservable = createNewObservableWithValue(createNewValue());
+		property.bind(boundObservable);
+		P newObservable = createNewObservableWithSomeValue();
+
+		setNestingObservable(nesting, newObservable);
+
+		assertEquals(boundObservable.getValue(), newObservable.getValue());
+		property.unbind();
+	}
+
 	//#end TESTS
 
 	// #region ABSTRACT METHODS
@@ -0,0 +1,45 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableSet;
+
+import org.codefx.libfx.nesting.Nesting;
+
+/**
+ * Abstract superclass to tests for {@link NestedSetProperty NestedSetProperties} which only leaves the creation of
+ * the tested properties (by {@link #createNestedPropertyFromNesting(Nesting)}) to the subclasses.
+ * <p>
+ * The created sets contain distinct elements, so they are not equal to each other.
+ */
+public abstract class AbstractNestedSetPropertyTest
+		extends AbstractNestedPropertyTest<ObservableSet<String>, Property<ObservableSet<String>>> {
+
+	/**
+	 * The element of the last value returned by {@link #createNewValue()}.
+	 */
+	private String lastValue = "";
+
+	@Override
+	protected final boolean allowsNullValues() {
+		return true;
+	}
+
+	@Override
+	protected final ObservableSet<String> createNewValue() {
+		lastValue += "a";
+		return FXCollections.observableSet(lastValue);
+	}
+
+	@Override
+	protected final Property<ObservableSet<String>> createNewObservableWithValue(ObservableSet<String> value) {
+		return new SimpleObjectProperty<>(value);
+	}
+
+	@Override
+	protected final Property<ObservableSet<String>> createNewObservableWithSomeValue() {
+		return createNewObservableWithValue(FXCollections.observableSet());
+	}
+
+}
@@ -0,0 +1,148 @@
+package org.codefx.libfx.nesting.property;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.testhelper.NestingAccess;
+import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link DelegatingNestedObjectProperty}. Besides the tests which apply to all nested properties, this
+ * tests the delegation to the inner observable.
+ */
+public class DelegatingNestedObjectPropertyTest extends AbstractNestedObjectPropertyTest {
+
+	@Override
+	protected NestedProperty<SomeValue> createNestedPropertyFromNesting(Nesting<Property<SomeValue>> nesting) {
+		return new DelegatingNestedObjectProperty<>(nesting, null, null);
+	}
+
+	// #region TESTS
+
+	/**
+	 * Tests whether setting the property's value sets it on the inner observable.
+	 */
+	@Test
+	public void testSettingValueWritesToInnerObservable() {
+		Property<SomeValue> innerObservable = new SimpleObjectProperty<>(new SomeValue());
+		DelegatingNestedObjectProperty<SomeValue> property = new DelegatingNestedObjectProperty<>(
+				NestingAccess.EditableNesting.createWithInnerObservable(innerObservable), null, null);
+		SomeValue newValue = new SomeValue();
+
+		property.setValue(newValue);
+
+		assertSame(newValue, innerObservable.getValue());
+	}
+
+	/**
+	 * Tests whether the change listeners on the property are moved to a new inner observable.
+	 */
+	@Test
+	public void testChangeListenersFollowInnerObservable() {
+		Property<SomeValue> innerObservable = new SimpleObjectProperty<>(new SomeValue());
+		NestingAccess.EditableNesting<Property<SomeValue>> nesting =
+				NestingAccess.EditableNesting.createWithInnerObservable(innerObservable);
+		DelegatingNestedObjectProperty<SomeValue> property = new DelegatingNestedObjectProperty<>(nesting, null, null);
+		List<SomeValue> newValues = new ArrayList<>();
+		property.addListener((observable, oldValue, newValue) -> newValues.add(newValue));
+
+		Property<SomeValue> newInnerObservable = new SimpleObjectProperty<>(new SomeValue());
+		NestingAccess.setNestingObservable(nesting, newInnerObservable);
+		innerObservable.setValue(new SomeValue());
+		SomeValue newValue = new SomeValue();
+		newInnerObservable.setValue(newValue);
+
+		assertEquals(2, newValues.size());
+		assertSame(newValue, newValues.get(1));
+	}
+
+	/**
+	 * Tests whether a bound property writes the bound value to each new inner observable.
+	 */
+	@Test
+	public void testBoundPropertyWritesToNewInnerObservable() {
+		NestingAccess.EditableNesting<Property<SomeValue>> nesting =
+				NestingAccess.EditableNesting.createWithInnerObservable(new SimpleObjectProperty<>(new SomeValue()));
+		DelegatingNestedObjectProperty<SomeValue> property = new DelegatingNestedObjectProperty<>(nesting, null, null);
+		Property<SomeValue> boundObservable = new SimpleObjectProperty<>(new SomeValue());
+		property.bind(boundObservable);
+
+		Property<SomeValue> newInnerObservable = new SimpleObjectProperty<>(new SomeValue());
+		NestingAccess.setNestingObservable(nesting, newInnerObservable);
+
+		assertTrue(property.isBound());
+		assertSame(boundObservable.getValue(), newInnerObservable.getValue());
+		property.unbind();
+		assertFalse(property.isBound());
+	}
+
+	/**
+	 * Tests whether a bound property notifies its listeners only once when the inner observable is replaced.
+	 */
+	@Test
+	public void testBoundPropertyNotifiesOnceWhenInnerObservableIsReplaced() {
+		NestingAccess.EditableNesting<Property<SomeValue>> nesting =
+				NestingAccess.EditableNesting.createWithInnerObservable(new SimpleObjectProperty<>(new SomeValue()));
+		DelegatingNestedObjectProperty<SomeValue> property = new DelegatingNestedObjectProperty<>(nesting, null, null);
+		property.bind(new SimpleObjectProperty<>(new SomeValue()));
+		List<Object> invalidations = new ArrayList<>();
+		property.addListener(invalidations::add);
+
+		NestingAccess.setNestingObservable(nesting, new SimpleObjectProperty<>(new SomeValue()));
+
+		assertEquals(1, invalidations.size());
+	}
+
+	/**
+	 * Tests whether a listener which removes itself while the listeners are notified does not prevent the others from
+	 * being notified and is not notified again.
+	 */
+	@Test
+	public void testListenerCanRemoveItselfDuringNotification() {
+		Property<SomeValue> innerObservable = new SimpleObjectProperty<>(new SomeValue());
+		DelegatingNestedObjectProperty<SomeValue> property = new DelegatingNestedObjectProperty<>(
+				NestingAccess.EditableNesting.createWithInnerObservable(innerObservable), null, null);
+		List<String> notifications = new ArrayList<>();
+		property.addListener(new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				notifications.add("removing");
+				property.removeListener(this);
+			}
+		});
+		property.addListener(observable -> notifications.add("other"));
+
+		innerObservable.setValue(new SomeValue());
+		innerObservable.setValue(new SomeValue());
+
+		assertEquals(Arrays.asList("removing", "other", "other"), notifications);
+	}
+
+	/**
+	 * Tests whether the property's string representation contains the inner observable's current value.
+	 */
+	@Test
+	public void testToStringShowsCurrentValue() {
+		SomeValue value = new SomeValue();
+		DelegatingNestedObjectProperty<SomeValue> property = new DelegatingNestedObjectProperty<>(
+				NestingAccess.EditableNesting.createWithInnerObservable(new SimpleObjectProperty<>(value)), null, null);
+
+		assertTrue(property.toString().contains(value.toString()));
+	}
+
+	//#end TESTS
+
+}
@@ -0,0 +1,58 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.testhelper.NestingAccess.EditableNesting;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/**
+ * Tests the class {@link NestedListPropertyBuilder}.
+ */
+@RunWith(Suite.class)
+@SuiteClasses({
+	NestedListPropertyBuilderTest.AbstractBuilderContract.class,
+	NestedListPropertyBuilderTest.CreatedProperties.class,
+})
+public class NestedListPropertyBuilderTest {
+
+	/**
+	 * Tests whether the builder fulfills the contract defined by {@link AbstractNestedPropertyBuilder}.
+	 */
+	public static class AbstractBuilderContract
+	extends AbstractNestedPropertyBuilderTest<Property<ObservableList<String>>, NestedListProperty<String>> {
+
+		@Override
+		protected AbstractNestedPropertyBuilder<Property<ObservableList<String>>, NestedListProperty<String>>
+				createBuilder() {
+
+			Property<ObservableList<String>> innerObservable =
+					new SimpleObjectProperty<>(FXCollections.observableArrayList());
+			EditableNesting<Property<ObservableList<String>>> nesting =
+					EditableNesting.createWithInnerObservable(innerObservable);
+			return NestedListPropertyBuilder.forNesting(nesting);
+		}
+
+	}
+
+	/**
+	 * Uses the builder to create properties which are then tested.
+	 */
+	public static class CreatedProperties extends AbstractNestedListPropertyTest {
+
+		@Override
+		protected NestedProperty<ObservableList<String>> createNestedPropertyFromNesting(
+				Nesting<Property<ObservableList<String>>> nesting) {
+			// use the builder to create the property
+			NestedListPropertyBuilder<String> builder = NestedListPropertyBuilder.forNesting(nesting);
+			return builder.build();
+		}
+
+	}
+
+}
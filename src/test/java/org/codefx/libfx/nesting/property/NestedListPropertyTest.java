@@ -0,0 +1,170 @@
+package org.codefx.libfx.nesting.property;
+
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.setNestingObservable;
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.setNestingValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.Nestings;
+import org.codefx.libfx.nesting.testhelper.NestingAccess.EditableNesting;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link NestedListProperty}.
+ */
+public class NestedListPropertyTest extends AbstractNestedListPropertyTest {
+
+	@Override
+	protected NestedProperty<ObservableList<String>> createNestedPropertyFromNesting(
+			Nesting<Property<ObservableList<String>>> nesting) {
+		return new NestedListProperty<>(nesting, null, null);
+	}
+
+	// #region CHANGE FORWARDING
+
+	/**
+	 * Tests whether changes of the inner observable's list are forwarded unchanged.
+	 */
+	@Test
+	public void testListChangesAreForwarded() {
+		ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+		NestedListProperty<String> property = createPropertyWithList(list);
+		List<String> changes = recordChanges(property);
+
+		list.add(1, "c");
+		list.remove("a");
+
+		assertSame(list, property.get());
+		assertEquals(Arrays.asList("added [c] at 1", "removed [a] at 0"), changes);
+	}
+
+	/**
+	 * Tests whether replacing the inner observable's list emits a single change which replaces the old elements with
+	 * the new ones without copying the new list.
+	 */
+	@Test
+	public void testReplacingListEmitsSingleChange() {
+		ObservableList<String> oldList = FXCollections.observableArrayList("a", "b");
+		EditableNesting<Property<ObservableList<String>>> nesting =
+				EditableNesting.createWithInnerObservable(new SimpleObjectProperty<>(oldList));
+		NestedListProperty<String> property = new NestedListProperty<>(nesting, null, null);
+		List<String> changes = recordChanges(property);
+
+		ObservableList<String> newList = FXCollections.observableArrayList("c", "d", "e");
+		setNestingValue(nesting, newList);
+
+		assertSame(newList, property.get());
+		assertEquals(Arrays.asList("replaced [a, b] by [c, d, e] at 0"), changes);
+
+		// only the new list's changes are forwarded
+		oldList.add("x");
+		newList.add("y");
+		assertEquals("added [y] at 3", changes.get(changes.size() - 1));
+		assertEquals(2, changes.size());
+	}
+
+	/**
+	 * Tests whether replacing the inner observable itself emits a single change.
+	 */
+	@Test
+	public void testReplacingObservableEmitsSingleChange() {
+		EditableNesting<Property<ObservableList<String>>> nesting = EditableNesting.createWithInnerObservable(
+				new SimpleObjectProperty<>(FXCollections.observableArrayList("a")));
+		NestedListProperty<String> property = new NestedListProperty<>(nesting, null, null);
+		List<String> changes = recordChanges(property);
+
+		ObservableList<String> newList = FXCollections.observableArrayList("b", "c");
+		setNestingObservable(nesting, new SimpleObjectProperty<>(newList));
+
+		assertSame(newList, property.get());
+		assertEquals(Arrays.asList("replaced [a] by [b, c] at 0"), changes);
+	}
+
+	/**
+	 * Tests whether modifying the list through the property modifies the inner observable's list.
+	 */
+	@Test
+	public void testModifyingListThroughProperty() {
+		ObservableList<String> list = FXCollections.observableArrayList("a");
+		NestedListProperty<String> property = createPropertyWithList(list);
+
+		property.add("b");
+
+		assertEquals(Arrays.asList("a", "b"), list);
+		assertTrue(property.isInnerObservablePresent());
+		assertFalse(property.isEmpty());
+	}
+
+	/**
+	 * Tests whether a property built with {@link Nestings} follows the list of the current outer value.
+	 */
+	@Test
+	public void testBuiltWithNestings() {
+		ListProperty<String> firstItems = new SimpleListProperty<>(FXCollections.observableArrayList("a"));
+		Property<ListProperty<String>> outer = new SimpleObjectProperty<>(firstItems);
+		NestedListProperty<String> property = Nestings.on(outer).nestListProperty(items -> items).buildProperty();
+		List<String> changes = recordChanges(property);
+
+		firstItems.add("b");
+		outer.setValue(new SimpleListProperty<>(FXCollections.observableArrayList("c")));
+
+		assertEquals(Arrays.asList("added [b] at 1", "replaced [a, b] by [c] at 0"), changes);
+	}
+
+	//#end CHANGE FORWARDING
+
+	// #region HELPER
+
+	/**
+	 * Creates a nested list property whose inner observable holds the specified list.
+	 *
+	 * @param list
+	 *            the inner observable's list
+	 * @return a new {@link NestedListProperty}
+	 */
+	private static NestedListProperty<String> createPropertyWithList(ObservableList<String> list) {
+		EditableNesting<Property<ObservableList<String>>> nesting =
+				EditableNesting.createWithInnerObservable(new SimpleObjectProperty<>(list));
+		return new NestedListProperty<>(nesting, null, null);
+	}
+
+	/**
+	 * Records each change emitted by the specified property as a string.
+	 *
+	 * @param property
+	 *            the property whose changes are recorded
+	 * @return the list to which the changes will be added
+	 */
+	private static List<String> recordChanges(NestedListProperty<String> property) {
+		List<String> changes = new ArrayList<>();
+		property.addListener((Change<? extends String> change) -> {
+			while (change.next())
+				if (change.wasReplaced())
+					changes.add("replaced " + change.getRemoved() + " by " + change.getAddedSubList() + " at "
+							+ change.getFrom());
+				else if (change.wasAdded())
+					changes.add("added " + change.getAddedSubList() + " at " + change.getFrom());
+				else if (change.wasRemoved())
+					changes.add("removed " + change.getRemoved() + " at " + change.getFrom());
+		});
+		return changes;
+	}
+
+	//#end HELPER
+
+}
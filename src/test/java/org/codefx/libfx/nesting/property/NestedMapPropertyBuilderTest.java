@@ -0,0 +1,58 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.testhelper.NestingAccess.EditableNesting;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/**
+ * Tests the class {@link NestedMapPropertyBuilder}.
+ */
+@RunWith(Suite.class)
+@SuiteClasses({
+	NestedMapPropertyBuilderTest.AbstractBuilderContract.class,
+	NestedMapPropertyBuilderTest.CreatedProperties.class,
+})
+public class NestedMapPropertyBuilderTest {
+
+	/**
+	 * Tests whether the builder fulfills the contract defined by {@link AbstractNestedPropertyBuilder}.
+	 */
+	public static class AbstractBuilderContract extends AbstractNestedPropertyBuilderTest<
+			Property<ObservableMap<String, String>>, NestedMapProperty<String, String>> {
+
+		@Override
+		protected AbstractNestedPropertyBuilder<
+				Property<ObservableMap<String, String>>, NestedMapProperty<String, String>> createBuilder() {
+
+			Property<ObservableMap<String, String>> innerObservable =
+					new SimpleObjectProperty<>(FXCollections.observableHashMap());
+			EditableNesting<Property<ObservableMap<String, String>>> nesting =
+					EditableNesting.createWithInnerObservable(innerObservable);
+			return NestedMapPropertyBuilder.forNesting(nesting);
+		}
+
+	}
+
+	/**
+	 * Uses the builder to create properties which are then tested.
+	 */
+	public static class CreatedProperties extends AbstractNestedMapPropertyTest {
+
+		@Override
+		protected NestedProperty<ObservableMap<String, String>> createNestedPropertyFromNesting(
+				Nesting<Property<ObservableMap<String, String>>> nesting) {
+			// use the builder to create the property
+			NestedMapPropertyBuilder<String, String> builder = NestedMapPropertyBuilder.forNesting(nesting);
+			return builder.build();
+		}
+
+	}
+
+}
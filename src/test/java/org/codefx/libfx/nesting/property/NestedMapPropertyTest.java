@@ -0,0 +1,61 @@
+package org.codefx.libfx.nesting.property;
+
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.setNestingValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener.Change;
+import javafx.collections.ObservableMap;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.testhelper.NestingAccess.EditableNesting;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link NestedMapProperty}.
+ */
+public class NestedMapPropertyTest extends AbstractNestedMapPropertyTest {
+
+	@Override
+	protected NestedProperty<ObservableMap<String, String>> createNestedPropertyFromNesting(
+			Nesting<Property<ObservableMap<String, String>>> nesting) {
+		return new NestedMapProperty<>(nesting, null, null);
+	}
+
+	// #region CHANGE FORWARDING
+
+	/**
+	 * Tests whether changes of the inner observable's map are forwarded and whether replacing the map forwards only the
+	 * new map's changes.
+	 */
+	@Test
+	public void testMapChangesAreForwarded() {
+		ObservableMap<String, String> oldMap = FXCollections.observableHashMap();
+		EditableNesting<Property<ObservableMap<String, String>>> nesting =
+				EditableNesting.createWithInnerObservable(new SimpleObjectProperty<>(oldMap));
+		NestedMapProperty<String, String> property = new NestedMapProperty<>(nesting, null, null);
+		List<String> changes = new ArrayList<>();
+		property.addListener((Change<? extends String, ? extends String> change) -> changes.add(
+				change.getKey() + ": " + change.getValueRemoved() + " -> " + change.getValueAdded()));
+
+		oldMap.put("a", "1");
+		ObservableMap<String, String> newMap = FXCollections.observableHashMap();
+		newMap.put("a", "2");
+		setNestingValue(nesting, newMap);
+		oldMap.put("x", "0");
+		newMap.put("a", "3");
+
+		assertSame(newMap, property.get());
+		assertEquals(Arrays.asList("a: null -> 1", "a: 1 -> 2", "a: 2 -> 3"), changes);
+	}
+
+	//#end CHANGE FORWARDING
+
+}
@@ -1,11 +1,20 @@
 package org.codefx.libfx.nesting.property;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
 
 import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.Nestings;
 import org.codefx.libfx.nesting.property.NestedObjectProperty;
 import org.codefx.libfx.nesting.property.NestedProperty;
+import org.codefx.libfx.nesting.testhelper.InnerValue;
+import org.codefx.libfx.nesting.testhelper.OuterValue;
 import org.codefx.libfx.nesting.testhelper.SomeValue;
+import org.junit.Test;
 
 /**
  * Tests the class {@link NestedObjectProperty}.
@@ -17,4 +26,46 @@ public class NestedObjectPropertyTest extends AbstractNestedObjectPropertyTest {
 		return new NestedObjectProperty<>(nesting, null, null);
 	}
 
+	/**
+	 * Tests whether a nested property on a nesting with lazy listeners lets the nesting observe its hierarchy only
+	 * while the property has listeners.
+	 */
+	@Test
+	public void testLazyNestingIsObservedOnlyWhilePropertyIsObserved() {
+		int[] outerListeners = { 0 };
+		Property<OuterValue> outerObservable = new SimpleObjectProperty<OuterValue>(OuterValue.createWithInnerType()) {
+
+			@Override
+			public void addListener(ChangeListener<? super OuterValue> listener) {
+				outerListeners[0]++;
+				super.addListener(listener);
+			}
+
+			@Override
+			public void removeListener(ChangeListener<? super OuterValue> listener) {
+				outerListeners[0]--;
+				super.removeListener(listener);
+			}
+
+		};
+		NestedObjectProperty<SomeValue> property = Nestings.on(outerObservable)
+				.withLazyListeners()
+				.nest(OuterValue::innerValueProperty)
+				.nest(InnerValue::property)
+				.buildProperty();
+		assertEquals(0, outerListeners[0]);
+
+		// the unobserved property still has the current value
+		OuterValue newOuterValue = OuterValue.createWithInnerType();
+		newOuterValue.getInnerValue().property().setValue(new SomeValue());
+		outerObservable.setValue(newOuterValue);
+		assertSame(newOuterValue.getInnerValue().property().getValue(), property.getValue());
+
+		InvalidationListener listener = observable -> {/* observe the property */};
+		property.addListener(listener);
+		assertEquals(1, outerListeners[0]);
+		property.removeListener(listener);
+		assertEquals(0, outerListeners[0]);
+	}
+
 }
@@ -0,0 +1,58 @@
+package org.codefx.libfx.nesting.property;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableSet;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.testhelper.NestingAccess.EditableNesting;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/**
+ * Tests the class {@link NestedSetPropertyBuilder}.
+ */
+@RunWith(Suite.class)
+@SuiteClasses({
+	NestedSetPropertyBuilderTest.AbstractBuilderContract.class,
+	NestedSetPropertyBuilderTest.CreatedProperties.class,
+})
+public class NestedSetPropertyBuilderTest {
+
+	/**
+	 * Tests whether the builder fulfills the contract defined by {@link AbstractNestedPropertyBuilder}.
+	 */
+	public static class AbstractBuilderContract
+	extends AbstractNestedPropertyBuilderTest<Property<ObservableSet<String>>, NestedSetProperty<String>> {
+
+		@Override
+		protected AbstractNestedPropertyBuilder<Property<ObservableSet<String>>, NestedSetProperty<String>>
+				createBuilder() {
+
+			Property<ObservableSet<String>> innerObservable =
+					new SimpleObjectProperty<>(FXCollections.observableSet());
+			EditableNesting<Property<ObservableSet<String>>> nesting =
+					EditableNesting.createWithInnerObservable(innerObservable);
+			return NestedSetPropertyBuilder.forNesting(nesting);
+		}
+
+	}
+
+	/**
+	 * Uses the builder to create properties which are then tested.
+	 */
+	public static class CreatedProperties extends AbstractNestedSetPropertyTest {
+
+		@Override
+		protected NestedProperty<ObservableSet<String>> createNestedPropertyFromNesting(
+				Nesting<Property<ObservableSet<String>>> nesting) {
+			// use the builder to create the property
+			NestedSetPropertyBuilder<String> builder = NestedSetPropertyBuilder.forNesting(nesting);
+			return builder.build();
+		}
+
+	}
+
+}
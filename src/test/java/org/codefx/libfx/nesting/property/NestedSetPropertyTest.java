@@ -0,0 +1,60 @@
+package org.codefx.libfx.nesting.property;
+
+import static org.codefx.libfx.nesting.testhelper.NestingAccess.setNestingValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener.Change;
+
+import org.codefx.libfx.nesting.Nesting;
+import org.codefx.libfx.nesting.testhelper.NestingAccess.EditableNesting;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link NestedSetProperty}.
+ */
+public class NestedSetPropertyTest extends AbstractNestedSetPropertyTest {
+
+	@Override
+	protected NestedProperty<ObservableSet<String>> createNestedPropertyFromNesting(
+			Nesting<Property<ObservableSet<String>>> nesting) {
+		return new NestedSetProperty<>(nesting, null, null);
+	}
+
+	// #region CHANGE FORWARDING
+
+	/**
+	 * Tests whether changes of the inner observable's set are forwarded and whether replacing the set forwards only the
+	 * new set's changes.
+	 */
+	@Test
+	public void testSetChangesAreForwarded() {
+		ObservableSet<String> oldSet = FXCollections.observableSet("a");
+		EditableNesting<Property<ObservableSet<String>>> nesting =
+				EditableNesting.createWithInnerObservable(new SimpleObjectProperty<>(oldSet));
+		NestedSetProperty<String> property = new NestedSetProperty<>(nesting, null, null);
+		List<String> changes = new ArrayList<>();
+		property.addListener((Change<? extends String> change) -> changes.add(
+				change.wasAdded() ? "added " + change.getElementAdded() : "removed " + change.getElementRemoved()));
+
+		oldSet.add("b");
+		ObservableSet<String> newSet = FXCollections.observableSet("c");
+		setNestingValue(nesting, newSet);
+		oldSet.add("x");
+		newSet.remove("c");
+
+		assertSame(newSet, property.get());
+		assertEquals(Arrays.asList("added b", "removed a", "removed b", "added c", "removed c"), changes);
+	}
+
+	//#end CHANGE FORWARDING
+
+}
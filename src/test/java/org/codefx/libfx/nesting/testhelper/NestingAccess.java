@@ -208,6 +208,17 @@ public class NestingAccess {
 		 */
 		private final Property<Optional<O>> innerObservable;
 
+		/**
+		 * The outer observable which was specified when the nesting was last {@link #reroot(ObservableValue)
+		 * re-rooted}; null if it never was.
+		 */
+		private ObservableValue<?> outerObservable;
+
+		/**
+		 * Indicates whether {@link #dispose()} was called.
+		 */
+		private boolean disposed;
+
 		/**
 		 * Creates a new editable nesting.
 		 */
@@ -245,12 +256,17 @@ public class NestingAccess {
 		}
 
 		/**
-		 * The property holding the inner observable.
+		 * The property holding the inner observable. Like other nestings, an editable nesting does not provide it after
+		 * it was {@link #dispose() disposed}.
 		 *
 		 * @return the innerObservable as a property
+		 * @throws IllegalStateException
+		 *             if this nesting was disposed
 		 */
 		@Override
 		public Property<Optional<O>> innerObservableProperty() {
+			if (disposed)
+				throw new IllegalStateException("This nesting was disposed.");
 			return innerObservable;
 		}
 
@@ -260,7 +276,7 @@ public class NestingAccess {
 		 * @return the innerObservable
 		 */
 		public Optional<O> getInnerObservable() {
-			return innerObservableProperty().getValue();
+			return innerObservable.getValue();
 		}
 
 		/**
@@ -271,7 +287,43 @@ public class NestingAccess {
 		 */
 		public void setInnerObservable(Optional<O> innerObservable) {
 			Objects.requireNonNull(innerObservable, "The argument 'innerObservable' must not be null.");
-			innerObservableProperty().setValue(innerObservable);
+			this.innerObservable.setValue(innerObservable);
+		}
+
+		/**
+		 * Only records the specified outer observable.
+		 */
+		@Override
+		public void reroot(ObservableValue<?> outerObservable) {
+			this.outerObservable = outerObservable;
+		}
+
+		/**
+		 * The outer observable which was specified when the nesting was last {@link #reroot(ObservableValue)
+		 * re-rooted}.
+		 *
+		 * @return the outer observable; null if the nesting was never re-rooted
+		 */
+		public ObservableValue<?> getOuterObservable() {
+			return outerObservable;
+		}
+
+		/**
+		 * Only records that the nesting was disposed. Unlike other nestings, an editable nesting's inner observable can
+		 * still be edited afterwards so tests can check that disposed instances no longer react to changes.
+		 */
+		@Override
+		public void dispose() {
+			disposed = true;
+		}
+
+		/**
+		 * Indicates whether {@link #dispose()} was called.
+		 *
+		 * @return true if this nesting was disposed
+		 */
+		public boolean isDisposed() {
+			return disposed;
 		}
 
 	}